@@ -0,0 +1,44 @@
+package com.oceanview.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary Encoding Configuration
+ * Lets integrations ask for CBOR (Accept: application/cbor) or Smile (Accept: application/x-jackson-smile)
+ * instead of JSON. Both mappers come from the application's Jackson builder, so dates, enums and
+ * numbers are written exactly as in JSON. The converters are appended after the JSON one, which keeps
+ * JSON the default for browsers and clients that send no Accept header or a wildcard.
+ */
+@Configuration
+public class BinaryEncodingConfig implements WebMvcConfigurer {
+    
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    
+    public BinaryEncodingConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring registers its own binary converters when the formats are on the classpath; replace
+        // them so they share the application's Jackson settings and sit after JSON
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(builder().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(builder().factory(new SmileFactory()).build()));
+    }
+    
+    private Jackson2ObjectMapperBuilder builder() {
+        return objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json);
+    }
+}
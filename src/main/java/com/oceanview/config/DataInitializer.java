@@ -1,6 +1,7 @@
 package com.oceanview.config;
 
 import com.oceanview.model.UserRole;
+import com.oceanview.service.RoomService;
 import com.oceanview.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,7 +10,8 @@ import org.springframework.stereotype.Component;
 
 /**
  * Data Initializer
- * Creates default users on application startup
+ * Creates default users and the default room inventory on application startup.
+ * Users are created once, with the default property; rooms are seeded in every property.
  */
 @Component
 public class DataInitializer implements CommandLineRunner {
@@ -17,28 +19,29 @@ public class DataInitializer implements CommandLineRunner {
     private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
     
     private final UserService userService;
+    private final RoomService roomService;
+    private final PropertyDirectory propertyDirectory;
     
-    public DataInitializer(UserService userService) {
+    public DataInitializer(UserService userService, RoomService roomService, PropertyDirectory propertyDirectory) {
         this.userService = userService;
+        this.roomService = roomService;
+        this.propertyDirectory = propertyDirectory;
     }
     
     @Override
     public void run(String... args) {
-        try {
-            // Create default admin user
-            userService.createUser("admin", "admin123", "System Administrator", UserRole.ADMIN);
-            log.info("Default admin user created - Username: admin, Password: admin123");
-            
-            // Create receptionist user
-            userService.createUser("receptionist", "recep123", "Front Desk Receptionist", UserRole.RECEPTIONIST);
-            log.info("Default receptionist user created - Username: receptionist, Password: recep123");
-            
-            // Create manager user
-            userService.createUser("manager", "manager123", "Hotel Manager", UserRole.MANAGER);
-            log.info("Default manager user created - Username: manager, Password: manager123");
-            
-        } catch (Exception e) {
-            log.info("Default users already exist or error occurred: {}", e.getMessage());
+        // Existence is checked first, so restarts skip the BCrypt hashing entirely; a node that loses
+        // the race to create a user on a shared database treats it as already there
+        createDefaultUser("admin", "admin123", "System Administrator", UserRole.ADMIN);
+        createDefaultUser("receptionist", "recep123", "Front Desk Receptionist", UserRole.RECEPTIONIST);
+        createDefaultUser("manager", "manager123", "Hotel Manager", UserRole.MANAGER);
+        
+        propertyDirectory.forEachProperty(roomService::seedDefaultRooms);
+    }
+    
+    private void createDefaultUser(String username, String password, String fullName, UserRole role) {
+        if (userService.createUserIfAbsent(username, password, fullName, role)) {
+            log.info("Default {} user created - Username: {}, Password: {}", role.name().toLowerCase(), username, password);
         }
     }
 }
@@ -0,0 +1,45 @@
+package com.oceanview.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Deferred springdoc initialization
+ * Marks springdoc's beans lazy, so the OpenAPI model, its scanners and the Swagger UI resources are
+ * built on the first /api-docs or Swagger UI request instead of during startup. Beans that another
+ * startup bean depends on are still created eagerly through that dependency.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "startup.defer-springdoc", havingValue = "true")
+public class DeferredSpringdocConfig {
+    
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+    
+    @Bean
+    static BeanFactoryPostProcessor deferSpringdocBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringdoc(definition) || isSpringdoc(factoryDefinition(beanFactory, definition))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+    
+    private static BeanDefinition factoryDefinition(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        return factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)
+            ? beanFactory.getBeanDefinition(factoryBeanName)
+            : null;
+    }
+    
+    private static boolean isSpringdoc(BeanDefinition definition) {
+        return definition != null && definition.getBeanClassName() != null
+            && definition.getBeanClassName().startsWith(SPRINGDOC_PACKAGE);
+    }
+}
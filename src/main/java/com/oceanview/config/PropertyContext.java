@@ -0,0 +1,93 @@
+package com.oceanview.config;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Property Context
+ * The resort property the current thread works for. Set per request from the X-Property header
+ * and by background jobs as they visit each property; read by the shard routing datasource and by
+ * the in-memory caches, which keep one copy per property. An unset context means the default property.
+ * A transaction stays on the shard it started on, so the property cannot change inside one.
+ */
+public final class PropertyContext {
+    
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    
+    private static volatile String defaultProperty = PropertyDirectory.DEFAULT_CODE;
+    
+    private PropertyContext() {
+    }
+    
+    /**
+     * Code of the property the current thread works for
+     */
+    public static String current() {
+        String property = CURRENT.get();
+        return property != null ? property : defaultProperty;
+    }
+    
+    /**
+     * Runs the work for the property, restoring the previous property afterwards
+     */
+    public static <T> T call(String property, Supplier<T> work) {
+        String previous = CURRENT.get();
+        if (!property.equals(current()) && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cannot switch to property " + property + " inside a transaction on " + current());
+        }
+        CURRENT.set(property);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+    
+    public static void run(String property, Runnable work) {
+        call(property, () -> {
+            work.run();
+            return null;
+        });
+    }
+    
+    /**
+     * Binds the task to the calling thread's property, for work handed to another thread
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        String property = current();
+        return () -> {
+            String previous = CURRENT.get();
+            CURRENT.set(property);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+    
+    /**
+     * Sets the property for the rest of a request; the caller must clear it when the request ends
+     */
+    public static void set(String property) {
+        CURRENT.set(property);
+    }
+    
+    public static void clear() {
+        CURRENT.remove();
+    }
+    
+    static void setDefaultProperty(String property) {
+        defaultProperty = property;
+    }
+}
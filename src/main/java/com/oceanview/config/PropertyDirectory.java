@@ -0,0 +1,123 @@
+package com.oceanview.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Property Directory
+ * The resort properties this deployment serves. The default property lives in the regular
+ * spring.datasource database, which also holds the staff accounts; with property.sharding.enabled=true
+ * every entry under property.shards.<CODE> adds a property with its own database (see PropertyShardConfig).
+ */
+@Component
+public class PropertyDirectory {
+    
+    private static final Logger log = LoggerFactory.getLogger(PropertyDirectory.class);
+    
+    public static final String DEFAULT_CODE = "MAIN";
+    
+    private static final Pattern CODE_PATTERN = Pattern.compile("[A-Z0-9_]{1,20}");
+    
+    private final String defaultCode;
+    private final Map<String, Property> properties = new LinkedHashMap<>();
+    
+    public PropertyDirectory(@Value("${property.default-code:MAIN}") String defaultCode,
+                             @Value("${property.default-name:Ocean View Resort}") String defaultName,
+                             @Value("${property.sharding.enabled:false}") boolean sharded,
+                             Environment environment) {
+        this.defaultCode = normalize(defaultCode);
+        properties.put(this.defaultCode, new Property(this.defaultCode, defaultName, null));
+        if (sharded) {
+            Map<String, Shard> shards = Binder.get(environment)
+                .bind("property.shards", Bindable.mapOf(String.class, Shard.class))
+                .orElse(Map.of());
+            new TreeMap<>(shards).forEach((code, shard) -> {
+                String normalized = normalize(code);
+                if (properties.containsKey(normalized)) {
+                    throw new IllegalStateException("Property " + normalized + " is configured twice");
+                }
+                if (shard.url() == null || shard.url().isBlank()) {
+                    throw new IllegalStateException("property.shards." + code + ".url is required");
+                }
+                properties.put(normalized, new Property(normalized, shard.name() != null ? shard.name() : normalized, shard));
+            });
+        }
+        PropertyContext.setDefaultProperty(this.defaultCode);
+        log.info("Serving properties {} (default {})", properties.keySet(), this.defaultCode);
+    }
+    
+    public String getDefaultCode() {
+        return defaultCode;
+    }
+    
+    /**
+     * Property codes, default first
+     */
+    public List<String> getCodes() {
+        return List.copyOf(properties.keySet());
+    }
+    
+    public Collection<Property> getProperties() {
+        return Collections.unmodifiableCollection(properties.values());
+    }
+    
+    /**
+     * The canonical code for a requested property, or null if this deployment does not serve it
+     */
+    public String resolve(String code) {
+        if (code == null) {
+            return null;
+        }
+        String normalized = code.trim().toUpperCase(Locale.ROOT);
+        return properties.containsKey(normalized) ? normalized : null;
+    }
+    
+    /**
+     * Runs the action once per property with that property current, as background jobs do;
+     * a failure for one property is logged and does not stop the others
+     */
+    public void forEachProperty(Runnable action) {
+        for (String code : new ArrayList<>(properties.keySet())) {
+            try {
+                PropertyContext.run(code, action);
+            } catch (RuntimeException e) {
+                log.error("Failed for property {}", code, e);
+            }
+        }
+    }
+    
+    private static String normalize(String code) {
+        String normalized = code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+        if (!CODE_PATTERN.matcher(normalized).matches()) {
+            throw new IllegalStateException("Invalid property code '" + code + "': use 1 to 20 letters, digits or underscores");
+        }
+        return normalized;
+    }
+    
+    /**
+     * A served property; shard is null for the default property, which uses spring.datasource
+     */
+    public record Property(String code, String name, Shard shard) {
+    }
+    
+    /**
+     * Connection settings of a property's own database
+     */
+    public record Shard(String name, String url, String username, String password, Integer maximumPoolSize) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.oceanview.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Property Fan-Out
+ * Runs one piece of work against several properties' databases in parallel for cross-property reads.
+ * The call takes as long as the slowest property up to a shared timeout; a property that fails or
+ * misses the timeout is reported as unavailable rather than failing or holding up the others.
+ */
+@Component
+public class PropertyFanOut {
+    
+    private static final Logger log = LoggerFactory.getLogger(PropertyFanOut.class);
+    
+    private final ExecutorService executor;
+    private final long timeoutNanos;
+    
+    public PropertyFanOut(@Value("${property.fan-out.threads:8}") int threads,
+                          @Value("${property.fan-out.timeout-ms:5000}") long timeoutMillis) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "property-fan-out-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Runs the work once per property, each run with its property current; results keep the given order
+     */
+    public <T> Results<T> call(Collection<String> properties, Supplier<T> work) {
+        Map<String, Future<T>> pending = new LinkedHashMap<>();
+        for (String property : properties) {
+            pending.put(property, executor.submit(() -> PropertyContext.call(property, work)));
+        }
+        
+        long deadline = System.nanoTime() + timeoutNanos;
+        Map<String, T> values = new LinkedHashMap<>();
+        List<String> unavailable = new ArrayList<>();
+        for (Map.Entry<String, Future<T>> entry : pending.entrySet()) {
+            try {
+                values.put(entry.getKey(), entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                unavailable.add(entry.getKey());
+                log.warn("Property {} did not answer within {} ms", entry.getKey(), TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            } catch (ExecutionException e) {
+                unavailable.add(entry.getKey());
+                log.warn("Property {} failed: {}", entry.getKey(), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.values().forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Interrupted waiting for properties", e);
+            }
+        }
+        return new Results<>(values, unavailable);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Per-property results, and the properties that could not answer
+     */
+    public record Results<T>(Map<String, T> values, List<String> unavailable) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.oceanview.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Property Local
+ * One value per property for in-memory state, resolved through the current PropertyContext
+ * the way a ThreadLocal is resolved through the current thread. Properties never share a value,
+ * so a cache built for one resort is never served to another.
+ */
+public final class PropertyLocal<T> {
+    
+    private static final Logger log = LoggerFactory.getLogger(PropertyLocal.class);
+    
+    private final ConcurrentHashMap<String, T> values = new ConcurrentHashMap<>();
+    private final Supplier<T> initial;
+    
+    public PropertyLocal() {
+        this(null);
+    }
+    
+    private PropertyLocal(Supplier<T> initial) {
+        this.initial = initial;
+    }
+    
+    /**
+     * A property local whose value is created on first access for each property
+     */
+    public static <T> PropertyLocal<T> withInitial(Supplier<T> initial) {
+        return new PropertyLocal<>(initial);
+    }
+    
+    /**
+     * Value for the current property; null if it has none and there is no initial value
+     */
+    public T get() {
+        String property = PropertyContext.current();
+        return initial == null ? values.get(property) : values.computeIfAbsent(property, key -> initial.get());
+    }
+    
+    public void set(T value) {
+        if (value == null) {
+            values.remove(PropertyContext.current());
+        } else {
+            values.put(PropertyContext.current(), value);
+        }
+    }
+    
+    /**
+     * Runs the action for every property that currently holds a value, with that property current;
+     * a failure for one property is logged and does not stop the others
+     */
+    public void forEachProperty(Runnable action) {
+        List<String> properties = new ArrayList<>(values.keySet());
+        properties.sort(null);
+        for (String property : properties) {
+            try {
+                PropertyContext.run(property, action);
+            } catch (RuntimeException e) {
+                log.error("Failed for property {}", property, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.oceanview.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Property Routing DataSource
+ * Hands out connections from the pool of the current property's database (PropertyContext).
+ * Every property has its own pool, so a busy or slow property cannot take connections from another.
+ * There is no fallback: a property without a pool fails instead of reading another property's data.
+ */
+public class PropertyRoutingDataSource extends AbstractRoutingDataSource {
+    
+    private final Map<String, DataSource> shards;
+    
+    public PropertyRoutingDataSource(String defaultProperty, Map<String, DataSource> shards) {
+        this.shards = Map.copyOf(shards);
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(defaultProperty));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PropertyContext.current();
+    }
+    
+    /**
+     * The pool of one property's database
+     */
+    public DataSource getShard(String property) {
+        return shards.get(property);
+    }
+    
+    /**
+     * Closes every property's pool; called by the container at shutdown
+     */
+    public void close() throws Exception {
+        for (DataSource shard : shards.values()) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.oceanview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.ManagedType;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Property Shard Configuration
+ * Replaces the single datasource with one pool per property behind a PropertyRoutingDataSource.
+ * Enabled with property.sharding.enabled=true; the default property uses the regular spring.datasource.*
+ * settings and each property.shards.<CODE>.url adds a property database on the same database engine.
+ * Cannot be combined with datasource.replica.enabled, which wraps the single datasource instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "property.sharding.enabled", havingValue = "true")
+public class PropertyShardConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(PropertyShardConfig.class);
+    
+    @Bean
+    @Primary
+    public PropertyRoutingDataSource dataSource(DataSourceProperties defaultProperties, PropertyDirectory directory) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (PropertyDirectory.Property property : directory.getProperties()) {
+            HikariDataSource pool;
+            PropertyDirectory.Shard shard = property.shard();
+            if (shard == null) {
+                pool = defaultProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            } else {
+                pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(defaultProperties.determineDriverClassName())
+                    .url(shard.url())
+                    .username(shard.username() != null ? shard.username() : defaultProperties.determineUsername())
+                    .password(shard.password() != null ? shard.password() : defaultProperties.determinePassword())
+                    .build();
+                if (shard.maximumPoolSize() != null) {
+                    pool.setMaximumPoolSize(shard.maximumPoolSize());
+                }
+            }
+            pool.setPoolName("property-" + property.code());
+            shards.put(property.code(), pool);
+        }
+        return new PropertyRoutingDataSource(directory.getDefaultCode(), shards);
+    }
+    
+    /**
+     * Hibernate applies spring.jpa.hibernate.ddl-auto to the default property's database at startup;
+     * this applies the same schema action to every other property database before the context is ready
+     */
+    @Bean
+    public SmartInitializingSingleton propertyShardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                                     PropertyRoutingDataSource dataSource,
+                                                                     PropertyDirectory directory) {
+        return () -> {
+            for (String property : directory.getCodes()) {
+                if (!property.equals(directory.getDefaultCode())) {
+                    applySchema(entityManagerFactory, dataSource.getShard(property));
+                    log.info("Schema ready for property {}", property);
+                }
+            }
+        };
+    }
+    
+    /**
+     * Runs the schema tool against one database with the persistence unit's mappings and settings.
+     * A throwaway service registry is used so Hibernate reads that database's own catalog and metadata.
+     */
+    private static void applySchema(EntityManagerFactory entityManagerFactory, DataSource shard) {
+        Map<String, Object> settings = new HashMap<>(entityManagerFactory.getProperties());
+        settings.put(AvailableSettings.DATASOURCE, shard);
+        settings.put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, shard);
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(settings).build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            for (ManagedType<?> type : entityManagerFactory.getMetamodel().getManagedTypes()) {
+                if (type.getJavaType() != null) {
+                    sources.addAnnotatedClass(type.getJavaType());
+                }
+            }
+            Metadata metadata = sources.buildMetadata();
+            // With create-drop the property databases keep their tables at shutdown; only tests use it
+            SchemaManagementToolCoordinator.process(metadata, registry,
+                registry.requireService(ConfigurationService.class).getSettings(), action -> { });
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.oceanview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read Replica Configuration
+ * Replaces the single datasource with a primary pool and a replica pool behind a routing datasource.
+ * Enabled with datasource.replica.enabled=true; the primary uses the regular spring.datasource.* and
+ * spring.datasource.hikari.* settings. The routing datasource owns both pools and closes them at shutdown.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+    
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(
+            @Value("${datasource.replica.read-your-writes-window-ms:2000}") long windowMillis) {
+        return new ReadYourWritesGuard(windowMillis);
+    }
+    
+    /**
+     * The primary pool; closed by the routing datasource rather than by the container
+     */
+    @Bean(destroyMethod = "")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties primaryProperties) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+    
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties primaryProperties,
+            ReadYourWritesGuard readYourWritesGuard,
+            @Value("${datasource.replica.url}") String replicaUrl,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${datasource.replica.maximum-pool-size:10}") int replicaPoolSize) {
+        
+        HikariDataSource replica = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(primaryProperties.determineDriverClassName())
+            .url(replicaUrl)
+            .username(replicaUsername)
+            .password(replicaPassword)
+            .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setMaximumPoolSize(replicaPoolSize);
+        
+        return new ReadWriteRoutingDataSource(primaryDataSource, replica, readYourWritesGuard);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
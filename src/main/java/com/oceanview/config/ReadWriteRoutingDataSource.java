@@ -0,0 +1,98 @@
+package com.oceanview.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read/Write Routing DataSource
+ * Sends @Transactional(readOnly = true) work to the replica pool and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is fetched after the
+ * transaction's read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+    
+    private final ReadYourWritesGuard guard;
+    private final Map<Route, AtomicLong> routedConnections = new EnumMap<>(Route.class);
+    
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard guard) {
+        this.guard = guard;
+        Map<Object, Object> targets = Map.of(Route.PRIMARY, primary, Route.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        for (Route route : Route.values()) {
+            routedConnections.put(route, new AtomicLong());
+        }
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !guard.mustReadPrimary()
+            ? Route.REPLICA
+            : Route.PRIMARY;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return onConnection().getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return onConnection().getConnection(username, password);
+    }
+    
+    /**
+     * Counts the routed connection and, for read-write transactions, arms the read-your-writes guard on commit
+     */
+    private DataSource onConnection() {
+        Route route = (Route) determineCurrentLookupKey();
+        routedConnections.get(route).incrementAndGet();
+        
+        if (route == Route.PRIMARY && TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guard.recordWrite();
+                }
+            });
+        }
+        return getDataSource(route);
+    }
+    
+    /**
+     * Number of connections handed out per pool since startup
+     */
+    public long getRoutedConnections(Route route) {
+        return routedConnections.get(route).get();
+    }
+    
+    public DataSource getDataSource(Route route) {
+        return (DataSource) getResolvedDataSources().get(route);
+    }
+    
+    /**
+     * Closes the primary and replica pools; called by the container at shutdown
+     */
+    public void close() throws Exception {
+        for (Route route : Route.values()) {
+            if (getDataSource(route) instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.oceanview.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-Your-Writes Guard
+ * Remembers which users committed a write recently so their read-only transactions
+ * stay on the primary until the replica has had time to catch up
+ */
+public class ReadYourWritesGuard {
+    
+    private static final int MAX_TRACKED_USERS = 10_000;
+    
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    
+    public ReadYourWritesGuard(long windowMillis) {
+        this.windowNanos = windowMillis * 1_000_000L;
+    }
+    
+    /**
+     * Records a committed write by the current user
+     */
+    public void recordWrite() {
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        if (lastWriteNanos.size() >= MAX_TRACKED_USERS) {
+            evictExpired();
+        }
+        lastWriteNanos.put(user, System.nanoTime());
+    }
+    
+    /**
+     * True if the current user wrote within the lag window and must read from the primary
+     */
+    public boolean mustReadPrimary() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(user, writtenAt);
+        return false;
+    }
+    
+    private void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+    
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,216 @@
+package com.oceanview.config;
+
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Synthetic Data Loader
+ * Fills the reservations table with generated, production-shaped data when the "synthetic" profile is active,
+ * e.g. java -jar app.jar --spring.profiles.active=synthetic --synthetic.rows=1000000 --synthetic.exit=true
+ * Rows go in as multi-row INSERT statements sent in JDBC batches, one transaction per batch, so neither
+ * Hibernate nor driver-side batch rewriting is involved and the load runs at the same speed on H2 and MySQL.
+ * Into an empty table the secondary indexes declared on Reservation are dropped for the load and rebuilt
+ * afterwards, which is several times faster than maintaining them row by row.
+ * A second run with the same seed finds its first reservation number and does nothing.
+ */
+@Component
+@Profile("synthetic")
+public class SyntheticDataLoader implements CommandLineRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoader.class);
+    
+    /**
+     * Rows per INSERT statement; 14 columns keeps each statement far below driver parameter limits
+     */
+    static final int ROWS_PER_STATEMENT = 200;
+    
+    private static final String COLUMNS = "INSERT INTO reservations (reservation_number, guest_name, address, " +
+        "contact_number, email, room_type, check_in_date, check_out_date, status, number_of_guests, " +
+        "special_requests, total_amount, created_at, updated_at) VALUES ";
+    
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationContext applicationContext;
+    
+    @Value("${synthetic.rows:1000000}")
+    private long rows = 1_000_000;
+    
+    @Value("${synthetic.seed:20240101}")
+    private long seed = 20240101;
+    
+    @Value("${synthetic.past-days:730}")
+    private int pastDays = 730;
+    
+    @Value("${synthetic.future-days:365}")
+    private int futureDays = 365;
+    
+    @Value("${synthetic.batch-size:10000}")
+    private int batchSize = 10_000;
+    
+    @Value("${synthetic.defer-indexes:true}")
+    private boolean deferIndexes = true;
+    
+    @Value("${synthetic.exit:false}")
+    private boolean exitAfterLoad;
+    
+    public SyntheticDataLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher, ApplicationContext applicationContext) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.applicationContext = applicationContext;
+    }
+    
+    @Override
+    public void run(String... args) {
+        load(new SyntheticReservationGenerator(seed, LocalDateTime.now(), pastDays, futureDays), rows, batchSize);
+        if (exitAfterLoad) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+    
+    /**
+     * Inserts rows [0, count) of the generator; returns the number inserted, 0 when this seed is already loaded
+     */
+    public long load(SyntheticReservationGenerator generator, long count, int batchSize) {
+        if (count <= 0) {
+            return 0;
+        }
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservations WHERE reservation_number = ?",
+            Integer.class, SyntheticReservationGenerator.reservationNumber(0));
+        if (existing != null && existing > 0) {
+            log.info("Synthetic reservations already loaded, skipping");
+            return 0;
+        }
+        
+        long started = System.nanoTime();
+        Long present = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservations", Long.class);
+        boolean dropIndexes = deferIndexes && present != null && present == 0;
+        if (dropIndexes) {
+            for (Index index : secondaryIndexes()) {
+                jdbcTemplate.execute(dropIndexStatement(index.name()));
+            }
+        }
+        try {
+            List<Reservation> batch = new ArrayList<>(batchSize);
+            for (long row = 0; row < count; row++) {
+                batch.add(generator.generate(row));
+                if (batch.size() == batchSize || row == count - 1) {
+                    batchTransaction.executeWithoutResult(status -> insert(batch));
+                    batch.clear();
+                    if ((row + 1) % (batchSize * 10L) == 0) {
+                        log.info("Synthetic reservations: {} of {} loaded", row + 1, count);
+                    }
+                }
+            }
+        } finally {
+            if (dropIndexes) {
+                for (Index index : secondaryIndexes()) {
+                    jdbcTemplate.execute("CREATE INDEX " + index.name() + " ON reservations (" + columns(index) + ")");
+                }
+            }
+        }
+        
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Loaded {} synthetic reservations in {} ms ({} rows/s)", count, millis, count * 1000 / Math.max(1, millis));
+        // Caches built from the table (lookup index, room board, waitlist) reload as after a night audit run
+        eventPublisher.publishEvent(ReservationChangeEvent.bulk(null, ReservationStatus.CONFIRMED, count));
+        return count;
+    }
+    
+    private static Index[] secondaryIndexes() {
+        return Reservation.class.getAnnotation(Table.class).indexes();
+    }
+    
+    private String dropIndexStatement(String name) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product) ? "DROP INDEX " + name + " ON reservations" : "DROP INDEX " + name;
+    }
+    
+    /**
+     * Index column list with entity property names turned into column names (checkInDate -> check_in_date)
+     */
+    static String columns(Index index) {
+        return index.columnList().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+    
+    private void insert(List<Reservation> batch) {
+        int full = batch.size() / ROWS_PER_STATEMENT;
+        if (full > 0) {
+            jdbcTemplate.execute(statement(ROWS_PER_STATEMENT), (PreparedStatement ps) -> {
+                for (int chunk = 0; chunk < full; chunk++) {
+                    bind(ps, batch, chunk * ROWS_PER_STATEMENT, ROWS_PER_STATEMENT);
+                    ps.addBatch();
+                }
+                return ps.executeBatch();
+            });
+        }
+        int rest = batch.size() - full * ROWS_PER_STATEMENT;
+        if (rest > 0) {
+            jdbcTemplate.execute(statement(rest), (PreparedStatement ps) -> {
+                bind(ps, batch, full * ROWS_PER_STATEMENT, rest);
+                return ps.executeUpdate();
+            });
+        }
+    }
+    
+    private static String statement(int rowCount) {
+        StringBuilder sql = new StringBuilder(COLUMNS.length() + rowCount * (ROW_PLACEHOLDERS.length() + 2));
+        sql.append(COLUMNS);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+    
+    private static void bind(PreparedStatement ps, List<Reservation> batch, int from, int rowCount) throws SQLException {
+        int index = 1;
+        for (int i = from; i < from + rowCount; i++) {
+            Reservation reservation = batch.get(i);
+            ps.setString(index++, reservation.getReservationNumber());
+            ps.setString(index++, reservation.getGuestName());
+            ps.setString(index++, reservation.getAddress());
+            ps.setString(index++, reservation.getContactNumber());
+            ps.setString(index++, reservation.getEmail());
+            ps.setString(index++, reservation.getRoomType().name());
+            ps.setObject(index++, reservation.getCheckInDate());
+            ps.setObject(index++, reservation.getCheckOutDate());
+            ps.setString(index++, reservation.getStatus().name());
+            ps.setInt(index++, reservation.getNumberOfGuests());
+            ps.setString(index++, reservation.getSpecialRequests());
+            ps.setBigDecimal(index++, reservation.getTotalAmount());
+            ps.setObject(index++, reservation.getCreatedAt());
+            ps.setObject(index++, reservation.getUpdatedAt());
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.oceanview.config;
+
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic Reservation Generator
+ * Produces realistic reservations for scale testing, deterministic from the seed: row i is always the same
+ * reservation for a given seed and reference date. Check-ins follow the west-coast season with weekend peaks
+ * and a booking curve that thins out further ahead; statuses follow the stay's position relative to today;
+ * about a quarter of bookings come from returning guests who reuse their name, email and phone.
+ */
+public class SyntheticReservationGenerator {
+    
+    /**
+     * Synthetic reservation numbers are RES + (base + row); the base sits before any time-based number
+     */
+    static final long NUMBER_BASE = 1_000_000_000_000L;
+    
+    private static final double RETURNING_GUEST_SHARE = 0.25;
+    private static final double MEAN_LEAD_DAYS = 40;
+    private static final int MAX_LEAD_DAYS = 300;
+    private static final double FUTURE_DECAY_DAYS = 150;
+    
+    // January .. December
+    private static final double[] SEASON = {1.35, 1.40, 1.25, 1.10, 0.70, 0.65, 0.95, 1.05, 0.75, 0.70, 0.95, 1.45};
+    
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    // STANDARD, DELUXE, SUITE, FAMILY, PRESIDENTIAL
+    private static final double[] ROOM_TYPE_WEIGHTS = {35, 30, 15, 15, 5};
+    private static final int[][] GUESTS = {{1, 2}, {1, 3}, {2, 3}, {2, 6}, {2, 4}};
+    
+    // 1 .. 14 nights
+    private static final double[] NIGHT_WEIGHTS = {25, 25, 18, 10, 7, 5, 6, 1, 0.6, 0.7, 0.5, 0.4, 0.3, 0.5};
+    
+    private static final String[] FIRST_NAMES = {
+        "Nimal", "Kamal", "Sunil", "Chamara", "Dilshan", "Kasun", "Nuwan", "Tharindu", "Ruwan", "Pradeep",
+        "Sanduni", "Nadeesha", "Dilani", "Kavindi", "Ishara", "Malini", "Anjali", "Shehani", "Hiruni", "Nethmi",
+        "James", "Emma", "Oliver", "Sophie", "Lukas", "Anna", "Liam", "Mia", "Noah", "Chloe",
+        "Arjun", "Priya", "Rahul", "Aisha", "Mohamed", "Fatima", "Hiroshi", "Yuki", "Wei", "Olga"
+    };
+    
+    private static final String[] LAST_NAMES = {
+        "Perera", "Fernando", "Silva", "De Silva", "Jayawardena", "Bandara", "Dissanayake", "Wickramasinghe",
+        "Gunawardena", "Rajapaksa", "Herath", "Kumara", "Senanayake", "Weerasinghe", "Ratnayake", "Mendis",
+        "Smith", "Jones", "Brown", "Taylor", "Wilson", "Müller", "Schmidt", "Fischer", "Rossi", "Dubois",
+        "Sharma", "Patel", "Khan", "Rahman", "Tanaka", "Suzuki", "Chen", "Wang", "Ivanova", "Novak"
+    };
+    
+    private static final String[] DOMAINS = {
+        "gmail.com", "yahoo.com", "hotmail.com", "outlook.com", "icloud.com", "sltnet.lk", "web.de", "mail.ru"
+    };
+    
+    private static final String[] STREETS = {
+        "Galle Road", "Marine Drive", "Temple Road", "Station Road", "Lake Road", "Hill Street",
+        "Church Street", "Flower Road", "High Street", "Park Avenue", "Main Street", "Beach Road"
+    };
+    
+    private static final String[] CITIES = {
+        "Colombo", "Kandy", "Galle", "Negombo", "Matara", "Kurunegala", "Jaffna", "Nuwara Eliya",
+        "London", "Berlin", "Munich", "Paris", "Mumbai", "Chennai", "Dubai", "Tokyo", "Shanghai", "Moscow"
+    };
+    
+    private static final String[] SPECIAL_REQUESTS = {
+        "Late check-in", "Early check-in", "Airport pickup", "Extra bed", "Baby cot", "Sea-facing room",
+        "Honeymoon decoration", "Vegetarian meals", "Ground floor room", "Quiet room away from the lift"
+    };
+    
+    private static final double SPECIAL_REQUEST_SHARE = 0.12;
+    
+    private final long seed;
+    private final LocalDate today;
+    private final LocalDateTime now;
+    private final LocalDate firstCheckIn;
+    private final double[] checkInCumulative;
+    private final double[] roomTypeCumulative = cumulative(ROOM_TYPE_WEIGHTS);
+    private final double[] nightsCumulative = cumulative(NIGHT_WEIGHTS);
+    
+    /**
+     * Check-ins are spread over [today - pastDays, today + futureDays)
+     */
+    public SyntheticReservationGenerator(long seed, LocalDateTime now, int pastDays, int futureDays) {
+        this.seed = seed;
+        this.now = now;
+        this.today = now.toLocalDate();
+        this.firstCheckIn = today.minusDays(pastDays);
+        
+        double[] weights = new double[pastDays + futureDays];
+        for (int day = 0; day < weights.length; day++) {
+            LocalDate date = firstCheckIn.plusDays(day);
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            double weight = SEASON[date.getMonthValue() - 1];
+            if (dayOfWeek == DayOfWeek.FRIDAY || dayOfWeek == DayOfWeek.SATURDAY) {
+                weight *= 1.25;
+            }
+            int ahead = day - pastDays;
+            if (ahead > 0) {
+                weight *= Math.exp(-ahead / FUTURE_DECAY_DAYS);
+            }
+            weights[day] = weight;
+        }
+        this.checkInCumulative = cumulative(weights);
+    }
+    
+    public static String reservationNumber(long row) {
+        return "RES" + (NUMBER_BASE + row);
+    }
+    
+    /**
+     * The reservation for the given row; independent of which rows were generated before
+     */
+    public Reservation generate(long row) {
+        SplittableRandom random = new SplittableRandom(mix(seed, row));
+        
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber(reservationNumber(row));
+        
+        long guest = row > 0 && random.nextDouble() < RETURNING_GUEST_SHARE ? random.nextLong(row) : row;
+        applyGuest(reservation, new SplittableRandom(mix(seed ^ 0x5DEECE66DL, guest)), guest);
+        
+        int type = pick(roomTypeCumulative, random);
+        reservation.setRoomType(ROOM_TYPES[type]);
+        reservation.setNumberOfGuests(GUESTS[type][0] + random.nextInt(GUESTS[type][1] - GUESTS[type][0] + 1));
+        
+        LocalDate checkIn = firstCheckIn.plusDays(pick(checkInCumulative, random));
+        int nights = 1 + pick(nightsCumulative, random);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkIn.plusDays(nights));
+        reservation.setTotalAmount(ROOM_TYPES[type].getRatePerNight().multiply(BigDecimal.valueOf(nights)));
+        
+        if (random.nextDouble() < SPECIAL_REQUEST_SHARE) {
+            reservation.setSpecialRequests(SPECIAL_REQUESTS[random.nextInt(SPECIAL_REQUESTS.length)]);
+        }
+        
+        long leadDays = Math.min(MAX_LEAD_DAYS, Math.round(-MEAN_LEAD_DAYS * Math.log(1 - random.nextDouble())));
+        LocalDateTime createdAt = checkIn.minusDays(leadDays).atTime(7 + random.nextInt(16), random.nextInt(60), random.nextInt(60));
+        if (createdAt.isAfter(now)) {
+            createdAt = now.minusMinutes(1 + random.nextInt(24 * 60));
+        }
+        reservation.setCreatedAt(createdAt);
+        
+        ReservationStatus status = status(checkIn, checkIn.plusDays(nights), random);
+        reservation.setStatus(status);
+        reservation.setUpdatedAt(updatedAt(status, reservation, random));
+        return reservation;
+    }
+    
+    private void applyGuest(Reservation reservation, SplittableRandom random, long guest) {
+        String first = FIRST_NAMES[skewed(FIRST_NAMES.length, random)];
+        String last = LAST_NAMES[skewed(LAST_NAMES.length, random)];
+        reservation.setGuestName(first + " " + last);
+        reservation.setEmail((first + "." + last).toLowerCase().replace(' ', '.').replace('ü', 'u')
+            + (guest % 1000) + "@" + DOMAINS[random.nextInt(DOMAINS.length)]);
+        reservation.setContactNumber("07" + random.nextInt(9) + String.valueOf(10_000_000 + random.nextInt(10_000_000)).substring(1));
+        reservation.setAddress((1 + random.nextInt(250)) + " " + STREETS[random.nextInt(STREETS.length)]
+            + ", " + CITIES[skewed(CITIES.length, random)]);
+    }
+    
+    private ReservationStatus status(LocalDate checkIn, LocalDate checkOut, SplittableRandom random) {
+        double draw = random.nextDouble();
+        if (!checkOut.isAfter(today)) {
+            return draw < 0.84 ? ReservationStatus.CHECKED_OUT
+                : draw < 0.95 ? ReservationStatus.CANCELLED
+                : ReservationStatus.NO_SHOW;
+        }
+        if (checkIn.isBefore(today)) {
+            return draw < 0.93 ? ReservationStatus.CHECKED_IN : ReservationStatus.CANCELLED;
+        }
+        if (checkIn.isEqual(today)) {
+            return draw < 0.70 ? ReservationStatus.CONFIRMED
+                : draw < 0.95 ? ReservationStatus.CHECKED_IN
+                : ReservationStatus.CANCELLED;
+        }
+        return draw < 0.88 ? ReservationStatus.CONFIRMED : ReservationStatus.CANCELLED;
+    }
+    
+    private LocalDateTime updatedAt(ReservationStatus status, Reservation reservation, SplittableRandom random) {
+        LocalDateTime createdAt = reservation.getCreatedAt();
+        LocalDateTime updatedAt = switch (status) {
+            case CHECKED_OUT -> reservation.getCheckOutDate().atTime(9 + random.nextInt(3), random.nextInt(60));
+            case CHECKED_IN -> reservation.getCheckInDate().atTime(14 + random.nextInt(8), random.nextInt(60));
+            case NO_SHOW -> reservation.getCheckInDate().plusDays(1).atTime(2, 30);
+            case CANCELLED -> {
+                LocalDateTime latest = reservation.getCheckInDate().atStartOfDay();
+                long minutes = Math.max(1, Duration.between(createdAt, latest.isBefore(now) ? latest : now).toMinutes());
+                yield createdAt.plusMinutes(random.nextLong(minutes));
+            }
+            case CONFIRMED -> createdAt;
+        };
+        if (updatedAt.isBefore(createdAt)) {
+            return createdAt;
+        }
+        return updatedAt.isAfter(now) ? now : updatedAt;
+    }
+    
+    /**
+     * Index in [0, n) skewed toward the front, so a few names and cities dominate as they do in real data
+     */
+    private static int skewed(int n, SplittableRandom random) {
+        double u = random.nextDouble();
+        return (int) (n * u * u);
+    }
+    
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min(index < 0 ? -index - 1 : index + 1, cumulative.length - 1);
+    }
+    
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+    
+    /**
+     * SplitMix64 finalizer over seed and row, so neighbouring rows get unrelated streams
+     */
+    private static long mix(long seed, long row) {
+        long z = seed + (row + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,47 @@
+package com.oceanview.controller;
+
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.AuditRecord;
+import com.oceanview.service.AuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Audit Controller
+ * Query endpoint over the reservation audit journal
+ */
+@RestController
+@RequestMapping("/api/audit")
+@Tag(name = "Audit", description = "Who changed which reservation, and how")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AuditController {
+    
+    private final AuditService auditService;
+    
+    public AuditController(AuditService auditService) {
+        this.auditService = auditService;
+    }
+    
+    @GetMapping
+    @Operation(summary = "Query audit journal", description = "Most recent reservation mutations matching all given filters, oldest first; time range is [from, to)")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<AuditRecord>>> query(
+            @RequestParam(required = false) String property,
+            @RequestParam(required = false) String reservationNumber,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        List<AuditRecord> records = auditService.query(property, reservationNumber, actor, from, to, Math.min(limit, 1000));
+        return ResponseEntity.ok(ApiResponse.success("Audit records retrieved successfully", records));
+    }
+}
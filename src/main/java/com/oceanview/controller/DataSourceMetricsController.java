@@ -0,0 +1,58 @@
+package com.oceanview.controller;
+
+import com.oceanview.config.ReadWriteRoutingDataSource;
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.DataSourcePoolMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource Metrics Controller
+ * Per-pool connection metrics when read-replica routing is enabled
+ */
+@RestController
+@RequestMapping("/api/system/datasources")
+@Tag(name = "System", description = "Operational metrics")
+@SecurityRequirement(name = "Bearer Authentication")
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceMetricsController {
+    
+    private final ReadWriteRoutingDataSource routingDataSource;
+    
+    public DataSourceMetricsController(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+    
+    @GetMapping
+    @Operation(summary = "Datasource pool metrics", description = "Routed connection counts and pool usage for the primary and replica pools")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<DataSourcePoolMetrics>>> getPoolMetrics() {
+        List<DataSourcePoolMetrics> metrics = new ArrayList<>();
+        for (ReadWriteRoutingDataSource.Route route : ReadWriteRoutingDataSource.Route.values()) {
+            HikariDataSource pool = (HikariDataSource) routingDataSource.getDataSource(route);
+            HikariPoolMXBean stats = pool.getHikariPoolMXBean();
+            metrics.add(new DataSourcePoolMetrics(
+                pool.getPoolName(),
+                routingDataSource.getRoutedConnections(route),
+                stats != null ? stats.getActiveConnections() : 0,
+                stats != null ? stats.getIdleConnections() : 0,
+                stats != null ? stats.getTotalConnections() : 0,
+                stats != null ? stats.getThreadsAwaitingConnection() : 0
+            ));
+        }
+        
+        return ResponseEntity.ok(ApiResponse.success("Datasource metrics", metrics));
+    }
+}
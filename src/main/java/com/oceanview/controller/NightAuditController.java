@@ -0,0 +1,55 @@
+package com.oceanview.controller;
+
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.NightAuditReport;
+import com.oceanview.service.NightAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Night Audit Controller
+ * Manual trigger and progress reporting for the night audit job
+ */
+@RestController
+@RequestMapping("/api/night-audit")
+@Tag(name = "Night Audit", description = "No-show and overdue check-out processing")
+@SecurityRequirement(name = "Bearer Authentication")
+public class NightAuditController {
+    
+    private static final Logger log = LoggerFactory.getLogger(NightAuditController.class);
+    
+    private final NightAuditService nightAuditService;
+    
+    public NightAuditController(NightAuditService nightAuditService) {
+        this.nightAuditService = nightAuditService;
+    }
+    
+    @PostMapping("/run")
+    @Operation(summary = "Run night audit", description = "Run or resume the night audit for a business date (defaults to today)")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<NightAuditReport>> runAudit(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        
+        LocalDate date = businessDate != null ? businessDate : LocalDate.now();
+        log.info("Manual night audit requested for {}", date);
+        NightAuditReport report = nightAuditService.runAudit(date);
+        
+        return ResponseEntity.ok(ApiResponse.success("Night audit completed", report));
+    }
+    
+    @GetMapping("/status")
+    @Operation(summary = "Night audit status", description = "Progress of the current or most recent night audit")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<NightAuditReport>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success("Night audit status", nightAuditService.getLastReport()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.oceanview.controller;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.PropertySummary;
+import com.oceanview.security.PropertyAccess;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Property Controller
+ * The resort properties served by this deployment, selected per request with the X-Property header
+ */
+@RestController
+@RequestMapping("/api/properties")
+@Tag(name = "Properties", description = "Resort properties")
+@SecurityRequirement(name = "Bearer Authentication")
+public class PropertyController {
+    
+    private final PropertyDirectory propertyDirectory;
+    
+    public PropertyController(PropertyDirectory propertyDirectory) {
+        this.propertyDirectory = propertyDirectory;
+    }
+    
+    @GetMapping
+    @Operation(summary = "List properties", description = "Properties the signed-in user can work in, default property first")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<PropertySummary>>> getProperties(Authentication authentication) {
+        List<PropertySummary> properties = propertyDirectory.getProperties().stream()
+            .filter(property -> PropertyAccess.canAccess(authentication, property.code()))
+            .map(property -> new PropertySummary(property.code(), property.name(),
+                property.code().equals(propertyDirectory.getDefaultCode())))
+            .toList();
+        return ResponseEntity.ok(ApiResponse.success("Properties retrieved successfully", properties));
+    }
+}
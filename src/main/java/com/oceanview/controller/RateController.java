@@ -0,0 +1,70 @@
+package com.oceanview.controller;
+
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.RateQuote;
+import com.oceanview.dto.RoomRateRequest;
+import com.oceanview.model.RoomRate;
+import com.oceanview.model.RoomType;
+import com.oceanview.service.RoomRateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Rate Controller
+ * Seasonal and weekend rate management and stay quotes
+ */
+@RestController
+@RequestMapping("/api/rates")
+@Tag(name = "Rates", description = "Rate calendar management and pricing")
+@SecurityRequirement(name = "Bearer Authentication")
+public class RateController {
+    
+    private final RoomRateService roomRateService;
+    
+    public RateController(RoomRateService roomRateService) {
+        this.roomRateService = roomRateService;
+    }
+    
+    @GetMapping
+    @Operation(summary = "List rates", description = "All seasonal and weekend rate rules, oldest first")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<RoomRate>>> getRates() {
+        return ResponseEntity.ok(ApiResponse.success("Rates retrieved successfully", roomRateService.getRates()));
+    }
+    
+    @PostMapping
+    @Operation(summary = "Add rate", description = "Add a rate rule for a room type and date range; overrides earlier rules")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<RoomRate>> addRate(@Valid @RequestBody RoomRateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success("Rate added successfully", roomRateService.addRate(request)));
+    }
+    
+    @PostMapping("/reload")
+    @Operation(summary = "Reload rate calendar", description = "Rebuild the in-memory rate calendar from the database")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> reload() {
+        roomRateService.reload();
+        return ResponseEntity.ok(ApiResponse.success("Rate calendar reloaded", null));
+    }
+    
+    @GetMapping("/quote")
+    @Operation(summary = "Quote stay", description = "Price a stay from the current rate calendar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<RateQuote>> quote(
+            @RequestParam RoomType roomType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        return ResponseEntity.ok(ApiResponse.success("Quote calculated", roomRateService.quote(roomType, checkIn, checkOut)));
+    }
+}
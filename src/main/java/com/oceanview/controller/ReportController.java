@@ -0,0 +1,42 @@
+package com.oceanview.controller;
+
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.OccupancyReport;
+import com.oceanview.service.OccupancyReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Report Controller
+ * Management reporting over reservation history
+ */
+@RestController
+@RequestMapping("/api/reports")
+@Tag(name = "Reports", description = "Occupancy, ADR and RevPAR reporting")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ReportController {
+    
+    private final OccupancyReportService occupancyReportService;
+    
+    public ReportController(OccupancyReportService occupancyReportService) {
+        this.occupancyReportService = occupancyReportService;
+    }
+    
+    @GetMapping("/occupancy")
+    @Operation(summary = "Occupancy report", description = "Nightly occupancy %, ADR and RevPAR per room type for the nights in [from, to)")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<OccupancyReport>> getOccupancyReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        OccupancyReport report = occupancyReportService.buildReport(from, to);
+        return ResponseEntity.ok(ApiResponse.success("Occupancy report generated", report));
+    }
+}
@@ -1,21 +1,43 @@
 package com.oceanview.controller;
 
+import com.oceanview.config.PropertyDirectory;
 import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.BookingIntakeStatus;
+import com.oceanview.dto.DailyBoardResponse;
+import com.oceanview.dto.CrossPropertySearchResponse;
+import com.oceanview.dto.DeltaSyncResponse;
+import com.oceanview.dto.ReservationField;
+import com.oceanview.dto.ReservationLookupEntry;
 import com.oceanview.dto.ReservationRequest;
 import com.oceanview.dto.ReservationResponse;
+import com.oceanview.exception.ValidationException;
 import com.oceanview.model.ReservationStatus;
+import com.oceanview.security.PropertyAccess;
+import com.oceanview.service.BookingIntakeService;
+import com.oceanview.service.FrontDeskBoard;
+import com.oceanview.service.IdempotencyService;
+import com.oceanview.service.ReservationLookupIndex;
 import com.oceanview.service.ReservationService;
+import com.oceanview.service.ReservationStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,48 +53,159 @@ public class ReservationController {
     private static final Logger log = LoggerFactory.getLogger(ReservationController.class);
     
     private final ReservationService reservationService;
+    private final ReservationStreamService reservationStreamService;
+    private final IdempotencyService idempotencyService;
+    private final BookingIntakeService bookingIntakeService;
+    private final ReservationLookupIndex reservationLookupIndex;
+    private final FrontDeskBoard frontDeskBoard;
+    private final PropertyDirectory propertyDirectory;
     
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService,
+                                 ReservationStreamService reservationStreamService,
+                                 IdempotencyService idempotencyService,
+                                 BookingIntakeService bookingIntakeService,
+                                 ReservationLookupIndex reservationLookupIndex,
+                                 FrontDeskBoard frontDeskBoard,
+                                 PropertyDirectory propertyDirectory) {
         this.reservationService = reservationService;
+        this.reservationStreamService = reservationStreamService;
+        this.idempotencyService = idempotencyService;
+        this.bookingIntakeService = bookingIntakeService;
+        this.reservationLookupIndex = reservationLookupIndex;
+        this.frontDeskBoard = frontDeskBoard;
+        this.propertyDirectory = propertyDirectory;
     }
     
     @PostMapping
     @Operation(summary = "Create new reservation", description = "Create a new room reservation")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
     public ResponseEntity<ApiResponse<ReservationResponse>> createReservation(
-            @Valid @RequestBody ReservationRequest request) {
+            @Valid @RequestBody ReservationRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            Principal principal) {
         
         log.info("Creating reservation for guest: {}", request.getGuestName());
-        ReservationResponse response = reservationService.createReservation(request);
+        ReservationResponse response = idempotencyService.execute("reservations/" + principal.getName(), idempotencyKey,
+            request, ReservationResponse.class, () -> reservationService.createReservation(request));
         
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(ApiResponse.success("Reservation created successfully", response));
     }
     
     @PostMapping("/public")
-    @Operation(summary = "Create public reservation request", description = "Create a reservation request from customer portal (no authentication required)")
-    public ResponseEntity<ApiResponse<ReservationResponse>> createPublicReservation(
-            @Valid @RequestBody ReservationRequest request) {
+    @Operation(summary = "Create public reservation request", description = "Create a reservation request from customer portal (no authentication required). " +
+        "With asynchronous intake the request is queued and 202 returns a tracking ID")
+    public ResponseEntity<ApiResponse<?>> createPublicReservation(
+            @Valid @RequestBody ReservationRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
         log.info("Creating public reservation request for guest: {}", request.getGuestName());
-        ReservationResponse response = reservationService.createReservation(request);
+        if (bookingIntakeService.isAsync()) {
+            BookingIntakeStatus status = idempotencyService.execute("reservations/public", idempotencyKey,
+                request, BookingIntakeStatus.class, () -> bookingIntakeService.submit(request));
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Reservation request received. Our team will contact you shortly to confirm.", status));
+        }
+        
+        ReservationResponse response = idempotencyService.execute("reservations/public", idempotencyKey,
+            request, ReservationResponse.class, () -> reservationService.createReservation(request));
         
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(ApiResponse.success("Reservation request submitted successfully. Our team will contact you shortly to confirm.", response));
     }
     
+    @GetMapping("/public/requests/{trackingId}")
+    @Operation(summary = "Track public reservation request", description = "Outcome of a queued portal booking request (no authentication required)")
+    public ResponseEntity<ApiResponse<BookingIntakeStatus>> getPublicRequestStatus(@PathVariable String trackingId) {
+        return ResponseEntity.ok(ApiResponse.success("Request status retrieved successfully",
+            bookingIntakeService.getStatus(trackingId)));
+    }
+    
     @GetMapping
-    @Operation(summary = "Get all reservations", description = "Retrieve all reservations")
+    @Operation(summary = "Get all reservations", description = "Retrieve all reservations; fields= limits each row to the listed columns")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
-    public ResponseEntity<ApiResponse<List<ReservationResponse>>> getAllReservations() {
+    public ResponseEntity<ApiResponse<List<?>>> getAllReservations(
+            @RequestParam(required = false) String fields) {
+        
         log.info("Fetching all reservations");
-        List<ReservationResponse> reservations = reservationService.getAllReservations();
+        List<?> reservations = fields == null
+            ? reservationService.getAllReservations()
+            : reservationService.getAllReservations(ReservationField.parse(fields));
         
         return ResponseEntity.ok(
             ApiResponse.success("Reservations retrieved successfully", reservations)
         );
     }
     
+    @GetMapping("/changes")
+    @Operation(summary = "Reservations changed since a watermark", description = "Delta sync: returns rows changed after the given watermark, tombstones for closed reservations, and the next watermark")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<DeltaSyncResponse>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        
+        log.info("Fetching reservation changes since {}", since);
+        DeltaSyncResponse changes = reservationService.getChangesSince(since, limit);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("Changes retrieved successfully", changes)
+        );
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream reservation changes", description = "Server-Sent Events stream of created, updated, status-changed and cancelled reservations")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public SseEmitter streamReservationChanges() {
+        log.info("Opening reservation change stream");
+        return reservationStreamService.subscribe();
+    }
+    
+    @GetMapping("/lookup")
+    @Operation(summary = "Look up reservations by contact", description = "Exact match on guest email or phone number, newest first")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<ReservationLookupEntry>>> lookupReservations(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String phone) {
+        
+        if ((email == null) == (phone == null)) {
+            throw new ValidationException("Provide exactly one of email or phone");
+        }
+        List<ReservationLookupEntry> reservations = email != null
+            ? reservationLookupIndex.findByEmail(email)
+            : reservationLookupIndex.findByPhone(phone);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("Lookup completed successfully", reservations)
+        );
+    }
+    
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete reservation numbers", description = "Reservations whose number starts with the given prefix; the RES prefix may be omitted")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<ReservationLookupEntry>>> autocompleteReservationNumber(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        List<ReservationLookupEntry> reservations = reservationLookupIndex.autocomplete(prefix, limit);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("Autocomplete completed successfully", reservations)
+        );
+    }
+    
+    @GetMapping("/daily-board")
+    @Operation(summary = "Front desk daily board", description = "Arrivals, departures and in-house guests for today or tomorrow, served from memory")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<DailyBoardResponse>> getDailyBoard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        
+        DailyBoardResponse board = frontDeskBoard.getBoard(date != null ? date : LocalDate.now());
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("Daily board retrieved successfully", board)
+        );
+    }
+    
     @GetMapping("/{reservationNumber}")
     @Operation(summary = "Get reservation by number", description = "Retrieve specific reservation details")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
@@ -88,19 +221,41 @@ public class ReservationController {
     }
     
     @GetMapping("/search")
-    @Operation(summary = "Search reservations", description = "Search reservations by guest name")
+    @Operation(summary = "Search reservations", description = "Search reservations by guest name; fields= limits each row to the listed columns")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
-    public ResponseEntity<ApiResponse<List<ReservationResponse>>> searchReservations(
-            @RequestParam String name) {
+    public ResponseEntity<ApiResponse<List<?>>> searchReservations(
+            @RequestParam String name,
+            @RequestParam(required = false) String fields) {
         
         log.info("Searching reservations for guest: {}", name);
-        List<ReservationResponse> reservations = reservationService.searchByGuestName(name);
+        List<?> reservations = fields == null
+            ? reservationService.searchByGuestName(name)
+            : reservationService.searchByGuestName(name, ReservationField.parse(fields));
         
         return ResponseEntity.ok(
             ApiResponse.success("Search completed successfully", reservations)
         );
     }
     
+    @GetMapping("/search/all-properties")
+    @Operation(summary = "Search all properties", description = "Search reservations by guest name in every property the user can access, or the listed ones; properties that do not answer in time are reported as unavailable")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CrossPropertySearchResponse>> searchAllProperties(
+            @RequestParam String name,
+            @RequestParam(required = false) String properties,
+            Authentication authentication) {
+        
+        List<String> searched = properties == null
+            ? PropertyAccess.accessible(authentication, propertyDirectory.getCodes())
+            : requestedProperties(properties, authentication);
+        log.info("Searching reservations for guest {} in properties {}", name, searched);
+        CrossPropertySearchResponse response = reservationService.searchAcrossProperties(name, searched);
+        
+        return ResponseEntity.ok(
+            ApiResponse.success("Search completed successfully", response)
+        );
+    }
+    
     @PutMapping("/{reservationNumber}/status")
     @Operation(summary = "Update reservation status", description = "Update the status of a reservation")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
@@ -144,4 +299,27 @@ public class ReservationController {
             ApiResponse.success("Reservation updated successfully", response)
         );
     }
+    
+    private List<String> requestedProperties(String properties, Authentication authentication) {
+        List<String> codes = new ArrayList<>();
+        for (String requested : properties.split(",")) {
+            if (requested.isBlank()) {
+                continue;
+            }
+            String code = propertyDirectory.resolve(requested.trim());
+            if (code == null) {
+                throw new ValidationException("Unknown property: " + requested.trim());
+            }
+            if (!PropertyAccess.canAccess(authentication, code)) {
+                throw new AccessDeniedException("No access to property " + code);
+            }
+            if (!codes.contains(code)) {
+                codes.add(code);
+            }
+        }
+        if (codes.isEmpty()) {
+            throw new ValidationException("At least one property is required");
+        }
+        return codes;
+    }
 }
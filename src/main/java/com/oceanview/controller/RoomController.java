@@ -0,0 +1,87 @@
+package com.oceanview.controller;
+
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.RoomRequest;
+import com.oceanview.model.Room;
+import com.oceanview.service.InventoryLedger;
+import com.oceanview.service.RoomAssignmentService;
+import com.oceanview.service.RoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Room Controller
+ * Physical room inventory and room assignment maintenance
+ */
+@RestController
+@RequestMapping("/api/rooms")
+@Tag(name = "Rooms", description = "Room inventory and assignment")
+@SecurityRequirement(name = "Bearer Authentication")
+public class RoomController {
+    
+    private final RoomService roomService;
+    private final RoomAssignmentService roomAssignmentService;
+    private final InventoryLedger inventoryLedger;
+    
+    public RoomController(RoomService roomService, RoomAssignmentService roomAssignmentService,
+                          InventoryLedger inventoryLedger) {
+        this.roomService = roomService;
+        this.roomAssignmentService = roomAssignmentService;
+        this.inventoryLedger = inventoryLedger;
+    }
+    
+    @GetMapping
+    @Operation(summary = "List rooms", description = "All physical rooms in room number order")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<Room>>> getRooms() {
+        return ResponseEntity.ok(ApiResponse.success("Rooms retrieved successfully", roomService.getRooms()));
+    }
+    
+    @PostMapping
+    @Operation(summary = "Add room", description = "Add a physical room to the inventory")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<Room>> addRoom(@Valid @RequestBody RoomRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success("Room added successfully", roomService.addRoom(request)));
+    }
+    
+    @PutMapping("/{roomNumber}/out-of-service")
+    @Operation(summary = "Set out of service", description = "Take a room out of service or return it; affected stays are moved")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<Room>> setOutOfService(
+            @PathVariable String roomNumber,
+            @RequestParam boolean outOfService) {
+        return ResponseEntity.ok(ApiResponse.success("Room updated successfully",
+            roomService.setOutOfService(roomNumber, outOfService)));
+    }
+    
+    @PostMapping("/reload")
+    @Operation(summary = "Reload room inventory", description = "Reload rooms from the database without a restart")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> reload() {
+        roomService.reload();
+        return ResponseEntity.ok(ApiResponse.success("Room inventory reloaded", null));
+    }
+    
+    @PostMapping("/assignments/rebuild")
+    @Operation(summary = "Rebuild room assignments", description = "Re-plan rooms for the whole horizon; returns how many stays changed room")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildAssignments() {
+        return ResponseEntity.ok(ApiResponse.success("Room assignments rebuilt", roomAssignmentService.rebuild()));
+    }
+    
+    @PostMapping("/ledger/rebuild")
+    @Operation(summary = "Recount inventory ledger", description = "Recount sold rooms per night from the reservations; run in a quiet period. Returns the nights recounted")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildLedger() {
+        return ResponseEntity.ok(ApiResponse.success("Inventory ledger recounted", inventoryLedger.rebuild()));
+    }
+}
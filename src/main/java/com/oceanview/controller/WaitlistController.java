@@ -0,0 +1,44 @@
+package com.oceanview.controller;
+
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.model.WaitlistEntry;
+import com.oceanview.service.WaitlistService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Waitlist Controller
+ * Requests waiting for a room after the requested dates were sold out
+ */
+@RestController
+@RequestMapping("/api/waitlist")
+@Tag(name = "Waitlist", description = "Sold-out booking requests awaiting promotion")
+@SecurityRequirement(name = "Bearer Authentication")
+public class WaitlistController {
+    
+    private final WaitlistService waitlistService;
+    
+    public WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+    
+    @GetMapping
+    @Operation(summary = "List waitlist", description = "Requests still waiting, oldest first")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<WaitlistEntry>>> getWaiting() {
+        return ResponseEntity.ok(ApiResponse.success("Waitlist retrieved successfully", waitlistService.getWaiting()));
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Withdraw request", description = "Remove a request from the waitlist")
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST', 'MANAGER')")
+    public ResponseEntity<ApiResponse<WaitlistEntry>> withdraw(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Request withdrawn from waitlist", waitlistService.withdraw(id)));
+    }
+}
@@ -1,8 +1,11 @@
 package com.oceanview.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 /**
  * Generic API Response wrapper
  */
+@JsonSerialize(using = ApiResponseSerializer.class)
 public class ApiResponse<T> {
     
     private boolean success;
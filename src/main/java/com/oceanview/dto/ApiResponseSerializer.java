@@ -0,0 +1,38 @@
+package com.oceanview.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * API Response serializer
+ * Writes the envelope with pre-encoded property names; the payload goes through its own serializer
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+    
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    
+    public ApiResponseSerializer() {
+        super(ApiResponse.class, false);
+    }
+    
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean writeNulls = ReservationResponseSerializer.writesNulls(provider);
+        gen.writeStartObject(value, 3);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        ReservationResponseSerializer.writeString(gen, MESSAGE, value.getMessage(), writeNulls);
+        if (value.getData() != null || writeNulls) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+        gen.writeEndObject();
+    }
+}
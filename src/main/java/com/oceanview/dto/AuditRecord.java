@@ -0,0 +1,16 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.ReservationChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit Record
+ * One reservation mutation as stored in the audit journal. Values are compact
+ * "field=value" lists of just the fields the mutation touched. Reservation numbers are
+ * unique within a property, so each record names the property it was made in; records
+ * journaled before properties were recorded have none.
+ */
+public record AuditRecord(long sequence, LocalDateTime timestamp, String property, String actor, String reservationNumber,
+                          ReservationChangeType action, String oldValue, String newValue) {
+}
@@ -0,0 +1,23 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.BookingIntakeState;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking Intake Status
+ * Tracking view of a queued portal booking request; reservationNumber or waitlistId is set once written
+ */
+public record BookingIntakeStatus(String trackingId, BookingIntakeState state, String reservationNumber,
+                                  Long waitlistId, String message, LocalDateTime submittedAt,
+                                  LocalDateTime completedAt) {
+    
+    public static BookingIntakeStatus queued(String trackingId, LocalDateTime submittedAt) {
+        return new BookingIntakeStatus(trackingId, BookingIntakeState.QUEUED, null, null,
+            "Request received and waiting to be processed", submittedAt, null);
+    }
+    
+    public BookingIntakeStatus complete(BookingIntakeState state, String reservationNumber, Long waitlistId, String message) {
+        return new BookingIntakeStatus(trackingId, state, reservationNumber, waitlistId, message, submittedAt, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,68 @@
+package com.oceanview.dto;
+
+import com.oceanview.exception.ValidationException;
+
+/**
+ * Change Watermark
+ * Opaque delta-sync position: the (changeSeq, id) of the last row a client has seen, where changeSeq is
+ * the change log id the row was stamped with when its last change committed; encoded as "{changeSeq}:{id}"
+ */
+public final class ChangeWatermark {
+    
+    public static final ChangeWatermark ORIGIN = new ChangeWatermark(0L, 0L);
+    
+    private final long changeSeq;
+    private final long id;
+    
+    public ChangeWatermark(long changeSeq, long id) {
+        this.changeSeq = changeSeq;
+        this.id = id;
+    }
+    
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+    
+    public long getId() {
+        return id;
+    }
+    
+    /**
+     * Parses a watermark; null or blank means "from the beginning"
+     */
+    public static ChangeWatermark parse(String token) {
+        if (token == null || token.isBlank()) {
+            return ORIGIN;
+        }
+        int colon = token.indexOf(':');
+        try {
+            long changeSeq = Long.parseLong(token.substring(0, colon));
+            long id = Long.parseLong(token.substring(colon + 1));
+            if (changeSeq < 0 || id < 0) {
+                throw new NumberFormatException();
+            }
+            return new ChangeWatermark(changeSeq, id);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid watermark: " + token);
+        }
+    }
+    
+    public String format() {
+        return changeSeq + ":" + id;
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ChangeWatermark watermark && watermark.changeSeq == changeSeq && watermark.id == id;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Long.hashCode(changeSeq) * 31 + Long.hashCode(id);
+    }
+    
+    @Override
+    public String toString() {
+        return format();
+    }
+}
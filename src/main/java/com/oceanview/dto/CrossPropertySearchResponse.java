@@ -0,0 +1,10 @@
+package com.oceanview.dto;
+
+import java.util.List;
+
+/**
+ * Cross-Property Search Response DTO
+ * Matches from every searched property that answered, and the properties that did not
+ */
+public record CrossPropertySearchResponse(List<PropertyReservation> reservations, List<String> unavailableProperties) {
+}
@@ -0,0 +1,13 @@
+package com.oceanview.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily Board Response DTO
+ * The front desk board for one date: arrivals (expected or already checked in), departures (due out
+ * or already checked out) and in-house guests staying that night, each list in guest name order
+ */
+public record DailyBoardResponse(LocalDate date, List<FrontDeskGuest> arrivals, List<FrontDeskGuest> departures,
+                                 List<FrontDeskGuest> inHouse) {
+}
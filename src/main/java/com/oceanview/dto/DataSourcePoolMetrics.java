@@ -0,0 +1,76 @@
+package com.oceanview.dto;
+
+/**
+ * DataSource Pool Metrics DTO
+ * Connection counters for one pool behind the read/write router
+ */
+public class DataSourcePoolMetrics {
+    
+    private String pool;
+    private long routedConnections;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int threadsAwaitingConnection;
+    
+    public DataSourcePoolMetrics() {
+    }
+    
+    public DataSourcePoolMetrics(String pool, long routedConnections, int activeConnections, int idleConnections,
+                                 int totalConnections, int threadsAwaitingConnection) {
+        this.pool = pool;
+        this.routedConnections = routedConnections;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+    
+    public String getPool() {
+        return pool;
+    }
+    
+    public void setPool(String pool) {
+        this.pool = pool;
+    }
+    
+    public long getRoutedConnections() {
+        return routedConnections;
+    }
+    
+    public void setRoutedConnections(long routedConnections) {
+        this.routedConnections = routedConnections;
+    }
+    
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+    
+    public void setActiveConnections(int activeConnections) {
+        this.activeConnections = activeConnections;
+    }
+    
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+    
+    public void setIdleConnections(int idleConnections) {
+        this.idleConnections = idleConnections;
+    }
+    
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+    
+    public void setTotalConnections(int totalConnections) {
+        this.totalConnections = totalConnections;
+    }
+    
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+    
+    public void setThreadsAwaitingConnection(int threadsAwaitingConnection) {
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+}
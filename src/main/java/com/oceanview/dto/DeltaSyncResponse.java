@@ -0,0 +1,51 @@
+package com.oceanview.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta Sync Response DTO
+ * Reservations changed since a client's watermark, plus the watermark to send next time
+ */
+public class DeltaSyncResponse {
+    
+    private String watermark;
+    private boolean hasMore;
+    private List<ReservationResponse> changed = new ArrayList<>();
+    private List<ReservationTombstone> removed = new ArrayList<>();
+    
+    public DeltaSyncResponse() {
+    }
+    
+    public String getWatermark() {
+        return watermark;
+    }
+    
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public List<ReservationResponse> getChanged() {
+        return changed;
+    }
+    
+    public void setChanged(List<ReservationResponse> changed) {
+        this.changed = changed;
+    }
+    
+    public List<ReservationTombstone> getRemoved() {
+        return removed;
+    }
+    
+    public void setRemoved(List<ReservationTombstone> removed) {
+        this.removed = removed;
+    }
+}
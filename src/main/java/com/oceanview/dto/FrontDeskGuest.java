@@ -0,0 +1,15 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+
+import java.time.LocalDate;
+
+/**
+ * Front Desk Guest projection
+ * One stay on the front desk daily board, read without loading entities
+ */
+public record FrontDeskGuest(String reservationNumber, String guestName, String contactNumber, RoomType roomType,
+                             String roomNumber, LocalDate checkInDate, LocalDate checkOutDate,
+                             ReservationStatus status, Integer numberOfGuests) {
+}
@@ -0,0 +1,84 @@
+package com.oceanview.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Night Audit Report DTO
+ * Summarises one night audit run
+ */
+public class NightAuditReport {
+    
+    private LocalDate businessDate;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long durationMillis;
+    private long noShowCount;
+    private long checkedOutCount;
+    private boolean running;
+    
+    public NightAuditReport() {
+    }
+    
+    public NightAuditReport(LocalDate businessDate, LocalDateTime startedAt) {
+        this.businessDate = businessDate;
+        this.startedAt = startedAt;
+        this.running = true;
+    }
+    
+    public LocalDate getBusinessDate() {
+        return businessDate;
+    }
+    
+    public void setBusinessDate(LocalDate businessDate) {
+        this.businessDate = businessDate;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+    
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+    
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+    
+    public long getNoShowCount() {
+        return noShowCount;
+    }
+    
+    public void setNoShowCount(long noShowCount) {
+        this.noShowCount = noShowCount;
+    }
+    
+    public long getCheckedOutCount() {
+        return checkedOutCount;
+    }
+    
+    public void setCheckedOutCount(long checkedOutCount) {
+        this.checkedOutCount = checkedOutCount;
+    }
+    
+    public boolean isRunning() {
+        return running;
+    }
+    
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+}
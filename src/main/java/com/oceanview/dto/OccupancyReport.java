@@ -0,0 +1,70 @@
+package com.oceanview.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Occupancy Report DTO
+ * Nightly rows for [from, to) plus period totals per room type
+ */
+public class OccupancyReport {
+    
+    private LocalDate from;
+    private LocalDate to;
+    private long reservationsScanned;
+    private long computeMillis;
+    private List<OccupancyReportRow> nights = new ArrayList<>();
+    private List<OccupancyReportRow> totals = new ArrayList<>();
+    
+    public OccupancyReport() {
+    }
+    
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+    
+    public long getReservationsScanned() {
+        return reservationsScanned;
+    }
+    
+    public void setReservationsScanned(long reservationsScanned) {
+        this.reservationsScanned = reservationsScanned;
+    }
+    
+    public long getComputeMillis() {
+        return computeMillis;
+    }
+    
+    public void setComputeMillis(long computeMillis) {
+        this.computeMillis = computeMillis;
+    }
+    
+    public List<OccupancyReportRow> getNights() {
+        return nights;
+    }
+    
+    public void setNights(List<OccupancyReportRow> nights) {
+        this.nights = nights;
+    }
+    
+    public List<OccupancyReportRow> getTotals() {
+        return totals;
+    }
+    
+    public void setTotals(List<OccupancyReportRow> totals) {
+        this.totals = totals;
+    }
+}
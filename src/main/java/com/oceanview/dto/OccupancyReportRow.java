@@ -0,0 +1,102 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.RoomType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Occupancy Report Row DTO
+ * Occupancy, ADR and RevPAR for one night and room type; a null date is the period total
+ * and a null room type is the all-rooms total
+ */
+public class OccupancyReportRow {
+    
+    private LocalDate date;
+    private RoomType roomType;
+    private long roomsAvailable;
+    private long roomsSold;
+    private BigDecimal occupancyPercent;
+    private BigDecimal revenue;
+    private BigDecimal adr;
+    private BigDecimal revpar;
+    
+    public OccupancyReportRow() {
+    }
+    
+    public OccupancyReportRow(LocalDate date, RoomType roomType, long roomsAvailable, long roomsSold,
+                              BigDecimal occupancyPercent, BigDecimal revenue, BigDecimal adr, BigDecimal revpar) {
+        this.date = date;
+        this.roomType = roomType;
+        this.roomsAvailable = roomsAvailable;
+        this.roomsSold = roomsSold;
+        this.occupancyPercent = occupancyPercent;
+        this.revenue = revenue;
+        this.adr = adr;
+        this.revpar = revpar;
+    }
+    
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public long getRoomsAvailable() {
+        return roomsAvailable;
+    }
+    
+    public void setRoomsAvailable(long roomsAvailable) {
+        this.roomsAvailable = roomsAvailable;
+    }
+    
+    public long getRoomsSold() {
+        return roomsSold;
+    }
+    
+    public void setRoomsSold(long roomsSold) {
+        this.roomsSold = roomsSold;
+    }
+    
+    public BigDecimal getOccupancyPercent() {
+        return occupancyPercent;
+    }
+    
+    public void setOccupancyPercent(BigDecimal occupancyPercent) {
+        this.occupancyPercent = occupancyPercent;
+    }
+    
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+    
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+    
+    public BigDecimal getAdr() {
+        return adr;
+    }
+    
+    public void setAdr(BigDecimal adr) {
+        this.adr = adr;
+    }
+    
+    public BigDecimal getRevpar() {
+        return revpar;
+    }
+    
+    public void setRevpar(BigDecimal revpar) {
+        this.revpar = revpar;
+    }
+}
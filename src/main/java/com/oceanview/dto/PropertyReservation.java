@@ -0,0 +1,8 @@
+package com.oceanview.dto;
+
+/**
+ * Property Reservation DTO
+ * A reservation found in a cross-property search, tagged with the property it belongs to
+ */
+public record PropertyReservation(String property, ReservationResponse reservation) {
+}
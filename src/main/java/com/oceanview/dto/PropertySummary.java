@@ -0,0 +1,8 @@
+package com.oceanview.dto;
+
+/**
+ * Property Summary DTO
+ * A resort property as offered to staff for the X-Property header
+ */
+public record PropertySummary(String code, String name, boolean defaultProperty) {
+}
@@ -0,0 +1,14 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.RoomType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Rate Quote DTO
+ * Price of a stay from the current rate calendar
+ */
+public record RateQuote(RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                        long numberOfNights, BigDecimal totalAmount) {
+}
@@ -0,0 +1,251 @@
+package com.oceanview.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.oceanview.config.PropertyContext;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reservation Change Event DTO
+ * Compact description of a reservation mutation, published by the service layer
+ * and pushed to live dashboard subscribers
+ */
+public class ReservationChangeEvent {
+    
+    /**
+     * Property the change was made in; stream subscribers only receive their own property's changes
+     */
+    private String property = PropertyContext.current();
+    private ReservationChangeType type;
+    private String reservationNumber;
+    private ReservationStatus status;
+    private ReservationStatus previousStatus;
+    private RoomType roomType;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private String roomNumber;
+    private RoomType previousRoomType;
+    private LocalDate previousCheckInDate;
+    private LocalDate previousCheckOutDate;
+    private long count = 1;
+    private LocalDateTime occurredAt;
+    
+    /**
+     * Guest contact details for in-process listeners; never sent to stream subscribers
+     */
+    private ReservationLookupEntry lookupEntry;
+    
+    /**
+     * Reservations a set-based transition moved, for in-process listeners; never sent to stream subscribers
+     */
+    private List<String> reservationNumbers = List.of();
+    
+    /**
+     * True when another node made the change and this node replays it from the change log
+     */
+    private boolean remote;
+    
+    public ReservationChangeEvent() {
+    }
+    
+    public ReservationChangeEvent(ReservationChangeType type, Reservation reservation, ReservationStatus previousStatus) {
+        this.type = type;
+        this.reservationNumber = reservation.getReservationNumber();
+        this.status = reservation.getStatus();
+        this.previousStatus = previousStatus;
+        this.roomType = reservation.getRoomType();
+        this.checkInDate = reservation.getCheckInDate();
+        this.checkOutDate = reservation.getCheckOutDate();
+        this.roomNumber = reservation.getRoomNumber();
+        this.occurredAt = LocalDateTime.now();
+        this.lookupEntry = ReservationLookupEntry.of(reservation);
+    }
+    
+    /**
+     * Records the stay as it was before an update, so listeners can see what moved
+     */
+    public ReservationChangeEvent withPreviousStay(RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+        this.previousRoomType = roomType;
+        this.previousCheckInDate = checkInDate;
+        this.previousCheckOutDate = checkOutDate;
+        return this;
+    }
+    
+    /**
+     * Event for a set-based transition (e.g. the night audit) that touched many rows at once
+     */
+    public static ReservationChangeEvent bulk(ReservationStatus previousStatus, ReservationStatus status, long count) {
+        ReservationChangeEvent event = new ReservationChangeEvent();
+        event.setType(ReservationChangeType.BULK_STATUS_CHANGED);
+        event.setPreviousStatus(previousStatus);
+        event.setStatus(status);
+        event.setCount(count);
+        event.setOccurredAt(LocalDateTime.now());
+        return event;
+    }
+    
+    /**
+     * Event for the assignment board moving a stay to another room outside the stay's own change
+     */
+    public static ReservationChangeEvent roomChanged(String reservationNumber, String roomNumber) {
+        ReservationChangeEvent event = new ReservationChangeEvent();
+        event.setType(ReservationChangeType.ROOM_CHANGED);
+        event.setReservationNumber(reservationNumber);
+        event.setRoomNumber(roomNumber);
+        event.setOccurredAt(LocalDateTime.now());
+        return event;
+    }
+    
+    /**
+     * Names the reservations a set-based transition moved
+     */
+    public ReservationChangeEvent withReservationNumbers(List<String> reservationNumbers) {
+        this.reservationNumbers = List.copyOf(reservationNumbers);
+        return this;
+    }
+    
+    public String getProperty() {
+        return property;
+    }
+    
+    public void setProperty(String property) {
+        this.property = property;
+    }
+    
+    public ReservationChangeType getType() {
+        return type;
+    }
+    
+    public void setType(ReservationChangeType type) {
+        this.type = type;
+    }
+    
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+    
+    public void setReservationNumber(String reservationNumber) {
+        this.reservationNumber = reservationNumber;
+    }
+    
+    public ReservationStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+    
+    public ReservationStatus getPreviousStatus() {
+        return previousStatus;
+    }
+    
+    public void setPreviousStatus(ReservationStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+    
+    public RoomType getPreviousRoomType() {
+        return previousRoomType;
+    }
+    
+    public void setPreviousRoomType(RoomType previousRoomType) {
+        this.previousRoomType = previousRoomType;
+    }
+    
+    public LocalDate getPreviousCheckInDate() {
+        return previousCheckInDate;
+    }
+    
+    public void setPreviousCheckInDate(LocalDate previousCheckInDate) {
+        this.previousCheckInDate = previousCheckInDate;
+    }
+    
+    public LocalDate getPreviousCheckOutDate() {
+        return previousCheckOutDate;
+    }
+    
+    public void setPreviousCheckOutDate(LocalDate previousCheckOutDate) {
+        this.previousCheckOutDate = previousCheckOutDate;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+    
+    @JsonIgnore
+    public ReservationLookupEntry getLookupEntry() {
+        return lookupEntry;
+    }
+    
+    public void setLookupEntry(ReservationLookupEntry lookupEntry) {
+        this.lookupEntry = lookupEntry;
+    }
+    
+    @JsonIgnore
+    public List<String> getReservationNumbers() {
+        return reservationNumbers;
+    }
+    
+    public void setReservationNumbers(List<String> reservationNumbers) {
+        this.reservationNumbers = reservationNumbers;
+    }
+    
+    @JsonIgnore
+    public boolean isRemote() {
+        return remote;
+    }
+    
+    public void setRemote(boolean remote) {
+        this.remote = remote;
+    }
+}
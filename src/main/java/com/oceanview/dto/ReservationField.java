@@ -0,0 +1,77 @@
+package com.oceanview.dto;
+
+import com.oceanview.exception.ValidationException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reservation Field
+ * Columns a list client may request with fields=, named as in ReservationResponse.
+ * numberOfNights has no column of its own and is derived from the stay dates.
+ */
+public enum ReservationField {
+    
+    ID("id", "r.id"),
+    RESERVATION_NUMBER("reservationNumber", "r.reservationNumber"),
+    GUEST_NAME("guestName", "r.guestName"),
+    ADDRESS("address", "r.address"),
+    CONTACT_NUMBER("contactNumber", "r.contactNumber"),
+    EMAIL("email", "r.email"),
+    ROOM_TYPE("roomType", "r.roomType"),
+    CHECK_IN_DATE("checkInDate", "r.checkInDate"),
+    CHECK_OUT_DATE("checkOutDate", "r.checkOutDate"),
+    STATUS("status", "r.status"),
+    NUMBER_OF_GUESTS("numberOfGuests", "r.numberOfGuests"),
+    SPECIAL_REQUESTS("specialRequests", "r.specialRequests"),
+    TOTAL_AMOUNT("totalAmount", "r.totalAmount"),
+    NUMBER_OF_NIGHTS("numberOfNights", null),
+    ROOM_NUMBER("roomNumber", "r.roomNumber");
+    
+    private final String jsonName;
+    private final String column;
+    
+    ReservationField(String jsonName, String column) {
+        this.jsonName = jsonName;
+        this.column = column;
+    }
+    
+    public String getJsonName() {
+        return jsonName;
+    }
+    
+    /**
+     * JPQL path of the backing column, or null for derived fields
+     */
+    public String getColumn() {
+        return column;
+    }
+    
+    /**
+     * Parses a comma-separated fields= value, keeping the requested order and dropping duplicates
+     */
+    public static List<ReservationField> parse(String fields) {
+        Set<ReservationField> parsed = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(byJsonName(trimmed));
+        }
+        if (parsed.isEmpty()) {
+            throw new ValidationException("At least one field is required");
+        }
+        return List.copyOf(parsed);
+    }
+    
+    private static ReservationField byJsonName(String name) {
+        for (ReservationField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new ValidationException("Unknown field: " + name);
+    }
+}
@@ -0,0 +1,22 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+
+import java.time.LocalDate;
+
+/**
+ * Reservation Lookup Entry
+ * The columns front desk lookups return, held in memory by the reservation lookup index
+ */
+public record ReservationLookupEntry(String reservationNumber, String guestName, String email, String contactNumber,
+                                     RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                                     ReservationStatus status) {
+    
+    public static ReservationLookupEntry of(Reservation reservation) {
+        return new ReservationLookupEntry(reservation.getReservationNumber(), reservation.getGuestName(),
+            reservation.getEmail(), reservation.getContactNumber(), reservation.getRoomType(),
+            reservation.getCheckInDate(), reservation.getCheckOutDate(), reservation.getStatus());
+    }
+}
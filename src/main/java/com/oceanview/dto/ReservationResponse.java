@@ -1,14 +1,17 @@
 package com.oceanview.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.oceanview.model.ReservationStatus;
 import com.oceanview.model.RoomType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Reservation Response DTO
  */
+@JsonSerialize(using = ReservationResponseSerializer.class)
 public class ReservationResponse {
     
     private Long id;
@@ -25,6 +28,7 @@ public class ReservationResponse {
     private String specialRequests;
     private BigDecimal totalAmount;
     private long numberOfNights;
+    private String roomNumber;
     
     public ReservationResponse() {
     }
@@ -49,6 +53,19 @@ public class ReservationResponse {
         this.numberOfNights = numberOfNights;
     }
     
+    /**
+     * Projection constructor used by JPQL constructor expressions; nights are derived once from the dates
+     */
+    public ReservationResponse(Long id, String reservationNumber, String guestName, String address, 
+                              String contactNumber, String email, RoomType roomType, LocalDate checkInDate, 
+                              LocalDate checkOutDate, ReservationStatus status, Integer numberOfGuests, 
+                              String specialRequests, BigDecimal totalAmount, String roomNumber) {
+        this(id, reservationNumber, guestName, address, contactNumber, email, roomType, checkInDate, checkOutDate,
+            status, numberOfGuests, specialRequests, totalAmount,
+            checkInDate != null && checkOutDate != null ? ChronoUnit.DAYS.between(checkInDate, checkOutDate) : 0);
+        this.roomNumber = roomNumber;
+    }
+    
     public Long getId() {
         return id;
     }
@@ -160,4 +177,12 @@ public class ReservationResponse {
     public void setNumberOfNights(long numberOfNights) {
         this.numberOfNights = numberOfNights;
     }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
 }
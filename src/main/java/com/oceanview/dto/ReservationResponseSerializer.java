@@ -0,0 +1,210 @@
+package com.oceanview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Reservation Response serializer
+ * Writes the same document as Jackson's bean serializer (same property order, ISO dates, enum
+ * names, nulls included) without getter introspection. Property names and enum constants are
+ * pre-encoded once, dates in the common range come from a lazily filled table of encoded strings,
+ * and money amounts with up to two decimals are formatted into a per-thread buffer instead of
+ * going through BigDecimal.toString(). Non-default settings fall back to the standard serializers.
+ */
+public class ReservationResponseSerializer extends StdSerializer<ReservationResponse> {
+    
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString RESERVATION_NUMBER = new SerializedString("reservationNumber");
+    private static final SerializableString GUEST_NAME = new SerializedString("guestName");
+    private static final SerializableString ADDRESS = new SerializedString("address");
+    private static final SerializableString CONTACT_NUMBER = new SerializedString("contactNumber");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString ROOM_TYPE = new SerializedString("roomType");
+    private static final SerializableString CHECK_IN_DATE = new SerializedString("checkInDate");
+    private static final SerializableString CHECK_OUT_DATE = new SerializedString("checkOutDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString NUMBER_OF_GUESTS = new SerializedString("numberOfGuests");
+    private static final SerializableString SPECIAL_REQUESTS = new SerializedString("specialRequests");
+    private static final SerializableString TOTAL_AMOUNT = new SerializedString("totalAmount");
+    private static final SerializableString NUMBER_OF_NIGHTS = new SerializedString("numberOfNights");
+    private static final SerializableString ROOM_NUMBER = new SerializedString("roomNumber");
+    
+    private static final SerializableString[] ROOM_TYPES = encode(RoomType.values());
+    private static final SerializableString[] STATUSES = encode(ReservationStatus.values());
+    
+    /**
+     * Encoded ISO dates for 2000-01-01 up to 2100-01-01, filled on first use; racing writers store equal values
+     */
+    private static final long FIRST_CACHED_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final SerializableString[] DATES =
+        new SerializableString[(int) (LocalDate.of(2100, 1, 1).toEpochDay() - FIRST_CACHED_DAY)];
+    
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[24]);
+    
+    public ReservationResponseSerializer() {
+        super(ReservationResponse.class);
+    }
+    
+    @Override
+    public void serialize(ReservationResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean writeNulls = writesNulls(provider);
+        gen.writeStartObject(value, 15);
+        
+        if (value.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(value.getId());
+        } else if (writeNulls) {
+            writeNull(gen, ID);
+        }
+        writeString(gen, RESERVATION_NUMBER, value.getReservationNumber(), writeNulls);
+        writeString(gen, GUEST_NAME, value.getGuestName(), writeNulls);
+        writeString(gen, ADDRESS, value.getAddress(), writeNulls);
+        writeString(gen, CONTACT_NUMBER, value.getContactNumber(), writeNulls);
+        writeString(gen, EMAIL, value.getEmail(), writeNulls);
+        writeEnum(gen, provider, ROOM_TYPE, value.getRoomType(), ROOM_TYPES, writeNulls);
+        writeDate(gen, provider, CHECK_IN_DATE, value.getCheckInDate(), writeNulls);
+        writeDate(gen, provider, CHECK_OUT_DATE, value.getCheckOutDate(), writeNulls);
+        writeEnum(gen, provider, STATUS, value.getStatus(), STATUSES, writeNulls);
+        if (value.getNumberOfGuests() != null) {
+            gen.writeFieldName(NUMBER_OF_GUESTS);
+            gen.writeNumber(value.getNumberOfGuests());
+        } else if (writeNulls) {
+            writeNull(gen, NUMBER_OF_GUESTS);
+        }
+        writeString(gen, SPECIAL_REQUESTS, value.getSpecialRequests(), writeNulls);
+        writeAmount(gen, TOTAL_AMOUNT, value.getTotalAmount(), writeNulls);
+        gen.writeFieldName(NUMBER_OF_NIGHTS);
+        gen.writeNumber(value.getNumberOfNights());
+        writeString(gen, ROOM_NUMBER, value.getRoomNumber(), writeNulls);
+        
+        gen.writeEndObject();
+    }
+    
+    /**
+     * Nulls are written unless the mapper was configured to leave them out
+     */
+    static boolean writesNulls(SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+    
+    static void writeString(JsonGenerator gen, SerializableString name, String value, boolean writeNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        } else if (writeNulls) {
+            writeNull(gen, name);
+        }
+    }
+    
+    private static void writeNull(JsonGenerator gen, SerializableString name) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNull();
+    }
+    
+    private static void writeEnum(JsonGenerator gen, SerializerProvider provider, SerializableString name, Enum<?> value,
+                                  SerializableString[] encoded, boolean writeNulls) throws IOException {
+        if (value == null) {
+            if (writeNulls) {
+                writeNull(gen, name);
+            }
+            return;
+        }
+        gen.writeFieldName(name);
+        if (provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+                || provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX)) {
+            provider.defaultSerializeValue(value, gen);
+        } else {
+            gen.writeString(encoded[value.ordinal()]);
+        }
+    }
+    
+    private static void writeDate(JsonGenerator gen, SerializerProvider provider, SerializableString name, LocalDate value,
+                                  boolean writeNulls) throws IOException {
+        if (value == null) {
+            if (writeNulls) {
+                writeNull(gen, name);
+            }
+            return;
+        }
+        gen.writeFieldName(name);
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+            return;
+        }
+        long slot = value.toEpochDay() - FIRST_CACHED_DAY;
+        if (slot < 0 || slot >= DATES.length) {
+            gen.writeString(value.toString());
+            return;
+        }
+        SerializableString date = DATES[(int) slot];
+        if (date == null) {
+            date = new SerializedString(value.toString());
+            DATES[(int) slot] = date;
+        }
+        gen.writeString(date);
+    }
+    
+    private static void writeAmount(JsonGenerator gen, SerializableString name, BigDecimal value, boolean writeNulls)
+            throws IOException {
+        if (value == null) {
+            if (writeNulls) {
+                writeNull(gen, name);
+            }
+            return;
+        }
+        gen.writeFieldName(name);
+        // Only text formats take a pre-formatted number; scales 0-2 always print in plain notation
+        if (!gen.canWriteFormattedNumbers() || gen.isEnabled(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN)
+                || value.scale() < 0 || value.scale() > 2 || value.unscaledValue().bitLength() > 62) {
+            gen.writeNumber(value);
+            return;
+        }
+        char[] buffer = SCRATCH.get();
+        int length = formatPlain(value.unscaledValue().longValue(), value.scale(), buffer);
+        gen.writeNumber(buffer, 0, length);
+    }
+    
+    /**
+     * Formats unscaled * 10^-scale the way BigDecimal.toString() does for small non-negative scales
+     */
+    static int formatPlain(long unscaled, int scale, char[] buffer) {
+        boolean negative = unscaled < 0;
+        long remaining = Math.abs(unscaled);
+        int position = buffer.length;
+        int written = 0;
+        do {
+            if (written == scale && scale > 0) {
+                buffer[--position] = '.';
+            }
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+            written++;
+        } while (remaining > 0 || written <= scale);
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        int length = buffer.length - position;
+        System.arraycopy(buffer, position, buffer, 0, length);
+        return length;
+    }
+    
+    private static SerializableString[] encode(Enum<?>[] constants) {
+        SerializableString[] encoded = new SerializableString[constants.length];
+        for (Enum<?> constant : constants) {
+            encoded[constant.ordinal()] = new SerializedString(constant.name());
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,19 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.RoomType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Reservation Stay projection
+ * The columns the occupancy report needs, read without loading entities.
+ * Identical stays are grouped by the database, so count is how many reservations share this row.
+ */
+public record ReservationStay(RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                              BigDecimal totalAmount, long count) {
+    
+    public ReservationStay(RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate, BigDecimal totalAmount) {
+        this(roomType, checkInDate, checkOutDate, totalAmount, 1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reservation Tombstone DTO
+ * Marks a reservation that left the active set (cancelled, no-show or checked out)
+ */
+public class ReservationTombstone {
+    
+    private String reservationNumber;
+    private ReservationStatus status;
+    private LocalDateTime changedAt;
+    
+    public ReservationTombstone() {
+    }
+    
+    public ReservationTombstone(String reservationNumber, ReservationStatus status, LocalDateTime changedAt) {
+        this.reservationNumber = reservationNumber;
+        this.status = status;
+        this.changedAt = changedAt;
+    }
+    
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+    
+    public void setReservationNumber(String reservationNumber) {
+        this.reservationNumber = reservationNumber;
+    }
+    
+    public ReservationStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+    
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
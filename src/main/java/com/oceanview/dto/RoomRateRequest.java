@@ -0,0 +1,85 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.RoomType;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Room Rate Request DTO
+ */
+public class RoomRateRequest {
+    
+    @NotNull(message = "Room type is required")
+    private RoomType roomType;
+    
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+    
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+    
+    @NotNull(message = "Rate per night is required")
+    @DecimalMin(value = "0.00", message = "Rate per night cannot be negative")
+    @Digits(integer = 8, fraction = 2, message = "Rate per night must have at most 2 decimal places")
+    private BigDecimal ratePerNight;
+    
+    @DecimalMin(value = "0.00", message = "Weekend rate cannot be negative")
+    @Digits(integer = 8, fraction = 2, message = "Weekend rate must have at most 2 decimal places")
+    private BigDecimal weekendRate;
+    
+    @Size(max = 100, message = "Description must be at most 100 characters")
+    private String description;
+    
+    public RoomRateRequest() {
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public BigDecimal getRatePerNight() {
+        return ratePerNight;
+    }
+    
+    public void setRatePerNight(BigDecimal ratePerNight) {
+        this.ratePerNight = ratePerNight;
+    }
+    
+    public BigDecimal getWeekendRate() {
+        return weekendRate;
+    }
+    
+    public void setWeekendRate(BigDecimal weekendRate) {
+        this.weekendRate = weekendRate;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
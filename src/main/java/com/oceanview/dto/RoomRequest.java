@@ -0,0 +1,46 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.RoomType;
+import jakarta.validation.constraints.*;
+
+/**
+ * Room Request DTO
+ */
+public class RoomRequest {
+    
+    @NotBlank(message = "Room number is required")
+    @Size(max = 10, message = "Room number must be at most 10 characters")
+    private String roomNumber;
+    
+    @NotNull(message = "Room type is required")
+    private RoomType roomType;
+    
+    private boolean outOfService;
+    
+    public RoomRequest() {
+    }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public boolean isOutOfService() {
+        return outOfService;
+    }
+    
+    public void setOutOfService(boolean outOfService) {
+        this.outOfService = outOfService;
+    }
+}
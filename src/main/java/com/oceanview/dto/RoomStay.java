@@ -0,0 +1,14 @@
+package com.oceanview.dto;
+
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+
+import java.time.LocalDate;
+
+/**
+ * Room Stay projection
+ * The columns room assignment needs, read without loading entities
+ */
+public record RoomStay(String reservationNumber, RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                       ReservationStatus status, String roomNumber) {
+}
@@ -0,0 +1,18 @@
+package com.oceanview.exception;
+
+/**
+ * Exception thrown when a request cannot be accepted right now and should be retried
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
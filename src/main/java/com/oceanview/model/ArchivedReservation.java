@@ -0,0 +1,217 @@
+package com.oceanview.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Archived Reservation Entity
+ * Closed reservations moved out of the hot reservations table once they pass the archive horizon.
+ * Keeps the original id and is never modified after it is written.
+ */
+@Entity
+@Table(
+    name = "reservations_archive",
+    indexes = {
+        @Index(name = "idx_reservation_archive_number", columnList = "reservationNumber", unique = true),
+        // Occupancy reports reaching past the archive horizon
+        @Index(name = "idx_reservation_archive_check_in", columnList = "checkInDate")
+    }
+)
+public class ArchivedReservation {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String reservationNumber;
+    
+    private String guestName;
+    
+    private String address;
+    
+    private String contactNumber;
+    
+    private String email;
+    
+    @Enumerated(EnumType.STRING)
+    private RoomType roomType;
+    
+    private LocalDate checkInDate;
+    
+    private LocalDate checkOutDate;
+    
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+    
+    private Integer numberOfGuests;
+    
+    private String specialRequests;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(length = 10)
+    private String roomNumber;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+    
+    public ArchivedReservation() {
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+    
+    public void setReservationNumber(String reservationNumber) {
+        this.reservationNumber = reservationNumber;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public void setGuestName(String guestName) {
+        this.guestName = guestName;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public String getContactNumber() {
+        return contactNumber;
+    }
+    
+    public void setContactNumber(String contactNumber) {
+        this.contactNumber = contactNumber;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public ReservationStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+    
+    public Integer getNumberOfGuests() {
+        return numberOfGuests;
+    }
+    
+    public void setNumberOfGuests(Integer numberOfGuests) {
+        this.numberOfGuests = numberOfGuests;
+    }
+    
+    public String getSpecialRequests() {
+        return specialRequests;
+    }
+    
+    public void setSpecialRequests(String specialRequests) {
+        this.specialRequests = specialRequests;
+    }
+    
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+    
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+    
+    /**
+     * Gets number of nights for the reservation
+     */
+    public long getNumberOfNights() {
+        if (checkInDate != null && checkOutDate != null) {
+            return ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.oceanview.model;
+
+/**
+ * Booking Intake State
+ * Outcome of a portal booking request accepted by the asynchronous intake
+ */
+public enum BookingIntakeState {
+    QUEUED,
+    CONFIRMED,
+    WAITLISTED,
+    REJECTED
+}
@@ -0,0 +1,106 @@
+package com.oceanview.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency Record Entity
+ * The stored response of a create request, replayed when the same Idempotency-Key is sent again
+ */
+@Entity
+@Table(
+    name = "idempotency_records",
+    indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt")
+)
+public class IdempotencyRecord {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * Scope and client key, e.g. "reservations/public:3f2a..."
+     */
+    @Column(nullable = false, unique = true, length = 200)
+    private String idempotencyKey;
+    
+    /**
+     * SHA-256 of the request body, to reject a key reused for a different request
+     */
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+    
+    @Lob
+    @Column(nullable = false)
+    private String responseBody;
+    
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    public IdempotencyRecord() {
+    }
+    
+    public IdempotencyRecord(String idempotencyKey, String fingerprint, String responseBody, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.fingerprint = fingerprint;
+        this.responseBody = responseBody;
+        this.expiresAt = expiresAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+    
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+    
+    public String getFingerprint() {
+        return fingerprint;
+    }
+    
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+    
+    public String getResponseBody() {
+        return responseBody;
+    }
+    
+    public void setResponseBody(String responseBody) {
+        this.responseBody = responseBody;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,110 @@
+package com.oceanview.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Night Audit Checkpoint Entity
+ * Records how far a night audit phase has progressed so an interrupted run can resume
+ */
+@Entity
+@Table(
+    name = "night_audit_checkpoints",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"business_date", "phase"})
+)
+public class NightAuditCheckpoint {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NightAuditPhase phase;
+    
+    @Column(name = "last_processed_id", nullable = false)
+    private long lastProcessedId;
+    
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+    
+    private boolean completed;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public NightAuditCheckpoint() {
+    }
+    
+    public NightAuditCheckpoint(LocalDate businessDate, NightAuditPhase phase) {
+        this.businessDate = businessDate;
+        this.phase = phase;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public LocalDate getBusinessDate() {
+        return businessDate;
+    }
+    
+    public void setBusinessDate(LocalDate businessDate) {
+        this.businessDate = businessDate;
+    }
+    
+    public NightAuditPhase getPhase() {
+        return phase;
+    }
+    
+    public void setPhase(NightAuditPhase phase) {
+        this.phase = phase;
+    }
+    
+    public long getLastProcessedId() {
+        return lastProcessedId;
+    }
+    
+    public void setLastProcessedId(long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+    }
+    
+    public long getProcessedCount() {
+        return processedCount;
+    }
+    
+    public void setProcessedCount(long processedCount) {
+        this.processedCount = processedCount;
+    }
+    
+    public boolean isCompleted() {
+        return completed;
+    }
+    
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
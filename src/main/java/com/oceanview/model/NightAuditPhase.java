@@ -0,0 +1,26 @@
+package com.oceanview.model;
+
+/**
+ * Night Audit Phase Enumeration
+ * Each phase moves stale reservations from one status to the next
+ */
+public enum NightAuditPhase {
+    NO_SHOW(ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW),
+    OVERDUE_CHECKOUT(ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT);
+    
+    private final ReservationStatus sourceStatus;
+    private final ReservationStatus targetStatus;
+    
+    NightAuditPhase(ReservationStatus sourceStatus, ReservationStatus targetStatus) {
+        this.sourceStatus = sourceStatus;
+        this.targetStatus = targetStatus;
+    }
+    
+    public ReservationStatus getSourceStatus() {
+        return sourceStatus;
+    }
+    
+    public ReservationStatus getTargetStatus() {
+        return targetStatus;
+    }
+}
@@ -2,20 +2,42 @@ package com.oceanview.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Reservation Entity - Core business entity
  * Represents a room reservation with guest details
  */
 @Entity
-@Table(name = "reservations")
+@Table(
+    name = "reservations",
+    indexes = {
+        // Inventory ledger recount: equality on room type and status, then the stay range
+        @Index(name = "idx_reservation_room_status_dates", columnList = "roomType, status, checkInDate, checkOutDate"),
+        // Status lists, in-house lookups and the night audit no-show scan
+        @Index(name = "idx_reservation_status_check_in", columnList = "status, checkInDate"),
+        // Night audit overdue check-out scan
+        @Index(name = "idx_reservation_status_check_out", columnList = "status, checkOutDate"),
+        // Arrival date range reports
+        @Index(name = "idx_reservation_check_in", columnList = "checkInDate"),
+        // Delta sync watermark scan
+        @Index(name = "idx_reservation_change_seq", columnList = "changeSeq, id")
+    }
+)
 public class Reservation {
     
+    /**
+     * Last millisecond value handed out as a reservation number on this node
+     */
+    private static final AtomicLong lastNumber = new AtomicLong();
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -56,12 +78,31 @@ public class Reservation {
     @Column(precision = 10, scale = 2)
     private BigDecimal totalAmount;
     
+    // Physical room from the assignment board; null until assigned
+    @Column(length = 10)
+    private String roomNumber;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Change log id of the last committed change, stamped in the changing transaction; 0 until then
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false)
+    private long changeSeq;
+    
+    // Room type and dates totalAmount was last priced for; a status-only change leaves these equal
+    @Transient
+    private RoomType pricedRoomType;
+    
+    @Transient
+    private LocalDate pricedCheckInDate;
+    
+    @Transient
+    private LocalDate pricedCheckOutDate;
+    
     public Reservation() {
     }
     
@@ -190,6 +231,14 @@ public class Reservation {
         this.totalAmount = totalAmount;
     }
     
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -206,6 +255,10 @@ public class Reservation {
         this.updatedAt = updatedAt;
     }
     
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -213,34 +266,69 @@ public class Reservation {
         if (reservationNumber == null) {
             reservationNumber = generateReservationNumber();
         }
-        calculateTotalAmount();
+        if (totalAmount == null || isPricingStale()) {
+            calculateTotalAmount();
+        }
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
-        calculateTotalAmount();
+        if (isPricingStale()) {
+            calculateTotalAmount();
+        }
+    }
+    
+    @PostLoad
+    protected void onLoad() {
+        markPriced();
     }
     
     /**
-     * Generates unique reservation number
+     * Generates unique reservation number: the current millisecond, bumped past the last one
+     * issued so reservations created in the same millisecond (batched writes) stay distinct
      */
     private String generateReservationNumber() {
-        return "RES" + System.currentTimeMillis();
+        long now = System.currentTimeMillis();
+        return "RES" + lastNumber.accumulateAndGet(now, (last, time) -> Math.max(last + 1, time));
     }
     
     /**
-     * Calculates total amount based on room type and duration
+     * Calculates total amount at the room type's base rate; used when no rate calendar price was applied
      */
     public void calculateTotalAmount() {
         if (checkInDate != null && checkOutDate != null && roomType != null) {
             long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
             if (nights > 0) {
                 totalAmount = roomType.getRatePerNight().multiply(BigDecimal.valueOf(nights));
+                markPriced();
             }
         }
     }
     
+    /**
+     * Sets a total priced elsewhere (the rate calendar) for the current room type and dates
+     */
+    public void applyPrice(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+        markPriced();
+    }
+    
+    /**
+     * True when room type or dates changed since the total was last priced
+     */
+    public boolean isPricingStale() {
+        return roomType != pricedRoomType
+            || !Objects.equals(checkInDate, pricedCheckInDate)
+            || !Objects.equals(checkOutDate, pricedCheckOutDate);
+    }
+    
+    private void markPriced() {
+        pricedRoomType = roomType;
+        pricedCheckInDate = checkInDate;
+        pricedCheckOutDate = checkOutDate;
+    }
+    
     /**
      * Gets number of nights for the reservation
      */
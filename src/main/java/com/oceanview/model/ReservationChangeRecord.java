@@ -0,0 +1,243 @@
+package com.oceanview.model;
+
+import com.oceanview.dto.ReservationChangeEvent;
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Reservation Change Record Entity
+ * One row per committed reservation change, written in the changing transaction.
+ * Other nodes tail the table by id to keep their in-memory caches in step.
+ */
+@Entity
+@Table(
+    name = "reservation_change_log",
+    indexes = @Index(name = "idx_change_log_occurred_at", columnList = "occurredAt")
+)
+public class ReservationChangeRecord {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * Node that made the change; it skips its own rows when tailing
+     */
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ReservationChangeType type;
+    
+    // Null for set-based (bulk) changes
+    private String reservationNumber;
+    
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+    
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus previousStatus;
+    
+    @Enumerated(EnumType.STRING)
+    private RoomType roomType;
+    
+    private LocalDate checkInDate;
+    
+    private LocalDate checkOutDate;
+    
+    @Column(length = 10)
+    private String roomNumber;
+    
+    @Enumerated(EnumType.STRING)
+    private RoomType previousRoomType;
+    
+    private LocalDate previousCheckInDate;
+    
+    private LocalDate previousCheckOutDate;
+    
+    @Column(name = "change_count", nullable = false)
+    private long count;
+    
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+    
+    /**
+     * Database clock at insert; holes in the id sequence are aged by it, so node clocks never matter
+     */
+    @CreationTimestamp(source = SourceType.DB)
+    @Column(updatable = false)
+    private LocalDateTime loggedAt;
+    
+    public ReservationChangeRecord() {
+    }
+    
+    public ReservationChangeRecord(String nodeId, ReservationChangeEvent event) {
+        this.nodeId = nodeId;
+        this.type = event.getType();
+        this.reservationNumber = event.getReservationNumber();
+        this.status = event.getStatus();
+        this.previousStatus = event.getPreviousStatus();
+        this.roomType = event.getRoomType();
+        this.checkInDate = event.getCheckInDate();
+        this.checkOutDate = event.getCheckOutDate();
+        this.roomNumber = event.getRoomNumber();
+        this.previousRoomType = event.getPreviousRoomType();
+        this.previousCheckInDate = event.getPreviousCheckInDate();
+        this.previousCheckOutDate = event.getPreviousCheckOutDate();
+        this.count = event.getCount();
+        this.occurredAt = event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now();
+    }
+    
+    /**
+     * The change as an event raised on this node on behalf of the node that made it
+     */
+    public ReservationChangeEvent toEvent() {
+        ReservationChangeEvent event = new ReservationChangeEvent();
+        event.setType(type);
+        event.setReservationNumber(reservationNumber);
+        event.setStatus(status);
+        event.setPreviousStatus(previousStatus);
+        event.setRoomType(roomType);
+        event.setCheckInDate(checkInDate);
+        event.setCheckOutDate(checkOutDate);
+        event.setRoomNumber(roomNumber);
+        event.withPreviousStay(previousRoomType, previousCheckInDate, previousCheckOutDate);
+        event.setCount(count);
+        event.setOccurredAt(occurredAt);
+        event.setRemote(true);
+        return event;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+    
+    public ReservationChangeType getType() {
+        return type;
+    }
+    
+    public void setType(ReservationChangeType type) {
+        this.type = type;
+    }
+    
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+    
+    public void setReservationNumber(String reservationNumber) {
+        this.reservationNumber = reservationNumber;
+    }
+    
+    public ReservationStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+    
+    public ReservationStatus getPreviousStatus() {
+        return previousStatus;
+    }
+    
+    public void setPreviousStatus(ReservationStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public void setRoomNumber(String roomNumber) {
+        this.roomNumber = roomNumber;
+    }
+    
+    public RoomType getPreviousRoomType() {
+        return previousRoomType;
+    }
+    
+    public void setPreviousRoomType(RoomType previousRoomType) {
+        this.previousRoomType = previousRoomType;
+    }
+    
+    public LocalDate getPreviousCheckInDate() {
+        return previousCheckInDate;
+    }
+    
+    public void setPreviousCheckInDate(LocalDate previousCheckInDate) {
+        this.previousCheckInDate = previousCheckInDate;
+    }
+    
+    public LocalDate getPreviousCheckOutDate() {
+        return previousCheckOutDate;
+    }
+    
+    public void setPreviousCheckOutDate(LocalDate previousCheckOutDate) {
+        this.previousCheckOutDate = previousCheckOutDate;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+    
+    public LocalDateTime getLoggedAt() {
+        return loggedAt;
+    }
+    
+    public void setLoggedAt(LocalDateTime loggedAt) {
+        this.loggedAt = loggedAt;
+    }
+}
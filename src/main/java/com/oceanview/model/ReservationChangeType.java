@@ -0,0 +1,24 @@
+package com.oceanview.model;
+
+/**
+ * Reservation Change Type Enumeration
+ * Kinds of mutation broadcast to live subscribers
+ */
+public enum ReservationChangeType {
+    CREATED("created"),
+    UPDATED("updated"),
+    STATUS_CHANGED("status-changed"),
+    CANCELLED("cancelled"),
+    ROOM_CHANGED("room-changed"),
+    BULK_STATUS_CHANGED("bulk-status-changed");
+    
+    private final String eventName;
+    
+    ReservationChangeType(String eventName) {
+        this.eventName = eventName;
+    }
+    
+    public String getEventName() {
+        return eventName;
+    }
+}
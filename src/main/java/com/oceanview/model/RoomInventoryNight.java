@@ -0,0 +1,85 @@
+package com.oceanview.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Room Inventory Night Entity
+ * One row per room type and night: how many rooms of the type exist that night and how many are sold.
+ * Bookings claim a night by raising sold while it is still below capacity.
+ */
+@Entity
+@Table(
+    name = "room_inventory_night",
+    uniqueConstraints = @UniqueConstraint(name = "uk_room_inventory_night", columnNames = {"room_type", "night"})
+)
+public class RoomInventoryNight {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false, length = 20)
+    private RoomType roomType;
+    
+    @Column(nullable = false)
+    private LocalDate night;
+    
+    @Column(nullable = false)
+    private int capacity;
+    
+    @Column(nullable = false)
+    private int sold;
+    
+    public RoomInventoryNight() {
+    }
+    
+    public RoomInventoryNight(RoomType roomType, LocalDate night, int capacity, int sold) {
+        this.roomType = roomType;
+        this.night = night;
+        this.capacity = capacity;
+        this.sold = sold;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getNight() {
+        return night;
+    }
+    
+    public void setNight(LocalDate night) {
+        this.night = night;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    public int getSold() {
+        return sold;
+    }
+    
+    public void setSold(int sold) {
+        this.sold = sold;
+    }
+}
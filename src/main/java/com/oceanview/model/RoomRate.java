@@ -0,0 +1,138 @@
+package com.oceanview.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Room Rate Entity
+ * A seasonal rate for one room type over an inclusive date range, with an optional
+ * weekend (Friday and Saturday night) rate. Where rules overlap, the most recent one wins;
+ * dates no rule covers fall back to the room type's base rate.
+ */
+@Entity
+@Table(
+    name = "room_rates",
+    indexes = @Index(name = "idx_room_rate_type_dates", columnList = "roomType, startDate, endDate")
+)
+public class RoomRate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RoomType roomType;
+    
+    @Column(nullable = false)
+    private LocalDate startDate;
+    
+    @Column(nullable = false)
+    private LocalDate endDate;
+    
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal ratePerNight;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal weekendRate;
+    
+    private String description;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    public RoomRate() {
+    }
+    
+    public RoomRate(RoomType roomType, LocalDate startDate, LocalDate endDate,
+                    BigDecimal ratePerNight, BigDecimal weekendRate, String description) {
+        this.roomType = roomType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.ratePerNight = ratePerNight;
+        this.weekendRate = weekendRate;
+        this.description = description;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public BigDecimal getRatePerNight() {
+        return ratePerNight;
+    }
+    
+    public void setRatePerNight(BigDecimal ratePerNight) {
+        this.ratePerNight = ratePerNight;
+    }
+    
+    public BigDecimal getWeekendRate() {
+        return weekendRate;
+    }
+    
+    public void setWeekendRate(BigDecimal weekendRate) {
+        this.weekendRate = weekendRate;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Rate this rule charges for the night starting on the given date
+     */
+    public BigDecimal getRateFor(LocalDate night) {
+        DayOfWeek day = night.getDayOfWeek();
+        boolean weekend = day == DayOfWeek.FRIDAY || day == DayOfWeek.SATURDAY;
+        return weekend && weekendRate != null ? weekendRate : ratePerNight;
+    }
+}
@@ -33,6 +33,11 @@ public class User {
     
     private boolean active = true;
     
+    /**
+     * Comma-separated codes of the properties the user works in; empty for all properties
+     */
+    private String properties;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -97,6 +102,14 @@ public class User {
         this.active = active;
     }
     
+    public String getProperties() {
+        return properties;
+    }
+    
+    public void setProperties(String properties) {
+        this.properties = properties;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,206 @@
+package com.oceanview.model;
+
+import com.oceanview.dto.ReservationRequest;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Waitlist Entry Entity
+ * A booking request rejected for lack of rooms, kept until inventory frees up for its dates
+ */
+@Entity
+@Table(
+    name = "waitlist_entries",
+    indexes = @Index(name = "idx_waitlist_status_type_dates", columnList = "status, roomType, checkInDate, checkOutDate")
+)
+public class WaitlistEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String guestName;
+    
+    @Column(nullable = false)
+    private String address;
+    
+    @Column(nullable = false)
+    private String contactNumber;
+    
+    private String email;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RoomType roomType;
+    
+    @Column(nullable = false)
+    private LocalDate checkInDate;
+    
+    @Column(nullable = false)
+    private LocalDate checkOutDate;
+    
+    private Integer numberOfGuests;
+    
+    private String specialRequests;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+    
+    private String promotedReservationNumber;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public WaitlistEntry() {
+    }
+    
+    public WaitlistEntry(ReservationRequest request) {
+        this.guestName = request.getGuestName();
+        this.address = request.getAddress();
+        this.contactNumber = request.getContactNumber();
+        this.email = request.getEmail();
+        this.roomType = request.getRoomType();
+        this.checkInDate = request.getCheckInDate();
+        this.checkOutDate = request.getCheckOutDate();
+        this.numberOfGuests = request.getNumberOfGuests();
+        this.specialRequests = request.getSpecialRequests();
+    }
+    
+    /**
+     * Rebuilds the original booking request for promotion
+     */
+    public ReservationRequest toRequest() {
+        return new ReservationRequest(guestName, address, contactNumber, email, roomType,
+            checkInDate, checkOutDate, numberOfGuests, specialRequests);
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public void setGuestName(String guestName) {
+        this.guestName = guestName;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public String getContactNumber() {
+        return contactNumber;
+    }
+    
+    public void setContactNumber(String contactNumber) {
+        this.contactNumber = contactNumber;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public void setRoomType(RoomType roomType) {
+        this.roomType = roomType;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public void setCheckOutDate(LocalDate checkOutDate) {
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public Integer getNumberOfGuests() {
+        return numberOfGuests;
+    }
+    
+    public void setNumberOfGuests(Integer numberOfGuests) {
+        this.numberOfGuests = numberOfGuests;
+    }
+    
+    public String getSpecialRequests() {
+        return specialRequests;
+    }
+    
+    public void setSpecialRequests(String specialRequests) {
+        this.specialRequests = specialRequests;
+    }
+    
+    public WaitlistStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(WaitlistStatus status) {
+        this.status = status;
+    }
+    
+    public String getPromotedReservationNumber() {
+        return promotedReservationNumber;
+    }
+    
+    public void setPromotedReservationNumber(String promotedReservationNumber) {
+        this.promotedReservationNumber = promotedReservationNumber;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.oceanview.model;
+
+/**
+ * Waitlist Status Enumeration
+ * Tracks a waitlisted booking request until it is promoted or dropped
+ */
+public enum WaitlistStatus {
+    WAITING,
+    PROMOTED,
+    WITHDRAWN,
+    EXPIRED
+}
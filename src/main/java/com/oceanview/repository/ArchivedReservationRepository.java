@@ -0,0 +1,49 @@
+package com.oceanview.repository;
+
+import com.oceanview.dto.ReservationStay;
+import com.oceanview.model.ArchivedReservation;
+import com.oceanview.model.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Archived Reservation Repository - Data Access Layer
+ * Cold storage for closed reservations past the archive horizon
+ */
+@Repository
+public interface ArchivedReservationRepository extends JpaRepository<ArchivedReservation, Long> {
+    
+    Optional<ArchivedReservation> findByReservationNumber(String reservationNumber);
+    
+    /**
+     * Copies a batch of hot rows into the archive in one set-based statement
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedReservation (id, reservationNumber, guestName, address, contactNumber, email, " +
+           "roomType, checkInDate, checkOutDate, status, numberOfGuests, specialRequests, totalAmount, " +
+           "roomNumber, createdAt, updatedAt, archivedAt) " +
+           "SELECT r.id, r.reservationNumber, r.guestName, r.address, r.contactNumber, r.email, " +
+           "r.roomType, r.checkInDate, r.checkOutDate, r.status, r.numberOfGuests, r.specialRequests, r.totalAmount, " +
+           "r.roomNumber, r.createdAt, r.updatedAt, local datetime FROM Reservation r WHERE r.id IN :ids")
+    int copyFromReservations(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Archived stays overlapping [from, to) in the given statuses, grouped like the hot table's report query
+     */
+    @Query("SELECT new com.oceanview.dto.ReservationStay(r.roomType, r.checkInDate, r.checkOutDate, r.totalAmount, COUNT(r)) " +
+           "FROM ArchivedReservation r WHERE r.status IN :statuses AND r.checkInDate < :to AND r.checkOutDate > :from " +
+           "GROUP BY r.roomType, r.checkInDate, r.checkOutDate, r.totalAmount")
+    List<ReservationStay> findStaysOverlapping(
+        @Param("statuses") Collection<ReservationStatus> statuses,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+}
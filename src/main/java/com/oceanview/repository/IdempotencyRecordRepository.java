@@ -0,0 +1,24 @@
+package com.oceanview.repository;
+
+import com.oceanview.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency Record Repository - Data Access Layer
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+    
+    Optional<IdempotencyRecord> findByIdempotencyKeyAndExpiresAtAfter(String idempotencyKey, LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord i WHERE i.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
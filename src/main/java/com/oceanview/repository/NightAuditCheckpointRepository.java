@@ -0,0 +1,18 @@
+package com.oceanview.repository;
+
+import com.oceanview.model.NightAuditCheckpoint;
+import com.oceanview.model.NightAuditPhase;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Night Audit Checkpoint Repository - Data Access Layer
+ */
+@Repository
+public interface NightAuditCheckpointRepository extends JpaRepository<NightAuditCheckpoint, Long> {
+    
+    Optional<NightAuditCheckpoint> findByBusinessDateAndPhase(LocalDate businessDate, NightAuditPhase phase);
+}
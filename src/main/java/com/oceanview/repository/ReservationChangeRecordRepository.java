@@ -0,0 +1,45 @@
+package com.oceanview.repository;
+
+import com.oceanview.model.ReservationChangeRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reservation Change Record Repository - Data Access Layer
+ */
+@Repository
+public interface ReservationChangeRecordRepository extends JpaRepository<ReservationChangeRecord, Long> {
+    
+    /**
+     * Next page of the log after a sequence position; a primary key range scan
+     */
+    @Query("SELECT c FROM ReservationChangeRecord c WHERE c.id > :afterId ORDER BY c.id")
+    List<ReservationChangeRecord> findAfter(@Param("afterId") long afterId, Pageable pageable);
+    
+    @Query("SELECT c FROM ReservationChangeRecord c WHERE c.id IN :ids ORDER BY c.id")
+    List<ReservationChangeRecord> findByIds(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM ReservationChangeRecord c")
+    long findMaxId();
+    
+    @Query("SELECT c.id FROM ReservationChangeRecord c WHERE c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+    
+    @Query("SELECT c.loggedAt FROM ReservationChangeRecord c WHERE c.id = :id")
+    LocalDateTime findLoggedAt(@Param("id") long id);
+    
+    @Query(value = "SELECT CURRENT_TIMESTAMP", nativeQuery = true)
+    LocalDateTime findDatabaseTime();
+    
+    @Modifying
+    @Query("DELETE FROM ReservationChangeRecord c WHERE c.occurredAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,14 +1,25 @@
 package com.oceanview.repository;
 
+import com.oceanview.dto.FrontDeskGuest;
+import com.oceanview.dto.ReservationLookupEntry;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.dto.ReservationStay;
+import com.oceanview.dto.RoomStay;
 import com.oceanview.model.Reservation;
 import com.oceanview.model.ReservationStatus;
 import com.oceanview.model.RoomType;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,11 +28,35 @@ import java.util.Optional;
  * Implements DAO Pattern for Reservation entity
  */
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom {
+    
+    /**
+     * Select list matching the ReservationResponse projection constructor
+     */
+    String RESPONSE_COLUMNS = "r.id, r.reservationNumber, r.guestName, r.address, r.contactNumber, r.email, " +
+        "r.roomType, r.checkInDate, r.checkOutDate, r.status, r.numberOfGuests, r.specialRequests, r.totalAmount, r.roomNumber";
+    
+    /**
+     * Select list matching the FrontDeskGuest projection constructor
+     */
+    String FRONT_DESK_COLUMNS = "r.reservationNumber, r.guestName, r.contactNumber, r.roomType, r.roomNumber, " +
+        "r.checkInDate, r.checkOutDate, r.status, r.numberOfGuests";
     
     Optional<Reservation> findByReservationNumber(String reservationNumber);
     
-    List<Reservation> findByGuestNameContainingIgnoreCase(String guestName);
+    /**
+     * Read-only list projection: rows go straight into response DTOs without managed entities
+     */
+    @Query("SELECT new com.oceanview.dto.ReservationResponse(" + RESPONSE_COLUMNS + ") FROM Reservation r ORDER BY r.id")
+    List<ReservationResponse> findAllResponses();
+    
+    /**
+     * Read-only projection of the case-insensitive guest name search
+     */
+    @Query("SELECT new com.oceanview.dto.ReservationResponse(" + RESPONSE_COLUMNS + ") FROM Reservation r " +
+           "WHERE UPPER(r.guestName) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()} " +
+           "ORDER BY r.id")
+    List<ReservationResponse> searchResponsesByGuestName(String guestName);
     
     List<Reservation> findByStatus(ReservationStatus status);
     
@@ -35,12 +70,173 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
         @Param("status") ReservationStatus status
     );
     
-    @Query("SELECT COUNT(r) FROM Reservation r WHERE r.roomType = :roomType " +
-           "AND r.status IN ('CONFIRMED', 'CHECKED_IN') " +
-           "AND ((r.checkInDate <= :checkOut AND r.checkOutDate >= :checkIn))")
-    long countOverlappingReservations(
-        @Param("roomType") RoomType roomType,
-        @Param("checkIn") LocalDate checkIn,
-        @Param("checkOut") LocalDate checkOut
+    /**
+     * Keyset page of reservation ids still in the given status after their check-in date (night audit no-show scan)
+     */
+    @Query("SELECT r.id FROM Reservation r WHERE r.status = :status AND r.checkInDate < :date " +
+           "AND r.id > :afterId ORDER BY r.id")
+    List<Long> findIdsByStatusAndCheckInBefore(
+        @Param("status") ReservationStatus status,
+        @Param("date") LocalDate date,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
+    
+    /**
+     * Keyset page of reservation ids still in the given status after their check-out date (night audit checkout scan)
+     */
+    @Query("SELECT r.id FROM Reservation r WHERE r.status = :status AND r.checkOutDate < :date " +
+           "AND r.id > :afterId ORDER BY r.id")
+    List<Long> findIdsByStatusAndCheckOutBefore(
+        @Param("status") ReservationStatus status,
+        @Param("date") LocalDate date,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
+    
+    /**
+     * Moves a batch of reservations between statuses; rows changed concurrently by staff are left alone
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :target, r.updatedAt = :now " +
+           "WHERE r.id IN :ids AND r.status = :expected")
+    int transitionStatus(
+        @Param("ids") Collection<Long> ids,
+        @Param("expected") ReservationStatus expected,
+        @Param("target") ReservationStatus target,
+        @Param("now") LocalDateTime now
+    );
+    
+    /**
+     * Keyset page of rows changed after the (changeSeq, id) watermark, up to the last change log id
+     * below which every change has committed
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.changeSeq >= :afterSeq " +
+           "AND (r.changeSeq > :afterSeq OR r.id > :afterId) " +
+           "AND r.changeSeq <= :throughSeq ORDER BY r.changeSeq, r.id")
+    List<Reservation> findChangedSince(
+        @Param("afterSeq") long afterSeq,
+        @Param("afterId") long afterId,
+        @Param("throughSeq") long throughSeq,
+        Pageable pageable
+    );
+    
+    /**
+     * Stamps reservations with the change log id written in the current transaction
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.changeSeq = :changeSeq WHERE r.reservationNumber IN :reservationNumbers")
+    int stampChange(
+        @Param("reservationNumbers") Collection<String> reservationNumbers,
+        @Param("changeSeq") long changeSeq
+    );
+    
+    /**
+     * Locks the rows of an archive batch that are still closed and past the horizon
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.status IN :statuses AND r.checkOutDate < :cutoff")
+    List<Reservation> lockArchivable(
+        @Param("ids") Collection<Long> ids,
+        @Param("statuses") Collection<ReservationStatus> statuses,
+        @Param("cutoff") LocalDate cutoff
+    );
+    
+    /**
+     * Locks the reservations of a night audit chunk that are still in the given status
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.status = :status")
+    List<Reservation> lockByIdsAndStatus(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") ReservationStatus status
+    );
+    
+    @Modifying
+    @Query("DELETE FROM Reservation r WHERE r.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Every stay overlapping [from, to) in the given statuses, as a lightweight projection for reporting.
+     * Stays with the same room type, dates and total are collapsed into one row with a count.
+     */
+    @Query("SELECT new com.oceanview.dto.ReservationStay(r.roomType, r.checkInDate, r.checkOutDate, r.totalAmount, COUNT(r)) " +
+           "FROM Reservation r WHERE r.status IN :statuses AND r.checkInDate < :to AND r.checkOutDate > :from " +
+           "GROUP BY r.roomType, r.checkInDate, r.checkOutDate, r.totalAmount")
+    List<ReservationStay> findStaysOverlapping(
+        @Param("statuses") Collection<ReservationStatus> statuses,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+    
+    /**
+     * Stays in the given statuses overlapping [from, to), for building the room assignment board
+     */
+    @Query("SELECT new com.oceanview.dto.RoomStay(r.reservationNumber, r.roomType, r.checkInDate, r.checkOutDate, " +
+           "r.status, r.roomNumber) FROM Reservation r " +
+           "WHERE r.status IN :statuses AND r.checkInDate < :to AND r.checkOutDate > :from")
+    List<RoomStay> findRoomStays(
+        @Param("statuses") Collection<ReservationStatus> statuses,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+    
+    /**
+     * Room stays of specific reservations, for applying changes made on other nodes
+     */
+    @Query("SELECT new com.oceanview.dto.RoomStay(r.reservationNumber, r.roomType, r.checkInDate, r.checkOutDate, " +
+           "r.status, r.roomNumber) FROM Reservation r WHERE r.reservationNumber IN :reservationNumbers")
+    List<RoomStay> findRoomStaysByNumbers(@Param("reservationNumbers") Collection<String> reservationNumbers);
+    
+    /**
+     * Stays in the given statuses touching the dates [from, to], for building the front desk daily board
+     */
+    @Query("SELECT new com.oceanview.dto.FrontDeskGuest(" + FRONT_DESK_COLUMNS + ") FROM Reservation r " +
+           "WHERE r.status IN :statuses AND r.checkOutDate >= :from AND r.checkInDate <= :to")
+    List<FrontDeskGuest> findFrontDeskGuests(
+        @Param("statuses") Collection<ReservationStatus> statuses,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+    
+    /**
+     * One reservation in front desk board form, for applying a change to the board
+     */
+    @Query("SELECT new com.oceanview.dto.FrontDeskGuest(" + FRONT_DESK_COLUMNS + ") FROM Reservation r " +
+           "WHERE r.reservationNumber = :reservationNumber")
+    Optional<FrontDeskGuest> findFrontDeskGuest(@Param("reservationNumber") String reservationNumber);
+    
+    /**
+     * Specific reservations in front desk board form, for applying a set-based transition to the board
+     */
+    @Query("SELECT new com.oceanview.dto.FrontDeskGuest(" + FRONT_DESK_COLUMNS + ") FROM Reservation r " +
+           "WHERE r.reservationNumber IN :reservationNumbers")
+    List<FrontDeskGuest> findFrontDeskGuestsByNumbers(@Param("reservationNumbers") Collection<String> reservationNumbers);
+    
+    /**
+     * Every hot reservation in lookup form, for building the in-memory lookup index
+     */
+    @Query("SELECT new com.oceanview.dto.ReservationLookupEntry(r.reservationNumber, r.guestName, r.email, " +
+           "r.contactNumber, r.roomType, r.checkInDate, r.checkOutDate, r.status) FROM Reservation r")
+    List<ReservationLookupEntry> findLookupEntries();
+    
+    /**
+     * Lookup entries of specific reservations, for applying changes made on other nodes
+     */
+    @Query("SELECT new com.oceanview.dto.ReservationLookupEntry(r.reservationNumber, r.guestName, r.email, " +
+           "r.contactNumber, r.roomType, r.checkInDate, r.checkOutDate, r.status) FROM Reservation r " +
+           "WHERE r.reservationNumber IN :reservationNumbers")
+    List<ReservationLookupEntry> findLookupEntriesByNumbers(@Param("reservationNumbers") Collection<String> reservationNumbers);
+    
+    /**
+     * Sets the physical room of a reservation without loading it
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.roomNumber = :roomNumber, r.updatedAt = :now " +
+           "WHERE r.reservationNumber = :reservationNumber")
+    int assignRoom(
+        @Param("reservationNumber") String reservationNumber,
+        @Param("roomNumber") String roomNumber,
+        @Param("now") LocalDateTime now
     );
 }
@@ -0,0 +1,18 @@
+package com.oceanview.repository;
+
+import com.oceanview.dto.ReservationField;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reservation queries whose select list is only known at runtime
+ */
+public interface ReservationRepositoryCustom {
+    
+    /**
+     * Selects only the requested columns of every reservation, or of those whose guest name
+     * contains the given text (case-insensitive); rows are keyed by field name in request order
+     */
+    List<Map<String, Object>> findFields(List<ReservationField> fields, String guestName);
+}
@@ -0,0 +1,82 @@
+package com.oceanview.repository;
+
+import com.oceanview.dto.ReservationField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldset queries: the JPQL select list is built from the whitelisted field columns only
+ */
+class ReservationRepositoryCustomImpl implements ReservationRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Map<String, Object>> findFields(List<ReservationField> fields, String guestName) {
+        List<String> columns = new ArrayList<>();
+        int[] positions = new int[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            ReservationField field = fields.get(i);
+            positions[i] = field == ReservationField.NUMBER_OF_NIGHTS ? -1 : select(columns, field.getColumn());
+        }
+        // Nights are derived in memory, so the dates are selected even when not requested
+        int checkIn = -1;
+        int checkOut = -1;
+        if (fields.contains(ReservationField.NUMBER_OF_NIGHTS)) {
+            checkIn = select(columns, ReservationField.CHECK_IN_DATE.getColumn());
+            checkOut = select(columns, ReservationField.CHECK_OUT_DATE.getColumn());
+        }
+        
+        StringBuilder jpql = new StringBuilder("SELECT ").append(String.join(", ", columns)).append(" FROM Reservation r");
+        if (guestName != null) {
+            jpql.append(" WHERE UPPER(r.guestName) LIKE UPPER(:pattern) ESCAPE :escape");
+        }
+        jpql.append(" ORDER BY r.id");
+        
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        if (guestName != null) {
+            query.setParameter("pattern", "%" + escapeLike(guestName) + "%");
+            query.setParameter("escape", '\\');
+        }
+        
+        List<Object[]> results = query.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(results.size());
+        for (Object[] columnValues : results) {
+            Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+            for (int i = 0; i < fields.size(); i++) {
+                Object value = positions[i] >= 0
+                    ? columnValues[positions[i]]
+                    : nights((LocalDate) columnValues[checkIn], (LocalDate) columnValues[checkOut]);
+                row.put(fields.get(i).getJsonName(), value);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    private static int select(List<String> columns, String column) {
+        int position = columns.indexOf(column);
+        if (position < 0) {
+            columns.add(column);
+            position = columns.size() - 1;
+        }
+        return position;
+    }
+    
+    private static long nights(LocalDate checkIn, LocalDate checkOut) {
+        return checkIn != null && checkOut != null ? ChronoUnit.DAYS.between(checkIn, checkOut) : 0;
+    }
+    
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,91 @@
+package com.oceanview.repository;
+
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomInventoryNight;
+import com.oceanview.model.RoomType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Room Inventory Night Repository - Data Access Layer
+ * Claims and releases are single-row conditional updates through the (room_type, night) unique index
+ */
+@Repository
+public interface RoomInventoryNightRepository extends JpaRepository<RoomInventoryNight, Long> {
+    
+    /**
+     * Sells one room of the type for the night if one is left; returns 0 when the night is full
+     */
+    @Modifying
+    @Query("UPDATE RoomInventoryNight n SET n.sold = n.sold + 1 " +
+           "WHERE n.roomType = :roomType AND n.night = :night AND n.sold < n.capacity")
+    int claim(@Param("roomType") RoomType roomType, @Param("night") LocalDate night);
+    
+    /**
+     * Gives sold rooms of the type back for the night; returns 0 when the night has no row or fewer rooms sold
+     */
+    @Modifying
+    @Query("UPDATE RoomInventoryNight n SET n.sold = n.sold - :rooms " +
+           "WHERE n.roomType = :roomType AND n.night = :night AND n.sold >= :rooms")
+    int release(@Param("roomType") RoomType roomType, @Param("night") LocalDate night, @Param("rooms") int rooms);
+    
+    @Query("SELECT n.sold FROM RoomInventoryNight n WHERE n.roomType = :roomType AND n.night = :night")
+    Optional<Integer> findSold(@Param("roomType") RoomType roomType, @Param("night") LocalDate night);
+    
+    /**
+     * Takes back rooms given up earlier in the same transaction, regardless of capacity
+     */
+    @Modifying
+    @Query("UPDATE RoomInventoryNight n SET n.sold = n.sold + :rooms WHERE n.roomType = :roomType AND n.night = :night")
+    int restore(@Param("roomType") RoomType roomType, @Param("night") LocalDate night, @Param("rooms") int rooms);
+    
+    /**
+     * Nights of the type in [from, to) that already have a row
+     */
+    @Query("SELECT n.night FROM RoomInventoryNight n WHERE n.roomType = :roomType AND n.night >= :from AND n.night < :to")
+    List<LocalDate> findNights(
+        @Param("roomType") RoomType roomType,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+    
+    /**
+     * Nights of the type in [from, to) with no room left
+     */
+    @Query("SELECT COUNT(n) FROM RoomInventoryNight n WHERE n.roomType = :roomType " +
+           "AND n.night >= :from AND n.night < :to AND n.sold >= n.capacity")
+    long countFullNights(
+        @Param("roomType") RoomType roomType,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+    
+    @Modifying
+    @Query("UPDATE RoomInventoryNight n SET n.capacity = :capacity " +
+           "WHERE n.roomType = :roomType AND n.night >= :from AND n.capacity <> :capacity")
+    int updateCapacity(
+        @Param("roomType") RoomType roomType,
+        @Param("capacity") int capacity,
+        @Param("from") LocalDate from
+    );
+    
+    /**
+     * Recounts sold for every night from the given date on out of the stays in the holding statuses
+     */
+    @Modifying
+    @Query("UPDATE RoomInventoryNight n SET n.sold = (SELECT COUNT(r) FROM Reservation r " +
+           "WHERE r.roomType = n.roomType AND r.status IN :statuses AND r.checkInDate <= n.night AND r.checkOutDate > n.night) " +
+           "WHERE n.night >= :from")
+    int recount(
+        @Param("statuses") Collection<ReservationStatus> statuses,
+        @Param("from") LocalDate from
+    );
+}
@@ -0,0 +1,19 @@
+package com.oceanview.repository;
+
+import com.oceanview.model.RoomRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Room Rate Repository - Data Access Layer
+ */
+@Repository
+public interface RoomRateRepository extends JpaRepository<RoomRate, Long> {
+    
+    /**
+     * All rate rules in creation order, so later rules overwrite earlier ones when the calendar is built
+     */
+    List<RoomRate> findAllByOrderByIdAsc();
+}
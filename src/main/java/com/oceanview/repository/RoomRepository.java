@@ -0,0 +1,21 @@
+package com.oceanview.repository;
+
+import com.oceanview.model.Room;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Room Repository - Data Access Layer
+ */
+@Repository
+public interface RoomRepository extends JpaRepository<Room, Long> {
+    
+    Optional<Room> findByRoomNumber(String roomNumber);
+    
+    boolean existsByRoomNumber(String roomNumber);
+    
+    List<Room> findAllByOrderByRoomNumberAsc();
+}
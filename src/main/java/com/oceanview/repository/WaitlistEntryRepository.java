@@ -0,0 +1,29 @@
+package com.oceanview.repository;
+
+import com.oceanview.model.WaitlistEntry;
+import com.oceanview.model.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Waitlist Entry Repository - Data Access Layer
+ */
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    
+    List<WaitlistEntry> findByStatusOrderByIdAsc(WaitlistStatus status);
+    
+    /**
+     * Expires waiting requests whose check-in date has passed
+     */
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = 'EXPIRED', w.updatedAt = local datetime " +
+           "WHERE w.status = 'WAITING' AND w.checkInDate < :today")
+    int expireBefore(@Param("today") LocalDate today);
+}
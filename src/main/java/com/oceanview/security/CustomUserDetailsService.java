@@ -2,17 +2,19 @@ package com.oceanview.security;
 
 import com.oceanview.model.User;
 import com.oceanview.repository.UserRepository;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Custom User Details Service
- * Loads user details for authentication
+ * Loads user details for authentication; authorities are the role and the properties the user may work in
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -28,12 +30,14 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        authorities.addAll(PropertyAccess.authorities(user.getProperties()));
+        
         return org.springframework.security.core.userdetails.User.builder()
             .username(user.getUsername())
             .password(user.getPassword())
-            .authorities(Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-            ))
+            .authorities(authorities)
             .accountExpired(false)
             .accountLocked(!user.isActive())
             .credentialsExpired(false)
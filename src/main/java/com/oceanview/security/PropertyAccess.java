@@ -0,0 +1,62 @@
+package com.oceanview.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Property Access
+ * The properties a staff member may work in, carried as granted authorities next to the role:
+ * PROPERTY_<CODE> for each property assigned to the user, or PROPERTY_* when none is assigned,
+ * which keeps group-wide staff and accounts created before properties existed working everywhere.
+ */
+public final class PropertyAccess {
+    
+    static final String AUTHORITY_PREFIX = "PROPERTY_";
+    static final String ALL_PROPERTIES = AUTHORITY_PREFIX + "*";
+    
+    private PropertyAccess() {
+    }
+    
+    /**
+     * Authorities for a user's comma-separated property assignment; blank means all properties
+     */
+    public static List<GrantedAuthority> authorities(String assignedProperties) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (assignedProperties != null) {
+            for (String property : assignedProperties.split(",")) {
+                if (!property.isBlank()) {
+                    authorities.add(new SimpleGrantedAuthority(AUTHORITY_PREFIX + property.trim().toUpperCase(Locale.ROOT)));
+                }
+            }
+        }
+        if (authorities.isEmpty()) {
+            authorities.add(new SimpleGrantedAuthority(ALL_PROPERTIES));
+        }
+        return authorities;
+    }
+    
+    public static boolean canAccess(Authentication authentication, String property) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (ALL_PROPERTIES.equals(name) || (AUTHORITY_PREFIX + property).equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * The given properties the user may work in, in the given order
+     */
+    public static List<String> accessible(Authentication authentication, Collection<String> properties) {
+        return properties.stream()
+            .filter(property -> canAccess(authentication, property))
+            .toList();
+    }
+}
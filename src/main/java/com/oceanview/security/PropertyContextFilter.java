@@ -0,0 +1,80 @@
+package com.oceanview.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Property Context Filter
+ * Selects the property an API request works in from the X-Property header (the default property when
+ * absent) and holds it in the PropertyContext for the rest of the request. Unknown properties are
+ * answered with 400, and signed-in staff without access to the property with 403.
+ * Sign-in itself is not property-scoped: staff accounts live with the default property.
+ */
+@Component
+public class PropertyContextFilter extends OncePerRequestFilter {
+    
+    public static final String PROPERTY_HEADER = "X-Property";
+    
+    private final PropertyDirectory propertyDirectory;
+    private final ObjectMapper objectMapper;
+    
+    public PropertyContextFilter(PropertyDirectory propertyDirectory, ObjectMapper objectMapper) {
+        this.propertyDirectory = propertyDirectory;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/") || path.startsWith("/api/auth/");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        
+        String requested = request.getHeader(PROPERTY_HEADER);
+        String property = requested == null ? propertyDirectory.getDefaultCode() : propertyDirectory.resolve(requested);
+        if (property == null) {
+            reject(response, HttpStatus.BAD_REQUEST, "Unknown property: " + requested);
+            return;
+        }
+        
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)
+                && !PropertyAccess.canAccess(authentication, property)) {
+            reject(response, HttpStatus.FORBIDDEN, "No access to property " + property);
+            return;
+        }
+        
+        PropertyContext.set(property);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PropertyContext.clear();
+        }
+    }
+    
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+}
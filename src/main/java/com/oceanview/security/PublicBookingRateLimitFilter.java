@@ -0,0 +1,98 @@
+package com.oceanview.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Public Booking Rate Limit Filter
+ * Admission control for the unauthenticated booking endpoint: every POST to
+ * /api/reservations/public takes a token from its client IP's bucket and from a global bucket,
+ * and is answered with 429 and Retry-After when either is empty, before it can reach the database.
+ * The client IP is the request's remote address; behind a proxy, set server.forward-headers-strategy.
+ * Rejections are logged at debug and summed into one warning per sweep, so a burst of rejections cannot flood the log.
+ */
+@Component
+public class PublicBookingRateLimitFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(PublicBookingRateLimitFilter.class);
+    
+    private static final String PUBLIC_BOOKING_PATH = "/api/reservations/public";
+    
+    private final TokenBucketLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final AtomicLong rejected = new AtomicLong();
+    
+    public PublicBookingRateLimitFilter(ObjectMapper objectMapper,
+                                        @Value("${rate-limit.public.enabled:true}") boolean enabled,
+                                        @Value("${rate-limit.public.client-per-minute:20}") double clientPerMinute,
+                                        @Value("${rate-limit.public.client-burst:5}") int clientBurst,
+                                        @Value("${rate-limit.public.global-per-second:20}") double globalPerSecond,
+                                        @Value("${rate-limit.public.global-burst:40}") int globalBurst,
+                                        @Value("${rate-limit.public.max-clients:100000}") int maxClients) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.limiter = new TokenBucketLimiter(clientPerMinute / 60, clientBurst, globalPerSecond, globalBurst, maxClients);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !"POST".equals(request.getMethod())
+            || !PUBLIC_BOOKING_PATH.equals(request.getRequestURI());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        
+        long wait = limiter.tryAcquire(request.getRemoteAddr(), System.nanoTime());
+        if (wait == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999));
+        rejected.incrementAndGet();
+        log.debug("Rate limited public booking from {}, retry after {} s", request.getRemoteAddr(), retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+            ApiResponse.error("Too many booking requests. Please try again in " + retryAfterSeconds + " seconds."));
+    }
+    
+    /**
+     * Forgets clients whose buckets have refilled, keeping memory proportional to recent senders,
+     * and reports how many requests were rejected since the last sweep
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.public.sweep-ms:60000}")
+    public void evictIdleClients() {
+        long rejectedSinceSweep = rejected.getAndSet(0);
+        if (rejectedSinceSweep > 0) {
+            log.warn("Rate limited {} public booking requests since the last sweep", rejectedSinceSweep);
+        }
+        int evicted = limiter.evictIdle(System.nanoTime());
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets, {} still tracked", evicted, limiter.trackedKeys());
+        }
+    }
+}
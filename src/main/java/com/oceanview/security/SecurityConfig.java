@@ -1,5 +1,6 @@
 package com.oceanview.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,6 +16,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 
 /**
  * Security Configuration
@@ -26,10 +30,17 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final PublicBookingRateLimitFilter publicBookingRateLimitFilter;
+    private final PropertyContextFilter propertyContextFilter;
     private final UserDetailsService userDetailsService;
     
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, UserDetailsService userDetailsService) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter,
+                          PublicBookingRateLimitFilter publicBookingRateLimitFilter,
+                          PropertyContextFilter propertyContextFilter,
+                          UserDetailsService userDetailsService) {
         this.jwtAuthFilter = jwtAuthFilter;
+        this.publicBookingRateLimitFilter = publicBookingRateLimitFilter;
+        this.propertyContextFilter = propertyContextFilter;
         this.userDetailsService = userDetailsService;
     }
     
@@ -41,9 +52,13 @@ public class SecurityConfig {
                 .frameOptions(frame -> frame.disable())
             )
             .authorizeHttpRequests(auth -> auth
+                // Async re-dispatches of the SSE stream were already authorized on the original request
+                .requestMatchers(new AndRequestMatcher(new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                    AntPathRequestMatcher.antMatcher("/api/reservations/stream"))).permitAll()
                 .requestMatchers(
                     "/api/auth/**",
                     "/api/reservations/public",
+                    "/api/reservations/public/requests/*",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
                     "/v3/api-docs/**",
@@ -72,7 +87,9 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(publicBookingRateLimitFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(propertyContextFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
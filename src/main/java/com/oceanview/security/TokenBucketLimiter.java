@@ -0,0 +1,157 @@
+package com.oceanview.security;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token Bucket Limiter
+ * Per-key token buckets plus one global bucket, all updated lock-free.
+ * Each bucket is a single AtomicLong holding the time (nanos) at which it will be full again,
+ * so taking a token is one compare-and-set and refilling needs no timer. A bucket that is full
+ * carries no information, which is what lets idle keys be evicted at any time.
+ * Keys are spread over stripes with a fixed capacity each to bound memory; when a stripe is
+ * full even after evicting idle keys, new keys are admitted against the global bucket only.
+ */
+public class TokenBucketLimiter {
+    
+    private final Bucket global;
+    private final long keyInterval;
+    private final long keyBurstWindow;
+    private final ConcurrentHashMap<String, Bucket>[] stripes;
+    private final int maxKeysPerStripe;
+    
+    /**
+     * @param keyPerSecond    sustained requests per second for each key
+     * @param keyBurst        requests a quiet key may send at once
+     * @param globalPerSecond sustained requests per second across all keys
+     * @param globalBurst     requests admitted at once across all keys
+     * @param maxKeys         upper bound on tracked keys
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketLimiter(double keyPerSecond, int keyBurst, double globalPerSecond, int globalBurst, int maxKeys) {
+        if (keyPerSecond <= 0 || keyBurst < 1 || globalPerSecond <= 0 || globalBurst < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("Rates, bursts and key limit must be positive");
+        }
+        long globalInterval = interval(globalPerSecond);
+        this.global = new Bucket(globalInterval, globalInterval * globalBurst);
+        this.keyInterval = interval(keyPerSecond);
+        this.keyBurstWindow = keyInterval * keyBurst;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(64, maxKeys / 64)));
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+    }
+    
+    /**
+     * Takes one token from the key's bucket and the global bucket; a key token taken for a request
+     * the global bucket turns away is given back, so global overload never uses up a client's burst.
+     * Returns 0 when admitted, otherwise the nanos until a token will be available.
+     */
+    public long tryAcquire(String key, long now) {
+        Bucket bucket = bucketFor(key, now);
+        if (bucket != null) {
+            long wait = bucket.tryTake(now);
+            if (wait > 0) {
+                return wait;
+            }
+        }
+        long wait = global.tryTake(now);
+        if (wait > 0 && bucket != null) {
+            bucket.giveBack();
+        }
+        return wait;
+    }
+    
+    /**
+     * Drops buckets that have refilled completely; returns the number evicted
+     */
+    public int evictIdle(long now) {
+        int evicted = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            evicted += evictIdle(stripe, now);
+        }
+        return evicted;
+    }
+    
+    public int trackedKeys() {
+        int keys = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            keys += stripe.size();
+        }
+        return keys;
+    }
+    
+    private Bucket bucketFor(String key, long now) {
+        ConcurrentHashMap<String, Bucket> stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        Bucket bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxKeysPerStripe && evictIdle(stripe, now) == 0) {
+            return null;
+        }
+        Bucket created = new Bucket(keyInterval, keyBurstWindow);
+        bucket = stripe.putIfAbsent(key, created);
+        return bucket != null ? bucket : created;
+    }
+    
+    private static int evictIdle(ConcurrentHashMap<String, Bucket> stripe, long now) {
+        int evicted = 0;
+        Iterator<Bucket> iterator = stripe.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isFull(now)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+    
+    private static long interval(double perSecond) {
+        return Math.max(1, Math.round(1_000_000_000d / perSecond));
+    }
+    
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+    
+    /**
+     * Token bucket stored as the time it will be full again: tokens = (burstWindow - (fullAt - now)) / interval
+     */
+    static final class Bucket {
+        
+        private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE / 2);
+        private final long interval;
+        private final long burstWindow;
+        
+        Bucket(long interval, long burstWindow) {
+            this.interval = interval;
+            this.burstWindow = burstWindow;
+        }
+        
+        long tryTake(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + interval;
+                long wait = next - burstWindow - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+        
+        void giveBack() {
+            fullAt.addAndGet(-interval);
+        }
+        
+        boolean isFull(long now) {
+            return fullAt.get() <= now;
+        }
+    }
+}
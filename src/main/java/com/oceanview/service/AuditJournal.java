@@ -0,0 +1,231 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.AuditRecord;
+import com.oceanview.model.ReservationChangeType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Audit Journal
+ * Append-only audit log in memory-mapped segment files named after their first sequence number
+ * (audit-00000000000000000001.log). Each record is framed as [length][CRC32C][payload] with the
+ * length written last, so a reader never sees a record before its payload. Segments are
+ * preallocated and zero-filled; a zero length marks the end of the data. The property is the
+ * last field of the payload, so records written before it was added still decode, without one.
+ * On open, the newest segment is scanned and anything after the last intact record (a torn
+ * write) is cleared.
+ * Single writer: not thread-safe.
+ */
+public class AuditJournal implements Closeable {
+    
+    static final int HEADER_BYTES = 8;
+    
+    /**
+     * Longest stored string in bytes; longer values are truncated
+     */
+    static final int MAX_STRING_BYTES = 1024;
+    
+    static final int MAX_RECORD_BYTES = 8 + 8 + 1 + 5 * (2 + MAX_STRING_BYTES);
+    
+    private static final String LOCK_FILE = "journal.lock";
+    
+    private final Path directory;
+    private final int segmentBytes;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_BYTES);
+    private final CRC32C crc = new CRC32C();
+    private MappedByteBuffer segment;
+    private long nextSequence;
+    private boolean dirty;
+    
+    private AuditJournal(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes < HEADER_BYTES + MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null;
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IOException("Audit journal " + directory + " is already open by another writer");
+        }
+        this.lock = acquired;
+    }
+    
+    /**
+     * Opens the journal in the directory, recovering the tail of the newest segment
+     */
+    public static AuditJournal open(Path directory, int segmentBytes) throws IOException {
+        AuditJournal journal = new AuditJournal(directory, segmentBytes);
+        try {
+            journal.recover();
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+        return journal;
+    }
+    
+    /**
+     * Appends a record and returns the sequence number assigned to it
+     */
+    public long append(LocalDateTime timestamp, String property, String actor, String reservationNumber,
+                       ReservationChangeType action, String oldValue, String newValue) throws IOException {
+        long sequence = nextSequence;
+        scratch.clear();
+        scratch.putLong(sequence);
+        scratch.putLong(timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        scratch.put((byte) action.ordinal());
+        putString(actor);
+        putString(reservationNumber);
+        putString(oldValue);
+        putString(newValue);
+        putString(property);
+        scratch.flip();
+        int length = scratch.remaining();
+        
+        if (segment.remaining() < HEADER_BYTES + length) {
+            rotate(sequence);
+        }
+        int position = segment.position();
+        crc.reset();
+        crc.update(scratch.duplicate());
+        segment.put(position + HEADER_BYTES, scratch, 0, length);
+        segment.putInt(position + 4, (int) crc.getValue());
+        segment.putInt(position, length);
+        segment.position(position + HEADER_BYTES + length);
+        nextSequence++;
+        dirty = true;
+        return sequence;
+    }
+    
+    /**
+     * Flushes appended records to the storage device
+     */
+    public void force() {
+        if (dirty) {
+            segment.force();
+            dirty = false;
+        }
+    }
+    
+    public long getNextSequence() {
+        return nextSequence;
+    }
+    
+    public Path getDirectory() {
+        return directory;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (segment != null) {
+            force();
+            segment = null;
+        }
+        if (lock.isValid()) {
+            lock.release();
+        }
+        lockChannel.close();
+    }
+    
+    private void recover() throws IOException {
+        List<Path> segments = AuditJournalReader.listSegments(directory);
+        if (segments.isEmpty()) {
+            segment = map(1);
+            nextSequence = 1;
+            return;
+        }
+        
+        Path newest = segments.get(segments.size() - 1);
+        long firstSequence = AuditJournalReader.firstSequence(newest);
+        segment = map(firstSequence);
+        AuditJournalReader.Scan scan = AuditJournalReader.scan(segment.duplicate(), firstSequence, record -> { });
+        nextSequence = scan.nextSequence();
+        segment.position(scan.end());
+        
+        // Clear a torn record so the next append starts from clean, zero-filled space
+        int tornEnd = Math.min(segment.capacity(), scan.end() + HEADER_BYTES + MAX_RECORD_BYTES);
+        for (int i = scan.end(); i < tornEnd; i++) {
+            segment.put(i, (byte) 0);
+        }
+        dirty = true;
+        force();
+    }
+    
+    private void rotate(long firstSequence) throws IOException {
+        force();
+        segment = map(firstSequence);
+    }
+    
+    private MappedByteBuffer map(long firstSequence) throws IOException {
+        Path file = directory.resolve(AuditJournalReader.segmentName(firstSequence));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentBytes));
+        }
+    }
+    
+    private void putString(String value) {
+        if (value == null) {
+            scratch.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_STRING_BYTES);
+        try {
+            scratch.putShort((short) length);
+            scratch.put(bytes, 0, length);
+        } catch (BufferOverflowException e) {
+            throw new IllegalStateException("Audit record too large", e);
+        }
+    }
+    
+    static AuditRecord decode(ByteBuffer payload) {
+        long sequence = payload.getLong();
+        LocalDateTime timestamp = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(payload.getLong()), ZoneId.systemDefault());
+        ReservationChangeType action = ReservationChangeType.values()[payload.get()];
+        String actor = getString(payload);
+        String reservationNumber = getString(payload);
+        String oldValue = getString(payload);
+        String newValue = getString(payload);
+        String property = payload.hasRemaining() ? getString(payload) : null;
+        return new AuditRecord(sequence, timestamp, property, actor, reservationNumber, action, oldValue, newValue);
+    }
+    
+    private static String getString(ByteBuffer payload) {
+        short length = payload.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.AuditRecord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Audit Journal Reader
+ * Reads audit journal segments, safely alongside a live writer: a record is accepted only if
+ * its CRC matches and its sequence number follows the previous one, so torn or stale bytes
+ * past the last intact record end the scan.
+ * Also usable from the command line against a journal directory:
+ * java -cp app.jar -Dloader.main=com.oceanview.service.AuditJournalReader
+ *     org.springframework.boot.loader.launch.PropertiesLauncher data/audit [reservationNumber]
+ */
+public final class AuditJournalReader {
+    
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".log";
+    
+    private AuditJournalReader() {
+    }
+    
+    /**
+     * Result of scanning one segment: where intact data ends and the sequence that comes next
+     */
+    record Scan(int end, long nextSequence) {
+    }
+    
+    /**
+     * The most recent matching records, oldest first
+     */
+    public static List<AuditRecord> query(Path directory, Predicate<AuditRecord> filter, int limit) throws IOException {
+        Deque<AuditRecord> matches = new ArrayDeque<>();
+        forEach(directory, record -> {
+            if (filter.test(record)) {
+                if (matches.size() == limit) {
+                    matches.removeFirst();
+                }
+                matches.addLast(record);
+            }
+        });
+        return new ArrayList<>(matches);
+    }
+    
+    /**
+     * Visits every intact record in sequence order
+     */
+    public static void forEach(Path directory, Consumer<AuditRecord> visitor) throws IOException {
+        for (Path segment : listSegments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                scan(buffer, firstSequence(segment), visitor);
+            }
+        }
+    }
+    
+    static Scan scan(ByteBuffer buffer, long firstSequence, Consumer<AuditRecord> visitor) {
+        CRC32C crc = new CRC32C();
+        long expected = firstSequence;
+        int position = 0;
+        while (buffer.capacity() - position >= AuditJournal.HEADER_BYTES) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > AuditJournal.MAX_RECORD_BYTES
+                    || length > buffer.capacity() - position - AuditJournal.HEADER_BYTES) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(position + AuditJournal.HEADER_BYTES, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + 4) || payload.getLong(0) != expected) {
+                break;
+            }
+            visitor.accept(AuditJournal.decode(payload));
+            expected++;
+            position += AuditJournal.HEADER_BYTES + length;
+        }
+        return new Scan(position, expected);
+    }
+    
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+    
+    static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX);
+    }
+    
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AuditJournalReader <journal directory> [reservationNumber]");
+            System.exit(1);
+        }
+        String reservationNumber = args.length > 1 ? args[1] : null;
+        forEach(Paths.get(args[0]), record -> {
+            if (reservationNumber == null || reservationNumber.equals(record.reservationNumber())) {
+                System.out.printf("%d %s %-10s %-12s %-16s %-15s %s -> %s%n", record.sequence(), record.timestamp(),
+                    record.property(), record.actor(), record.reservationNumber(), record.action(),
+                    record.oldValue(), record.newValue());
+            }
+        });
+    }
+}
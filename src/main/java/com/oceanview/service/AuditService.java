@@ -0,0 +1,203 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.AuditRecord;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.RoomType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * Audit Service
+ * Records who changed what on every committed reservation mutation. The request thread only
+ * builds a small record and publishes it to a lock-free ring buffer; a single background writer
+ * appends records to the memory-mapped audit journal and forces it to disk periodically, so
+ * auditing adds no database write and no lock to the mutation path. Night audit transitions
+ * are journaled as one record per reservation they moved.
+ */
+@Service
+public class AuditService {
+    
+    private static final Logger log = LoggerFactory.getLogger(AuditService.class);
+    
+    private static final int DRAIN_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String SYSTEM_ACTOR = "system";
+    private static final String PUBLIC_ACTOR = "public";
+    
+    private final MpscRingBuffer<AuditRecord> ring;
+    private final AuditJournal journal;
+    private final long forceIntervalNanos;
+    private final Thread writer;
+    private volatile boolean running = true;
+    
+    public AuditService(@Value("${audit.directory:data/audit}") String directory,
+                        @Value("${audit.segment-bytes:67108864}") int segmentBytes,
+                        @Value("${audit.ring-capacity:65536}") int ringCapacity,
+                        @Value("${audit.force-interval-ms:1000}") long forceIntervalMillis) throws IOException {
+        this.ring = new MpscRingBuffer<>(ringCapacity);
+        this.journal = AuditJournal.open(Paths.get(directory), segmentBytes);
+        this.forceIntervalNanos = TimeUnit.MILLISECONDS.toNanos(forceIntervalMillis);
+        this.writer = new Thread(this::write, "audit-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        log.info("Audit journal open at {}, next sequence {}", journal.getDirectory().toAbsolutePath(), journal.getNextSequence());
+    }
+    
+    /**
+     * Journals a reservation mutation once its transaction has committed, under the property it was made in
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        if (event.isRemote()) {
+            // Journaled by the node that made the change
+            return;
+        }
+        String oldValue;
+        String newValue;
+        switch (event.getType()) {
+            case CREATED -> {
+                oldValue = null;
+                newValue = stay(event) + " status=" + event.getStatus();
+            }
+            case UPDATED -> {
+                oldValue = event.getPreviousRoomType() == null ? null
+                    : stay(event.getPreviousRoomType(), event.getPreviousCheckInDate(), event.getPreviousCheckOutDate());
+                newValue = stay(event);
+            }
+            case ROOM_CHANGED -> {
+                oldValue = null;
+                newValue = "room=" + event.getRoomNumber();
+            }
+            case BULK_STATUS_CHANGED -> {
+                oldValue = "status=" + event.getPreviousStatus();
+                newValue = "status=" + event.getStatus();
+            }
+            default -> {
+                oldValue = "status=" + event.getPreviousStatus();
+                newValue = "status=" + event.getStatus();
+            }
+        }
+        String actor = currentActor();
+        if (event.getType() != ReservationChangeType.BULK_STATUS_CHANGED) {
+            record(new AuditRecord(0, event.getOccurredAt(), event.getProperty(), actor, event.getReservationNumber(),
+                event.getType(), oldValue, newValue));
+        } else if (event.getReservationNumbers().isEmpty()) {
+            // A bulk load that does not name its rows is journaled once, with the row count
+            record(new AuditRecord(0, event.getOccurredAt(), event.getProperty(), actor, "*",
+                event.getType(), oldValue, newValue + " count=" + event.getCount()));
+        } else {
+            for (String reservationNumber : event.getReservationNumbers()) {
+                record(new AuditRecord(0, event.getOccurredAt(), event.getProperty(), actor, reservationNumber,
+                    event.getType(), oldValue, newValue));
+            }
+        }
+    }
+    
+    /**
+     * Queues a record for the journal; blocks only if the writer is a full ring behind
+     */
+    public void record(AuditRecord record) {
+        while (!ring.offer(record)) {
+            if (!running) {
+                log.warn("Audit journal closed, dropping record for {}", record.reservationNumber());
+                return;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+    
+    /**
+     * Most recent journaled mutations matching every given filter, oldest first
+     */
+    public List<AuditRecord> query(String property, String reservationNumber, String actor,
+                                   LocalDateTime from, LocalDateTime to, int limit) {
+        Predicate<AuditRecord> filter = record ->
+            (property == null || property.equals(record.property()))
+                && (reservationNumber == null || reservationNumber.equals(record.reservationNumber()))
+                && (actor == null || actor.equals(record.actor()))
+                && (from == null || !record.timestamp().isBefore(from))
+                && (to == null || record.timestamp().isBefore(to));
+        try {
+            return AuditJournalReader.query(journal.getDirectory(), filter, Math.max(1, limit));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read audit journal", e);
+        }
+    }
+    
+    /**
+     * Writes out everything still queued and closes the journal
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        synchronized (journal) {
+            while (ring.drain(this::append, DRAIN_BATCH) > 0) {
+                // drain until empty
+            }
+            journal.close();
+        }
+    }
+    
+    private void write() {
+        long lastForce = System.nanoTime();
+        while (running) {
+            int written;
+            synchronized (journal) {
+                written = ring.drain(this::append, DRAIN_BATCH);
+                if (System.nanoTime() - lastForce >= forceIntervalNanos) {
+                    journal.force();
+                    lastForce = System.nanoTime();
+                }
+            }
+            if (written == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+    
+    private void append(AuditRecord record) {
+        try {
+            journal.append(record.timestamp(), record.property(), record.actor(), record.reservationNumber(),
+                record.action(), record.oldValue(), record.newValue());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to journal audit record for {} {}", record.reservationNumber(), record.action(), e);
+        }
+    }
+    
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return SYSTEM_ACTOR;
+        }
+        return authentication instanceof AnonymousAuthenticationToken ? PUBLIC_ACTOR : authentication.getName();
+    }
+    
+    private static String stay(ReservationChangeEvent event) {
+        return stay(event.getRoomType(), event.getCheckInDate(), event.getCheckOutDate());
+    }
+    
+    private static String stay(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        return "roomType=" + roomType + " checkIn=" + checkIn + " checkOut=" + checkOut;
+    }
+}
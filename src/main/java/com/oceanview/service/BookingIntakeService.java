@@ -0,0 +1,250 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.dto.BookingIntakeStatus;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.exception.ResourceNotFoundException;
+import com.oceanview.exception.ServiceUnavailableException;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.BookingIntakeState;
+import com.oceanview.model.WaitlistEntry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking Intake Service
+ * Write-behind intake for portal booking requests. Submitting only validates the request and
+ * puts it on a bounded in-memory queue, so the portal's response time does not depend on the
+ * database. A single writer thread drains the queue in batches, checks availability and books
+ * each batch in one transaction; sold-out requests join the waitlist once the batch commits.
+ * Outcomes are kept in memory under a tracking id for the status endpoint. Queued requests
+ * are written before a graceful shutdown but are lost if the process dies.
+ * Requests remember the property they were submitted to and are booked there.
+ */
+@Service
+public class BookingIntakeService {
+    
+    private static final Logger log = LoggerFactory.getLogger(BookingIntakeService.class);
+    
+    /**
+     * Batches are written in room type and arrival order, so every batch claims inventory ledger
+     * nights in the same order as the others and concurrent batches cannot deadlock
+     */
+    private static final Comparator<PendingBooking> CLAIM_ORDER = Comparator
+        .comparing((PendingBooking pending) -> pending.request().getRoomType())
+        .thenComparing(pending -> pending.request().getCheckInDate());
+    
+    private final ReservationService reservationService;
+    private final WaitlistService waitlistService;
+    private final TransactionTemplate batchTransaction;
+    private final BlockingQueue<PendingBooking> queue;
+    private final ConcurrentHashMap<String, BookingIntakeStatus> statuses = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final boolean async;
+    private final Thread writer;
+    private volatile boolean running = true;
+    
+    @Value("${booking-intake.status-ttl-ms:86400000}")
+    private long statusTtlMillis = 86_400_000;
+    
+    public BookingIntakeService(ReservationService reservationService,
+                                WaitlistService waitlistService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${booking-intake.async:true}") boolean async,
+                                @Value("${booking-intake.queue-capacity:1000}") int queueCapacity,
+                                @Value("${booking-intake.batch-size:50}") int batchSize) {
+        this.reservationService = reservationService;
+        this.waitlistService = waitlistService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.async = async;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::drain, "booking-intake-writer");
+        this.writer.setDaemon(true);
+    }
+    
+    @PostConstruct
+    public void start() {
+        if (async) {
+            writer.start();
+        }
+    }
+    
+    public boolean isAsync() {
+        return async;
+    }
+    
+    /**
+     * Validates and queues a booking request; returns its tracking status
+     */
+    public BookingIntakeStatus submit(ReservationRequest request) {
+        reservationService.validateReservationDates(request.getCheckInDate(), request.getCheckOutDate());
+        
+        BookingIntakeStatus status = BookingIntakeStatus.queued(UUID.randomUUID().toString(), LocalDateTime.now());
+        statuses.put(status.trackingId(), status);
+        if (!running || !queue.offer(new PendingBooking(status.trackingId(), PropertyContext.current(), request))) {
+            statuses.remove(status.trackingId());
+            throw new ServiceUnavailableException("We are receiving a high number of booking requests. Please try again shortly.", 5);
+        }
+        log.debug("Queued booking request {} for {}", status.trackingId(), request.getGuestName());
+        return status;
+    }
+    
+    public BookingIntakeStatus getStatus(String trackingId) {
+        BookingIntakeStatus status = statuses.get(trackingId);
+        if (status == null) {
+            throw new ResourceNotFoundException("Booking request not found: " + trackingId);
+        }
+        return status;
+    }
+    
+    public int getQueueDepth() {
+        return queue.size();
+    }
+    
+    /**
+     * Forgets outcomes older than the status TTL
+     */
+    @Scheduled(fixedDelayString = "${booking-intake.status-sweep-ms:600000}")
+    public void evictCompleted() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(statusTtlMillis * 1_000_000);
+        statuses.values().removeIf(status -> status.completedAt() != null && status.completedAt().isBefore(cutoff));
+    }
+    
+    /**
+     * Stops accepting requests, lets the writer finish its current batch and writes whatever is still queued
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        List<PendingBooking> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Writing {} queued booking requests before shutdown", remaining.size());
+            writeByProperty(remaining);
+        }
+    }
+    
+    private void drain() {
+        List<PendingBooking> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingBooking first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeByProperty(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Booking intake writer failed on a batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    /**
+     * Splits a drained batch by property, since one transaction covers one property's database
+     */
+    private void writeByProperty(List<PendingBooking> batch) {
+        Map<String, List<PendingBooking>> byProperty = new LinkedHashMap<>();
+        for (PendingBooking pending : batch) {
+            byProperty.computeIfAbsent(pending.property(), property -> new ArrayList<>()).add(pending);
+        }
+        byProperty.forEach((property, bookings) -> PropertyContext.run(property, () -> writeBatch(bookings)));
+    }
+    
+    /**
+     * Books a batch in one transaction; if the batch fails, retries each request on its own
+     * so one bad request cannot sink the others
+     */
+    private void writeBatch(List<PendingBooking> batch) {
+        long started = System.nanoTime();
+        List<Written> written;
+        try {
+            reservationService.prepareInventory(batch.stream().map(PendingBooking::request).toList());
+            written = batchTransaction.execute(tx -> batch.stream().sorted(CLAIM_ORDER).map(this::write).toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                reject(batch.get(0), e);
+            } else {
+                log.warn("Booking intake batch of {} failed, retrying individually: {}", batch.size(), e.getMessage());
+                batch.forEach(pending -> writeBatch(List.of(pending)));
+            }
+            return;
+        }
+        
+        for (Written outcome : written) {
+            complete(outcome);
+        }
+        log.debug("Wrote {} booking requests in {} ms", batch.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    private Written write(PendingBooking pending) {
+        return new Written(pending, reservationService.bookIfAvailable(pending.request()));
+    }
+    
+    private void complete(Written outcome) {
+        PendingBooking pending = outcome.pending();
+        try {
+            if (outcome.reservation().isPresent()) {
+                String reservationNumber = outcome.reservation().get().getReservationNumber();
+                update(pending, BookingIntakeState.CONFIRMED, reservationNumber, null,
+                    "Reservation " + reservationNumber + " created");
+            } else {
+                WaitlistEntry entry = waitlistService.join(pending.request());
+                update(pending, BookingIntakeState.WAITLISTED, null, entry.getId(),
+                    "No rooms available for selected dates. The request has been added to the waitlist (#" + entry.getId() + ")");
+            }
+        } catch (RuntimeException e) {
+            reject(pending, e);
+        }
+    }
+    
+    private void reject(PendingBooking pending, RuntimeException e) {
+        String message = e instanceof ValidationException
+            ? e.getMessage()
+            : "The request could not be processed. Please contact the resort.";
+        if (!(e instanceof ValidationException)) {
+            log.error("Booking request {} failed", pending.trackingId(), e);
+        }
+        update(pending, BookingIntakeState.REJECTED, null, null, message);
+    }
+    
+    private void update(PendingBooking pending, BookingIntakeState state, String reservationNumber, Long waitlistId, String message) {
+        statuses.computeIfPresent(pending.trackingId(),
+            (id, status) -> status.complete(state, reservationNumber, waitlistId, message));
+    }
+    
+    private record PendingBooking(String trackingId, String property, ReservationRequest request) {
+    }
+    
+    private record Written(PendingBooking pending, Optional<ReservationResponse> reservation) {
+    }
+}
@@ -0,0 +1,243 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.dto.DailyBoardResponse;
+import com.oceanview.dto.FrontDeskGuest;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Front Desk Board
+ * Today's and tomorrow's arrivals, departures and in-house guests, precomputed and held in memory so
+ * the desk's most-viewed screen never queries the reservations table. Every committed change on this
+ * node or replayed from another node's change log, room moves included, re-reads that one reservation
+ * and updates the board unless neither its old nor its new dates come near the board; night audit
+ * chunks re-read just the stays they moved, and the date rollover and a scheduled reload rebuild it
+ * from the stays touching the two dates.
+ * Each property has its own board under its own lock; reads take no lock.
+ */
+@Service
+public class FrontDeskBoard {
+    
+    private static final Logger log = LoggerFactory.getLogger(FrontDeskBoard.class);
+    
+    private static final Set<ReservationStatus> BOARD_STATUSES =
+        EnumSet.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT);
+    
+    private static final Comparator<FrontDeskGuest> BY_GUEST_NAME = Comparator
+        .comparing(FrontDeskGuest::guestName, String.CASE_INSENSITIVE_ORDER)
+        .thenComparing(FrontDeskGuest::reservationNumber);
+    
+    private final ReservationRepository reservationRepository;
+    private final PropertyLocal<Slot> slots = PropertyLocal.withInitial(Slot::new);
+    
+    public FrontDeskBoard(ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+    
+    @Scheduled(cron = "${front-desk.rollover-cron:0 0 0 * * *}")
+    public void scheduledRollover() {
+        slots.forEachProperty(this::reload);
+    }
+    
+    @Scheduled(fixedDelayString = "${front-desk.reload-ms:300000}", initialDelayString = "${front-desk.reload-ms:300000}")
+    public void scheduledReload() {
+        slots.forEachProperty(this::reload);
+    }
+    
+    /**
+     * Rebuilds the current property's board for today and tomorrow
+     */
+    public void reload() {
+        Slot slot = slots.get();
+        synchronized (slot) {
+            long started = System.nanoTime();
+            LocalDate today = LocalDate.now();
+            Board loaded = new Board(today);
+            List<FrontDeskGuest> guests = reservationRepository.findFrontDeskGuests(BOARD_STATUSES, today, today.plusDays(1));
+            for (FrontDeskGuest guest : guests) {
+                loaded.guests.put(guest.reservationNumber(), guest);
+            }
+            loaded.publish();
+            slot.board = loaded;
+            log.info("Front desk board loaded for {} on {}: {} stays in {} ms",
+                PropertyContext.current(), today, guests.size(), (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+    
+    /**
+     * Applies a committed change. Set-based transitions name the reservations they moved, so only
+     * those rows are re-read; a bulk event that names none (a synthetic data load) reloads.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        Slot slot = slots.get();
+        if (slot.board == null) {
+            return;
+        }
+        if (event.getType() == ReservationChangeType.BULK_STATUS_CHANGED) {
+            if (event.getReservationNumbers().isEmpty()) {
+                reload();
+            } else {
+                applyAll(slot, event.getReservationNumbers());
+            }
+            return;
+        }
+        synchronized (slot) {
+            Board board = slot.board;
+            if (board == null || !board.today.equals(LocalDate.now())) {
+                return;
+            }
+            String reservationNumber = event.getReservationNumber();
+            if (!board.guests.containsKey(reservationNumber) && event.getCheckInDate() != null
+                    && !board.touches(event.getCheckInDate(), event.getCheckOutDate())
+                    && !board.touches(event.getPreviousCheckInDate(), event.getPreviousCheckOutDate())) {
+                // Neither the old nor the new stay is anywhere near today or tomorrow
+                return;
+            }
+            Optional<FrontDeskGuest> guest = reservationRepository.findFrontDeskGuest(reservationNumber);
+            if (board.apply(reservationNumber, guest.orElse(null))) {
+                board.publish();
+            }
+        }
+    }
+    
+    private void applyAll(Slot slot, List<String> reservationNumbers) {
+        synchronized (slot) {
+            Board board = slot.board;
+            if (board == null || !board.today.equals(LocalDate.now())) {
+                return;
+            }
+            Map<String, FrontDeskGuest> guests = new HashMap<>();
+            for (FrontDeskGuest guest : reservationRepository.findFrontDeskGuestsByNumbers(reservationNumbers)) {
+                guests.put(guest.reservationNumber(), guest);
+            }
+            boolean changed = false;
+            for (String reservationNumber : reservationNumbers) {
+                changed |= board.apply(reservationNumber, guests.get(reservationNumber));
+            }
+            if (changed) {
+                board.publish();
+            }
+        }
+    }
+    
+    /**
+     * The board for today or tomorrow
+     */
+    public DailyBoardResponse getBoard(LocalDate date) {
+        Board current = current();
+        if (date.equals(current.today)) {
+            return current.todayView;
+        }
+        if (date.equals(current.today.plusDays(1))) {
+            return current.tomorrowView;
+        }
+        throw new ValidationException("The daily board covers today and tomorrow only");
+    }
+    
+    private Board current() {
+        Slot slot = slots.get();
+        Board current = slot.board;
+        if (current == null || !current.today.equals(LocalDate.now())) {
+            synchronized (slot) {
+                if (slot.board == null || !slot.board.today.equals(LocalDate.now())) {
+                    reload();
+                }
+                current = slot.board;
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * One property's board and the lock its writers take
+     */
+    private static final class Slot {
+        
+        private volatile Board board;
+    }
+    
+    /**
+     * One generation of the board: the stays touching today or tomorrow, mutated only under its
+     * property's lock, and the published views readers get, replaced whole on every change
+     */
+    private static final class Board {
+        
+        private final LocalDate today;
+        private final Map<String, FrontDeskGuest> guests = new HashMap<>();
+        private volatile DailyBoardResponse todayView;
+        private volatile DailyBoardResponse tomorrowView;
+        
+        Board(LocalDate today) {
+            this.today = today;
+        }
+        
+        boolean covers(FrontDeskGuest guest) {
+            return BOARD_STATUSES.contains(guest.status()) && touches(guest.checkInDate(), guest.checkOutDate());
+        }
+        
+        boolean touches(LocalDate checkIn, LocalDate checkOut) {
+            return checkIn != null && checkOut != null
+                && !checkOut.isBefore(today) && !checkIn.isAfter(today.plusDays(1));
+        }
+        
+        /**
+         * Puts the reservation on the board or takes it off; returns whether the board changed
+         */
+        boolean apply(String reservationNumber, FrontDeskGuest guest) {
+            if (guest != null && covers(guest)) {
+                guests.put(reservationNumber, guest);
+                return true;
+            }
+            return guests.remove(reservationNumber) != null;
+        }
+        
+        void publish() {
+            todayView = view(today);
+            tomorrowView = view(today.plusDays(1));
+        }
+        
+        private DailyBoardResponse view(LocalDate date) {
+            List<FrontDeskGuest> arrivals = new ArrayList<>();
+            List<FrontDeskGuest> departures = new ArrayList<>();
+            List<FrontDeskGuest> inHouse = new ArrayList<>();
+            for (FrontDeskGuest guest : guests.values()) {
+                ReservationStatus status = guest.status();
+                if (guest.checkInDate().equals(date) && status != ReservationStatus.CHECKED_OUT) {
+                    arrivals.add(guest);
+                }
+                if (guest.checkOutDate().equals(date) && status != ReservationStatus.CONFIRMED) {
+                    departures.add(guest);
+                }
+                if (status == ReservationStatus.CHECKED_IN
+                        && !guest.checkInDate().isAfter(date) && guest.checkOutDate().isAfter(date)) {
+                    inHouse.add(guest);
+                }
+            }
+            arrivals.sort(BY_GUEST_NAME);
+            departures.sort(BY_GUEST_NAME);
+            inHouse.sort(BY_GUEST_NAME);
+            return new DailyBoardResponse(date, List.copyOf(arrivals), List.copyOf(departures), List.copyOf(inHouse));
+        }
+    }
+}
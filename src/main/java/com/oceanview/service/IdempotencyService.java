@@ -0,0 +1,250 @@
+package com.oceanview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.exception.ServiceUnavailableException;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.IdempotencyRecord;
+import com.oceanview.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency Service
+ * Runs a create request at most once per Idempotency-Key. The first caller executes it and every
+ * duplicate, including ones arriving while it is still running, gets the same response.
+ * Keys live in a bounded in-memory map that expires them after a fixed TTL; completed responses
+ * are also written to idempotency_records so retries survive a restart or reach another node.
+ * A key is never forgotten before its TTL unless its response is in idempotency_records, so a full
+ * map turns new keys away with 503 rather than letting a retry run the action a second time.
+ * Keys are per property: the same key sent to two properties runs once in each.
+ */
+@Service
+public class IdempotencyService {
+    
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int FULL_RETRY_AFTER_SECONDS = 30;
+    
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final PropertyDirectory propertyDirectory;
+    private final TransactionTemplate purgeTransaction;
+    
+    // Keyed by property and scoped key. Insertion order is expiry order since every key gets the same TTL; guarded by this
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, false);
+    
+    @Value("${idempotency.max-entries:10000}")
+    private int maxEntries = 10000;
+    
+    @Value("${idempotency.ttl-ms:86400000}")
+    private long ttlMillis = 86_400_000;
+    
+    @Value("${idempotency.wait-ms:30000}")
+    private long waitMillis = 30_000;
+    
+    @Value("${idempotency.persistent:true}")
+    private boolean persistent = true;
+    
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper,
+                              PropertyDirectory propertyDirectory, PlatformTransactionManager transactionManager) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.propertyDirectory = propertyDirectory;
+        this.purgeTransaction = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Runs the action once for the scope and key; duplicates wait for and share its outcome.
+     * Validation failures are remembered like responses, since repeating them would repeat their
+     * side effects (a sold-out request joins the waitlist); unexpected errors free the key for a retry.
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        
+        String scopedKey = scope + ":" + key;
+        // Persisted records are already separated by the property's own database
+        String memoryKey = PropertyContext.current() + "/" + scopedKey;
+        String fingerprint = fingerprint(request);
+        long now = System.currentTimeMillis();
+        Entry entry;
+        boolean owner = false;
+        synchronized (this) {
+            purgeExpired(now);
+            entry = entries.get(memoryKey);
+            if (entry == null) {
+                if (entries.size() >= maxEntries && !evictPersisted()) {
+                    log.debug("Idempotency map full with {} live keys, turning away key {}", entries.size(), scopedKey);
+                    throw new ServiceUnavailableException(
+                        "Too many requests are being processed. Please try again shortly.", FULL_RETRY_AFTER_SECONDS);
+                }
+                entry = new Entry(fingerprint, new CompletableFuture<>(), now + ttlMillis, new AtomicBoolean());
+                entries.put(memoryKey, entry);
+                owner = true;
+            }
+        }
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new ValidationException("Idempotency-Key has already been used for a different request");
+        }
+        if (!owner) {
+            log.debug("Replaying response for idempotency key {}", scopedKey);
+            return await(entry, responseType);
+        }
+        
+        try {
+            T response = loadStored(scopedKey, fingerprint, responseType).orElse(null);
+            if (response == null) {
+                response = action.get();
+                if (store(scopedKey, fingerprint, response, entry.expiresAt())) {
+                    entry.persisted().set(true);
+                }
+            } else {
+                entry.persisted().set(true);
+            }
+            entry.outcome().complete(response);
+            return response;
+        } catch (ValidationException e) {
+            entry.outcome().completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                entries.remove(memoryKey, entry);
+            }
+            entry.outcome().completeExceptionally(e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Deletes persisted responses past their TTL in every property
+     */
+    @Scheduled(cron = "${idempotency.purge-cron:0 45 * * * *}")
+    public void purgeExpiredRecords() {
+        if (!persistent) {
+            return;
+        }
+        propertyDirectory.forEachProperty(() -> {
+            Integer deleted = purgeTransaction.execute(tx -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+            log.info("Purged {} expired idempotency records", deleted);
+        });
+    }
+    
+    private <T> T await(Entry entry, Class<T> responseType) {
+        try {
+            return responseType.cast(entry.outcome().get(waitMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            throw new ValidationException("A request with this Idempotency-Key is still being processed, retry later");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for idempotent request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Idempotent request failed", e.getCause());
+        }
+    }
+    
+    private void purgeExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt() > now) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+    
+    /**
+     * Frees the oldest key whose response is already in idempotency_records; keys still running, or
+     * whose outcome lives only in memory, are kept until their TTL
+     */
+    private boolean evictPersisted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.persisted().get() && entry.outcome().isDone()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private <T> Optional<T> loadStored(String scopedKey, String fingerprint, Class<T> responseType) {
+        if (!persistent) {
+            return Optional.empty();
+        }
+        return idempotencyRecordRepository.findByIdempotencyKeyAndExpiresAtAfter(scopedKey, LocalDateTime.now())
+            .map(record -> {
+                if (!record.getFingerprint().equals(fingerprint)) {
+                    throw new ValidationException("Idempotency-Key has already been used for a different request");
+                }
+                try {
+                    return objectMapper.readValue(record.getResponseBody(), responseType);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Unreadable idempotency record " + scopedKey, e);
+                }
+            });
+    }
+    
+    private boolean store(String scopedKey, String fingerprint, Object response, long expiresAtMillis) {
+        if (!persistent) {
+            return false;
+        }
+        try {
+            LocalDateTime expiresAt = LocalDateTime.now().plusNanos((expiresAtMillis - System.currentTimeMillis()) * 1_000_000);
+            idempotencyRecordRepository.save(new IdempotencyRecord(scopedKey, fingerprint,
+                objectMapper.writeValueAsString(response), expiresAt));
+            return true;
+        } catch (JsonProcessingException | DataAccessException e) {
+            // The request itself succeeded; only cross-node and after-restart replay is lost
+            log.warn("Could not persist idempotency record {}: {}", scopedKey, e.getMessage());
+            return false;
+        }
+    }
+    
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint request", e);
+        }
+    }
+    
+    /**
+     * One key's outcome; persisted is set once the response is in idempotency_records
+     */
+    private record Entry(String fingerprint, CompletableFuture<Object> outcome, long expiresAt, AtomicBoolean persisted) {
+    }
+}
@@ -0,0 +1,343 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.RoomStay;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomInventoryNight;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomInventoryNightRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inventory Ledger
+ * Per-night room inventory in the database (room_inventory_night), shared by every node of a property.
+ * A stay claims each of its nights with a conditional update that only succeeds while a room is left,
+ * so two nodes can never sell the same last room. Nights are claimed in (room type, date) order so
+ * concurrent bookings lock rows in the same order and cannot deadlock; when a night is full the nights
+ * already claimed are given back and the claim fails. Claims run in the caller's transaction and roll
+ * back with it.
+ * Only nights from today on are tracked. Rows are created ahead up to the horizon at startup and
+ * daily, with sold counted from the reservations at that moment. Bookings beyond the horizon have
+ * their nights created by prepareStay before the booking transaction opens; a claim that still finds
+ * nights missing creates them in the caller's transaction rather than taking a second connection.
+ */
+@Service
+public class InventoryLedger {
+    
+    private static final Logger log = LoggerFactory.getLogger(InventoryLedger.class);
+    
+    /**
+     * Statuses whose stays hold their nights
+     */
+    static final Set<ReservationStatus> HOLDING_STATUSES =
+        EnumSet.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN);
+    
+    private final RoomInventoryNightRepository nightRepository;
+    private final ReservationRepository reservationRepository;
+    private final RoomInventory roomInventory;
+    private final PropertyDirectory propertyDirectory;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate seedTransaction;
+    
+    @Value("${inventory-ledger.horizon-days:730}")
+    private int horizonDays = 730;
+    
+    public InventoryLedger(RoomInventoryNightRepository nightRepository, ReservationRepository reservationRepository,
+                           RoomInventory roomInventory, PropertyDirectory propertyDirectory,
+                           PlatformTransactionManager transactionManager) {
+        this.nightRepository = nightRepository;
+        this.reservationRepository = reservationRepository;
+        this.roomInventory = roomInventory;
+        this.propertyDirectory = propertyDirectory;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        propertyDirectory.forEachProperty(this::prepare);
+    }
+    
+    @Scheduled(cron = "${inventory-ledger.cron:0 10 0 * * *}")
+    public void scheduledPrepare() {
+        propertyDirectory.forEachProperty(this::prepare);
+    }
+    
+    /**
+     * Reservations written straight to the table (a synthetic data load) never claimed their nights;
+     * recount once they are in. Night audit runs release their own nights and are not recounted.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        if (event.getType() == ReservationChangeType.BULK_STATUS_CHANGED && event.getPreviousStatus() == null
+                && !event.isRemote()) {
+            rebuild();
+        }
+    }
+    
+    /**
+     * Brings capacities in line with the rooms and creates the missing nights up to the horizon
+     */
+    public void prepare() {
+        updateCapacity();
+        LocalDate today = LocalDate.now();
+        for (RoomType roomType : RoomType.values()) {
+            seed(roomType, today, today.plusDays(horizonDays));
+        }
+    }
+    
+    /**
+     * Creates the stay's missing nights; call before opening the transaction that claims them
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prepareStay(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        LocalDate from = max(checkIn, LocalDate.now());
+        if (from.isBefore(checkOut)) {
+            seed(roomType, from, checkOut);
+        }
+    }
+    
+    /**
+     * Claims every night of the stay; false, with nothing claimed, if any night is sold out
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean claim(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        return change(List.of(), nights(roomType, checkIn, checkOut));
+    }
+    
+    /**
+     * Gives back the remaining nights of a stay that no longer holds them
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        change(nights(roomType, checkIn, checkOut), List.of());
+    }
+    
+    /**
+     * Gives back the remaining nights of several stays at once, in lock order (night audit no-shows)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseAll(List<Reservation> reservations) {
+        Map<Night, Integer> changes = new TreeMap<>();
+        for (Reservation reservation : reservations) {
+            nights(reservation.getRoomType(), reservation.getCheckInDate(), reservation.getCheckOutDate())
+                .forEach(night -> changes.merge(night, -1, Integer::sum));
+        }
+        apply(changes);
+    }
+    
+    /**
+     * Moves a stay's claims to its new room type and dates, touching only the nights that differ;
+     * false, with the old claims kept, if a new night is sold out
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean move(RoomType previousRoomType, LocalDate previousCheckIn, LocalDate previousCheckOut,
+                        RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        return change(nights(previousRoomType, previousCheckIn, previousCheckOut), nights(roomType, checkIn, checkOut));
+    }
+    
+    /**
+     * Whether every night of the stay still has a room; a read only, the claim decides
+     */
+    @Transactional(readOnly = true)
+    public boolean hasRoom(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        LocalDate from = max(checkIn, LocalDate.now());
+        return !from.isBefore(checkOut) || nightRepository.countFullNights(roomType, from, checkOut) == 0;
+    }
+    
+    /**
+     * Sets the capacity of every night from today on to the current number of bookable rooms
+     */
+    public void updateCapacity() {
+        LocalDate today = LocalDate.now();
+        writeTransaction.executeWithoutResult(status -> {
+            for (RoomType roomType : RoomType.values()) {
+                int updated = nightRepository.updateCapacity(roomType, roomInventory.getCapacity(roomType), today);
+                if (updated > 0) {
+                    log.info("Inventory ledger capacity for {} {} set to {} on {} nights", PropertyContext.current(),
+                        roomType, roomInventory.getCapacity(roomType), updated);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Recounts sold for every night from today on out of the reservations; meant for quiet periods,
+     * since bookings committing during the recount may be counted twice or not at all
+     */
+    public int rebuild() {
+        long started = System.nanoTime();
+        Integer nights = writeTransaction.execute(status -> nightRepository.recount(HOLDING_STATUSES, LocalDate.now()));
+        log.info("Inventory ledger for {} recounted: {} nights in {} ms", PropertyContext.current(), nights,
+            (System.nanoTime() - started) / 1_000_000);
+        return nights == null ? 0 : nights;
+    }
+    
+    private boolean change(List<Night> released, List<Night> claimed) {
+        if (!claimed.isEmpty()) {
+            // Rows are created before any of them is locked: on MySQL a claim on a missing row takes a gap lock.
+            // They are created in the caller's transaction; a node creating the same nights at the same moment
+            // makes it fail on the unique key, so the caller's change is refused rather than waiting on a second
+            // connection while this one is held.
+            Night first = claimed.get(0);
+            LocalDate end = claimed.get(claimed.size() - 1).date().plusDays(1);
+            if (nightRepository.findNights(first.roomType(), first.date(), end).size() < claimed.size()) {
+                createMissing(first.roomType(), first.date(), end);
+            }
+        }
+        
+        Map<Night, Integer> changes = new TreeMap<>();
+        released.forEach(night -> changes.merge(night, -1, Integer::sum));
+        claimed.forEach(night -> changes.merge(night, 1, Integer::sum));
+        return apply(changes);
+    }
+    
+    /**
+     * Applies room changes per night in lock order; claims take one room each. If a claim finds its
+     * night full, everything applied so far, and only that, is reverted and false is returned.
+     */
+    private boolean apply(Map<Night, Integer> changes) {
+        Map<Night, Integer> applied = new LinkedHashMap<>();
+        for (Map.Entry<Night, Integer> entry : changes.entrySet()) {
+            Night night = entry.getKey();
+            int rooms = entry.getValue();
+            if (rooms > 0) {
+                if (nightRepository.claim(night.roomType(), night.date()) == 0) {
+                    applied.forEach((back, change) -> {
+                        if (change > 0) {
+                            nightRepository.release(back.roomType(), back.date(), change);
+                        } else {
+                            nightRepository.restore(back.roomType(), back.date(), -change);
+                        }
+                    });
+                    return false;
+                }
+                applied.put(night, rooms);
+            } else if (rooms < 0) {
+                int released = release(night, -rooms);
+                if (released > 0) {
+                    applied.put(night, -released);
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Gives rooms back for one night and returns how many were actually given back: none if the night
+     * has no row, and only what is sold if the count has drifted below what the stays hold
+     */
+    private int release(Night night, int rooms) {
+        if (nightRepository.release(night.roomType(), night.date(), rooms) == 1) {
+            return rooms;
+        }
+        int sold = nightRepository.findSold(night.roomType(), night.date()).orElse(0);
+        if (sold > 0 && sold < rooms && nightRepository.release(night.roomType(), night.date(), sold) == 1) {
+            log.warn("Inventory ledger for {} {} on {} had {} sold, fewer than the {} given back; run a rebuild",
+                PropertyContext.current(), night.roomType(), night.date(), sold, rooms);
+            return sold;
+        }
+        return 0;
+    }
+    
+    /**
+     * Creates the missing nights of a type in [from, to) in a transaction of their own, outside any
+     * booking; another node creating the same nights at the same time wins and its rows are used instead
+     */
+    private void seed(RoomType roomType, LocalDate from, LocalDate to) {
+        try {
+            Integer created = seedTransaction.execute(status -> createMissing(roomType, from, to));
+            if (created != null && created > 0) {
+                log.info("Inventory ledger for {} {}: created {} nights from {}", PropertyContext.current(), roomType,
+                    created, from);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.info("Inventory ledger nights for {} {} from {} created concurrently", PropertyContext.current(),
+                roomType, from);
+        }
+    }
+    
+    /**
+     * Creates the missing nights of a type in [from, to) in the current transaction, with sold counted
+     * from the stays holding them; returns how many were created
+     */
+    private int createMissing(RoomType roomType, LocalDate from, LocalDate to) {
+        Set<LocalDate> existing = new HashSet<>(nightRepository.findNights(roomType, from, to));
+        int days = (int) ChronoUnit.DAYS.between(from, to);
+        if (existing.size() >= days) {
+            return 0;
+        }
+        int[] sold = new int[days];
+        for (RoomStay stay : reservationRepository.findRoomStays(HOLDING_STATUSES, from, to)) {
+            if (stay.roomType() != roomType) {
+                continue;
+            }
+            LocalDate last = stay.checkOutDate().isBefore(to) ? stay.checkOutDate() : to;
+            for (LocalDate date = max(stay.checkInDate(), from); date.isBefore(last); date = date.plusDays(1)) {
+                sold[(int) ChronoUnit.DAYS.between(from, date)]++;
+            }
+        }
+        int capacity = roomInventory.getCapacity(roomType);
+        List<RoomInventoryNight> missing = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            LocalDate date = from.plusDays(day);
+            if (!existing.contains(date)) {
+                missing.add(new RoomInventoryNight(roomType, date, capacity, sold[day]));
+            }
+        }
+        nightRepository.saveAll(missing);
+        return missing.size();
+    }
+    
+    private static List<Night> nights(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        List<Night> nights = new ArrayList<>();
+        for (LocalDate date = max(checkIn, LocalDate.now()); date.isBefore(checkOut); date = date.plusDays(1)) {
+            nights.add(new Night(roomType, date));
+        }
+        return nights;
+    }
+    
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+    
+    /**
+     * One room type on one date, in the order claims lock rows
+     */
+    private record Night(RoomType roomType, LocalDate date) implements Comparable<Night> {
+        
+        @Override
+        public int compareTo(Night other) {
+            int byType = roomType.compareTo(other.roomType);
+            return byType != 0 ? byType : date.compareTo(other.date);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.oceanview.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Producers claim a slot with one CAS on the tail and then publish the element into it;
+ * the consumer takes elements in claim order and stops at the first slot not yet published.
+ */
+public final class MpscRingBuffer<T> {
+    
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+    
+    /**
+     * Adds the element; returns false without blocking when the buffer is full
+     */
+    public boolean offer(T element) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet((int) (claimed & mask), element);
+        return true;
+    }
+    
+    /**
+     * Hands up to limit published elements to the consumer, in order; consumer thread only
+     */
+    public int drain(Consumer<T> consumer, int limit) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int slot = (int) (position & mask);
+            T element = slots.get(slot);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(slot, null);
+            head.lazySet(++position);
+            drained++;
+            consumer.accept(element);
+        }
+        return drained;
+    }
+    
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+    
+    public int capacity() {
+        return mask + 1;
+    }
+}
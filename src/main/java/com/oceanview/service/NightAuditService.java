@@ -0,0 +1,238 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.dto.NightAuditReport;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.NightAuditCheckpoint;
+import com.oceanview.model.NightAuditPhase;
+import com.oceanview.model.Reservation;
+import com.oceanview.repository.NightAuditCheckpointRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Night Audit Service
+ * Moves stale CONFIRMED reservations to NO_SHOW and past-due CHECKED_IN stays to CHECKED_OUT.
+ * Candidates are read by keyset pages over the (status, date) indexes and updated in small,
+ * independent transactions so daytime booking traffic never waits on a long lock. Progress is
+ * checkpointed per business date and phase, so a crashed run resumes where it stopped.
+ * Each property is audited on its own, one run at a time per property.
+ */
+@Service
+public class NightAuditService {
+    
+    private static final Logger log = LoggerFactory.getLogger(NightAuditService.class);
+    
+    private final ReservationRepository reservationRepository;
+    private final NightAuditCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PropertyDirectory propertyDirectory;
+    private final InventoryLedger inventoryLedger;
+    private final TransactionTemplate chunkTransaction;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final PropertyLocal<NightAuditReport> lastReports = new PropertyLocal<>();
+    
+    @Value("${night-audit.enabled:true}")
+    private boolean enabled = true;
+    
+    @Value("${night-audit.chunk-size:500}")
+    private int chunkSize = 500;
+    
+    @Value("${night-audit.parallelism:4}")
+    private int parallelism = 4;
+    
+    public NightAuditService(ReservationRepository reservationRepository,
+                             NightAuditCheckpointRepository checkpointRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             PropertyDirectory propertyDirectory,
+                             InventoryLedger inventoryLedger,
+                             PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.propertyDirectory = propertyDirectory;
+        this.inventoryLedger = inventoryLedger;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * Nightly trigger for every property; the business date being closed is today
+     */
+    @Scheduled(cron = "${night-audit.cron:0 30 2 * * *}")
+    public void scheduledAudit() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate businessDate = LocalDate.now();
+        propertyDirectory.forEachProperty(() -> runAudit(businessDate));
+    }
+    
+    /**
+     * Runs (or resumes) the current property's night audit for the given business date
+     */
+    public NightAuditReport runAudit(LocalDate businessDate) {
+        String property = PropertyContext.current();
+        if (!running.add(property)) {
+            throw new ValidationException("Night audit is already running for " + property);
+        }
+        
+        NightAuditReport report = new NightAuditReport(businessDate, LocalDateTime.now());
+        lastReports.set(report);
+        long started = System.nanoTime();
+        log.info("Night audit started for business date {} at {}", businessDate, property);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            report.setNoShowCount(processPhase(NightAuditPhase.NO_SHOW, businessDate, executor, report));
+            report.setCheckedOutCount(processPhase(NightAuditPhase.OVERDUE_CHECKOUT, businessDate, executor, report));
+        } finally {
+            executor.shutdown();
+            report.setDurationMillis(Duration.ofNanos(System.nanoTime() - started).toMillis());
+            report.setFinishedAt(LocalDateTime.now());
+            report.setRunning(false);
+            running.remove(property);
+        }
+        
+        log.info("Night audit finished for {} at {} in {} ms: {} no-shows, {} overdue check-outs",
+            businessDate, property, report.getDurationMillis(), report.getNoShowCount(), report.getCheckedOutCount());
+        return report;
+    }
+    
+    /**
+     * Returns the report of the current property's current or most recent run, or null if none has run yet
+     */
+    public NightAuditReport getLastReport() {
+        return lastReports.get();
+    }
+    
+    /**
+     * Processes one phase in waves of up to {@code parallelism} chunks, checkpointing after each wave
+     */
+    private long processPhase(NightAuditPhase phase, LocalDate businessDate,
+                              ExecutorService executor, NightAuditReport report) {
+        NightAuditCheckpoint checkpoint = checkpointRepository.findByBusinessDateAndPhase(businessDate, phase)
+            .orElseGet(() -> new NightAuditCheckpoint(businessDate, phase));
+        
+        if (checkpoint.isCompleted()) {
+            log.info("Night audit phase {} already completed for {}", phase, businessDate);
+            return checkpoint.getProcessedCount();
+        }
+        if (checkpoint.getLastProcessedId() > 0) {
+            log.info("Resuming night audit phase {} after reservation id {}", phase, checkpoint.getLastProcessedId());
+        }
+        
+        long afterId = checkpoint.getLastProcessedId();
+        long processed = checkpoint.getProcessedCount();
+        
+        while (true) {
+            List<List<Long>> wave = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                List<Long> ids = findCandidateIds(phase, businessDate, afterId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                wave.add(ids);
+                afterId = ids.get(ids.size() - 1);
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+            }
+            if (wave.isEmpty()) {
+                break;
+            }
+            
+            List<Future<Integer>> results = new ArrayList<>();
+            for (List<Long> ids : wave) {
+                results.add(executor.submit(PropertyContext.wrap(() -> transitionChunk(phase, ids))));
+            }
+            for (Future<Integer> result : results) {
+                processed += await(result);
+            }
+            
+            checkpoint.setLastProcessedId(afterId);
+            checkpoint.setProcessedCount(processed);
+            checkpoint = checkpointRepository.save(checkpoint);
+            
+            if (phase == NightAuditPhase.NO_SHOW) {
+                report.setNoShowCount(processed);
+            } else {
+                report.setCheckedOutCount(processed);
+            }
+            log.debug("Night audit phase {} progress: {} reservations, checkpoint id {}", phase, processed, afterId);
+        }
+        
+        checkpoint.setCompleted(true);
+        checkpointRepository.save(checkpoint);
+        return processed;
+    }
+    
+    private List<Long> findCandidateIds(NightAuditPhase phase, LocalDate businessDate, long afterId) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        return switch (phase) {
+            case NO_SHOW -> reservationRepository.findIdsByStatusAndCheckInBefore(
+                phase.getSourceStatus(), businessDate, afterId, page);
+            case OVERDUE_CHECKOUT -> reservationRepository.findIdsByStatusAndCheckOutBefore(
+                phase.getSourceStatus(), businessDate, afterId, page);
+        };
+    }
+    
+    /**
+     * Locks the chunk's stays that are still in the source status and moves exactly those. No-shows give
+     * their remaining nights back to the inventory ledger; overdue check-outs only have past nights.
+     * The chunk's event is published in its transaction, so the change log stamps the moved stays
+     * when the chunk commits.
+     */
+    private int transitionChunk(NightAuditPhase phase, List<Long> ids) {
+        Integer updated = chunkTransaction.execute(status -> {
+            List<Reservation> stays = reservationRepository.lockByIdsAndStatus(ids, phase.getSourceStatus());
+            if (stays.isEmpty()) {
+                return 0;
+            }
+            if (phase == NightAuditPhase.NO_SHOW) {
+                inventoryLedger.releaseAll(stays);
+            }
+            int moved = reservationRepository.transitionStatus(stays.stream().map(Reservation::getId).toList(),
+                phase.getSourceStatus(), phase.getTargetStatus(), LocalDateTime.now());
+            eventPublisher.publishEvent(ReservationChangeEvent.bulk(phase.getSourceStatus(), phase.getTargetStatus(), moved)
+                .withReservationNumbers(stays.stream().map(Reservation::getReservationNumber).toList()));
+            return moved;
+        });
+        return updated == null ? 0 : updated;
+    }
+    
+    private int await(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Night audit interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Night audit chunk failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.OccupancyReport;
+import com.oceanview.dto.OccupancyReportRow;
+import com.oceanview.dto.ReservationStay;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ArchivedReservationRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Occupancy Report Service
+ * Nightly occupancy %, ADR and RevPAR per room type over arbitrary date ranges.
+ * Loads every relevant stay with one grouped range query, then explodes stays into nights on the
+ * fork-join pool into flat primitive arrays indexed by (room type, day). Ranges reaching back past the
+ * archive horizon also read the stays archived out of the hot table.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OccupancyReportService {
+    
+    private static final Logger log = LoggerFactory.getLogger(OccupancyReportService.class);
+    
+    /**
+     * Statuses whose nights count as sold
+     */
+    private static final Set<ReservationStatus> SOLD_STATUSES =
+        EnumSet.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT);
+    
+    private static final int MAX_REPORT_DAYS = 3 * 366;
+    
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    
+    private final ReservationRepository reservationRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final RoomInventory roomInventory;
+    
+    @Value("${archive.horizon-days:365}")
+    private int archiveHorizonDays = 365;
+    
+    public OccupancyReportService(ReservationRepository reservationRepository,
+                                  ArchivedReservationRepository archivedReservationRepository,
+                                  RoomInventory roomInventory) {
+        this.reservationRepository = reservationRepository;
+        this.archivedReservationRepository = archivedReservationRepository;
+        this.roomInventory = roomInventory;
+    }
+    
+    /**
+     * Builds the report for the nights in [from, to)
+     */
+    public OccupancyReport buildReport(LocalDate from, LocalDate to) {
+        int days = (int) ChronoUnit.DAYS.between(from, to);
+        if (days <= 0) {
+            throw new ValidationException("Report end date must be after start date");
+        }
+        if (days > MAX_REPORT_DAYS) {
+            throw new ValidationException("Report range cannot exceed " + MAX_REPORT_DAYS + " nights");
+        }
+        
+        long started = System.nanoTime();
+        List<ReservationStay> stays = reservationRepository.findStaysOverlapping(SOLD_STATUSES, from, to);
+        // Archived stays all checked out before the horizon, and each moved in one transaction, so none counts twice
+        if (from.isBefore(LocalDate.now().minusDays(archiveHorizonDays))) {
+            stays = new ArrayList<>(stays);
+            stays.addAll(archivedReservationRepository.findStaysOverlapping(SOLD_STATUSES, from, to));
+        }
+        
+        long[] capacity = new long[ROOM_TYPES.length];
+        for (RoomType roomType : ROOM_TYPES) {
+            capacity[roomType.ordinal()] = roomInventory.getCapacity(roomType);
+        }
+        
+        OccupancyReport report = aggregate(stays, from, days, capacity);
+        report.setComputeMillis((System.nanoTime() - started) / 1_000_000);
+        log.info("Occupancy report {} to {}: {} reservations ({} distinct stays) in {} ms",
+            from, to, report.getReservationsScanned(), stays.size(), report.getComputeMillis());
+        return report;
+    }
+    
+    /**
+     * Explodes stays into per-night accumulators in parallel and turns them into report rows
+     */
+    static OccupancyReport aggregate(List<ReservationStay> stays, LocalDate from, int days, long[] capacity) {
+        long fromDay = from.toEpochDay();
+        NightAccumulator nights = stays.parallelStream().collect(
+            () -> new NightAccumulator(fromDay, days),
+            NightAccumulator::add,
+            NightAccumulator::merge
+        );
+        
+        OccupancyReport report = new OccupancyReport();
+        report.setFrom(from);
+        report.setTo(from.plusDays(days));
+        report.setReservationsScanned(nights.reservations);
+        
+        long totalCapacity = 0;
+        for (long rooms : capacity) {
+            totalCapacity += rooms;
+        }
+        
+        long[] periodSold = new long[ROOM_TYPES.length];
+        long[] periodRevenue = new long[ROOM_TYPES.length];
+        for (int day = 0; day < days; day++) {
+            LocalDate date = from.plusDays(day);
+            long daySold = 0;
+            long dayRevenue = 0;
+            for (int type = 0; type < ROOM_TYPES.length; type++) {
+                int slot = type * days + day;
+                long sold = nights.roomNights[slot];
+                long revenue = nights.revenueCents[slot];
+                report.getNights().add(row(date, ROOM_TYPES[type], capacity[type], sold, revenue));
+                periodSold[type] += sold;
+                periodRevenue[type] += revenue;
+                daySold += sold;
+                dayRevenue += revenue;
+            }
+            report.getNights().add(row(date, null, totalCapacity, daySold, dayRevenue));
+        }
+        
+        long allSold = 0;
+        long allRevenue = 0;
+        for (int type = 0; type < ROOM_TYPES.length; type++) {
+            report.getTotals().add(row(null, ROOM_TYPES[type], capacity[type] * days, periodSold[type], periodRevenue[type]));
+            allSold += periodSold[type];
+            allRevenue += periodRevenue[type];
+        }
+        report.getTotals().add(row(null, null, totalCapacity * days, allSold, allRevenue));
+        return report;
+    }
+    
+    private static OccupancyReportRow row(LocalDate date, RoomType roomType, long available, long sold, long revenueCents) {
+        BigDecimal revenue = BigDecimal.valueOf(revenueCents, 2);
+        BigDecimal occupancy = available == 0 ? BigDecimal.ZERO
+            : BigDecimal.valueOf(sold * 100).divide(BigDecimal.valueOf(available), 2, RoundingMode.HALF_UP);
+        BigDecimal adr = sold == 0 ? BigDecimal.ZERO
+            : revenue.divide(BigDecimal.valueOf(sold), 2, RoundingMode.HALF_UP);
+        BigDecimal revpar = available == 0 ? BigDecimal.ZERO
+            : revenue.divide(BigDecimal.valueOf(available), 2, RoundingMode.HALF_UP);
+        return new OccupancyReportRow(date, roomType, available, sold, occupancy, revenue, adr, revpar);
+    }
+    
+    /**
+     * Per-worker accumulator: room nights and revenue in minor units, slot = roomType * days + day
+     */
+    static final class NightAccumulator {
+        
+        private final long fromDay;
+        private final int days;
+        private final long[] roomNights;
+        private final long[] revenueCents;
+        private long reservations;
+        
+        NightAccumulator(long fromDay, int days) {
+            this.fromDay = fromDay;
+            this.days = days;
+            this.roomNights = new long[ROOM_TYPES.length * days];
+            this.revenueCents = new long[ROOM_TYPES.length * days];
+        }
+        
+        void add(ReservationStay stay) {
+            long checkIn = stay.checkInDate().toEpochDay();
+            long checkOut = stay.checkOutDate().toEpochDay();
+            long stayNights = checkOut - checkIn;
+            long count = stay.count();
+            reservations += count;
+            if (stayNights <= 0) {
+                return;
+            }
+            
+            // Spread the stay total evenly over its nights; the remainder cents go to the first nights
+            BigDecimal total = stay.totalAmount() != null
+                ? stay.totalAmount()
+                : stay.roomType().getRatePerNight().multiply(BigDecimal.valueOf(stayNights));
+            long totalCents = total.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            long nightly = totalCents / stayNights;
+            long remainder = totalCents % stayNights;
+            
+            long start = Math.max(checkIn, fromDay);
+            long end = Math.min(checkOut, fromDay + days);
+            int base = stay.roomType().ordinal() * days;
+            for (long night = start; night < end; night++) {
+                int slot = base + (int) (night - fromDay);
+                roomNights[slot] += count;
+                revenueCents[slot] += (nightly + (night - checkIn < remainder ? 1 : 0)) * count;
+            }
+        }
+        
+        void merge(NightAccumulator other) {
+            for (int i = 0; i < roomNights.length; i++) {
+                roomNights[i] += other.roomNights[i];
+                revenueCents[i] += other.revenueCents[i];
+            }
+            reservations += other.reservations;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.model.RoomRate;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.RoomRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rate Calendar
+ * Nightly rate per room type and date, held as prefix sums of minor units so any stay
+ * prices in O(1): total = prefix[checkOut] - prefix[checkIn]. Covers a sliding window
+ * around today; nights outside it are charged the room type's base rate.
+ * Rebuilt from the room_rates table on a schedule and whenever a rate is added on this node.
+ * Each property prices from its own rates and rebuilds under its own lock, so a reload for one
+ * property never holds up pricing for another.
+ */
+@Service
+public class RateCalendar {
+    
+    private static final Logger log = LoggerFactory.getLogger(RateCalendar.class);
+    
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    
+    private final RoomRateRepository roomRateRepository;
+    private final PropertyLocal<Slot> slots = PropertyLocal.withInitial(Slot::new);
+    
+    @Value("${rate-calendar.past-days:400}")
+    private int pastDays = 400;
+    
+    @Value("${rate-calendar.future-days:800}")
+    private int futureDays = 800;
+    
+    public RateCalendar(RoomRateRepository roomRateRepository) {
+        this.roomRateRepository = roomRateRepository;
+    }
+    
+    /**
+     * Picks up rates written by other nodes
+     */
+    @Scheduled(fixedDelayString = "${rate-calendar.reload-ms:300000}", initialDelayString = "${rate-calendar.reload-ms:300000}")
+    public void scheduledReload() {
+        slots.forEachProperty(this::reload);
+    }
+    
+    /**
+     * Rebuilds the current property's calendar from the database and swaps it in atomically
+     */
+    public void reload() {
+        Slot slot = slots.get();
+        synchronized (slot) {
+            slot.snapshot = load();
+        }
+    }
+    
+    private Snapshot load() {
+        long started = System.nanoTime();
+        long firstDay = LocalDate.now().minusDays(pastDays).toEpochDay();
+        int days = pastDays + futureDays;
+        List<RoomRate> rates = roomRateRepository.findAllByOrderByIdAsc();
+        
+        long[] baseCents = new long[ROOM_TYPES.length];
+        long[][] prefix = new long[ROOM_TYPES.length][];
+        for (RoomType roomType : ROOM_TYPES) {
+            int type = roomType.ordinal();
+            baseCents[type] = toCents(roomType.getRatePerNight());
+            long[] nightly = new long[days];
+            Arrays.fill(nightly, baseCents[type]);
+            for (RoomRate rate : rates) {
+                if (rate.getRoomType() != roomType) {
+                    continue;
+                }
+                long from = Math.max(rate.getStartDate().toEpochDay(), firstDay);
+                long to = Math.min(rate.getEndDate().toEpochDay() + 1, firstDay + days);
+                for (long night = from; night < to; night++) {
+                    nightly[(int) (night - firstDay)] = toCents(rate.getRateFor(LocalDate.ofEpochDay(night)));
+                }
+            }
+            prefix[type] = new long[days + 1];
+            for (int day = 0; day < days; day++) {
+                prefix[type][day + 1] = prefix[type][day] + nightly[day];
+            }
+        }
+        
+        log.info("Rate calendar rebuilt for {} from {} rates in {} ms", PropertyContext.current(), rates.size(),
+            (System.nanoTime() - started) / 1_000_000);
+        return new Snapshot(firstDay, days, baseCents, prefix);
+    }
+    
+    /**
+     * Total for the nights in [checkIn, checkOut), in minor units
+     */
+    public long priceCents(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        Snapshot current = current();
+        long in = checkIn.toEpochDay();
+        long out = checkOut.toEpochDay();
+        if (out <= in) {
+            return 0;
+        }
+        
+        long lastDay = current.firstDay + current.days;
+        long from = Math.min(Math.max(in, current.firstDay), lastDay);
+        long to = Math.min(Math.max(out, current.firstDay), lastDay);
+        int type = roomType.ordinal();
+        long[] prefix = current.prefix[type];
+        long inside = prefix[(int) (to - current.firstDay)] - prefix[(int) (from - current.firstDay)];
+        long outsideNights = (out - in) - (to - from);
+        return inside + outsideNights * current.baseCents[type];
+    }
+    
+    /**
+     * Total for the nights in [checkIn, checkOut)
+     */
+    public BigDecimal price(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        return BigDecimal.valueOf(priceCents(roomType, checkIn, checkOut), 2);
+    }
+    
+    private Snapshot current() {
+        Slot slot = slots.get();
+        Snapshot current = slot.snapshot;
+        if (current == null) {
+            synchronized (slot) {
+                if (slot.snapshot == null) {
+                    slot.snapshot = load();
+                }
+                current = slot.snapshot;
+            }
+        }
+        return current;
+    }
+    
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+    
+    /**
+     * One property's calendar and the lock its rebuilds take
+     */
+    private static final class Slot {
+        
+        private volatile Snapshot snapshot;
+    }
+    
+    /**
+     * Immutable calendar; prefix[type][i] is the total of the first i nights from firstDay
+     */
+    private record Snapshot(long firstDay, int days, long[] baseCents, long[][] prefix) {
+    }
+}
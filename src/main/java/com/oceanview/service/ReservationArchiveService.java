@@ -0,0 +1,150 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.repository.ArchivedReservationRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reservation Archive Service
+ * Moves closed reservations older than the archive horizon from the hot reservations table
+ * into reservations_archive. Runs online: each batch is locked, copied and deleted in its own
+ * short transaction, with a pause between batches so booking traffic keeps priority.
+ * Each property archives within its own database, one run at a time per property.
+ */
+@Service
+public class ReservationArchiveService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReservationArchiveService.class);
+    
+    private static final Set<ReservationStatus> ARCHIVABLE_STATUSES =
+        EnumSet.of(ReservationStatus.CHECKED_OUT, ReservationStatus.CANCELLED, ReservationStatus.NO_SHOW);
+    
+    private final ReservationRepository reservationRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final PropertyDirectory propertyDirectory;
+    private final TransactionTemplate batchTransaction;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    
+    @Value("${archive.enabled:true}")
+    private boolean enabled = true;
+    
+    @Value("${archive.horizon-days:365}")
+    private int horizonDays = 365;
+    
+    @Value("${archive.batch-size:500}")
+    private int batchSize = 500;
+    
+    @Value("${archive.throttle-ms:200}")
+    private long throttleMillis = 200;
+    
+    public ReservationArchiveService(ReservationRepository reservationRepository,
+                                     ArchivedReservationRepository archivedReservationRepository,
+                                     PropertyDirectory propertyDirectory,
+                                     PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.archivedReservationRepository = archivedReservationRepository;
+        this.propertyDirectory = propertyDirectory;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    @Scheduled(cron = "${archive.cron:0 0 4 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate cutoff = LocalDate.now().minusDays(horizonDays);
+        propertyDirectory.forEachProperty(() -> archiveClosedReservations(cutoff));
+    }
+    
+    /**
+     * Archives the current property's closed reservations that checked out before the cutoff;
+     * returns the number moved
+     */
+    public long archiveClosedReservations(LocalDate cutoff) {
+        String property = PropertyContext.current();
+        if (!running.add(property)) {
+            log.info("Archive run already in progress for {}, skipping", property);
+            return 0;
+        }
+        
+        long started = System.currentTimeMillis();
+        long archived = 0;
+        try {
+            for (ReservationStatus status : ARCHIVABLE_STATUSES) {
+                archived += archiveStatus(status, cutoff);
+            }
+        } finally {
+            running.remove(property);
+        }
+        
+        log.info("Archived {} reservations of {} closed before {} in {} ms", archived, property, cutoff,
+            System.currentTimeMillis() - started);
+        return archived;
+    }
+    
+    private long archiveStatus(ReservationStatus status, LocalDate cutoff) {
+        long archived = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = reservationRepository.findIdsByStatusAndCheckOutBefore(
+                status, cutoff, afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return archived;
+            }
+            afterId = ids.get(ids.size() - 1);
+            
+            Integer moved = batchTransaction.execute(tx -> moveBatch(ids, cutoff));
+            archived += moved == null ? 0 : moved;
+            
+            if (ids.size() < batchSize) {
+                return archived;
+            }
+            pause();
+        }
+    }
+    
+    /**
+     * Locks the batch rows that are still archivable, copies them to the archive and deletes them
+     */
+    private int moveBatch(List<Long> candidateIds, LocalDate cutoff) {
+        List<Long> ids = reservationRepository.lockArchivable(candidateIds, ARCHIVABLE_STATUSES, cutoff).stream()
+            .map(Reservation::getId)
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedReservationRepository.copyFromReservations(ids);
+        return reservationRepository.deleteByIds(ids);
+    }
+    
+    private void pause() {
+        if (throttleMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Archive run interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.ReservationLookupEntry;
+import com.oceanview.model.ReservationChangeRecord;
+import com.oceanview.repository.ReservationChangeRecordRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reservation Change Log Service
+ * Keeps in-memory caches coherent across nodes without a broker. Every reservation change is written
+ * to reservation_change_log in the transaction that makes it (just before commit), and every node tails
+ * the log by id on a short fixed delay, replaying other nodes' changes as remote ReservationChangeEvents
+ * so the lookup index, room board and live stream update as if the change had been made locally.
+ * The changed reservations are stamped with the log id in the same transaction, which gives delta sync
+ * a sequence in commit order rather than clock order.
+ * Ids are allocated at insert but become visible at commit, so a transaction that commits late can
+ * leave a hole behind the read position; holes are re-checked until they fill or the gap timeout
+ * passes (a rolled-back transaction leaves a permanent hole).
+ * Each property has its own log in its own database and its own read position.
+ */
+@Service
+public class ReservationChangeLogService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReservationChangeLogService.class);
+    
+    /**
+     * Wider jumps in the id sequence (auto-increment offsets, a restart) are not tracked as holes
+     */
+    private static final int MAX_TRACKED_GAP = 1000;
+    
+    private final ReservationChangeRecordRepository changeRecordRepository;
+    private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PropertyDirectory propertyDirectory;
+    private final TransactionTemplate writeTransaction;
+    private final String nodeId;
+    
+    @Value("${change-log.enabled:true}")
+    private boolean enabled = true;
+    
+    @Value("${change-log.batch-size:500}")
+    private int batchSize = 500;
+    
+    @Value("${change-log.gap-timeout-ms:10000}")
+    private long gapTimeoutMillis = 10_000;
+    
+    @Value("${change-log.retention-ms:86400000}")
+    private long retentionMillis = 86_400_000;
+    
+    private final PropertyLocal<Reader> readers = PropertyLocal.withInitial(Reader::new);
+    
+    public ReservationChangeLogService(ReservationChangeRecordRepository changeRecordRepository,
+                                       ReservationRepository reservationRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PropertyDirectory propertyDirectory,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${change-log.node-id:}") String nodeId) {
+        this.changeRecordRepository = changeRecordRepository;
+        this.reservationRepository = reservationRepository;
+        this.eventPublisher = eventPublisher;
+        this.propertyDirectory = propertyDirectory;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+    
+    /**
+     * Writes a local change to the log inside its transaction, so the row commits or rolls back with it.
+     * Logging does not depend on change-log.enabled: delta sync pages by the stamped ids.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            append(event);
+        } else {
+            writeTransaction.executeWithoutResult(status -> append(event));
+        }
+    }
+    
+    /**
+     * Starts reading every property's log at its end, before startup caches (the room board) are built from the tables
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        propertyDirectory.forEachProperty(this::position);
+    }
+    
+    /**
+     * Starts reading the current property's log at its end, unless already reading
+     */
+    public void position() {
+        Reader reader = readers.get();
+        synchronized (reader) {
+            if (enabled && reader.lastSeenId < 0) {
+                reader.lastSeenId = changeRecordRepository.findMaxId();
+            }
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${change-log.poll-ms:1000}", initialDelayString = "${change-log.poll-ms:1000}")
+    public void scheduledPoll() {
+        if (enabled) {
+            propertyDirectory.forEachProperty(this::poll);
+        }
+    }
+    
+    /**
+     * Replays changes other nodes committed to the current property's log since the last poll;
+     * returns the number replayed
+     */
+    public int poll() {
+        Reader reader = readers.get();
+        synchronized (reader) {
+            if (reader.lastSeenId < 0) {
+                // Caches are loaded from the tables, so history before startup is already reflected
+                position();
+                return 0;
+            }
+            
+            List<ReservationChangeRecord> records = new ArrayList<>();
+            if (!reader.gaps.isEmpty()) {
+                records.addAll(changeRecordRepository.findByIds(reader.gaps.keySet()));
+                records.forEach(record -> reader.gaps.remove(record.getId()));
+                expireGaps(reader.gaps);
+            }
+            
+            List<ReservationChangeRecord> page = changeRecordRepository.findAfter(reader.lastSeenId, PageRequest.of(0, batchSize));
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(gapTimeoutMillis);
+            for (ReservationChangeRecord record : page) {
+                if (record.getId() - reader.lastSeenId <= MAX_TRACKED_GAP) {
+                    for (long missing = reader.lastSeenId + 1; missing < record.getId(); missing++) {
+                        reader.gaps.put(missing, deadline);
+                    }
+                }
+                reader.lastSeenId = record.getId();
+            }
+            records.addAll(page);
+            return replay(records, reader.lastSeenId);
+        }
+    }
+    
+    /**
+     * Deletes log rows older than the retention period in every property; every node is long past them
+     */
+    @Scheduled(cron = "${change-log.purge-cron:0 50 * * * *}")
+    public void purge() {
+        propertyDirectory.forEachProperty(() -> writeTransaction.executeWithoutResult(tx -> {
+            int deleted = changeRecordRepository.deleteOlderThan(LocalDateTime.now().minusNanos(
+                TimeUnit.MILLISECONDS.toNanos(retentionMillis)));
+            if (deleted > 0) {
+                log.info("Purged {} reservation change log rows", deleted);
+            }
+        }));
+    }
+    
+    /**
+     * Highest log id, from the given one on, below which every id has committed or been given up.
+     * The first hole whose next id was logged less than the gap timeout ago, by the database clock,
+     * may still commit and ends the range.
+     */
+    public long committedThrough(long afterId) {
+        long through = afterId;
+        LocalDateTime cutoff = null;
+        while (true) {
+            List<Long> ids = changeRecordRepository.findIdsAfter(through, PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                if (id > through + 1) {
+                    if (cutoff == null) {
+                        cutoff = changeRecordRepository.findDatabaseTime().minus(Duration.ofMillis(gapTimeoutMillis));
+                    }
+                    LocalDateTime loggedAt = changeRecordRepository.findLoggedAt(id);
+                    if (loggedAt != null && loggedAt.isAfter(cutoff)) {
+                        return through;
+                    }
+                }
+                through = id;
+            }
+            if (ids.size() < batchSize) {
+                return through;
+            }
+        }
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public long getLastSeenId() {
+        Reader reader = readers.get();
+        synchronized (reader) {
+            return reader.lastSeenId;
+        }
+    }
+    
+    public int getPendingGaps() {
+        Reader reader = readers.get();
+        synchronized (reader) {
+            return reader.gaps.size();
+        }
+    }
+    
+    private void append(ReservationChangeEvent event) {
+        ReservationChangeRecord record = changeRecordRepository.save(new ReservationChangeRecord(nodeId, event));
+        List<String> reservationNumbers = event.getReservationNumber() != null
+            ? List.of(event.getReservationNumber())
+            : event.getReservationNumbers();
+        if (!reservationNumbers.isEmpty()) {
+            // A reservation created in this transaction must be written before it can be stamped
+            reservationRepository.flush();
+            reservationRepository.stampChange(reservationNumbers, record.getId());
+        }
+    }
+    
+    private int replay(List<ReservationChangeRecord> records, long position) {
+        List<ReservationChangeRecord> remote = records.stream()
+            .filter(record -> !nodeId.equals(record.getNodeId()))
+            .toList();
+        if (remote.isEmpty()) {
+            return 0;
+        }
+        
+        Map<String, ReservationLookupEntry> entries = lookupEntries(remote.stream()
+            .map(ReservationChangeRecord::getReservationNumber)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+        for (ReservationChangeRecord record : remote) {
+            ReservationChangeEvent event = record.toEvent();
+            if (record.getReservationNumber() != null) {
+                event.setLookupEntry(entries.get(record.getReservationNumber()));
+            }
+            eventPublisher.publishEvent(event);
+        }
+        log.debug("Replayed {} reservation changes from other nodes, log position {}", remote.size(), position);
+        return remote.size();
+    }
+    
+    private Map<String, ReservationLookupEntry> lookupEntries(Collection<String> reservationNumbers) {
+        if (reservationNumbers.isEmpty()) {
+            return Map.of();
+        }
+        return reservationRepository.findLookupEntriesByNumbers(reservationNumbers).stream()
+            .collect(Collectors.toMap(ReservationLookupEntry::reservationNumber, Function.identity()));
+    }
+    
+    private static void expireGaps(TreeMap<Long, Long> gaps) {
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Long> gap = it.next();
+            if (now - gap.getValue() > 0) {
+                log.debug("Reservation change log id {} never committed, skipping", gap.getKey());
+                it.remove();
+            }
+        }
+    }
+    
+    /**
+     * One property's read position; guarded by itself
+     */
+    private static final class Reader {
+        
+        // -1 until the first poll positions the reader at the end of the log
+        private long lastSeenId = -1;
+        
+        // Skipped ids mapped to the System.nanoTime() after which they are given up
+        private final TreeMap<Long, Long> gaps = new TreeMap<>();
+    }
+}
@@ -0,0 +1,286 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.ReservationLookupEntry;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Reservation Lookup Index
+ * In-memory front desk lookups over the hot reservations table: exact hash lookups by email and
+ * phone number, and prefix autocomplete over reservation numbers from a sorted map. Reads are
+ * lock-free; every committed change on this node or replayed from another node's change log updates
+ * the index, and a scheduled reload picks up archived rows and anything the change log missed.
+ * Each property has its own index under its own lock, so reloading one never blocks another.
+ */
+@Service
+public class ReservationLookupIndex {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReservationLookupIndex.class);
+    
+    private static final String NUMBER_PREFIX = "RES";
+    private static final int MAX_RESULTS = 50;
+    
+    /**
+     * Trailing digits kept from a phone number: the Sri Lankan national number without its
+     * trunk 0 or +94 country code, so "077 123 4567" and "+94771234567" match
+     */
+    private static final int PHONE_DIGITS = 9;
+    
+    private final ReservationRepository reservationRepository;
+    private final PropertyLocal<Slot> slots = PropertyLocal.withInitial(Slot::new);
+    
+    public ReservationLookupIndex(ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+    
+    @Scheduled(fixedDelayString = "${lookup-index.reload-ms:300000}", initialDelayString = "${lookup-index.reload-ms:300000}")
+    public void scheduledReload() {
+        slots.forEachProperty(this::reload);
+    }
+    
+    /**
+     * Rebuilds the current property's index from the reservations table
+     */
+    public void reload() {
+        Slot slot = slots.get();
+        synchronized (slot) {
+            long started = System.nanoTime();
+            Snapshot loaded = new Snapshot();
+            List<ReservationLookupEntry> entries = reservationRepository.findLookupEntries();
+            for (ReservationLookupEntry entry : entries) {
+                loaded.put(entry);
+            }
+            slot.snapshot = loaded;
+            log.info("Reservation lookup index loaded for {}: {} reservations in {} ms",
+                PropertyContext.current(), entries.size(), (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+    
+    /**
+     * Applies a committed change. Set-based transitions name the reservations they moved, so only
+     * those rows are re-read; a bulk event that names none (a synthetic data load) reloads.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        if (event.getType() == ReservationChangeType.BULK_STATUS_CHANGED) {
+            if (slots.get().snapshot == null) {
+                return;
+            }
+            if (event.getReservationNumbers().isEmpty()) {
+                reload();
+            } else {
+                reservationRepository.findLookupEntriesByNumbers(event.getReservationNumbers()).forEach(this::put);
+            }
+            return;
+        }
+        if (event.getLookupEntry() != null) {
+            put(event.getLookupEntry());
+        }
+    }
+    
+    /**
+     * Adds or replaces one reservation; a no-op until the index is first used
+     */
+    public void put(ReservationLookupEntry entry) {
+        Slot slot = slots.get();
+        synchronized (slot) {
+            if (slot.snapshot != null) {
+                slot.snapshot.put(entry);
+            }
+        }
+    }
+    
+    /**
+     * Reservations booked under an email address, newest first
+     */
+    public List<ReservationLookupEntry> findByEmail(String email) {
+        String key = normalizeEmail(email);
+        if (key == null) {
+            throw new ValidationException("Email is required");
+        }
+        Snapshot current = current();
+        return resolve(current, current.byEmail.get(key));
+    }
+    
+    /**
+     * Reservations booked under a phone number, newest first; formatting and country code are ignored
+     */
+    public List<ReservationLookupEntry> findByPhone(String phone) {
+        String key = normalizePhone(phone);
+        if (key == null) {
+            throw new ValidationException("Phone number must contain digits");
+        }
+        Snapshot current = current();
+        return resolve(current, current.byPhone.get(key));
+    }
+    
+    /**
+     * Reservations whose number starts with the prefix, in number order; the RES prefix may be omitted
+     */
+    public List<ReservationLookupEntry> autocomplete(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new ValidationException("Prefix is required");
+        }
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_RESULTS);
+        }
+        String from = prefix.trim().toUpperCase(Locale.ROOT);
+        if (Character.isDigit(from.charAt(0))) {
+            from = NUMBER_PREFIX + from;
+        }
+        
+        List<ReservationLookupEntry> matches = new ArrayList<>(limit);
+        for (Map.Entry<String, ReservationLookupEntry> candidate : current().byNumber.tailMap(from, true).entrySet()) {
+            if (!candidate.getKey().startsWith(from) || matches.size() == limit) {
+                break;
+            }
+            matches.add(candidate.getValue());
+        }
+        return matches;
+    }
+    
+    public int size() {
+        return current().byNumber.size();
+    }
+    
+    static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        if (digits.isEmpty()) {
+            return null;
+        }
+        return digits.length() > PHONE_DIGITS ? digits.substring(digits.length() - PHONE_DIGITS) : digits.toString();
+    }
+    
+    private static List<ReservationLookupEntry> resolve(Snapshot current, List<String> numbers) {
+        if (numbers == null) {
+            return List.of();
+        }
+        List<ReservationLookupEntry> entries = new ArrayList<>(numbers.size());
+        for (int i = numbers.size() - 1; i >= 0; i--) {
+            ReservationLookupEntry entry = current.byNumber.get(numbers.get(i));
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+    
+    private Snapshot current() {
+        Slot slot = slots.get();
+        Snapshot current = slot.snapshot;
+        if (current == null) {
+            synchronized (slot) {
+                if (slot.snapshot == null) {
+                    reload();
+                }
+                current = slot.snapshot;
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * One property's index and the lock its writers take
+     */
+    private static final class Slot {
+        
+        private volatile Snapshot snapshot;
+    }
+    
+    /**
+     * One generation of the index; mutated only under its property's lock, read without it.
+     * Key lists are immutable and replaced on change, so readers never see them half-updated.
+     */
+    private static final class Snapshot {
+        
+        private final NavigableMap<String, ReservationLookupEntry> byNumber = new ConcurrentSkipListMap<>();
+        private final Map<String, List<String>> byEmail = new ConcurrentHashMap<>();
+        private final Map<String, List<String>> byPhone = new ConcurrentHashMap<>();
+        
+        void put(ReservationLookupEntry entry) {
+            String number = entry.reservationNumber();
+            ReservationLookupEntry previous = byNumber.put(number, entry);
+            if (previous != null) {
+                unlink(byEmail, normalizeEmail(previous.email()), number);
+                unlink(byPhone, normalizePhone(previous.contactNumber()), number);
+            }
+            link(byEmail, normalizeEmail(entry.email()), number);
+            link(byPhone, normalizePhone(entry.contactNumber()), number);
+        }
+        
+        private static void link(Map<String, List<String>> index, String key, String number) {
+            if (key == null) {
+                return;
+            }
+            List<String> numbers = index.get(key);
+            if (numbers == null) {
+                index.put(key, List.of(number));
+                return;
+            }
+            // Kept in reservation number order, which is booking order
+            List<String> updated = new ArrayList<>(numbers.size() + 1);
+            for (String existing : numbers) {
+                if (existing.compareTo(number) < 0) {
+                    updated.add(existing);
+                }
+            }
+            updated.add(number);
+            for (String existing : numbers) {
+                if (existing.compareTo(number) > 0) {
+                    updated.add(existing);
+                }
+            }
+            index.put(key, List.copyOf(updated));
+        }
+        
+        private static void unlink(Map<String, List<String>> index, String key, String number) {
+            if (key == null) {
+                return;
+            }
+            List<String> numbers = index.get(key);
+            if (numbers == null || !numbers.contains(number)) {
+                return;
+            }
+            List<String> updated = new ArrayList<>(numbers);
+            updated.remove(number);
+            if (updated.isEmpty()) {
+                index.remove(key);
+            } else {
+                index.put(key, List.copyOf(updated));
+            }
+        }
+    }
+}
@@ -1,21 +1,45 @@
 package com.oceanview.service;
 
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.dto.ChangeWatermark;
+import com.oceanview.dto.CrossPropertySearchResponse;
+import com.oceanview.dto.DeltaSyncResponse;
+import com.oceanview.dto.PropertyReservation;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.ReservationField;
 import com.oceanview.dto.ReservationRequest;
 import com.oceanview.dto.ReservationResponse;
+import com.oceanview.dto.ReservationTombstone;
 import com.oceanview.exception.ResourceNotFoundException;
 import com.oceanview.exception.ValidationException;
+import com.oceanview.model.ArchivedReservation;
 import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationChangeType;
 import com.oceanview.model.ReservationStatus;
 import com.oceanview.model.RoomType;
+import com.oceanview.model.WaitlistEntry;
+import com.oceanview.repository.ArchivedReservationRepository;
 import com.oceanview.repository.ReservationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Reservation Service - Business Logic Layer
@@ -27,23 +51,112 @@ public class ReservationService {
     
     private static final Logger log = LoggerFactory.getLogger(ReservationService.class);
     
+    private static final Set<ReservationStatus> CLOSED_STATUSES =
+        EnumSet.of(ReservationStatus.CANCELLED, ReservationStatus.NO_SHOW, ReservationStatus.CHECKED_OUT);
+    
+    private static final int MAX_DELTA_PAGE_SIZE = 5000;
+    
     private final ReservationRepository reservationRepository;
+    private final ArchivedReservationRepository archivedReservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RateCalendar rateCalendar;
+    private final InventoryLedger inventoryLedger;
+    private final RoomAssignmentService roomAssignmentService;
+    private final WaitlistService waitlistService;
+    private final PropertyFanOut propertyFanOut;
+    private final ReservationChangeLogService changeLogService;
+    private final TransactionTemplate bookingTransaction;
     
-    public ReservationService(ReservationRepository reservationRepository) {
+    public ReservationService(ReservationRepository reservationRepository,
+                              ArchivedReservationRepository archivedReservationRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              RateCalendar rateCalendar,
+                              InventoryLedger inventoryLedger,
+                              RoomAssignmentService roomAssignmentService,
+                              WaitlistService waitlistService,
+                              PropertyFanOut propertyFanOut,
+                              ReservationChangeLogService changeLogService,
+                              PlatformTransactionManager transactionManager) {
         this.reservationRepository = reservationRepository;
+        this.archivedReservationRepository = archivedReservationRepository;
+        this.eventPublisher = eventPublisher;
+        this.rateCalendar = rateCalendar;
+        this.inventoryLedger = inventoryLedger;
+        this.roomAssignmentService = roomAssignmentService;
+        this.waitlistService = waitlistService;
+        this.propertyFanOut = propertyFanOut;
+        this.changeLogService = changeLogService;
+        this.bookingTransaction = new TransactionTemplate(transactionManager);
     }
     
     /**
-     * Creates a new reservation with validation
+     * Creates a new reservation with validation, claiming its nights in the inventory ledger.
+     * A sold-out request joins the waitlist after the booking transaction has ended, so it
+     * does not hold the booking's connection and ledger locks while taking a second one.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReservationResponse createReservation(ReservationRequest request) {
         log.info("Creating reservation for guest: {}", request.getGuestName());
         
-        validateReservationDates(request.getCheckInDate(), request.getCheckOutDate());
-        checkRoomAvailability(request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate());
+        inventoryLedger.prepareStay(request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate());
+        Optional<ReservationResponse> booked = bookingTransaction.execute(tx -> bookIfAvailable(request));
+        if (booked.isEmpty()) {
+            WaitlistEntry entry = waitlistService.join(request);
+            throw new ValidationException("No rooms available for selected dates. " +
+                "The request has been added to the waitlist (#" + entry.getId() + ")");
+        }
         
+        return booked.get();
+    }
+    
+    /**
+     * Books a waitlisted request once inventory has been confirmed free; never re-waitlists
+     */
+    public ReservationResponse createFromWaitlist(ReservationRequest request) {
+        return bookIfAvailable(request)
+            .orElseThrow(() -> new ValidationException("No rooms available for selected dates"));
+    }
+    
+    /**
+     * Books the request if a room is free, without waitlisting or failing when sold out
+     */
+    public Optional<ReservationResponse> bookIfAvailable(ReservationRequest request) {
+        validateReservationDates(request.getCheckInDate(), request.getCheckOutDate());
+        if (!inventoryLedger.claim(request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate())) {
+            return Optional.empty();
+        }
+        return Optional.of(book(request));
+    }
+    
+    /**
+     * Creates the inventory ledger nights a batch of requests will claim, one range per room type;
+     * call before opening the transaction that books them
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prepareInventory(Collection<ReservationRequest> requests) {
+        Map<RoomType, LocalDate> from = new EnumMap<>(RoomType.class);
+        Map<RoomType, LocalDate> to = new EnumMap<>(RoomType.class);
+        for (ReservationRequest request : requests) {
+            from.merge(request.getRoomType(), request.getCheckInDate(), (a, b) -> a.isBefore(b) ? a : b);
+            to.merge(request.getRoomType(), request.getCheckOutDate(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        from.forEach((roomType, first) -> inventoryLedger.prepareStay(roomType, first, to.get(roomType)));
+    }
+    
+    /**
+     * Checks room availability for given dates; bookings still claim, so this is only a hint
+     */
+    @Transactional(readOnly = true)
+    public boolean isAvailable(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        return inventoryLedger.hasRoom(roomType, checkIn, checkOut);
+    }
+    
+    private ReservationResponse book(ReservationRequest request) {
         Reservation reservation = mapToEntity(request);
+        reservation.applyPrice(rateCalendar.price(request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate()));
         reservation = reservationRepository.save(reservation);
+        roomAssignmentService.assign(reservation);
+        eventPublisher.publishEvent(new ReservationChangeEvent(ReservationChangeType.CREATED, reservation, null));
         
         log.info("Reservation created successfully: {}", reservation.getReservationNumber());
         return mapToResponse(reservation);
@@ -56,10 +169,11 @@ public class ReservationService {
     public ReservationResponse getReservationByNumber(String reservationNumber) {
         log.info("Fetching reservation: {}", reservationNumber);
         
-        Reservation reservation = reservationRepository.findByReservationNumber(reservationNumber)
+        return reservationRepository.findByReservationNumber(reservationNumber)
+            .map(this::mapToResponse)
+            .or(() -> archivedReservationRepository.findByReservationNumber(reservationNumber)
+                .map(this::mapArchivedToResponse))
             .orElseThrow(() -> new ResourceNotFoundException("Reservation not found: " + reservationNumber));
-        
-        return mapToResponse(reservation);
     }
     
     /**
@@ -67,9 +181,7 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public List<ReservationResponse> getAllReservations() {
-        return reservationRepository.findAll().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return reservationRepository.findAllResponses();
     }
     
     /**
@@ -77,9 +189,71 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public List<ReservationResponse> searchByGuestName(String guestName) {
-        return reservationRepository.findByGuestNameContainingIgnoreCase(guestName).stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return reservationRepository.searchResponsesByGuestName(guestName);
+    }
+    
+    /**
+     * Searches reservations by guest name in several properties at once, each in its own database.
+     * Runs outside a transaction since every property's search uses its own connection.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CrossPropertySearchResponse searchAcrossProperties(String guestName, List<String> properties) {
+        PropertyFanOut.Results<List<ReservationResponse>> results = propertyFanOut.call(properties,
+            () -> reservationRepository.searchResponsesByGuestName(guestName));
+        
+        List<PropertyReservation> reservations = new ArrayList<>();
+        results.values().forEach((property, matches) ->
+            matches.forEach(match -> reservations.add(new PropertyReservation(property, match))));
+        reservations.sort(Comparator.comparing((PropertyReservation match) -> match.reservation().getCheckInDate())
+            .thenComparing(PropertyReservation::property)
+            .thenComparing(match -> match.reservation().getReservationNumber()));
+        return new CrossPropertySearchResponse(reservations, results.unavailable());
+    }
+    
+    /**
+     * All reservations reduced to the requested fields, selected and serialized without the other columns
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllReservations(List<ReservationField> fields) {
+        return reservationRepository.findFields(fields, null);
+    }
+    
+    /**
+     * Guest name search reduced to the requested fields
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchByGuestName(String guestName, List<ReservationField> fields) {
+        return reservationRepository.findFields(fields, guestName);
+    }
+    
+    /**
+     * Returns reservations changed after the given watermark, closed ones as tombstones. Rows are paged
+     * in change log order and only up to the first change that may still commit, so a transaction that
+     * commits late is never left behind a watermark already handed out.
+     */
+    @Transactional(readOnly = true)
+    public DeltaSyncResponse getChangesSince(String watermark, int limit) {
+        ChangeWatermark since = ChangeWatermark.parse(watermark);
+        int pageSize = Math.max(1, Math.min(limit, MAX_DELTA_PAGE_SIZE));
+        long committedThrough = changeLogService.committedThrough(since.getChangeSeq());
+        
+        List<Reservation> changes = reservationRepository.findChangedSince(
+            since.getChangeSeq(), since.getId(), committedThrough, PageRequest.of(0, pageSize));
+        
+        DeltaSyncResponse response = new DeltaSyncResponse();
+        ChangeWatermark next = since;
+        for (Reservation reservation : changes) {
+            if (CLOSED_STATUSES.contains(reservation.getStatus())) {
+                response.getRemoved().add(new ReservationTombstone(
+                    reservation.getReservationNumber(), reservation.getStatus(), reservation.getUpdatedAt()));
+            } else {
+                response.getChanged().add(mapToResponse(reservation));
+            }
+            next = new ChangeWatermark(reservation.getChangeSeq(), reservation.getId());
+        }
+        response.setWatermark(next.format());
+        response.setHasMore(changes.size() == pageSize);
+        return response;
     }
     
     /**
@@ -91,9 +265,28 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findByReservationNumber(reservationNumber)
             .orElseThrow(() -> new ResourceNotFoundException("Reservation not found: " + reservationNumber));
         
+        ReservationStatus previousStatus = reservation.getStatus();
+        boolean held = !CLOSED_STATUSES.contains(previousStatus);
+        if (held && CLOSED_STATUSES.contains(status)) {
+            inventoryLedger.release(reservation.getRoomType(), reservation.getCheckInDate(), reservation.getCheckOutDate());
+        } else if (!held && !CLOSED_STATUSES.contains(status)
+                && !inventoryLedger.claim(reservation.getRoomType(), reservation.getCheckInDate(), reservation.getCheckOutDate())) {
+            throw new ValidationException("No rooms available to reopen reservation " + reservationNumber);
+        }
         reservation.setStatus(status);
         reservation = reservationRepository.save(reservation);
         
+        if (status == ReservationStatus.CHECKED_IN) {
+            roomAssignmentService.pin(reservationNumber);
+        } else if (CLOSED_STATUSES.contains(status)) {
+            roomAssignmentService.release(reservationNumber);
+        }
+        
+        ReservationChangeType changeType = status == ReservationStatus.CANCELLED
+            ? ReservationChangeType.CANCELLED
+            : ReservationChangeType.STATUS_CHANGED;
+        eventPublisher.publishEvent(new ReservationChangeEvent(changeType, reservation, previousStatus));
+        
         return mapToResponse(reservation);
     }
     
@@ -119,6 +312,13 @@ public class ReservationService {
         }
         
         validateReservationDates(request.getCheckInDate(), request.getCheckOutDate());
+        RoomType previousRoomType = reservation.getRoomType();
+        LocalDate previousCheckIn = reservation.getCheckInDate();
+        LocalDate previousCheckOut = reservation.getCheckOutDate();
+        if (!inventoryLedger.move(previousRoomType, previousCheckIn, previousCheckOut,
+                request.getRoomType(), request.getCheckInDate(), request.getCheckOutDate())) {
+            throw new ValidationException("No rooms available for selected dates");
+        }
         
         // Update fields
         reservation.setGuestName(request.getGuestName());
@@ -131,7 +331,16 @@ public class ReservationService {
         reservation.setNumberOfGuests(request.getNumberOfGuests());
         reservation.setSpecialRequests(request.getSpecialRequests());
         
+        // Re-price only when the stay itself changed; guest detail edits keep the booked total
+        if (reservation.isPricingStale()) {
+            reservation.applyPrice(rateCalendar.price(
+                reservation.getRoomType(), reservation.getCheckInDate(), reservation.getCheckOutDate()));
+        }
+        
         reservation = reservationRepository.save(reservation);
+        roomAssignmentService.assign(reservation);
+        eventPublisher.publishEvent(new ReservationChangeEvent(ReservationChangeType.UPDATED, reservation, reservation.getStatus())
+            .withPreviousStay(previousRoomType, previousCheckIn, previousCheckOut));
         
         log.info("Reservation updated successfully: {}", reservationNumber);
         return mapToResponse(reservation);
@@ -140,7 +349,7 @@ public class ReservationService {
     /**
      * Validates reservation dates
      */
-    private void validateReservationDates(LocalDate checkIn, LocalDate checkOut) {
+    void validateReservationDates(LocalDate checkIn, LocalDate checkOut) {
         if (checkOut.isBefore(checkIn) || checkOut.isEqual(checkIn)) {
             throw new ValidationException("Check-out date must be after check-in date");
         }
@@ -150,31 +359,6 @@ public class ReservationService {
         }
     }
     
-    /**
-     * Checks room availability for given dates
-     */
-    private void checkRoomAvailability(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
-        long overlapping = reservationRepository.countOverlappingReservations(roomType, checkIn, checkOut);
-        
-        int maxRooms = getMaxRoomsForType(roomType);
-        if (overlapping >= maxRooms) {
-            throw new ValidationException("No rooms available for selected dates");
-        }
-    }
-    
-    /**
-     * Gets maximum rooms available for each room type
-     */
-    private int getMaxRoomsForType(RoomType roomType) {
-        return switch (roomType) {
-            case STANDARD -> 20;
-            case DELUXE -> 15;
-            case SUITE -> 10;
-            case FAMILY -> 8;
-            case PRESIDENTIAL -> 3;
-        };
-    }
-    
     /**
      * Maps request DTO to entity
      */
@@ -212,6 +396,17 @@ public class ReservationService {
         response.setSpecialRequests(reservation.getSpecialRequests());
         response.setTotalAmount(reservation.getTotalAmount());
         response.setNumberOfNights(reservation.getNumberOfNights());
+        response.setRoomNumber(reservation.getRoomNumber());
         return response;
     }
+    
+    /**
+     * Maps an archived (closed, read-only) reservation to response DTO
+     */
+    private ReservationResponse mapArchivedToResponse(ArchivedReservation archived) {
+        return new ReservationResponse(archived.getId(), archived.getReservationNumber(), archived.getGuestName(),
+            archived.getAddress(), archived.getContactNumber(), archived.getEmail(), archived.getRoomType(),
+            archived.getCheckInDate(), archived.getCheckOutDate(), archived.getStatus(), archived.getNumberOfGuests(),
+            archived.getSpecialRequests(), archived.getTotalAmount(), archived.getRoomNumber());
+    }
 }
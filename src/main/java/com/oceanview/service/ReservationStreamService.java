@@ -0,0 +1,226 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.dto.ReservationChangeEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reservation Stream Service
+ * Fans committed reservation changes out to Server-Sent Events subscribers.
+ * Each subscriber owns a small bounded queue that a shared pool of sender threads drains,
+ * so hundreds of open streams cost no dedicated threads. A subscriber whose queue overflows
+ * has its backlog dropped and receives a single "resync" event telling it to refetch.
+ * Writes to a client that stops reading block, so a send that passes its deadline gets the
+ * subscriber dropped and its sender thread interrupted, handing the thread back to the pool.
+ */
+@Service
+public class ReservationStreamService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReservationStreamService.class);
+    
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ExecutorService senders;
+    private final int queueCapacity;
+    private final long sendTimeoutNanos;
+    
+    public ReservationStreamService(@Value("${reservation-stream.sender-threads:4}") int senderThreads,
+                                    @Value("${reservation-stream.queue-capacity:256}") int queueCapacity,
+                                    @Value("${reservation-stream.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.queueCapacity = queueCapacity;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "reservation-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Registers a new subscriber to the current property's changes and returns its emitter
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(EMITTER_TIMEOUT_MS));
+    }
+    
+    /**
+     * Registers the given emitter as a subscriber; tests pass emitters that record what is sent
+     */
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, PropertyContext.current());
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        log.debug("Reservation stream subscriber added, {} active", subscribers.size());
+        return emitter;
+    }
+    
+    /**
+     * Publishes a change to every subscriber of its property once the originating transaction has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        long id = eventSequence.incrementAndGet();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.property.equals(event.getProperty())) {
+                subscriber.offer(id, event);
+            }
+        }
+    }
+    
+    /**
+     * Keeps idle connections open through proxies and detects dead clients
+     */
+    @Scheduled(fixedRateString = "${reservation-stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.requestHeartbeat();
+        }
+    }
+    
+    /**
+     * Drops subscribers whose client has stopped reading mid-send, so they cannot hold sender threads
+     */
+    @Scheduled(fixedRateString = "${reservation-stream.stall-check-ms:5000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.dropIfStalled(now);
+        }
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+    
+    private record QueuedEvent(long id, ReservationChangeEvent event) {
+    }
+    
+    /**
+     * One open stream; at most one sender thread drains it at a time
+     */
+    private final class Subscriber {
+        
+        private final SseEmitter emitter;
+        private final String property;
+        private final ArrayBlockingQueue<QueuedEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private Thread sender;
+        private long sendStartedAt;
+        private volatile boolean resyncPending;
+        private volatile boolean heartbeatPending;
+        private volatile boolean closed;
+        
+        private Subscriber(SseEmitter emitter, String property) {
+            this.emitter = emitter;
+            this.property = property;
+        }
+        
+        private void offer(long id, ReservationChangeEvent event) {
+            if (!queue.offer(new QueuedEvent(id, event))) {
+                queue.clear();
+                resyncPending = true;
+            }
+            scheduleDrain();
+        }
+        
+        private void requestHeartbeat() {
+            heartbeatPending = true;
+            scheduleDrain();
+        }
+        
+        private void scheduleDrain() {
+            if (!closed && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                if (resyncPending) {
+                    resyncPending = false;
+                    send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                }
+                QueuedEvent queued;
+                while (!closed && (queued = queue.poll()) != null) {
+                    send(SseEmitter.event()
+                        .id(Long.toString(queued.id()))
+                        .name(queued.event().getType().getEventName())
+                        .data(queued.event(), MediaType.APPLICATION_JSON));
+                }
+                if (heartbeatPending) {
+                    heartbeatPending = false;
+                    send(SseEmitter.event().comment("keep-alive"));
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Dropping reservation stream subscriber: {}", e.getMessage());
+                close();
+            } finally {
+                synchronized (this) {
+                    sender = null;
+                    // An interrupt aimed at a stalled send must not leak into the next subscriber's drain
+                    Thread.interrupted();
+                }
+                draining.set(false);
+            }
+            if (!queue.isEmpty() || resyncPending || heartbeatPending) {
+                scheduleDrain();
+            }
+        }
+        
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                sender = Thread.currentThread();
+                sendStartedAt = System.nanoTime();
+            }
+            emitter.send(event);
+            synchronized (this) {
+                sender = null;
+            }
+        }
+        
+        private synchronized void dropIfStalled(long now) {
+            if (sender != null && now - sendStartedAt > sendTimeoutNanos) {
+                log.debug("Dropping reservation stream subscriber stalled in a send for {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(now - sendStartedAt));
+                close();
+                sender.interrupt();
+            }
+        }
+        
+        private void close() {
+            closed = true;
+            queue.clear();
+            subscribers.remove(this);
+        }
+    }
+}
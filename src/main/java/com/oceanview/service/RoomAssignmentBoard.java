@@ -0,0 +1,284 @@
+package com.oceanview.service;
+
+import com.oceanview.model.RoomType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Room Assignment Board
+ * In-memory room-by-night plan for one horizon. Each physical room holds a timeline of
+ * non-overlapping stays keyed by check-in day, so "is this room free" is one floor lookup.
+ * A stay always keeps one room for its whole length (no mid-stay room changes). New stays go
+ * to the free room leaving the smallest gaps either side (best fit), which keeps long free
+ * runs open for long stays. When no room is free but one arrival-pending stay blocks a room,
+ * that stay is moved to another room to make space. Not thread-safe; callers synchronize.
+ */
+public final class RoomAssignmentBoard {
+    
+    private final long horizonStart;
+    private final long horizonEnd;
+    private final Map<RoomType, TypeBoard> types = new EnumMap<>(RoomType.class);
+    private final Map<String, Booking> bookings = new HashMap<>();
+    
+    public RoomAssignmentBoard(Map<RoomType, List<String>> roomsByType, LocalDate horizonStart, LocalDate horizonEnd) {
+        this.horizonStart = horizonStart.toEpochDay();
+        this.horizonEnd = horizonEnd.toEpochDay();
+        roomsByType.forEach((type, rooms) -> types.put(type, new TypeBoard(rooms)));
+    }
+    
+    /**
+     * Builds a board from a full set of stays: valid existing assignments are kept as they are,
+     * in-house stays first, then everything else is placed in check-in order, longest stay first
+     */
+    public static RoomAssignmentBoard build(Map<RoomType, List<String>> roomsByType, LocalDate horizonStart,
+                                            LocalDate horizonEnd, List<Stay> stays) {
+        RoomAssignmentBoard board = new RoomAssignmentBoard(roomsByType, horizonStart, horizonEnd);
+        List<Stay> unplaced = new ArrayList<>();
+        List<Stay> existing = new ArrayList<>(stays);
+        existing.sort(Comparator.comparing((Stay stay) -> !stay.pinned()).thenComparing(Stay::checkIn));
+        for (Stay stay : existing) {
+            if (!board.keep(stay)) {
+                unplaced.add(stay);
+            }
+        }
+        unplaced.sort(Comparator.comparing(Stay::checkIn).thenComparing(Stay::checkOut, Comparator.reverseOrder()));
+        for (Stay stay : unplaced) {
+            board.place(stay);
+        }
+        return board;
+    }
+    
+    /**
+     * Places or re-places a stay, keeping its current room when that room is still free.
+     * Returns every assignment that changed, the stay itself last; its current booking is null
+     * when no room could be found or the stay lies outside the horizon.
+     */
+    public List<Change> place(Stay stay) {
+        List<Change> changes = new ArrayList<>();
+        Booking previous = bookings.get(stay.reservationNumber());
+        if (previous != null) {
+            detach(previous);
+        }
+        
+        long checkIn = stay.checkIn().toEpochDay();
+        long checkOut = stay.checkOut().toEpochDay();
+        TypeBoard board = types.get(stay.roomType());
+        Booking booking = null;
+        if (board != null && checkOut > horizonStart && checkIn < horizonEnd && checkOut > checkIn) {
+            String preferred = previous != null && previous.roomType() == stay.roomType()
+                ? board.roomNumbers[previous.room()]
+                : stay.roomNumber();
+            int room = board.indexOf(preferred);
+            if (room < 0 || !board.isFree(room, checkIn, checkOut)) {
+                room = bestFit(board, checkIn, checkOut, -1);
+            }
+            if (room < 0) {
+                room = makeRoom(board, checkIn, checkOut, changes);
+            }
+            if (room >= 0) {
+                booking = new Booking(stay.reservationNumber(), stay.roomType(), checkIn, checkOut, room, stay.pinned());
+                attach(booking);
+            }
+        }
+        changes.add(new Change(stay.reservationNumber(), previous, booking));
+        return changes;
+    }
+    
+    /**
+     * Removes a stay from the board
+     */
+    public Change remove(String reservationNumber) {
+        Booking previous = bookings.get(reservationNumber);
+        if (previous != null) {
+            detach(previous);
+        }
+        return new Change(reservationNumber, previous, null);
+    }
+    
+    /**
+     * Marks a stay as in-house so it is never moved to make room for another
+     */
+    public void pin(String reservationNumber) {
+        Booking booking = bookings.get(reservationNumber);
+        if (booking != null && !booking.pinned()) {
+            detach(booking);
+            attach(new Booking(booking.reservationNumber(), booking.roomType(), booking.checkIn(),
+                booking.checkOut(), booking.room(), true));
+        }
+    }
+    
+    /**
+     * Undoes changes returned by place or remove, most recent first
+     */
+    public void revert(List<Change> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            Change change = changes.get(i);
+            if (change.current() != null) {
+                detach(change.current());
+            }
+            if (change.previous() != null) {
+                attach(change.previous());
+            }
+        }
+    }
+    
+    public String roomOf(String reservationNumber) {
+        Booking booking = bookings.get(reservationNumber);
+        return booking == null ? null : roomNumber(booking);
+    }
+    
+    public String roomNumber(Booking booking) {
+        return booking == null ? null : types.get(booking.roomType()).roomNumbers[booking.room()];
+    }
+    
+    public int size() {
+        return bookings.size();
+    }
+    
+    /**
+     * Keeps an existing assignment when its room still exists and is free
+     */
+    private boolean keep(Stay stay) {
+        TypeBoard board = types.get(stay.roomType());
+        long checkIn = stay.checkIn().toEpochDay();
+        long checkOut = stay.checkOut().toEpochDay();
+        if (board == null || checkOut <= horizonStart || checkIn >= horizonEnd || checkOut <= checkIn) {
+            return true;
+        }
+        int room = board.indexOf(stay.roomNumber());
+        if (room < 0 || !board.isFree(room, checkIn, checkOut)) {
+            return false;
+        }
+        attach(new Booking(stay.reservationNumber(), stay.roomType(), checkIn, checkOut, room, stay.pinned()));
+        return true;
+    }
+    
+    /**
+     * Free room with the smallest total gap to its neighbouring stays, lowest room number on ties
+     */
+    private int bestFit(TypeBoard board, long checkIn, long checkOut, int excluded) {
+        int best = -1;
+        long bestScore = Long.MAX_VALUE;
+        for (int room = 0; room < board.roomNumbers.length; room++) {
+            if (room == excluded || !board.isFree(room, checkIn, checkOut)) {
+                continue;
+            }
+            TreeMap<Long, Booking> timeline = board.timelines[room];
+            Map.Entry<Long, Booking> before = timeline.lowerEntry(checkOut);
+            Map.Entry<Long, Booking> after = timeline.ceilingEntry(checkOut);
+            long previousEnd = before == null ? horizonStart : before.getValue().checkOut();
+            long nextStart = after == null ? horizonEnd : after.getKey();
+            long score = Math.max(0, checkIn - previousEnd) + Math.max(0, nextStart - checkOut);
+            if (score < bestScore) {
+                bestScore = score;
+                best = room;
+                if (score == 0) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Frees a room by moving the single arrival-pending stay blocking it to another room
+     */
+    private int makeRoom(TypeBoard board, long checkIn, long checkOut, List<Change> changes) {
+        for (int room = 0; room < board.roomNumbers.length; room++) {
+            List<Booking> blocking = board.overlapping(room, checkIn, checkOut);
+            if (blocking.size() != 1 || blocking.get(0).pinned()) {
+                continue;
+            }
+            Booking blocker = blocking.get(0);
+            detach(blocker);
+            int target = bestFit(board, blocker.checkIn(), blocker.checkOut(), room);
+            if (target < 0) {
+                attach(blocker);
+                continue;
+            }
+            Booking moved = new Booking(blocker.reservationNumber(), blocker.roomType(), blocker.checkIn(),
+                blocker.checkOut(), target, false);
+            attach(moved);
+            changes.add(new Change(blocker.reservationNumber(), blocker, moved));
+            return room;
+        }
+        return -1;
+    }
+    
+    private void attach(Booking booking) {
+        types.get(booking.roomType()).timelines[booking.room()].put(booking.checkIn(), booking);
+        bookings.put(booking.reservationNumber(), booking);
+    }
+    
+    private void detach(Booking booking) {
+        types.get(booking.roomType()).timelines[booking.room()].remove(booking.checkIn());
+        bookings.remove(booking.reservationNumber());
+    }
+    
+    /**
+     * A stay to place; roomNumber is its current or preferred room, if any
+     */
+    public record Stay(String reservationNumber, RoomType roomType, LocalDate checkIn, LocalDate checkOut,
+                       String roomNumber, boolean pinned) {
+    }
+    
+    /**
+     * A stay on the board; room indexes into its type's room list and days are epoch days
+     */
+    public record Booking(String reservationNumber, RoomType roomType, long checkIn, long checkOut,
+                          int room, boolean pinned) {
+    }
+    
+    /**
+     * One assignment change; either side is null when the stay was not on the board
+     */
+    public record Change(String reservationNumber, Booking previous, Booking current) {
+    }
+    
+    private static final class TypeBoard {
+        
+        private final String[] roomNumbers;
+        private final TreeMap<Long, Booking>[] timelines;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        
+        @SuppressWarnings("unchecked")
+        private TypeBoard(List<String> rooms) {
+            this.roomNumbers = rooms.toArray(String[]::new);
+            this.timelines = new TreeMap[roomNumbers.length];
+            for (int i = 0; i < roomNumbers.length; i++) {
+                timelines[i] = new TreeMap<>();
+                indexes.put(roomNumbers[i], i);
+            }
+        }
+        
+        private int indexOf(String roomNumber) {
+            Integer index = roomNumber == null ? null : indexes.get(roomNumber);
+            return index == null ? -1 : index;
+        }
+        
+        /**
+         * Stays never overlap within a room, so only the last one starting before checkOut can collide
+         */
+        private boolean isFree(int room, long checkIn, long checkOut) {
+            Map.Entry<Long, Booking> last = timelines[room].lowerEntry(checkOut);
+            return last == null || last.getValue().checkOut() <= checkIn;
+        }
+        
+        private List<Booking> overlapping(int room, long checkIn, long checkOut) {
+            List<Booking> result = new ArrayList<>();
+            Map.Entry<Long, Booking> first = timelines[room].lowerEntry(checkIn);
+            if (first != null && first.getValue().checkOut() > checkIn) {
+                result.add(first.getValue());
+            }
+            result.addAll(timelines[room].subMap(checkIn, true, checkOut, false).values());
+            return result;
+        }
+    }
+}
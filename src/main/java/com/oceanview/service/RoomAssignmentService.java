@@ -0,0 +1,275 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.RoomStay;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Room Assignment Service
+ * Gives every confirmed or in-house stay in the assignment horizon a physical room.
+ * Keeps a RoomAssignmentBoard in memory and updates it incrementally as reservations are
+ * created, changed or closed; a full rebuild only happens at startup, daily as the horizon
+ * rolls forward, after the night audit, and when the room inventory changes.
+ * Board changes made inside a reservation transaction are reverted if it rolls back. Stays moved to
+ * make space for another one raise their own room-changed events, so other nodes, caches and delta
+ * sync see the move.
+ * Each property has its own board under its own lock.
+ */
+@Service
+public class RoomAssignmentService {
+    
+    private static final Logger log = LoggerFactory.getLogger(RoomAssignmentService.class);
+    
+    private static final Set<ReservationStatus> ASSIGNABLE_STATUSES =
+        EnumSet.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN);
+    
+    private final ReservationRepository reservationRepository;
+    private final RoomInventory roomInventory;
+    private final PropertyDirectory propertyDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    
+    @Value("${room-assignment.horizon-days:90}")
+    private int horizonDays = 90;
+    
+    private final PropertyLocal<Slot> slots = PropertyLocal.withInitial(Slot::new);
+    
+    public RoomAssignmentService(ReservationRepository reservationRepository, RoomInventory roomInventory,
+                                 PropertyDirectory propertyDirectory, ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.roomInventory = roomInventory;
+        this.propertyDirectory = propertyDirectory;
+        this.eventPublisher = eventPublisher;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        propertyDirectory.forEachProperty(this::rebuild);
+    }
+    
+    @Scheduled(cron = "${room-assignment.cron:0 0 5 * * *}")
+    public void scheduledRebuild() {
+        propertyDirectory.forEachProperty(this::rebuild);
+    }
+    
+    /**
+     * The night audit closes stays in bulk; rebuild so their rooms are freed.
+     * Changes replayed from other nodes' change log are mirrored onto this node's board.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        if (event.getType() == ReservationChangeType.BULK_STATUS_CHANGED) {
+            rebuild();
+        } else if (event.isRemote()) {
+            applyRemote(event.getReservationNumber());
+        }
+    }
+    
+    /**
+     * Puts a stay another node changed back on the board in the room that node stored; if the board
+     * would have to move anything to do so, it is dropped and rebuilt from the database on next use
+     */
+    public void applyRemote(String reservationNumber) {
+        Slot slot = slots.get();
+        synchronized (slot) {
+            RoomAssignmentBoard board = slot.board;
+            if (board == null) {
+                return;
+            }
+            board.remove(reservationNumber);
+            List<RoomStay> stays = reservationRepository.findRoomStaysByNumbers(List.of(reservationNumber));
+            if (stays.isEmpty() || !ASSIGNABLE_STATUSES.contains(stays.get(0).status())) {
+                return;
+            }
+            RoomStay stay = stays.get(0);
+            List<RoomAssignmentBoard.Change> changes = board.place(toStay(stay));
+            String placed = board.roomNumber(changes.get(changes.size() - 1).current());
+            if (changes.size() > 1 || (placed != null && !placed.equals(stay.roomNumber()))) {
+                log.info("Room board out of step with reservation {} in room {}, rebuilding on next use",
+                    reservationNumber, stay.roomNumber());
+                slot.board = null;
+            }
+        }
+    }
+    
+    /**
+     * Rebuilds the board from the database, keeping valid assignments, and persists any changes;
+     * returns the number of reservations whose room changed
+     */
+    public int rebuild() {
+        Slot slot = slots.get();
+        synchronized (slot) {
+            return rebuild(slot);
+        }
+    }
+    
+    private int rebuild(Slot slot) {
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+        long inventoryVersion = roomInventory.getVersion();
+        
+        List<RoomStay> stays = reservationRepository.findRoomStays(ASSIGNABLE_STATUSES, today, horizonEnd);
+        RoomAssignmentBoard rebuilt = RoomAssignmentBoard.build(roomInventory.getRoomsByType(), today, horizonEnd,
+            stays.stream().map(RoomAssignmentService::toStay).toList());
+        
+        List<RoomStay> changed = stays.stream()
+            .filter(stay -> !Objects.equals(stay.roomNumber(), rebuilt.roomOf(stay.reservationNumber())))
+            .toList();
+        if (!changed.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            writeTransaction.executeWithoutResult(tx -> changed.forEach(stay -> moveRoom(
+                stay.reservationNumber(), rebuilt.roomOf(stay.reservationNumber()), now)));
+        }
+        
+        slot.board = rebuilt;
+        slot.inventoryVersion = inventoryVersion;
+        slot.start = today;
+        log.info("Room assignment rebuilt: {} stays on the board, {} rooms changed in {} ms",
+            rebuilt.size(), changed.size(), (System.nanoTime() - started) / 1_000_000);
+        return changed.size();
+    }
+    
+    /**
+     * Assigns (or keeps) a room for a new or changed reservation. Sets the room on the entity;
+     * other stays moved to make space are updated in the current transaction.
+     */
+    public void assign(Reservation reservation) {
+        Slot slot = slots.get();
+        synchronized (slot) {
+            RoomAssignmentBoard current = currentBoard(slot);
+            List<RoomAssignmentBoard.Change> changes = current.place(new RoomAssignmentBoard.Stay(
+                reservation.getReservationNumber(), reservation.getRoomType(), reservation.getCheckInDate(),
+                reservation.getCheckOutDate(), reservation.getRoomNumber(),
+                reservation.getStatus() == ReservationStatus.CHECKED_IN));
+            
+            LocalDateTime now = LocalDateTime.now();
+            for (RoomAssignmentBoard.Change change : changes) {
+                String roomNumber = current.roomNumber(change.current());
+                if (change.reservationNumber().equals(reservation.getReservationNumber())) {
+                    reservation.setRoomNumber(roomNumber);
+                } else {
+                    log.info("Moved reservation {} to room {} to fit {}", change.reservationNumber(), roomNumber,
+                        reservation.getReservationNumber());
+                    moveRoom(change.reservationNumber(), roomNumber, now);
+                }
+            }
+            revertOnRollback(slot, current, changes);
+        }
+    }
+    
+    private void moveRoom(String reservationNumber, String roomNumber, LocalDateTime now) {
+        reservationRepository.assignRoom(reservationNumber, roomNumber, now);
+        eventPublisher.publishEvent(ReservationChangeEvent.roomChanged(reservationNumber, roomNumber));
+    }
+    
+    /**
+     * Frees the room of a cancelled, no-show or checked-out reservation once the change commits
+     */
+    public void release(String reservationNumber) {
+        Slot slot = slots.get();
+        afterCommit(() -> {
+            synchronized (slot) {
+                if (slot.board != null) {
+                    slot.board.remove(reservationNumber);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Pins an in-house stay to its room once the check-in commits
+     */
+    public void pin(String reservationNumber) {
+        Slot slot = slots.get();
+        afterCommit(() -> {
+            synchronized (slot) {
+                if (slot.board != null) {
+                    slot.board.pin(reservationNumber);
+                }
+            }
+        });
+    }
+    
+    private RoomAssignmentBoard currentBoard(Slot slot) {
+        if (slot.board == null || slot.inventoryVersion != roomInventory.getVersion() || !LocalDate.now().equals(slot.start)) {
+            rebuild(slot);
+        }
+        return slot.board;
+    }
+    
+    private void revertOnRollback(Slot slot, RoomAssignmentBoard target, List<RoomAssignmentBoard.Change> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    synchronized (slot) {
+                        if (slot.board == target) {
+                            target.revert(changes);
+                        }
+                    }
+                }
+            }
+        });
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private static RoomAssignmentBoard.Stay toStay(RoomStay stay) {
+        return new RoomAssignmentBoard.Stay(stay.reservationNumber(), stay.roomType(), stay.checkInDate(),
+            stay.checkOutDate(), stay.roomNumber(), stay.status() == ReservationStatus.CHECKED_IN);
+    }
+    
+    /**
+     * One property's board; guarded by itself
+     */
+    private static final class Slot {
+        
+        private RoomAssignmentBoard board;
+        private long inventoryVersion;
+        private LocalDate start;
+    }
+}
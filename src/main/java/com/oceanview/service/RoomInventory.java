@@ -0,0 +1,102 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Room Inventory
+ * In-memory view of the in-service rooms per room type, loaded from the rooms table.
+ * Reloaded on a schedule and after every change made on this node; the version only moves
+ * when the set of bookable rooms actually changed, so dependants can cheaply detect it.
+ * Each property has its own rooms and its own snapshot.
+ */
+@Service
+public class RoomInventory {
+    
+    private static final Logger log = LoggerFactory.getLogger(RoomInventory.class);
+    
+    private final RoomRepository roomRepository;
+    private final PropertyLocal<Snapshot> snapshots = new PropertyLocal<>();
+    
+    public RoomInventory(RoomRepository roomRepository) {
+        this.roomRepository = roomRepository;
+    }
+    
+    /**
+     * Picks up room changes made on other nodes
+     */
+    @Scheduled(fixedDelayString = "${room-inventory.reload-ms:300000}", initialDelayString = "${room-inventory.reload-ms:300000}")
+    public void scheduledReload() {
+        snapshots.forEachProperty(this::reload);
+    }
+    
+    public synchronized void reload() {
+        Map<RoomType, List<String>> rooms = new EnumMap<>(RoomType.class);
+        for (RoomType roomType : RoomType.values()) {
+            rooms.put(roomType, new ArrayList<>());
+        }
+        for (Room room : roomRepository.findAllByOrderByRoomNumberAsc()) {
+            if (!room.isOutOfService()) {
+                rooms.get(room.getRoomType()).add(room.getRoomNumber());
+            }
+        }
+        rooms.replaceAll((type, numbers) -> Collections.unmodifiableList(numbers));
+        
+        Snapshot current = snapshots.get();
+        if (current != null && current.rooms().equals(rooms)) {
+            return;
+        }
+        long version = current == null ? 1 : current.version() + 1;
+        snapshots.set(new Snapshot(version, Collections.unmodifiableMap(rooms)));
+        log.info("Room inventory loaded for {} (version {}): {}", PropertyContext.current(), version, rooms.entrySet().stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue().size())
+            .toList());
+    }
+    
+    /**
+     * Number of bookable rooms of a type
+     */
+    public int getCapacity(RoomType roomType) {
+        return current().rooms().get(roomType).size();
+    }
+    
+    /**
+     * Bookable room numbers per type, in room number order
+     */
+    public Map<RoomType, List<String>> getRoomsByType() {
+        return current().rooms();
+    }
+    
+    public long getVersion() {
+        return current().version();
+    }
+    
+    private Snapshot current() {
+        Snapshot current = snapshots.get();
+        if (current == null) {
+            synchronized (this) {
+                if (snapshots.get() == null) {
+                    reload();
+                }
+                current = snapshots.get();
+            }
+        }
+        return current;
+    }
+    
+    private record Snapshot(long version, Map<RoomType, List<String>> rooms) {
+    }
+}
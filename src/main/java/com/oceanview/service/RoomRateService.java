@@ -0,0 +1,65 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.RateQuote;
+import com.oceanview.dto.RoomRateRequest;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.RoomRate;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.RoomRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Room Rate Service
+ * Manages seasonal and weekend rate rules and quotes stays from the rate calendar
+ */
+@Service
+public class RoomRateService {
+    
+    private static final Logger log = LoggerFactory.getLogger(RoomRateService.class);
+    
+    private final RoomRateRepository roomRateRepository;
+    private final RateCalendar rateCalendar;
+    
+    public RoomRateService(RoomRateRepository roomRateRepository, RateCalendar rateCalendar) {
+        this.roomRateRepository = roomRateRepository;
+        this.rateCalendar = rateCalendar;
+    }
+    
+    public List<RoomRate> getRates() {
+        return roomRateRepository.findAllByOrderByIdAsc();
+    }
+    
+    /**
+     * Saves a rate rule and rebuilds the calendar once it has committed
+     */
+    public RoomRate addRate(RoomRateRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new ValidationException("End date cannot be before start date");
+        }
+        
+        RoomRate rate = roomRateRepository.save(new RoomRate(request.getRoomType(), request.getStartDate(),
+            request.getEndDate(), request.getRatePerNight(), request.getWeekendRate(), request.getDescription()));
+        log.info("Added {} rate {} for {} to {}", rate.getRoomType(), rate.getRatePerNight(),
+            rate.getStartDate(), rate.getEndDate());
+        rateCalendar.reload();
+        return rate;
+    }
+    
+    public void reload() {
+        rateCalendar.reload();
+    }
+    
+    public RateQuote quote(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new ValidationException("Check-out date must be after check-in date");
+        }
+        return new RateQuote(roomType, checkIn, checkOut, ChronoUnit.DAYS.between(checkIn, checkOut),
+            rateCalendar.price(roomType, checkIn, checkOut));
+    }
+}
@@ -0,0 +1,100 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.RoomRequest;
+import com.oceanview.exception.ResourceNotFoundException;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Room Service
+ * Maintains the physical room inventory and refreshes the in-memory view after each change
+ */
+@Service
+public class RoomService {
+    
+    private static final Logger log = LoggerFactory.getLogger(RoomService.class);
+    
+    private final RoomRepository roomRepository;
+    private final RoomInventory roomInventory;
+    private final RoomAssignmentService roomAssignmentService;
+    private final InventoryLedger inventoryLedger;
+    
+    public RoomService(RoomRepository roomRepository, RoomInventory roomInventory,
+                       RoomAssignmentService roomAssignmentService, InventoryLedger inventoryLedger) {
+        this.roomRepository = roomRepository;
+        this.roomInventory = roomInventory;
+        this.roomAssignmentService = roomAssignmentService;
+        this.inventoryLedger = inventoryLedger;
+    }
+    
+    public List<Room> getRooms() {
+        return roomRepository.findAllByOrderByRoomNumberAsc();
+    }
+    
+    public Room addRoom(RoomRequest request) {
+        if (roomRepository.existsByRoomNumber(request.getRoomNumber())) {
+            throw new ValidationException("Room already exists: " + request.getRoomNumber());
+        }
+        Room room = new Room(request.getRoomNumber(), request.getRoomType());
+        room.setOutOfService(request.isOutOfService());
+        room = roomRepository.save(room);
+        log.info("Added {} room {}", room.getRoomType(), room.getRoomNumber());
+        reload();
+        return room;
+    }
+    
+    public Room setOutOfService(String roomNumber, boolean outOfService) {
+        Room room = roomRepository.findByRoomNumber(roomNumber)
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomNumber));
+        room.setOutOfService(outOfService);
+        room = roomRepository.save(room);
+        log.info("Room {} is now {}", roomNumber, outOfService ? "out of service" : "in service");
+        reload();
+        return room;
+    }
+    
+    /**
+     * Reloads the inventory and, if the bookable rooms changed, updates the ledger's capacities
+     * and re-plans room assignments
+     */
+    public void reload() {
+        long before = roomInventory.getVersion();
+        roomInventory.reload();
+        if (roomInventory.getVersion() != before) {
+            inventoryLedger.updateCapacity();
+            roomAssignmentService.rebuild();
+        }
+    }
+    
+    /**
+     * Creates the original fixed room layout (20/15/10/8/3) when the rooms table is empty
+     */
+    public void seedDefaultRooms() {
+        if (roomRepository.count() > 0) {
+            return;
+        }
+        List<Room> rooms = new ArrayList<>();
+        addFloor(rooms, RoomType.STANDARD, 100, 20);
+        addFloor(rooms, RoomType.DELUXE, 200, 15);
+        addFloor(rooms, RoomType.SUITE, 300, 10);
+        addFloor(rooms, RoomType.FAMILY, 400, 8);
+        addFloor(rooms, RoomType.PRESIDENTIAL, 500, 3);
+        roomRepository.saveAll(rooms);
+        log.info("Default room inventory created: {} rooms", rooms.size());
+        reload();
+    }
+    
+    private static void addFloor(List<Room> rooms, RoomType roomType, int floor, int count) {
+        for (int i = 1; i <= count; i++) {
+            rooms.add(new Room(String.valueOf(floor + i), roomType));
+        }
+    }
+}
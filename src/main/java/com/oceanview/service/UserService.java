@@ -5,8 +5,10 @@ import com.oceanview.model.UserRole;
 import com.oceanview.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -46,6 +48,25 @@ public class UserService {
         return userRepository.save(user);
     }
     
+    /**
+     * Creates a user unless the username is already taken; the password is only hashed for new users.
+     * Runs outside a surrounding transaction so that a node losing the race to insert the same user
+     * sees the unique-key violation here and treats the user as already existing.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean createUserIfAbsent(String username, String password, String fullName, UserRole role) {
+        if (userRepository.existsByUsername(username)) {
+            return false;
+        }
+        try {
+            createUser(username, password, fullName, role);
+        } catch (DataIntegrityViolationException e) {
+            log.info("User {} was created concurrently", username);
+            return false;
+        }
+        return true;
+    }
+    
     /**
      * Finds user by username
      */
@@ -0,0 +1,138 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.dto.RoomStay;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.model.WaitlistEntry;
+import com.oceanview.model.WaitlistStatus;
+import com.oceanview.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Waitlist Promoter
+ * Turns waiting requests into reservations when a committed change frees inventory:
+ * a cancellation frees the whole stay, a no-show or check-out frees the nights from today on.
+ * Night audit chunks name the stays they moved, so their freed nights are read for just those
+ * stays. Candidates come from the waitlist's night index for just the freed nights; each one is
+ * re-checked against live availability and promoted in its own transaction.
+ */
+@Component
+public class WaitlistPromoter {
+    
+    private static final Logger log = LoggerFactory.getLogger(WaitlistPromoter.class);
+    
+    private final WaitlistService waitlistService;
+    private final ReservationService reservationService;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate promotionTransaction;
+    
+    public WaitlistPromoter(WaitlistService waitlistService, ReservationService reservationService,
+                            ReservationRepository reservationRepository, PlatformTransactionManager transactionManager) {
+        this.waitlistService = waitlistService;
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+        this.promotionTransaction = new TransactionTemplate(transactionManager);
+        this.promotionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChange(ReservationChangeEvent event) {
+        if (event.isRemote()) {
+            // The node that freed the inventory promotes; the waitlist table is shared
+            return;
+        }
+        if (event.getType() == ReservationChangeType.BULK_STATUS_CHANGED) {
+            // Night audit check-outs are stays whose check-out has passed, so only no-shows free nights
+            if (event.getStatus() == ReservationStatus.NO_SHOW || event.getStatus() == ReservationStatus.CANCELLED) {
+                promoteFreedStays(event.getReservationNumbers());
+            }
+            return;
+        }
+        if (event.getType() != ReservationChangeType.CANCELLED && event.getType() != ReservationChangeType.STATUS_CHANGED) {
+            return;
+        }
+        LocalDate from = event.getCheckInDate();
+        if (event.getStatus() == ReservationStatus.NO_SHOW || event.getStatus() == ReservationStatus.CHECKED_OUT) {
+            from = from.isBefore(LocalDate.now()) ? LocalDate.now() : from;
+        } else if (event.getStatus() != ReservationStatus.CANCELLED) {
+            return;
+        }
+        promoteFreed(event.getRoomType(), from, event.getCheckOutDate());
+    }
+    
+    /**
+     * Promotes waiting requests that now fit into the freed nights; returns how many were promoted
+     */
+    public int promoteFreed(RoomType roomType, LocalDate from, LocalDate to) {
+        if (!to.isAfter(from)) {
+            return 0;
+        }
+        return promote(waitlistService.findCandidates(roomType, from, to));
+    }
+    
+    /**
+     * Promotes waiting requests that fit into the nights, from today on, of the given stays
+     */
+    private int promoteFreedStays(List<String> reservationNumbers) {
+        if (reservationNumbers.isEmpty()) {
+            return 0;
+        }
+        long today = LocalDate.now().toEpochDay();
+        Map<RoomType, Set<Long>> freed = new EnumMap<>(RoomType.class);
+        for (RoomStay stay : reservationRepository.findRoomStaysByNumbers(reservationNumbers)) {
+            for (long night = Math.max(stay.checkInDate().toEpochDay(), today); night < stay.checkOutDate().toEpochDay(); night++) {
+                freed.computeIfAbsent(stay.roomType(), type -> new TreeSet<>()).add(night);
+            }
+        }
+        int promoted = 0;
+        for (Map.Entry<RoomType, Set<Long>> nights : freed.entrySet()) {
+            promoted += promote(waitlistService.findCandidates(nights.getKey(), nights.getValue()));
+        }
+        return promoted;
+    }
+    
+    private synchronized int promote(List<Long> candidates) {
+        int promoted = 0;
+        for (Long id : candidates) {
+            try {
+                if (Boolean.TRUE.equals(promotionTransaction.execute(tx -> tryPromote(id)))) {
+                    promoted++;
+                }
+            } catch (RuntimeException e) {
+                // Lost a race for the freed room; the request stays on the waitlist
+                log.warn("Could not promote waitlist entry #{}: {}", id, e.getMessage());
+            }
+        }
+        return promoted;
+    }
+    
+    private boolean tryPromote(long id) {
+        WaitlistEntry entry = waitlistService.getEntry(id);
+        if (entry.getStatus() != WaitlistStatus.WAITING || entry.getCheckInDate().isBefore(LocalDate.now())) {
+            return false;
+        }
+        if (!reservationService.isAvailable(entry.getRoomType(), entry.getCheckInDate(), entry.getCheckOutDate())) {
+            return false;
+        }
+        ReservationResponse reservation = reservationService.createFromWaitlist(entry.toRequest());
+        waitlistService.markPromoted(entry, reservation.getReservationNumber());
+        log.info("Promoted waitlist entry #{} to reservation {}", id, reservation.getReservationNumber());
+        return true;
+    }
+}
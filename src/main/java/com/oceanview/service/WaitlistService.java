@@ -0,0 +1,238 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyLocal;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.exception.ResourceNotFoundException;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.RoomType;
+import com.oceanview.model.WaitlistEntry;
+import com.oceanview.model.WaitlistStatus;
+import com.oceanview.repository.WaitlistEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * Waitlist Service
+ * Keeps booking requests that were rejected for lack of rooms. Waiting requests are indexed in
+ * memory per room type by night (epoch day -> request ids), so finding the requests touched by
+ * a freed interval costs one bucket lookup per freed night, independent of the waitlist size.
+ * Each property has its own index.
+ */
+@Service
+public class WaitlistService {
+    
+    private static final Logger log = LoggerFactory.getLogger(WaitlistService.class);
+    
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final PropertyDirectory propertyDirectory;
+    private final TransactionTemplate joinTransaction;
+    private final PropertyLocal<Index> indexes = PropertyLocal.withInitial(Index::new);
+    
+    public WaitlistService(WaitlistEntryRepository waitlistEntryRepository, PropertyDirectory propertyDirectory,
+                           PlatformTransactionManager transactionManager) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.propertyDirectory = propertyDirectory;
+        // Callers join once their booking transaction has ended and released its connection,
+        // so the entry is saved in its own transaction and survives the rejected booking
+        this.joinTransaction = new TransactionTemplate(transactionManager);
+        this.joinTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * Puts a rejected booking request on the waitlist
+     */
+    public WaitlistEntry join(ReservationRequest request) {
+        WaitlistEntry entry = joinTransaction.execute(tx -> waitlistEntryRepository.save(new WaitlistEntry(request)));
+        Index index = indexes.get();
+        synchronized (index) {
+            if (index.loaded) {
+                index.add(WaitingRequest.of(entry));
+            }
+        }
+        log.info("Waitlisted {} request for {} to {} as #{}", request.getRoomType(),
+            request.getCheckInDate(), request.getCheckOutDate(), entry.getId());
+        return entry;
+    }
+    
+    public List<WaitlistEntry> getWaiting() {
+        return waitlistEntryRepository.findByStatusOrderByIdAsc(WaitlistStatus.WAITING);
+    }
+    
+    public WaitlistEntry getEntry(long id) {
+        return waitlistEntryRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Waitlist entry not found: " + id));
+    }
+    
+    /**
+     * Removes a request from the waitlist at the guest's or staff's request
+     */
+    public WaitlistEntry withdraw(long id) {
+        WaitlistEntry entry = getEntry(id);
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new ValidationException("Waitlist entry is no longer waiting: " + id);
+        }
+        entry.setStatus(WaitlistStatus.WITHDRAWN);
+        entry = waitlistEntryRepository.save(entry);
+        unindexAfterCommit(id);
+        return entry;
+    }
+    
+    /**
+     * Records the reservation a waiting request was promoted to, in the caller's transaction
+     */
+    public void markPromoted(WaitlistEntry entry, String reservationNumber) {
+        entry.setStatus(WaitlistStatus.PROMOTED);
+        entry.setPromotedReservationNumber(reservationNumber);
+        waitlistEntryRepository.save(entry);
+        unindexAfterCommit(entry.getId());
+    }
+    
+    /**
+     * Ids of waiting requests sharing at least one night with [from, to) for the room type,
+     * ranked by how many of the freed nights they would use, then by waiting time
+     */
+    public List<Long> findCandidates(RoomType roomType, LocalDate from, LocalDate to) {
+        return findCandidates(roomType, LongStream.range(from.toEpochDay(), to.toEpochDay()).boxed().toList());
+    }
+    
+    /**
+     * Ids of waiting requests sharing at least one of the freed nights (epoch days) for the room type,
+     * ranked by how many of them they would use, then by waiting time
+     */
+    public List<Long> findCandidates(RoomType roomType, Collection<Long> nights) {
+        Map<Long, Integer> overlap = new HashMap<>();
+        Index index = loadedIndex();
+        synchronized (index) {
+            Map<Long, Set<Long>> byNight = index.nights.get(roomType);
+            if (byNight == null) {
+                return List.of();
+            }
+            for (Long night : nights) {
+                Set<Long> ids = byNight.get(night);
+                if (ids != null) {
+                    ids.forEach(id -> overlap.merge(id, 1, Integer::sum));
+                }
+            }
+        }
+        List<Long> candidates = new ArrayList<>(overlap.keySet());
+        candidates.sort((a, b) -> overlap.get(a).equals(overlap.get(b))
+            ? Long.compare(a, b)
+            : Integer.compare(overlap.get(b), overlap.get(a)));
+        return candidates;
+    }
+    
+    /**
+     * Expires requests whose check-in date has passed, in every property
+     */
+    @Scheduled(cron = "${waitlist.expire-cron:0 15 0 * * *}")
+    public void scheduledExpiry() {
+        propertyDirectory.forEachProperty(this::expirePastRequests);
+    }
+    
+    /**
+     * Expires the current property's requests whose check-in date has passed
+     */
+    public void expirePastRequests() {
+        Integer expired = joinTransaction.execute(tx -> waitlistEntryRepository.expireBefore(LocalDate.now()));
+        reload();
+        log.info("Expired {} waitlist requests", expired);
+    }
+    
+    /**
+     * Drops the current property's night index; it is rebuilt from the database on next use
+     */
+    public void reload() {
+        Index index = indexes.get();
+        synchronized (index) {
+            index.loaded = false;
+        }
+    }
+    
+    private Index loadedIndex() {
+        Index index = indexes.get();
+        synchronized (index) {
+            if (!index.loaded) {
+                index.nights.clear();
+                index.waiting.clear();
+                for (WaitlistEntry entry : waitlistEntryRepository.findByStatusOrderByIdAsc(WaitlistStatus.WAITING)) {
+                    index.add(WaitingRequest.of(entry));
+                }
+                index.loaded = true;
+            }
+        }
+        return index;
+    }
+    
+    private void unindexAfterCommit(long id) {
+        Index index = indexes.get();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.remove(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.remove(id);
+            }
+        });
+    }
+    
+    /**
+     * One property's night index; guarded by itself
+     */
+    private static final class Index {
+        
+        private final Map<RoomType, Map<Long, Set<Long>>> nights = new EnumMap<>(RoomType.class);
+        private final Map<Long, WaitingRequest> waiting = new HashMap<>();
+        private boolean loaded;
+        
+        private void add(WaitingRequest request) {
+            waiting.put(request.id(), request);
+            Map<Long, Set<Long>> byNight = nights.computeIfAbsent(request.roomType(), type -> new HashMap<>());
+            for (long night = request.checkIn(); night < request.checkOut(); night++) {
+                byNight.computeIfAbsent(night, day -> new LinkedHashSet<>()).add(request.id());
+            }
+        }
+        
+        private synchronized void remove(long id) {
+            WaitingRequest request = waiting.remove(id);
+            if (request == null) {
+                return;
+            }
+            Map<Long, Set<Long>> byNight = nights.get(request.roomType());
+            for (long night = request.checkIn(); night < request.checkOut(); night++) {
+                Set<Long> ids = byNight.get(night);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    byNight.remove(night);
+                }
+            }
+        }
+    }
+    
+    private record WaitingRequest(long id, RoomType roomType, long checkIn, long checkOut) {
+        
+        private static WaitingRequest of(WaitlistEntry entry) {
+            return new WaitingRequest(entry.getId(), entry.getRoomType(),
+                entry.getCheckInDate().toEpochDay(), entry.getCheckOutDate().toEpochDay());
+        }
+    }
+}
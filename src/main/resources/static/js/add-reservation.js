@@ -1,3 +1,6 @@
+// Idempotency-Key of the create request in flight, kept until the server answers
+let pendingIdempotencyKey = null;
+
 // Set minimum dates
 document.addEventListener('DOMContentLoaded', function() {
     const today = new Date().toISOString().split('T')[0];
@@ -88,13 +91,21 @@ document.getElementById('reservationForm').addEventListener('submit', async func
             successMessage = 'Reservation updated successfully!';
         }
         
+        const headers = getAuthHeaders();
+        if (method === 'POST') {
+            // Same key for retries of this submission, so a repeated click cannot book twice
+            pendingIdempotencyKey = pendingIdempotencyKey || newIdempotencyKey();
+            headers['Idempotency-Key'] = pendingIdempotencyKey;
+        }
+        
         const response = await fetch(url, {
             method: method,
-            headers: getAuthHeaders(),
+            headers: headers,
             body: JSON.stringify(formData)
         });
         
         const data = await response.json();
+        pendingIdempotencyKey = null;
         
         if (response.ok && data.success) {
             showSuccess('successMessage', `${successMessage} Reservation Number: ${data.data.reservationNumber}`);
@@ -19,25 +19,82 @@ function checkAuth() {
         userInfoElement.textContent = `${fullName} (${role})`;
     }
     
+    loadPropertyPicker();
     return true;
 }
 
+// Property picker in the navbar; shown only when the user can work in more than one property
+async function loadPropertyPicker() {
+    const navUser = document.querySelector('.nav-user');
+    if (!navUser) return;
+    
+    try {
+        const response = await fetch(`${API_BASE_URL}/properties`, {
+            headers: getAuthHeaders()
+        });
+        const selected = localStorage.getItem('property');
+        const properties = response.ok ? ((await response.json()).data || []) : null;
+        
+        // Forget a property that is unknown or the user can no longer work in, and start over on the default
+        if (selected && (properties ? !properties.some(property => property.code === selected)
+                : response.status === 400 || response.status === 403)) {
+            localStorage.removeItem('property');
+            window.location.reload();
+            return;
+        }
+        if (!properties || properties.length < 2) return;
+        
+        const picker = document.createElement('select');
+        picker.id = 'propertyPicker';
+        picker.className = 'property-picker';
+        picker.title = 'Property';
+        properties.forEach(property => {
+            const option = document.createElement('option');
+            option.value = property.code;
+            option.textContent = property.name;
+            option.selected = selected ? property.code === selected : property.defaultProperty;
+            picker.appendChild(option);
+        });
+        picker.addEventListener('change', () => {
+            localStorage.setItem('property', picker.value);
+            window.location.reload();
+        });
+        navUser.insertBefore(picker, navUser.firstChild);
+    } catch (error) {
+        console.error('Error loading properties:', error);
+    }
+}
+
 // Logout function
 function logout() {
     localStorage.removeItem('token');
     localStorage.removeItem('username');
     localStorage.removeItem('fullName');
     localStorage.removeItem('role');
+    localStorage.removeItem('property');
     window.location.href = 'login.html';
 }
 
-// Get auth headers
+// Get auth headers; X-Property carries the resort chosen in the property picker
 function getAuthHeaders() {
     const token = localStorage.getItem('token');
-    return {
+    const headers = {
         'Content-Type': 'application/json',
         'Authorization': `Bearer ${token}`
     };
+    const property = localStorage.getItem('property');
+    if (property) {
+        headers['X-Property'] = property;
+    }
+    return headers;
+}
+
+// New Idempotency-Key for a create request; reuse it when retrying the same submission
+function newIdempotencyKey() {
+    if (window.crypto && crypto.randomUUID) {
+        return crypto.randomUUID();
+    }
+    return `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}${Math.random().toString(36).slice(2)}`;
 }
 
 // Show error message
@@ -119,6 +176,53 @@ function calculateTotalAmount(roomType, checkIn, checkOut) {
     return nights * rate;
 }
 
+// Subscribe to live reservation changes (Server-Sent Events over fetch so the JWT header is sent)
+// onChange receives (eventName, data); 'resync' means the client fell behind and should refetch
+async function subscribeToReservationChanges(onChange) {
+    try {
+        const response = await fetch(`${API_BASE_URL}/reservations/stream`, {
+            headers: { ...getAuthHeaders(), 'Accept': 'text/event-stream' }
+        });
+        if (!response.ok || !response.body) {
+            return;
+        }
+        
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        
+        while (true) {
+            const { value, done } = await reader.read();
+            if (done) break;
+            buffer += decoder.decode(value, { stream: true });
+            
+            let boundary;
+            while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                const block = buffer.slice(0, boundary);
+                buffer = buffer.slice(boundary + 2);
+                
+                let eventName = 'message';
+                let data = '';
+                block.split('\n').forEach(line => {
+                    if (line.startsWith('event:')) eventName = line.slice(6).trim();
+                    else if (line.startsWith('data:')) data += line.slice(5).trim();
+                });
+                if (data) {
+                    onChange(eventName, JSON.parse(data));
+                }
+            }
+        }
+    } catch (error) {
+        console.error('Reservation stream closed:', error);
+    }
+    
+    // Reconnect after a short pause and let the page refetch what it missed
+    setTimeout(() => {
+        onChange('resync', {});
+        subscribeToReservationChanges(onChange);
+    }, 5000);
+}
+
 // Initialize page (check auth on page load)
 document.addEventListener('DOMContentLoaded', function() {
     // Only check auth if not on login page
@@ -8,6 +8,9 @@ let autoplayInterval;
 const slides = [];
 const indicators = [];
 
+// Idempotency-Key of the booking request in flight, kept until the server answers
+let pendingIdempotencyKey = null;
+
 // Initialize carousel on page load
 document.addEventListener('DOMContentLoaded', function() {
     initCarousel();
@@ -437,17 +440,28 @@ async function handleBookingSubmit(e) {
         submitBtn.textContent = 'Submitting...';
         submitBtn.disabled = true;
         
+        // Retries of this submission reuse the key, so the booking is created at most once
+        pendingIdempotencyKey = pendingIdempotencyKey || newIdempotencyKey();
         const response = await fetch('/api/reservations/public', {
             method: 'POST',
             headers: {
-                'Content-Type': 'application/json'
+                'Content-Type': 'application/json',
+                'Idempotency-Key': pendingIdempotencyKey
             },
             body: JSON.stringify(formData)
         });
         
         const data = await response.json();
+        pendingIdempotencyKey = null;
         
-        if (response.ok && data.success) {
+        if (response.status === 202 && data.success) {
+            // Queued by the asynchronous intake; follow the request until it has been processed
+            showSuccess(`Reservation request received! Tracking ID: ${data.data.trackingId}. Checking availability...`);
+            document.getElementById('bookingForm').reset();
+            document.getElementById('priceCalculation').style.display = 'none';
+            successMessage.scrollIntoView({ behavior: 'smooth', block: 'center' });
+            trackBookingRequest(data.data.trackingId);
+        } else if (response.ok && data.success) {
             showSuccess(`Reservation request submitted successfully! Your reservation number is: ${data.data.reservationNumber}. Our team will contact you shortly to confirm.`);
             document.getElementById('bookingForm').reset();
             document.getElementById('priceCalculation').style.display = 'none';
@@ -473,6 +487,41 @@ async function handleBookingSubmit(e) {
     }
 }
 
+// Poll a queued booking request until it is confirmed, waitlisted or rejected
+async function trackBookingRequest(trackingId, attempt = 0) {
+    try {
+        const response = await fetch(`/api/reservations/public/requests/${encodeURIComponent(trackingId)}`);
+        const data = await response.json();
+        const status = data.data;
+        
+        if (response.ok && status.state === 'CONFIRMED') {
+            showSuccess(`Reservation request submitted successfully! Your reservation number is: ${status.reservationNumber}. Our team will contact you shortly to confirm.`);
+            return;
+        }
+        if (response.ok && status.state !== 'QUEUED') {
+            document.getElementById('successMessage').style.display = 'none';
+            showError(status.message);
+            return;
+        }
+    } catch (error) {
+        console.error('Tracking error:', error);
+    }
+    
+    if (attempt < 20) {
+        setTimeout(() => trackBookingRequest(trackingId, attempt + 1), 1000);
+    } else {
+        showSuccess(`Reservation request received! Tracking ID: ${trackingId}. Our team will contact you shortly to confirm.`);
+    }
+}
+
+// New Idempotency-Key for a booking request
+function newIdempotencyKey() {
+    if (window.crypto && crypto.randomUUID) {
+        return crypto.randomUUID();
+    }
+    return `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}${Math.random().toString(36).slice(2)}`;
+}
+
 // Show error message
 function showError(message) {
     const errorMessage = document.getElementById('errorMessage');
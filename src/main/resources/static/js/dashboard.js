@@ -1,7 +1,7 @@
 // Load dashboard statistics
 async function loadDashboardStats() {
     try {
-        const response = await fetch(`${API_BASE_URL}/reservations`, {
+        const response = await fetch(`${API_BASE_URL}/reservations?fields=status,totalAmount`, {
             headers: getAuthHeaders()
         });
         
@@ -29,4 +29,11 @@ async function loadDashboardStats() {
 // Load dashboard on page load
 document.addEventListener('DOMContentLoaded', function() {
     loadDashboardStats();
+    
+    // Refresh statistics when reservations change, coalescing bursts into one reload
+    let refreshTimer = null;
+    subscribeToReservationChanges(() => {
+        clearTimeout(refreshTimer);
+        refreshTimer = setTimeout(loadDashboardStats, 500);
+    });
 });
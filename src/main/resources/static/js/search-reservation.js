@@ -12,7 +12,7 @@ async function searchReservations() {
     document.getElementById('errorMessage').style.display = 'none';
     
     try {
-        const response = await fetch(`${API_BASE_URL}/reservations/search?name=${encodeURIComponent(searchInput)}`, {
+        const response = await fetch(`${API_BASE_URL}/reservations/search?name=${encodeURIComponent(searchInput)}&fields=reservationNumber,guestName,contactNumber,roomType,checkInDate,checkOutDate,status`, {
             headers: getAuthHeaders()
         });
         
@@ -8,7 +8,7 @@ async function loadReservations() {
     document.getElementById('noReservations').style.display = 'none';
     
     try {
-        const response = await fetch(`${API_BASE_URL}/reservations`, {
+        const response = await fetch(`${API_BASE_URL}/reservations?fields=reservationNumber,guestName,contactNumber,roomType,checkInDate,checkOutDate,numberOfNights,totalAmount,status`, {
             headers: getAuthHeaders()
         });
         
@@ -188,6 +188,13 @@ async function checkOut(reservationNumber) {
 // Load reservations on page load
 document.addEventListener('DOMContentLoaded', function() {
     loadReservations();
+    
+    // Reload the table when reservations change, coalescing bursts into one reload
+    let refreshTimer = null;
+    subscribeToReservationChanges(() => {
+        clearTimeout(refreshTimer);
+        refreshTimer = setTimeout(loadReservations, 500);
+    });
 });
 
 // Edit reservation
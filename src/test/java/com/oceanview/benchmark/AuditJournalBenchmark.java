@@ -0,0 +1,69 @@
+package com.oceanview.benchmark;
+
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.service.AuditService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Audit journal benchmark: latency the audit hook adds to each reservation mutation, and writer throughput
+ * Opt-in: mvn test -Dtest=AuditJournalBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Audit Journal Benchmark")
+class AuditJournalBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(AuditJournalBenchmark.class);
+    
+    private static final int WARMUP = 200_000;
+    private static final int MUTATIONS = 500_000;
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    @DisplayName("Per-mutation audit latency")
+    void measureLatency() throws Exception {
+        AuditService auditService = new AuditService(directory.toString(), 64 * 1024 * 1024, 65536, 1000);
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber("RES1767225600000");
+        reservation.setRoomType(RoomType.DELUXE);
+        reservation.setCheckInDate(LocalDate.now().plusDays(3));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(5));
+        reservation.setStatus(ReservationStatus.CANCELLED);
+        
+        for (int i = 0; i < WARMUP; i++) {
+            auditService.onReservationChange(new ReservationChangeEvent(ReservationChangeType.CANCELLED, reservation, ReservationStatus.CONFIRMED));
+        }
+        
+        long[] latencies = new long[MUTATIONS];
+        long started = System.nanoTime();
+        for (int i = 0; i < MUTATIONS; i++) {
+            long before = System.nanoTime();
+            auditService.onReservationChange(new ReservationChangeEvent(ReservationChangeType.CANCELLED, reservation, ReservationStatus.CONFIRMED));
+            latencies[i] = System.nanoTime() - before;
+        }
+        auditService.shutdown();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        
+        Arrays.sort(latencies);
+        log.info(String.format("Audit hook latency: p50 %.2f us, p99 %.2f us, p99.9 %.2f us; %.0f mutations/s including the final flush",
+            latencies[MUTATIONS / 2] / 1000.0, latencies[MUTATIONS * 99 / 100] / 1000.0,
+            latencies[MUTATIONS * 999 / 1000] / 1000.0, MUTATIONS / seconds));
+        assertTrue(latencies[MUTATIONS * 99 / 100] < 10_000, "p99 audit latency should stay within a few microseconds");
+    }
+}
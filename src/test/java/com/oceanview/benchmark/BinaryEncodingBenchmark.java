@@ -0,0 +1,120 @@
+package com.oceanview.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Response encoding benchmark: JSON versus CBOR and Smile for a 10k-reservation list response
+ * Reports payload size and per-thread CPU time to encode and to decode.
+ * Opt-in: mvn test -Dtest=BinaryEncodingBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Binary Encoding Benchmark")
+class BinaryEncodingBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(BinaryEncodingBenchmark.class);
+    
+    private static final int ROWS = 10_000;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+    
+    private static final TypeReference<ApiResponse<List<ReservationResponse>>> LIST_RESPONSE = new TypeReference<>() {
+    };
+    
+    @Test
+    @DisplayName("Encode, decode and size of JSON, CBOR and Smile")
+    void compareEncodings() throws IOException {
+        ApiResponse<List<ReservationResponse>> response = ApiResponse.success("Reservations retrieved successfully", rows());
+        
+        List<Result> results = List.of(
+            measure("JSON", mapper(new JsonFactory()), response),
+            measure("CBOR", mapper(new CBORFactory()), response),
+            measure("Smile", mapper(new SmileFactory()), response));
+        
+        StringBuilder table = new StringBuilder(String.format("%n%-8s %12s %14s %14s", "10k rows", "KB", "encode ms", "decode ms"));
+        for (Result result : results) {
+            table.append(String.format("%n%-8s %12.1f %14.2f %14.2f", result.name, result.bytes / 1024.0,
+                result.encodeMillis, result.decodeMillis));
+        }
+        log.info("Binary encoding benchmark:{}", table);
+    }
+    
+    private Result measure(String name, ObjectMapper mapper, ApiResponse<List<ReservationResponse>> response)
+            throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(response);
+        ApiResponse<List<ReservationResponse>> decoded = mapper.readValue(encoded, LIST_RESPONSE);
+        assertEquals(ROWS, decoded.getData().size());
+        assertEquals(response.getData().get(ROWS - 1).getCheckOutDate(), decoded.getData().get(ROWS - 1).getCheckOutDate());
+        
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(response), LIST_RESPONSE);
+        }
+        
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long started = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encoded = mapper.writeValueAsBytes(response);
+        }
+        long encodeNanos = threads.getCurrentThreadCpuTime() - started;
+        
+        started = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decoded = mapper.readValue(encoded, LIST_RESPONSE);
+        }
+        long decodeNanos = threads.getCurrentThreadCpuTime() - started;
+        assertEquals(ROWS, decoded.getData().size());
+        
+        return new Result(name, encoded.length, encodeNanos / 1_000_000.0 / ITERATIONS, decodeNanos / 1_000_000.0 / ITERATIONS);
+    }
+    
+    /**
+     * Mapper with the settings Spring Boot applies to the application's Jackson builder
+     */
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+    
+    private static List<ReservationResponse> rows() {
+        List<ReservationResponse> rows = new ArrayList<>(ROWS);
+        LocalDate base = LocalDate.of(2026, 1, 1);
+        RoomType[] roomTypes = RoomType.values();
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate checkIn = base.plusDays(i % 365);
+            rows.add(new ReservationResponse((long) i, "RES" + (1767225600000L + i), "Guest Number " + i,
+                i + " Galle Road, Colombo 03", "0771234567", "guest" + i + "@example.com", roomTypes[i % roomTypes.length],
+                checkIn, checkIn.plusDays(1 + i % 5), ReservationStatus.CONFIRMED, 2,
+                i % 3 == 0 ? "Late arrival" : null, new BigDecimal("24000.00"), String.valueOf(100 + i % 60)));
+        }
+        return rows;
+    }
+    
+    private record Result(String name, int bytes, double encodeMillis, double decodeMillis) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.oceanview.benchmark;
+
+import com.oceanview.dto.OccupancyReport;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.service.OccupancyReportService;
+import com.oceanview.service.RoomInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Occupancy report benchmark: full-year report over 500k reservations
+ * Reports the range load and the end-to-end report time. Opt-in: mvn test -Dtest=OccupancyReportBenchmark -Dbenchmark=true
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({OccupancyReportService.class, RoomInventory.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Occupancy Report Benchmark")
+class OccupancyReportBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(OccupancyReportBenchmark.class);
+    
+    private static final int ROWS = 500_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 5;
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = FROM.plusYears(1);
+    private static final String[] ROOM_TYPES = {"STANDARD", "DELUXE", "SUITE", "FAMILY", "PRESIDENTIAL"};
+    private static final String[] STATUSES = {"CHECKED_OUT", "CHECKED_OUT", "CONFIRMED", "CHECKED_IN", "CANCELLED"};
+    
+    @Autowired
+    private OccupancyReportService occupancyReportService;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM reservations");
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(10_000);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate checkIn = FROM.minusDays(30).plusDays(i % 420);
+            int nights = 1 + i % 7;
+            rows.add(new Object[] {
+                "RESOCC" + i, "Guest " + i, "Colombo", "0771234567", "guest" + i + "@example.com",
+                ROOM_TYPES[i % ROOM_TYPES.length], checkIn, checkIn.plusDays(nights), STATUSES[i % STATUSES.length],
+                2, 8000L * nights, now, now
+            });
+            if (rows.size() == 10_000) {
+                insert(rows);
+            }
+        }
+        insert(rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+    
+    @Test
+    @DisplayName("Full-year occupancy report")
+    void fullYearReport() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        
+        for (int i = 0; i < WARMUP; i++) {
+            occupancyReportService.buildReport(FROM, TO);
+        }
+        
+        long loadNanos = 0;
+        long reportNanos = 0;
+        OccupancyReport report = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            readOnly.execute(status -> reservationRepository.findStaysOverlapping(
+                EnumSet.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN, ReservationStatus.CHECKED_OUT), FROM, TO));
+            loadNanos += System.nanoTime() - started;
+            
+            started = System.nanoTime();
+            report = occupancyReportService.buildReport(FROM, TO);
+            reportNanos += System.nanoTime() - started;
+        }
+        
+        StringBuilder table = new StringBuilder(String.format("%n%-24s %12s", "full year, 500k rows", "avg ms"));
+        table.append(String.format("%n%-24s %12.2f", "range load only", loadNanos / 1_000_000.0 / ITERATIONS));
+        table.append(String.format("%n%-24s %12.2f", "end-to-end report", reportNanos / 1_000_000.0 / ITERATIONS));
+        table.append(String.format("%n%-24s %12d", "stays scanned", report.getReservationsScanned()));
+        log.info("Occupancy report benchmark:{}", table);
+        
+        assertEquals(365 * 6, report.getNights().size());
+    }
+    
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO reservations (reservation_number, guest_name, address, contact_number, " +
+            "email, room_type, check_in_date, check_out_date, status, number_of_guests, total_amount, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package com.oceanview.benchmark;
+
+import com.oceanview.security.TokenBucketLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rate limiter benchmark: CPU cost of one admission check for 10k distinct clients, single and multi-threaded
+ * Opt-in: mvn test -Dtest=RateLimiterBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Rate Limiter Benchmark")
+class RateLimiterBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(RateLimiterBenchmark.class);
+    
+    private static final int CLIENTS = 10_000;
+    private static final int OPERATIONS = 5_000_000;
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    
+    @Test
+    @DisplayName("Nanoseconds per admission check")
+    void measureOverhead() throws Exception {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1_000_000, 100, 1_000_000_000, 1_000_000, 100_000);
+        String[] clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "10." + (i >> 16) + "." + ((i >> 8) & 255) + "." + (i & 255);
+        }
+        
+        run(limiter, clients, OPERATIONS);
+        double single = run(limiter, clients, OPERATIONS);
+        
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Double>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(pool.submit(() -> run(limiter, clients, OPERATIONS)));
+            }
+            double worst = 0;
+            for (Future<Double> result : results) {
+                worst = Math.max(worst, result.get());
+            }
+            log.info("Rate limiter benchmark:{}", String.format("%n%-24s %10.1f ns/op%n%-24s %10.1f ns/op",
+                "1 thread", single, THREADS + " threads (worst)", worst));
+            assertTrue(worst < 1_000, "admission check should stay under a microsecond");
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    private static double run(TokenBucketLimiter limiter, String[] clients, int operations) {
+        // CPU time rather than wall time, so oversubscribed cores do not count as limiter overhead
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long admitted = 0;
+        long started = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < operations; i++) {
+            if (limiter.tryAcquire(clients[i % clients.length], System.nanoTime()) == 0) {
+                admitted++;
+            }
+        }
+        double nanosPerOp = (threads.getCurrentThreadCpuTime() - started) / (double) operations;
+        assertTrue(admitted > 0);
+        return nanosPerOp;
+    }
+}
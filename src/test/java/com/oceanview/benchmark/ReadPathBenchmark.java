@@ -0,0 +1,131 @@
+package com.oceanview.benchmark;
+
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.model.Reservation;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Read path benchmark: managed entities + field copy versus JPQL constructor projection
+ * Reports latency and bytes allocated per 10k rows. Opt-in: mvn test -Dtest=ReadPathBenchmark -Dbenchmark=true
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Read Path Benchmark")
+class ReadPathBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReadPathBenchmark.class);
+    
+    private static final int ROWS = 10_000;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 20;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate readOnly;
+    
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        
+        jdbcTemplate.update("DELETE FROM reservations");
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        LocalDate base = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate checkIn = base.plusDays(i % 365);
+            rows.add(new Object[] {
+                "RESBENCH" + i, "Guest Number " + i, i + " Galle Road, Colombo", "0771234567",
+                "guest" + i + "@example.com", "DELUXE", checkIn, checkIn.plusDays(3), "CONFIRMED", 2,
+                "Late arrival", 24000, LocalDateTime.now(), LocalDateTime.now()
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservations (reservation_number, guest_name, address, contact_number, " +
+            "email, room_type, check_in_date, check_out_date, status, number_of_guests, special_requests, " +
+            "total_amount, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+    
+    @Test
+    @DisplayName("Entity + mapToResponse versus constructor projection")
+    void compareReadPaths() {
+        Result entity = measure("entity + copy", () -> reservationRepository.findAll().stream()
+            .map(ReadPathBenchmark::copy)
+            .toList());
+        Result projection = measure("projection", () -> reservationRepository.findAllResponses());
+        
+        StringBuilder table = new StringBuilder(String.format("%n%-16s %12s %16s", "path (10k rows)", "avg ms", "alloc MB/op"));
+        for (Result result : List.of(entity, projection)) {
+            table.append(String.format("%n%-16s %12.2f %16.2f", result.name, result.avgMillis, result.allocatedBytes / 1_048_576.0));
+        }
+        log.info("Read path benchmark:{}", table);
+        
+        assertEquals(ROWS, entity.rows);
+        assertEquals(ROWS, projection.rows);
+    }
+    
+    private Result measure(String name, Supplier<List<ReservationResponse>> read) {
+        for (int i = 0; i < WARMUP; i++) {
+            readOnly.execute(status -> read.get());
+        }
+        
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int rows = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<ReservationResponse> result = readOnly.execute(status -> read.get());
+            rows = result == null ? 0 : result.size();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        
+        return new Result(name, elapsed / 1_000_000.0 / ITERATIONS, allocated / ITERATIONS, rows);
+    }
+    
+    /**
+     * Same field copy ReservationService performed before the projection path existed
+     */
+    private static ReservationResponse copy(Reservation reservation) {
+        return new ReservationResponse(reservation.getId(), reservation.getReservationNumber(),
+            reservation.getGuestName(), reservation.getAddress(), reservation.getContactNumber(),
+            reservation.getEmail(), reservation.getRoomType(), reservation.getCheckInDate(),
+            reservation.getCheckOutDate(), reservation.getStatus(), reservation.getNumberOfGuests(),
+            reservation.getSpecialRequests(), reservation.getTotalAmount(), reservation.getNumberOfNights());
+    }
+    
+    private record Result(String name, double avgMillis, long allocatedBytes, int rows) {
+    }
+}
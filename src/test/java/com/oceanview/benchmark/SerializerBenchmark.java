@@ -0,0 +1,136 @@
+package com.oceanview.benchmark;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the hand-written ApiResponse / ReservationResponse serializers against Jackson's
+ * reflective bean serializer. Scores are rows per second; gc.alloc.rate.norm is bytes allocated per row.
+ * Opt-in: mvn test -Dtest=SerializerBenchmark -Dbenchmark=true
+ * Rows are serialized repeatedly, so BigDecimal.toString() is cached after the first pass and the
+ * reflective path pays less for amounts than it does on freshly loaded rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Serializer Benchmark")
+public class SerializerBenchmark {
+    
+    private static final int ROWS = 1_000;
+    
+    private ObjectMapper handWritten;
+    private ObjectMapper reflective;
+    private ApiResponse<List<ReservationResponse>> response;
+    private final CountingSink sink = new CountingSink();
+    
+    @Setup
+    public void setUp() {
+        handWritten = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        reflective = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .mixIn(ReservationResponse.class, BeanSerialized.class)
+            .mixIn(ApiResponse.class, BeanSerialized.class)
+            .build();
+        
+        List<ReservationResponse> rows = new ArrayList<>(ROWS);
+        LocalDate base = LocalDate.of(2026, 1, 1);
+        RoomType[] roomTypes = RoomType.values();
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate checkIn = base.plusDays(i % 365);
+            rows.add(new ReservationResponse((long) i, "RES" + (1767225600000L + i), "Guest Number " + i,
+                i + " Galle Road, Colombo 03", "0771234567", "guest" + i + "@example.com", roomTypes[i % roomTypes.length],
+                checkIn, checkIn.plusDays(1 + i % 5), ReservationStatus.CONFIRMED, 2,
+                i % 3 == 0 ? "Late arrival" : null, BigDecimal.valueOf(2_400_000 + i, 2), String.valueOf(100 + i % 60)));
+        }
+        response = ApiResponse.success("Reservations retrieved successfully", rows);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long handWritten() throws IOException {
+        handWritten.writeValue(sink, response);
+        return sink.bytes;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long reflective() throws IOException {
+        reflective.writeValue(sink, response);
+        return sink.bytes;
+    }
+    
+    @Test
+    @DisplayName("Hand-written versus reflective serializers")
+    void runBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SerializerBenchmark.class.getName() + "\\.")
+            .forks(1)
+            .warmupIterations(5)
+            .warmupTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(1))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+    
+    /**
+     * Mix-in that restores Jackson's reflective bean serializer
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface BeanSerialized {
+    }
+    
+    /**
+     * Discards output but keeps the byte count, so the writes cannot be optimised away
+     */
+    private static final class CountingSink extends OutputStream {
+        
+        private long bytes;
+        
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+        
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.oceanview.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.ReservationField;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sparse fieldset benchmark: full reservation list versus the view-reservations.js column set
+ * Reports JSON payload size, query + serialization latency and bytes allocated per 10k rows.
+ * Opt-in: mvn test -Dtest=SparseFieldsetBenchmark -Dbenchmark=true
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Sparse Fieldset Benchmark")
+class SparseFieldsetBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(SparseFieldsetBenchmark.class);
+    
+    private static final int ROWS = 10_000;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 20;
+    
+    /**
+     * Columns the reservations table in view-reservations.js renders
+     */
+    private static final String VIEW_FIELDS =
+        "reservationNumber,guestName,contactNumber,roomType,checkInDate,checkOutDate,numberOfNights,totalAmount,status";
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private TransactionTemplate readOnly;
+    
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        
+        jdbcTemplate.update("DELETE FROM reservations");
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        LocalDate base = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate checkIn = base.plusDays(i % 365);
+            rows.add(new Object[] {
+                "RESBENCH" + i, "Guest Number " + i, i + " Galle Road, Colombo 03, Western Province", "0771234567",
+                "guest" + i + "@example.com", "DELUXE", checkIn, checkIn.plusDays(3), "CONFIRMED", 2,
+                "Late arrival, sea-facing room if possible", 24000, LocalDateTime.now(), LocalDateTime.now()
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservations (reservation_number, guest_name, address, contact_number, " +
+            "email, room_type, check_in_date, check_out_date, status, number_of_guests, special_requests, " +
+            "total_amount, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+    
+    @Test
+    @DisplayName("Full rows versus the view-reservations.js fieldset")
+    void compareFieldsets() {
+        List<ReservationField> fields = ReservationField.parse(VIEW_FIELDS);
+        Result full = measure("full", () -> reservationRepository.findAllResponses());
+        Result sparse = measure("fields=view", () -> reservationRepository.findFields(fields, null));
+        
+        StringBuilder table = new StringBuilder(String.format("%n%-14s %12s %12s %16s", "10k rows", "KB/payload", "avg ms", "alloc MB/op"));
+        for (Result result : List.of(full, sparse)) {
+            table.append(String.format("%n%-14s %12.1f %12.2f %16.2f", result.name, result.payloadBytes / 1024.0,
+                result.avgMillis, result.allocatedBytes / 1_048_576.0));
+        }
+        table.append(String.format("%npayload -%.0f%%, latency -%.0f%%",
+            100.0 * (full.payloadBytes - sparse.payloadBytes) / full.payloadBytes,
+            100.0 * (full.avgMillis - sparse.avgMillis) / full.avgMillis));
+        log.info("Sparse fieldset benchmark:{}", table);
+        
+        assertTrue(sparse.payloadBytes < full.payloadBytes);
+    }
+    
+    /**
+     * Times the query plus JSON serialization of the ApiResponse envelope, as the endpoint does
+     */
+    private Result measure(String name, Supplier<List<?>> read) {
+        for (int i = 0; i < WARMUP; i++) {
+            serialize(readOnly.execute(status -> read.get()));
+        }
+        
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int payload = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            payload = serialize(readOnly.execute(status -> read.get())).length;
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        
+        return new Result(name, payload, elapsed / 1_000_000.0 / ITERATIONS, allocated / ITERATIONS);
+    }
+    
+    private byte[] serialize(List<?> rows) {
+        assertEquals(ROWS, rows.size());
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.success("Reservations retrieved successfully", rows));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private record Result(String name, int payloadBytes, double avgMillis, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.oceanview.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Startup benchmark: time from JVM launch to the first successful GET /api/reservations
+ * Launches the packaged application against an in-memory database, logs in as the default admin
+ * and polls until the list endpoint answers 200. Compares the plain jar with the production build
+ * (prod profile, Spring AOT and the AppCDS archive) when target/app exists.
+ * Opt-in: mvn -Pproduction package -DskipTests, then mvn test -Dtest=StartupBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Startup Benchmark")
+class StartupBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(StartupBenchmark.class);
+    
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    
+    private static final Path TARGET = Path.of("target").toAbsolutePath();
+    private static final String JAR = "hotel-reservation-system-1.0.0.jar";
+    
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    
+    @Test
+    @DisplayName("Time to first successful /api/reservations")
+    void measureStartup() throws Exception {
+        Path jar = TARGET.resolve(JAR);
+        assertTrue(Files.exists(jar), "Package the application first: " + jar);
+        
+        List<String> results = new ArrayList<>();
+        results.add(measure("default", List.of("-jar", jar.toString())));
+        
+        Path app = TARGET.resolve("app");
+        if (Files.exists(app.resolve("application.jsa"))) {
+            results.add(measure("prod profile", List.of("-Dspring.profiles.active=prod", "-jar", app.resolve(JAR).toString())));
+            results.add(measure("prod + AOT + CDS", List.of("-XX:SharedArchiveFile=" + app.resolve("application.jsa"),
+                "-Dspring.aot.enabled=true", "-Dspring.profiles.active=prod", "-jar", app.resolve(JAR).toString())));
+        }
+        
+        StringBuilder table = new StringBuilder(String.format("%n%-18s %10s %10s", "configuration", "min ms", "median ms"));
+        results.forEach(result -> table.append(String.format("%n%s", result)));
+        log.info("Startup benchmark:{}", table);
+    }
+    
+    private String measure(String name, List<String> launch) throws Exception {
+        long[] millis = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            millis[run] = timeToFirstRequest(launch);
+        }
+        Arrays.sort(millis);
+        return String.format("%-18s %10d %10d", name, millis[0], millis[RUNS / 2]);
+    }
+    
+    private long timeToFirstRequest(List<String> launch) throws Exception {
+        int port = freePort();
+        Path workDirectory = Files.createTempDirectory("startup-benchmark");
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(launch.subList(0, launch.size() - 2));
+        command.addAll(List.of(
+            "-Dserver.port=" + port,
+            "-Dspring.datasource.url=jdbc:h2:mem:startup",
+            "-Dspring.datasource.driver-class-name=org.h2.Driver",
+            "-Dspring.datasource.username=sa",
+            "-Dspring.datasource.password=",
+            "-Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+        command.addAll(launch.subList(launch.size() - 2, launch.size()));
+        
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(workDirectory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(workDirectory.resolve("application.log").toFile())
+            .start();
+        try {
+            String base = "http://localhost:" + port;
+            long deadline = started + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertTrue(process.isAlive(), "Application exited, see " + workDirectory.resolve("application.log"));
+                String token = login(base);
+                if (token != null && listReservations(base, token) == 200) {
+                    return (System.nanoTime() - started) / 1_000_000;
+                }
+                Thread.sleep(20);
+            }
+            throw new AssertionError("No successful request within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+    
+    private String login(String base) throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher token = TOKEN.matcher(response.body());
+            return response.statusCode() == 200 && token.find() ? token.group(1) : null;
+        } catch (IOException notListeningYet) {
+            return null;
+        }
+    }
+    
+    private int listReservations(String base, String token) throws InterruptedException {
+        try {
+            return client.send(HttpRequest.newBuilder(URI.create(base + "/api/reservations"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+    
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.oceanview.benchmark;
+
+import com.oceanview.config.SyntheticDataLoader;
+import com.oceanview.config.SyntheticReservationGenerator;
+import com.oceanview.model.Reservation;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Synthetic dataset load benchmark on H2
+ * Compares repository saveAll with the loader's multi-row batched inserts on a small sample,
+ * then loads the full dataset (1M rows unless -Dsynthetic.rows is set) and reports rows/s.
+ * The in-memory database lives on the test heap, so run with -DargLine=-Xmx4g for the full load.
+ * Opt-in: mvn test -Dtest=SyntheticDataBenchmark -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Synthetic Data Benchmark")
+class SyntheticDataBenchmark {
+    
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataBenchmark.class);
+    
+    private static final int SAMPLE_ROWS = 20_000;
+    private static final long FULL_ROWS = Long.getLong("synthetic.rows", 1_000_000);
+    private static final int BATCH_SIZE = 10_000;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    @DisplayName("Load the synthetic dataset")
+    void loadDataset() {
+        SyntheticReservationGenerator generator = new SyntheticReservationGenerator(20240101, LocalDateTime.now(), 730, 365);
+        SyntheticDataLoader loader = new SyntheticDataLoader(jdbcTemplate, transactionManager,
+            mock(ApplicationEventPublisher.class), null);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        
+        jdbcTemplate.update("DELETE FROM reservations");
+        long started = System.nanoTime();
+        for (int from = 0; from < SAMPLE_ROWS; from += BATCH_SIZE) {
+            List<Reservation> batch = new ArrayList<>(BATCH_SIZE);
+            for (int row = from; row < from + BATCH_SIZE; row++) {
+                batch.add(generator.generate(row));
+            }
+            transaction.executeWithoutResult(status -> reservationRepository.saveAll(batch));
+        }
+        long saveAllNanos = System.nanoTime() - started;
+        
+        jdbcTemplate.update("DELETE FROM reservations");
+        started = System.nanoTime();
+        loader.load(generator, SAMPLE_ROWS, BATCH_SIZE);
+        long sampleNanos = System.nanoTime() - started;
+        
+        jdbcTemplate.update("DELETE FROM reservations");
+        started = System.nanoTime();
+        long loaded = loader.load(generator, FULL_ROWS, BATCH_SIZE);
+        long fullNanos = System.nanoTime() - started;
+        
+        log.info("Synthetic data benchmark:{}", String.format("%n%-32s %12s %12s", "H2 in-memory", "ms", "rows/s")
+            + row("saveAll, " + SAMPLE_ROWS + " rows", SAMPLE_ROWS, saveAllNanos)
+            + row("multi-row batches, " + SAMPLE_ROWS + " rows", SAMPLE_ROWS, sampleNanos)
+            + row("multi-row batches, " + FULL_ROWS + " rows", FULL_ROWS, fullNanos));
+        
+        assertEquals(FULL_ROWS, loaded);
+        assertEquals(FULL_ROWS, reservationRepository.count());
+    }
+    
+    private static String row(String name, long rows, long nanos) {
+        return String.format("%n%-32s %12d %12d", name, nanos / 1_000_000, rows * 1_000_000_000L / nanos);
+    }
+}
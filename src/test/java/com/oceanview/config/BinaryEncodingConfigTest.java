@@ -0,0 +1,131 @@
+package com.oceanview.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.oceanview.controller.ReservationController;
+import com.oceanview.dto.ApiResponse;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.service.BookingIntakeService;
+import com.oceanview.service.FrontDeskBoard;
+import com.oceanview.service.IdempotencyService;
+import com.oceanview.service.ReservationLookupIndex;
+import com.oceanview.service.ReservationService;
+import com.oceanview.service.ReservationStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for Accept-based negotiation between JSON, CBOR and Smile
+ */
+@DisplayName("Binary Encoding Configuration Tests")
+class BinaryEncodingConfigTest {
+    
+    private static final TypeReference<ApiResponse<List<ReservationResponse>>> LIST_RESPONSE = new TypeReference<>() {
+    };
+    
+    private List<HttpMessageConverter<?>> converters;
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        // Same settings Spring Boot applies to the application's Jackson builder
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("jacksonObjectMapperBuilder",
+            Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        
+        converters = new ArrayList<>(new HttpMessageConverters().getConverters());
+        new BinaryEncodingConfig(beanFactory.getBeanProvider(Jackson2ObjectMapperBuilder.class))
+            .extendMessageConverters(converters);
+        
+        ReservationService reservationService = mock(ReservationService.class);
+        when(reservationService.getAllReservations()).thenReturn(List.of(new ReservationResponse(1L, "RES1736524800000",
+            "John Doe", "123 Main St, Colombo", "0771234567", "john@example.com", RoomType.DELUXE,
+            LocalDate.of(2026, 2, 15), LocalDate.of(2026, 2, 18), ReservationStatus.CONFIRMED, 2, null,
+            new BigDecimal("24000.00"), "201")));
+        ReservationController controller = new ReservationController(reservationService,
+            mock(ReservationStreamService.class), mock(IdempotencyService.class), mock(BookingIntakeService.class),
+            mock(ReservationLookupIndex.class), mock(FrontDeskBoard.class), mock(PropertyDirectory.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+            .build();
+    }
+    
+    @Test
+    @DisplayName("JSON stays the default without an Accept header or with a wildcard")
+    void testJsonIsDefault() throws Exception {
+        mockMvc.perform(get("/api/reservations"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/reservations").accept(MediaType.ALL))
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        
+        assertTrue(indexOf(MappingJackson2HttpMessageConverter.class) < indexOf(MappingJackson2CborHttpMessageConverter.class));
+        assertEquals(1, converters.stream().filter(MappingJackson2CborHttpMessageConverter.class::isInstance).count());
+    }
+    
+    @Test
+    @DisplayName("CBOR and Smile are returned when requested and decode to the same payload")
+    void testBinaryEncodings() throws Exception {
+        ApiResponse<List<ReservationResponse>> cbor = decode(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory()));
+        ApiResponse<List<ReservationResponse>> smile = decode(new MediaType("application", "x-jackson-smile"),
+            new ObjectMapper(new SmileFactory()));
+        
+        for (ApiResponse<List<ReservationResponse>> response : List.of(cbor, smile)) {
+            ReservationResponse reservation = response.getData().get(0);
+            assertEquals("RES1736524800000", reservation.getReservationNumber());
+            assertEquals(RoomType.DELUXE, reservation.getRoomType());
+            assertEquals(0, new BigDecimal("24000.00").compareTo(reservation.getTotalAmount()));
+            assertEquals(3, reservation.getNumberOfNights());
+        }
+    }
+    
+    private ApiResponse<List<ReservationResponse>> decode(MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reservations").accept(mediaType))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(mediaType))
+            .andReturn();
+        byte[] body = result.getResponse().getContentAsByteArray();
+        
+        // Dates travel as ISO strings, exactly as in JSON
+        assertTrue(new String(body, StandardCharsets.ISO_8859_1).contains("2026-02-15"));
+        binaryMapper.findAndRegisterModules();
+        return binaryMapper.readValue(body, LIST_RESPONSE);
+    }
+    
+    private int indexOf(Class<?> converterType) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converterType.isInstance(converters.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,125 @@
+package com.oceanview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for read/write routing, using two in-memory H2 databases as primary and replica stand-ins
+ */
+@DisplayName("Read/Write Routing DataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+    
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary");
+        DataSource replica = h2("routing_replica");
+        
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, new ReadYourWritesGuard(200));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        // Known defaults, so the proxy never opens a probe connection of its own
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    @DisplayName("Read-only transactions go to the replica")
+    void testReadOnlyRoutesToReplica() {
+        long before = routingDataSource.getRoutedConnections(ReadWriteRoutingDataSource.Route.REPLICA);
+        
+        assertEquals("routing_replica", readOnlyTransaction.execute(status -> whichDatabase()));
+        assertEquals(before + 1, routingDataSource.getRoutedConnections(ReadWriteRoutingDataSource.Route.REPLICA));
+    }
+    
+    @Test
+    @DisplayName("Read-write transactions go to the primary")
+    void testWriteRoutesToPrimary() {
+        long before = routingDataSource.getRoutedConnections(ReadWriteRoutingDataSource.Route.PRIMARY);
+        
+        assertEquals("routing_primary", writeTransaction.execute(status -> whichDatabase()));
+        assertEquals(before + 1, routingDataSource.getRoutedConnections(ReadWriteRoutingDataSource.Route.PRIMARY));
+    }
+    
+    @Test
+    @DisplayName("A user's reads stay on the primary right after their own write")
+    void testReadYourWrites() throws InterruptedException {
+        login("receptionist");
+        writeTransaction.execute(status -> whichDatabase());
+        
+        assertEquals("routing_primary", readOnlyTransaction.execute(status -> whichDatabase()));
+        
+        login("manager");
+        assertEquals("routing_replica", readOnlyTransaction.execute(status -> whichDatabase()));
+        
+        login("receptionist");
+        Thread.sleep(250);
+        assertEquals("routing_replica", readOnlyTransaction.execute(status -> whichDatabase()));
+    }
+    
+    @Test
+    @DisplayName("Closing the routing datasource closes both pools")
+    void testCloseClosesBothPools() throws Exception {
+        HikariDataSource primary = pool("routing_primary");
+        HikariDataSource replica = pool("routing_replica");
+        ReadWriteRoutingDataSource pools = new ReadWriteRoutingDataSource(primary, replica, new ReadYourWritesGuard(200));
+        
+        pools.close();
+        
+        assertTrue(primary.isClosed());
+        assertTrue(replica.isClosed());
+    }
+    
+    private String whichDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class).toLowerCase();
+    }
+    
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+    
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setDataSource(h2(name));
+        pool.setPoolName(name);
+        return pool;
+    }
+    
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
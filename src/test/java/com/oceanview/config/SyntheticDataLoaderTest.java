@@ -0,0 +1,145 @@
+package com.oceanview.config;
+
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the synthetic dataset: deterministic generation and the batched multi-row insert path on H2
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Synthetic Data Loader Tests")
+class SyntheticDataLoaderTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+    private static final int ROWS = 12_345;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private SyntheticDataLoader loader;
+    
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAllInBatch();
+        loader = new SyntheticDataLoader(jdbcTemplate, transactionManager, mock(ApplicationEventPublisher.class), null);
+    }
+    
+    @Test
+    @DisplayName("Same seed produces the same reservations, another seed does not")
+    void testGenerationIsDeterministic() {
+        SyntheticReservationGenerator first = new SyntheticReservationGenerator(7, NOW, 730, 365);
+        SyntheticReservationGenerator second = new SyntheticReservationGenerator(7, NOW, 730, 365);
+        SyntheticReservationGenerator other = new SyntheticReservationGenerator(8, NOW, 730, 365);
+        
+        int differing = 0;
+        for (long row = 0; row < 1000; row++) {
+            Reservation a = first.generate(row);
+            Reservation b = second.generate(row);
+            assertEquals(describe(a), describe(b));
+            if (!describe(a).equals(describe(other.generate(row)))) {
+                differing++;
+            }
+        }
+        assertTrue(differing > 990, "different seeds should give different rows, " + differing + " differed");
+    }
+    
+    @Test
+    @DisplayName("Loads every row in batches with realistic, consistent values")
+    void testLoadWritesConsistentRows() {
+        SyntheticReservationGenerator generator = new SyntheticReservationGenerator(42, NOW, 730, 365);
+        
+        // A batch size that leaves partial statements and a partial last batch
+        assertEquals(ROWS, loader.load(generator, ROWS, 1_050));
+        assertEquals(ROWS, reservationRepository.count());
+        
+        LocalDate today = NOW.toLocalDate();
+        for (Reservation reservation : reservationRepository.findAll()) {
+            assertTrue(reservation.getContactNumber().matches("^[0-9]{10}$"), reservation.getContactNumber());
+            assertTrue(reservation.getCheckOutDate().isAfter(reservation.getCheckInDate()));
+            assertFalse(reservation.getCreatedAt().isAfter(NOW));
+            assertFalse(reservation.getUpdatedAt().isBefore(reservation.getCreatedAt()));
+            assertEquals(0, reservation.getTotalAmount().compareTo(reservation.getRoomType().getRatePerNight()
+                .multiply(BigDecimal.valueOf(reservation.getNumberOfNights()))));
+            if (!reservation.getCheckOutDate().isAfter(today)) {
+                assertNotEquals(ReservationStatus.CONFIRMED, reservation.getStatus());
+                assertNotEquals(ReservationStatus.CHECKED_IN, reservation.getStatus());
+            } else if (reservation.getCheckInDate().isAfter(today)) {
+                assertTrue(reservation.getStatus() == ReservationStatus.CONFIRMED
+                    || reservation.getStatus() == ReservationStatus.CANCELLED);
+            }
+        }
+        
+        Map<String, Long> byStatus = jdbcTemplate.queryForList("SELECT status, COUNT(*) AS c FROM reservations GROUP BY status")
+            .stream().collect(Collectors.toMap(row -> (String) row.get("STATUS"), row -> ((Number) row.get("C")).longValue()));
+        assertEquals(ReservationStatus.values().length, byStatus.size());
+        
+        // High season (December to February) takes clearly more arrivals per day than May and June
+        double high = arrivalsPerDay(List.of(12, 1, 2));
+        double low = arrivalsPerDay(List.of(5, 6));
+        assertTrue(high > low * 1.5, "high season " + high + " vs low season " + low);
+        
+        // Returning guests reuse their email address
+        Long distinctEmails = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT email) FROM reservations", Long.class);
+        assertTrue(distinctEmails < ROWS * 0.85, distinctEmails + " distinct emails");
+    }
+    
+    @Test
+    @DisplayName("A second load with the same seed is skipped")
+    void testReloadIsSkipped() {
+        SyntheticReservationGenerator generator = new SyntheticReservationGenerator(42, NOW, 730, 365);
+        assertEquals(500, loader.load(generator, 500, 200));
+        
+        assertEquals(0, loader.load(generator, 500, 200));
+        assertEquals(500, reservationRepository.count());
+    }
+    
+    private double arrivalsPerDay(List<Integer> months) {
+        // Past check-ins only, so the thinning booking curve does not skew the comparison
+        String in = months.stream().map(String::valueOf).collect(Collectors.joining(", "));
+        Long arrivals = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservations WHERE check_in_date < ? " +
+            "AND EXTRACT(MONTH FROM check_in_date) IN (" + in + ")", Long.class, NOW.toLocalDate());
+        long days = NOW.toLocalDate().minusDays(730).datesUntil(NOW.toLocalDate())
+            .filter(date -> months.contains(date.getMonthValue())).count();
+        return (double) arrivals / days;
+    }
+    
+    private static String describe(Reservation reservation) {
+        return String.join("|", reservation.getReservationNumber(), reservation.getGuestName(), reservation.getEmail(),
+            reservation.getContactNumber(), reservation.getAddress(), String.valueOf(reservation.getRoomType()),
+            String.valueOf(reservation.getCheckInDate()), String.valueOf(reservation.getCheckOutDate()),
+            String.valueOf(reservation.getStatus()), String.valueOf(reservation.getNumberOfGuests()),
+            String.valueOf(reservation.getSpecialRequests()), String.valueOf(reservation.getCreatedAt()),
+            String.valueOf(reservation.getUpdatedAt()));
+    }
+}
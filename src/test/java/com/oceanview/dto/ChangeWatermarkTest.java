@@ -0,0 +1,50 @@
+package com.oceanview.dto;
+
+import com.oceanview.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the delta-sync watermark encoding
+ */
+@DisplayName("Change Watermark Tests")
+class ChangeWatermarkTest {
+    
+    @Test
+    @DisplayName("Should round-trip through its token")
+    void testRoundTrip() {
+        // Arrange
+        ChangeWatermark watermark = new ChangeWatermark(9_007_199_254_740_993L, 42L);
+        
+        // Act
+        String token = watermark.format();
+        ChangeWatermark parsed = ChangeWatermark.parse(token);
+        
+        // Assert
+        assertEquals("9007199254740993:42", token);
+        assertEquals(watermark, parsed);
+        assertEquals(watermark.hashCode(), parsed.hashCode());
+        assertEquals(9_007_199_254_740_993L, parsed.getChangeSeq());
+        assertEquals(42L, parsed.getId());
+        assertEquals(ChangeWatermark.ORIGIN, ChangeWatermark.parse(ChangeWatermark.ORIGIN.format()));
+    }
+    
+    @Test
+    @DisplayName("Should start from the beginning without a token")
+    void testMissingToken() {
+        assertEquals(ChangeWatermark.ORIGIN, ChangeWatermark.parse(null));
+        assertEquals(ChangeWatermark.ORIGIN, ChangeWatermark.parse(""));
+        assertEquals(ChangeWatermark.ORIGIN, ChangeWatermark.parse("  "));
+    }
+    
+    @Test
+    @DisplayName("Should reject malformed and pre-sequence tokens")
+    void testInvalidTokens() {
+        for (String token : new String[] {"42", "1700000000000000.42", "a:1", "1:b", "1:", ":1", "-1:1", "1:-1", "1:2:3"}) {
+            ValidationException e = assertThrows(ValidationException.class, () -> ChangeWatermark.parse(token), token);
+            assertEquals("Invalid watermark: " + token, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.oceanview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the hand-written serializers produce exactly what Jackson's bean serializer would
+ */
+@DisplayName("Reservation Response Serializer Tests")
+class ReservationResponseSerializerTest {
+    
+    @Test
+    @DisplayName("Should match the bean serializer byte for byte")
+    void testMatchesBeanSerializer() throws Exception {
+        assertSameOutput(builder -> builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+    
+    @Test
+    @DisplayName("Should honour non-default mapper settings")
+    void testHonoursMapperSettings() throws Exception {
+        assertSameOutput(builder -> builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+            SerializationFeature.WRITE_ENUMS_USING_TO_STRING));
+        assertSameOutput(builder -> builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL));
+    }
+    
+    @Test
+    @DisplayName("Should format amounts like BigDecimal.toString()")
+    void testFormatPlain() {
+        char[] buffer = new char[24];
+        for (String amount : List.of("0", "0.00", "0.05", "-0.05", "7", "12.5", "24000.00", "-1234567.89",
+                "4611686018427387.90")) {
+            BigDecimal value = new BigDecimal(amount);
+            int length = ReservationResponseSerializer.formatPlain(value.unscaledValue().longValueExact(), value.scale(), buffer);
+            assertEquals(value.toString(), new String(buffer, 0, length));
+        }
+    }
+    
+    private static void assertSameOutput(Consumer<Jackson2ObjectMapperBuilder> settings) throws Exception {
+        Jackson2ObjectMapperBuilder tuned = Jackson2ObjectMapperBuilder.json();
+        settings.accept(tuned);
+        Jackson2ObjectMapperBuilder reflective = Jackson2ObjectMapperBuilder.json()
+            .mixIn(ReservationResponse.class, BeanSerialized.class)
+            .mixIn(ApiResponse.class, BeanSerialized.class);
+        settings.accept(reflective);
+        ObjectMapper tunedMapper = tuned.build();
+        ObjectMapper reflectiveMapper = reflective.build();
+        
+        ApiResponse<List<ReservationResponse>> response = ApiResponse.success("Reservations retrieved successfully", List.of(
+            reservation(1L, "RES1736524800000", LocalDate.of(2026, 2, 15), new BigDecimal("24000.00"), "Late check-in"),
+            reservation(2L, "RES1736524800001", LocalDate.of(1999, 12, 31), new BigDecimal("1E+3"), null),
+            reservation(null, null, null, new BigDecimal("0.125"), "\"Quoted\" é"),
+            new ReservationResponse()));
+        
+        assertEquals(reflectiveMapper.writeValueAsString(response), tunedMapper.writeValueAsString(response));
+        assertEquals(reflectiveMapper.writeValueAsString(ApiResponse.error("Not found")),
+            tunedMapper.writeValueAsString(ApiResponse.error("Not found")));
+    }
+    
+    private static ReservationResponse reservation(Long id, String number, LocalDate checkIn, BigDecimal amount,
+                                                   String specialRequests) {
+        return new ReservationResponse(id, number, "John Doe", "123 Main St, Colombo", "0771234567", "john@example.com",
+            RoomType.DELUXE, checkIn, checkIn == null ? null : checkIn.plusDays(3), ReservationStatus.CONFIRMED, 2,
+            specialRequests, amount, "201");
+    }
+    
+    /**
+     * Mix-in that restores Jackson's reflective bean serializer
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface BeanSerialized {
+    }
+}
@@ -0,0 +1,26 @@
+package com.oceanview.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Query plan regression tests against a real MySQL server
+ * Enabled with -Dplan.mysql.url=jdbc:mysql://host:3306/db (plus plan.mysql.username / plan.mysql.password)
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "plan.mysql.url", matches = ".+")
+@DisplayName("Reservation Query Plan Tests (MySQL)")
+class MySqlReservationQueryPlanTest extends ReservationQueryPlanTest {
+    
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("plan.mysql.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("plan.mysql.username", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("plan.mysql.password", ""));
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+}
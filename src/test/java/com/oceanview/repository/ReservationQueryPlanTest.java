@@ -0,0 +1,368 @@
+package com.oceanview.repository;
+
+import com.oceanview.dto.ReservationField;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomInventoryNight;
+import com.oceanview.model.RoomType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan regression tests for ReservationRepository and the inventory ledger claim
+ * Runs EXPLAIN for every hot repository query and fails if the database falls back to a full table scan.
+ * Runs on the embedded H2 database by default; see MySqlReservationQueryPlanTest for MySQL.
+ * findAll, findAllResponses, findLookupEntries and the leading-wildcard guest name search are intentionally
+ * not covered: they read every row by design.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.oceanview.repository.ReservationQueryPlanTest$CapturedSql"
+})
+@DisplayName("Reservation Query Plan Tests")
+class ReservationQueryPlanTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private RoomInventoryNightRepository nightRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        // ANALYZE commits implicitly, so rows from the previous test may have survived its rollback
+        reservationRepository.deleteAllInBatch();
+        nightRepository.deleteAllInBatch();
+        
+        // Mostly closed history with a thin slice of upcoming stays, as in production
+        List<Reservation> reservations = new ArrayList<>();
+        RoomType[] roomTypes = RoomType.values();
+        for (int i = 0; i < 2000; i++) {
+            LocalDate checkIn = TODAY.minusDays(700).plusDays(i % 730);
+            ReservationStatus status = checkIn.isBefore(TODAY)
+                ? (i % 10 == 0 ? ReservationStatus.CANCELLED : ReservationStatus.CHECKED_OUT)
+                : ReservationStatus.CONFIRMED;
+            
+            Reservation reservation = new Reservation();
+            reservation.setReservationNumber("RESPLAN" + i);
+            reservation.setGuestName("Guest " + i);
+            reservation.setAddress("Colombo");
+            reservation.setContactNumber("0771234567");
+            reservation.setEmail("guest" + i + "@example.com");
+            reservation.setRoomType(roomTypes[i % roomTypes.length]);
+            reservation.setCheckInDate(checkIn);
+            reservation.setCheckOutDate(checkIn.plusDays(1 + i % 4));
+            reservation.setStatus(status);
+            reservation.setNumberOfGuests(2);
+            reservations.add(reservation);
+        }
+        reservationRepository.saveAll(reservations);
+        entityManager.flush();
+        
+        jdbcTemplate.execute(isMySql() ? "ANALYZE TABLE reservations" : "ANALYZE");
+    }
+    
+    @Test
+    @DisplayName("Inventory ledger claim updates one night through the room type / night unique index")
+    void testClaimNightPlan() {
+        LocalDate night = TODAY.plusDays(5);
+        nightRepository.save(new RoomInventoryNight(RoomType.DELUXE, night, 15, 3));
+        
+        String sql = capture(() -> nightRepository.claim(RoomType.DELUXE, night));
+        
+        assertIndexed(sql, RoomType.DELUXE.name(), night);
+    }
+    
+    @Test
+    @DisplayName("Reservation number lookup uses the unique index")
+    void testFindByReservationNumberPlan() {
+        String sql = capture(() -> reservationRepository.findByReservationNumber("RESPLAN42"));
+        
+        assertIndexed(sql, "RESPLAN42");
+    }
+    
+    @Test
+    @DisplayName("Status list uses the status index")
+    void testFindByStatusPlan() {
+        String sql = capture(() -> reservationRepository.findByStatus(ReservationStatus.CHECKED_IN));
+        
+        assertIndexed(sql, ReservationStatus.CHECKED_IN.name());
+    }
+    
+    @Test
+    @DisplayName("Room type list uses the room type index")
+    void testFindByRoomTypePlan() {
+        String sql = capture(() -> reservationRepository.findByRoomType(RoomType.PRESIDENTIAL));
+        
+        assertIndexed(sql, RoomType.PRESIDENTIAL.name());
+    }
+    
+    @Test
+    @DisplayName("Check-in date range uses the check-in index")
+    void testFindByCheckInDateBetweenPlan() {
+        LocalDate start = TODAY;
+        LocalDate end = TODAY.plusDays(7);
+        
+        String sql = capture(() -> reservationRepository.findByCheckInDateBetween(start, end));
+        
+        assertIndexed(sql, start, end);
+    }
+    
+    @Test
+    @DisplayName("In-house lookup uses the status / check-in index")
+    void testFindActiveReservationsOnDatePlan() {
+        String sql = capture(() -> reservationRepository.findActiveReservationsOnDate(TODAY, ReservationStatus.CHECKED_IN));
+        
+        assertIndexed(sql, TODAY, TODAY, ReservationStatus.CHECKED_IN.name());
+    }
+    
+    @Test
+    @DisplayName("Night audit no-show scan uses the status / check-in index")
+    void testNoShowScanPlan() {
+        String sql = capture(() -> reservationRepository.findIdsByStatusAndCheckInBefore(
+            ReservationStatus.CONFIRMED, TODAY, 0L, PageRequest.of(0, 500)));
+        
+        assertIndexed(sql, ReservationStatus.CONFIRMED.name(), TODAY, 0L, 500);
+    }
+    
+    @Test
+    @DisplayName("Night audit overdue check-out scan uses the status / check-out index")
+    void testOverdueCheckoutScanPlan() {
+        String sql = capture(() -> reservationRepository.findIdsByStatusAndCheckOutBefore(
+            ReservationStatus.CHECKED_IN, TODAY, 0L, PageRequest.of(0, 500)));
+        
+        assertIndexed(sql, ReservationStatus.CHECKED_IN.name(), TODAY, 0L, 500);
+    }
+    
+    @Test
+    @DisplayName("Night audit chunk lock goes through the primary key")
+    void testLockByIdsAndStatusPlan() {
+        String sql = capture(() -> reservationRepository.lockByIdsAndStatus(List.of(1L, 2L), ReservationStatus.CONFIRMED));
+        
+        assertIndexed(sql, 1L, 2L, ReservationStatus.CONFIRMED.name());
+    }
+    
+    @Test
+    @DisplayName("Archive batch lock goes through the primary key")
+    void testLockArchivablePlan() {
+        LocalDate cutoff = TODAY.minusDays(365);
+        
+        String sql = capture(() -> reservationRepository.lockArchivable(List.of(1L, 2L),
+            List.of(ReservationStatus.CANCELLED, ReservationStatus.CHECKED_OUT), cutoff));
+        
+        assertIndexed(sql, 1L, 2L, ReservationStatus.CANCELLED.name(), ReservationStatus.CHECKED_OUT.name(), cutoff);
+    }
+    
+    @Test
+    @DisplayName("Night audit chunk update goes through the primary key")
+    void testTransitionStatusPlan() {
+        LocalDateTime now = LocalDateTime.now();
+        
+        String sql = capture(() -> reservationRepository.transitionStatus(
+            List.of(1L, 2L), ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, now));
+        
+        assertIndexed(sql, ReservationStatus.NO_SHOW.name(), now, 1L, 2L, ReservationStatus.CONFIRMED.name());
+    }
+    
+    @Test
+    @DisplayName("Delta sync uses the change sequence index")
+    void testFindChangedSincePlan() {
+        String sql = capture(() -> reservationRepository.findChangedSince(1000L, 0L, 1500L, PageRequest.of(0, 500)));
+        
+        assertIndexed(sql, 1000L, 1000L, 0L, 1500L, 500);
+    }
+    
+    @Test
+    @DisplayName("Change log stamp updates through the reservation number unique index")
+    void testStampChangePlan() {
+        String sql = capture(() -> reservationRepository.stampChange(List.of("RESPLAN7", "RESPLAN8"), 42L));
+        
+        assertIndexed(sql, 42L, "RESPLAN7", "RESPLAN8");
+    }
+    
+    @Test
+    @DisplayName("Occupancy report range load uses a check-in index")
+    void testFindStaysOverlappingPlan() {
+        LocalDate from = TODAY.minusDays(30);
+        LocalDate to = TODAY;
+        List<ReservationStatus> statuses = List.of(ReservationStatus.CHECKED_OUT);
+        
+        String sql = capture(() -> reservationRepository.findStaysOverlapping(statuses, from, to));
+        
+        assertIndexed(sql, ReservationStatus.CHECKED_OUT.name(), to, from);
+    }
+    
+    @Test
+    @DisplayName("Front desk board load uses the status / check-out index")
+    void testFindFrontDeskGuestsPlan() {
+        List<ReservationStatus> statuses = List.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN,
+            ReservationStatus.CHECKED_OUT);
+        
+        String sql = capture(() -> reservationRepository.findFrontDeskGuests(statuses, TODAY, TODAY.plusDays(1)));
+        
+        assertIndexed(sql, ReservationStatus.CONFIRMED.name(), ReservationStatus.CHECKED_IN.name(),
+            ReservationStatus.CHECKED_OUT.name(), TODAY, TODAY.plusDays(1));
+    }
+    
+    @Test
+    @DisplayName("Front desk board single-stay refresh uses the reservation number unique index")
+    void testFindFrontDeskGuestPlan() {
+        String sql = capture(() -> reservationRepository.findFrontDeskGuest("RESPLAN42"));
+        
+        assertIndexed(sql, "RESPLAN42");
+    }
+    
+    @Test
+    @DisplayName("Front desk board night audit refresh uses the reservation number unique index")
+    void testFindFrontDeskGuestsByNumbersPlan() {
+        String sql = capture(() -> reservationRepository.findFrontDeskGuestsByNumbers(List.of("RESPLAN7", "RESPLAN8")));
+        
+        assertIndexed(sql, "RESPLAN7", "RESPLAN8");
+    }
+    
+    @Test
+    @DisplayName("Lookup index refresh uses the reservation number unique index")
+    void testFindLookupEntriesByNumbersPlan() {
+        String sql = capture(() -> reservationRepository.findLookupEntriesByNumbers(List.of("RESPLAN7", "RESPLAN8")));
+        
+        assertIndexed(sql, "RESPLAN7", "RESPLAN8");
+    }
+    
+    @Test
+    @DisplayName("Room assignment board load uses the status / check-in index")
+    void testFindRoomStaysPlan() {
+        List<ReservationStatus> statuses = List.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN);
+        LocalDate to = TODAY.plusDays(90);
+        
+        String sql = capture(() -> reservationRepository.findRoomStays(statuses, TODAY, to));
+        
+        assertIndexed(sql, ReservationStatus.CONFIRMED.name(), ReservationStatus.CHECKED_IN.name(), to, TODAY);
+    }
+    
+    @Test
+    @DisplayName("Room assignment refresh uses the reservation number unique index")
+    void testFindRoomStaysByNumbersPlan() {
+        String sql = capture(() -> reservationRepository.findRoomStaysByNumbers(List.of("RESPLAN7", "RESPLAN8")));
+        
+        assertIndexed(sql, "RESPLAN7", "RESPLAN8");
+    }
+    
+    @Test
+    @DisplayName("Room assignment update goes through the reservation number unique index")
+    void testAssignRoomPlan() {
+        LocalDateTime now = LocalDateTime.now();
+        
+        String sql = capture(() -> reservationRepository.assignRoom("RESPLAN42", "101", now));
+        
+        assertIndexed(sql, "101", now, "RESPLAN42");
+    }
+    
+    @Test
+    @DisplayName("Sparse fieldset selects only the requested columns")
+    void testFindFieldsSelectsRequestedColumns() {
+        List<ReservationField> fields = ReservationField.parse("reservationNumber,status,numberOfNights");
+        List<Map<String, Object>> rows = new ArrayList<>();
+        
+        String sql = capture(() -> rows.addAll(reservationRepository.findFields(fields, "guest 4_")));
+        
+        String select = sql.toLowerCase(Locale.ROOT).substring(0, sql.toLowerCase(Locale.ROOT).indexOf(" from "));
+        assertTrue(select.contains("reservation_number") && select.contains("check_out_date"), select);
+        assertFalse(select.contains("address") || select.contains("email") || select.contains("special_requests"), select);
+        // The underscore is matched literally, so only "Guest 4_..." names would qualify
+        assertTrue(rows.isEmpty());
+        
+        List<Map<String, Object>> all = reservationRepository.findFields(fields, "Guest 42");
+        assertEquals(List.of("reservationNumber", "status", "numberOfNights"), List.copyOf(all.get(0).keySet()));
+        assertEquals("RESPLAN42", all.get(0).get("reservationNumber"));
+        assertEquals(3L, all.get(0).get("numberOfNights"));
+    }
+    
+    /**
+     * Runs a repository call and returns the last SQL statement Hibernate sent for it
+     */
+    private String capture(Runnable query) {
+        CapturedSql.STATEMENTS.clear();
+        query.run();
+        assertFalse(CapturedSql.STATEMENTS.isEmpty(), "No SQL captured");
+        return CapturedSql.STATEMENTS.get(CapturedSql.STATEMENTS.size() - 1);
+    }
+    
+    private void assertIndexed(String sql, Object... parameters) {
+        String plan = explain(sql, parameters);
+        String normalized = plan.toLowerCase(Locale.ROOT);
+        
+        boolean fullScan = isMySql()
+            ? normalized.contains("type=all") || normalized.contains("type=index ")
+            : normalized.contains("tablescan");
+        assertFalse(fullScan, "Full table scan for:\n" + sql + "\nPlan:\n" + plan);
+    }
+    
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    int columns = rows.getMetaData().getColumnCount();
+                    while (rows.next()) {
+                        for (int c = 1; c <= columns; c++) {
+                            plan.append(rows.getMetaData().getColumnLabel(c)).append('=')
+                                .append(rows.getString(c)).append(' ');
+                        }
+                        plan.append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+    
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql")));
+    }
+    
+    /**
+     * Hibernate statement inspector that records every SQL statement it prepares
+     */
+    public static class CapturedSql implements StatementInspector {
+        
+        static final List<String> STATEMENTS = new ArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.oceanview.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Filter-level tests for PublicBookingRateLimitFilter in front of stub reservation endpoints
+ */
+@DisplayName("Public Booking Rate Limit Filter Tests")
+class PublicBookingRateLimitFilterTest {
+    
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        // Two bookings per client at once, then one every ten seconds; the global bucket stays out of the way
+        PublicBookingRateLimitFilter filter = new PublicBookingRateLimitFilter(new ObjectMapper(), true,
+            6, 2, 1000, 1000, 100);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StubReservationController())
+            .addFilters(filter)
+            .build();
+    }
+    
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a client's burst is used up")
+    void testRateLimitedResponse() throws Exception {
+        mockMvc.perform(post("/api/reservations/public")).andExpect(status().isOk());
+        mockMvc.perform(post("/api/reservations/public")).andExpect(status().isOk());
+        
+        mockMvc.perform(post("/api/reservations/public"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.message").value("Too many booking requests. Please try again in 10 seconds."));
+        
+        // Another client has its own bucket
+        mockMvc.perform(post("/api/reservations/public").with(request -> {
+            request.setRemoteAddr("10.0.0.2");
+            return request;
+        })).andExpect(status().isOk());
+    }
+    
+    @Test
+    @DisplayName("Should limit only POST /api/reservations/public")
+    void testOtherRequestsAreNotLimited() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/reservations/public")).andExpect(status().is(i < 2 ? 200 : 429));
+        }
+        
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/reservations/public")).andExpect(status().isOk());
+            mockMvc.perform(post("/api/reservations")).andExpect(status().isOk());
+            mockMvc.perform(get("/api/reservations/public/requests/REQ1")).andExpect(status().isOk());
+        }
+    }
+    
+    @RestController
+    @RequestMapping("/api/reservations")
+    static class StubReservationController {
+        
+        @PostMapping("/public")
+        String book() {
+            return "booked";
+        }
+        
+        @GetMapping("/public")
+        String form() {
+            return "form";
+        }
+        
+        @PostMapping
+        String create() {
+            return "created";
+        }
+        
+        @GetMapping("/public/requests/{requestId}")
+        String request() {
+            return "pending";
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.oceanview.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucketLimiter, driven by an explicit clock
+ */
+@DisplayName("Token Bucket Limiter Tests")
+class TokenBucketLimiterTest {
+    
+    private static final long SECOND = 1_000_000_000L;
+    
+    @Test
+    @DisplayName("Should admit a burst, then refill at the sustained rate")
+    void testBurstAndRefill() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 3, 1000, 1000, 100);
+        long now = 10 * SECOND;
+        
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", now));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", now));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", now));
+        assertEquals(SECOND, limiter.tryAcquire("10.0.0.1", now));
+        
+        // Other clients keep their own buckets
+        assertEquals(0, limiter.tryAcquire("10.0.0.2", now));
+        
+        assertEquals(SECOND / 2, limiter.tryAcquire("10.0.0.1", now + SECOND / 2));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", now + SECOND));
+        assertTrue(limiter.tryAcquire("10.0.0.1", now + SECOND) > 0);
+    }
+    
+    @Test
+    @DisplayName("Should cap all clients together with the global bucket")
+    void testGlobalBucket() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, 10, 2, 2, 100);
+        long now = 10 * SECOND;
+        
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", now));
+        assertEquals(0, limiter.tryAcquire("10.0.0.2", now));
+        assertEquals(SECOND / 2, limiter.tryAcquire("10.0.0.3", now));
+        assertEquals(0, limiter.tryAcquire("10.0.0.3", now + SECOND / 2));
+    }
+    
+    @Test
+    @DisplayName("Should give the client's token back when the global bucket rejects")
+    void testGlobalRejectionKeepsClientToken() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(0.1, 1, 1, 1, 100);
+        long now = 10 * SECOND;
+        
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", now));
+        assertEquals(SECOND, limiter.tryAcquire("10.0.0.2", now));
+        assertEquals(0, limiter.tryAcquire("10.0.0.2", now + SECOND));
+        assertEquals(10 * SECOND, limiter.tryAcquire("10.0.0.2", now + SECOND));
+    }
+    
+    @Test
+    @DisplayName("Should evict refilled buckets and bound the number of tracked clients")
+    void testEvictionAndBound() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 1_000_000, 1_000_000, 64);
+        long now = 10 * SECOND;
+        
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("10.0." + (i / 256) + "." + (i % 256), now);
+        }
+        assertTrue(limiter.trackedKeys() <= 64, "tracked " + limiter.trackedKeys());
+        
+        assertEquals(limiter.trackedKeys(), limiter.evictIdle(now + SECOND));
+        assertEquals(0, limiter.trackedKeys());
+    }
+    
+    @Test
+    @DisplayName("Should never admit more than the burst under contention")
+    void testConcurrentAcquire() throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(0.001, 25, 1_000_000, 1_000_000, 100);
+        long now = 10 * SECOND;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 16; i++) {
+            clients.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (limiter.tryAcquire("10.0.0.1", now) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(10, TimeUnit.SECONDS));
+        
+        assertEquals(25, admitted.get());
+    }
+}
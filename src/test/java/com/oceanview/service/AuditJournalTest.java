@@ -0,0 +1,140 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.AuditRecord;
+import com.oceanview.model.ReservationChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the memory-mapped audit journal and its reader
+ */
+@DisplayName("Audit Journal Tests")
+class AuditJournalTest {
+    
+    private static final int SEGMENT_BYTES = 16 * 1024;
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    @DisplayName("Should read back appended records after reopening")
+    void testAppendAndReopen() throws IOException {
+        try (AuditJournal journal = AuditJournal.open(directory, SEGMENT_BYTES)) {
+            assertEquals(1, journal.append(NOW, "MAIN", "admin", "RES1", ReservationChangeType.CREATED, null, "status=CONFIRMED"));
+            assertEquals(2, journal.append(NOW, "MAIN", "reception", "RES1", ReservationChangeType.STATUS_CHANGED,
+                "status=CONFIRMED", "status=CHECKED_IN"));
+        }
+        
+        try (AuditJournal journal = AuditJournal.open(directory, SEGMENT_BYTES)) {
+            assertEquals(3, journal.getNextSequence());
+        }
+        List<AuditRecord> records = AuditJournalReader.query(directory, record -> true, 10);
+        assertEquals(2, records.size());
+        assertEquals(new AuditRecord(2, NOW, "MAIN", "reception", "RES1", ReservationChangeType.STATUS_CHANGED,
+            "status=CONFIRMED", "status=CHECKED_IN"), records.get(1));
+        assertNull(records.get(0).oldValue());
+    }
+    
+    @Test
+    @DisplayName("Should rotate segments and read across them in order")
+    void testSegmentRotation() throws IOException {
+        try (AuditJournal journal = AuditJournal.open(directory, SEGMENT_BYTES)) {
+            for (int i = 0; i < 500; i++) {
+                journal.append(NOW, "MAIN", "admin", "RES" + i, ReservationChangeType.UPDATED,
+                    "roomType=DELUXE checkIn=2025-01-01", "roomType=SUITE checkIn=2025-01-02");
+            }
+        }
+        
+        assertTrue(AuditJournalReader.listSegments(directory).size() > 1);
+        List<Long> sequences = new ArrayList<>();
+        AuditJournalReader.forEach(directory, record -> sequences.add(record.sequence()));
+        assertEquals(500, sequences.size());
+        for (int i = 0; i < sequences.size(); i++) {
+            assertEquals(i + 1, sequences.get(i));
+        }
+        assertEquals(List.of("RES498", "RES499"), AuditJournalReader.query(directory, record -> true, 2).stream()
+            .map(AuditRecord::reservationNumber).toList());
+    }
+    
+    @Test
+    @DisplayName("Should recover from a torn tail write and keep appending after it")
+    void testTornTailRecovery() throws IOException {
+        try (AuditJournal journal = AuditJournal.open(directory, SEGMENT_BYTES)) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(NOW, "MAIN", "admin", "RES" + i, ReservationChangeType.CREATED, null, "status=CONFIRMED");
+            }
+        }
+        
+        // Simulate a crash mid-append: a fourth record whose payload never fully reached the disk
+        Path segment = AuditJournalReader.listSegments(directory).get(0);
+        int end = AuditJournalReader.scan(map(segment), 1, record -> { }).end();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(end);
+            file.writeInt(60);
+            file.writeInt(0x12345678);
+            file.write(new byte[] {0, 0, 0, 0, 0, 0, 0, 4, 1, 2, 3});
+        }
+        assertEquals(3, AuditJournalReader.query(directory, record -> true, 10).size());
+        
+        try (AuditJournal journal = AuditJournal.open(directory, SEGMENT_BYTES)) {
+            assertEquals(4, journal.append(NOW, "MAIN", "admin", "RES3", ReservationChangeType.CANCELLED,
+                "status=CONFIRMED", "status=CANCELLED"));
+        }
+        List<AuditRecord> records = AuditJournalReader.query(directory, record -> true, 10);
+        assertEquals(4, records.size());
+        assertEquals(ReservationChangeType.CANCELLED, records.get(3).action());
+    }
+    
+    @Test
+    @DisplayName("Should decode records written before the property was journaled, without one")
+    void testRecordWithoutProperty() throws IOException {
+        try (AuditJournal journal = AuditJournal.open(directory, SEGMENT_BYTES)) {
+            journal.append(NOW, "MAIN", "admin", "RES1", ReservationChangeType.CREATED, null, "status=CONFIRMED");
+        }
+        
+        // Cut the trailing property off the payload and recompute its length and CRC, as the earlier format wrote it
+        Path segment = AuditJournalReader.listSegments(directory).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            int length = buffer.getInt(0) - (2 + "MAIN".length());
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(AuditJournal.HEADER_BYTES, length));
+            buffer.putInt(4, (int) crc.getValue());
+            buffer.putInt(0, length);
+        }
+        
+        List<AuditRecord> records = AuditJournalReader.query(directory, record -> true, 10);
+        assertEquals(new AuditRecord(1, NOW, null, "admin", "RES1", ReservationChangeType.CREATED,
+            null, "status=CONFIRMED"), records.get(0));
+    }
+    
+    @Test
+    @DisplayName("Should refuse a second writer on the same directory")
+    void testSingleWriter() throws IOException {
+        try (AuditJournal journal = AuditJournal.open(directory, SEGMENT_BYTES)) {
+            assertThrows(Exception.class, () -> AuditJournal.open(directory, SEGMENT_BYTES));
+        }
+    }
+    
+    private static ByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
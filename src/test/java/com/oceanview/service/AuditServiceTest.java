@@ -0,0 +1,139 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.dto.AuditRecord;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AuditService: event capture, actor resolution and the ring buffer hand-off
+ */
+@DisplayName("Audit Service Tests")
+class AuditServiceTest {
+    
+    @TempDir
+    Path directory;
+    
+    private AuditService auditService;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        auditService = new AuditService(directory.toString(), 64 * 1024, 64, 10);
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        auditService.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Should journal status changes and date edits with the acting user")
+    void testRecordsMutations() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            "reception", null, List.of(new SimpleGrantedAuthority("ROLE_RECEPTIONIST"))));
+        Reservation reservation = reservation();
+        
+        auditService.onReservationChange(new ReservationChangeEvent(ReservationChangeType.CREATED, reservation, null));
+        reservation.setCheckOutDate(reservation.getCheckOutDate().plusDays(1));
+        auditService.onReservationChange(new ReservationChangeEvent(ReservationChangeType.UPDATED, reservation, ReservationStatus.CONFIRMED)
+            .withPreviousStay(RoomType.DELUXE, reservation.getCheckInDate(), reservation.getCheckOutDate().minusDays(1)));
+        reservation.setStatus(ReservationStatus.CANCELLED);
+        SecurityContextHolder.clearContext();
+        auditService.onReservationChange(new ReservationChangeEvent(ReservationChangeType.CANCELLED, reservation, ReservationStatus.CONFIRMED));
+        
+        List<AuditRecord> records = awaitRecords("RES42", 3);
+        assertEquals("reception", records.get(0).actor());
+        assertEquals(PropertyDirectory.DEFAULT_CODE, records.get(0).property());
+        assertNull(records.get(0).oldValue());
+        assertTrue(records.get(1).newValue().contains("checkOut=" + reservation.getCheckOutDate()));
+        assertTrue(records.get(1).oldValue().contains("checkOut=" + reservation.getCheckOutDate().minusDays(1)));
+        assertEquals("system", records.get(2).actor());
+        assertEquals("status=CONFIRMED", records.get(2).oldValue());
+        assertEquals("status=CANCELLED", records.get(2).newValue());
+    }
+    
+    @Test
+    @DisplayName("Should keep every record when producers outrun a small ring")
+    void testConcurrentProducers() throws Exception {
+        int producers = 8;
+        int perProducer = 500;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    auditService.onReservationChange(new ReservationChangeEvent(ReservationChangeType.CREATED, reservation(), null));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        
+        assertEquals(producers * perProducer, awaitRecords("RES42", producers * perProducer).size());
+    }
+    
+    @Test
+    @DisplayName("Should journal a night audit transition once per reservation moved, under its property")
+    void testBulkTransitionPerReservation() throws Exception {
+        ReservationChangeEvent chunk = PropertyContext.call("KANDY", () -> ReservationChangeEvent.bulk(
+            ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, 2).withReservationNumbers(List.of("RES7", "RES8")));
+        
+        auditService.onReservationChange(chunk);
+        
+        List<AuditRecord> records = awaitRecords("RES8", 1);
+        assertEquals("KANDY", records.get(0).property());
+        assertEquals("status=CONFIRMED", records.get(0).oldValue());
+        assertEquals("status=NO_SHOW", records.get(0).newValue());
+        assertEquals(ReservationChangeType.BULK_STATUS_CHANGED, records.get(0).action());
+        assertEquals(1, auditService.query("KANDY", "RES7", null, null, null, 10).size());
+        assertTrue(auditService.query(PropertyDirectory.DEFAULT_CODE, "RES7", null, null, null, 10).isEmpty());
+        assertTrue(auditService.query(null, "*", null, null, null, 10).isEmpty());
+    }
+    
+    private List<AuditRecord> awaitRecords(String reservationNumber, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<AuditRecord> records = auditService.query(null, reservationNumber, null, null, null, 10_000);
+        while (records.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            records = auditService.query(null, reservationNumber, null, null, null, 10_000);
+        }
+        assertEquals(expected, records.size());
+        return records;
+    }
+    
+    private static Reservation reservation() {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber("RES42");
+        reservation.setRoomType(RoomType.DELUXE);
+        reservation.setCheckInDate(LocalDate.now().plusDays(3));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(5));
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+        return reservation;
+    }
+}
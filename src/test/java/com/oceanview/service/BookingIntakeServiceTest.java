@@ -0,0 +1,234 @@
+package com.oceanview.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.controller.ReservationController;
+import com.oceanview.dto.BookingIntakeStatus;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.exception.GlobalExceptionHandler;
+import com.oceanview.exception.ResourceNotFoundException;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.BookingIntakeState;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomInventoryNightRepository;
+import com.oceanview.repository.RoomRepository;
+import com.oceanview.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the asynchronous booking intake on H2
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "booking-intake.batch-size=4"
+})
+@Import({BookingIntakeService.class, ReservationService.class, RateCalendar.class, RoomInventory.class,
+    RoomAssignmentService.class, WaitlistService.class, PropertyDirectory.class, PropertyFanOut.class,
+    InventoryLedger.class, ReservationChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Booking Intake Service Tests")
+class BookingIntakeServiceTest {
+    
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(20);
+    
+    @Autowired
+    private BookingIntakeService bookingIntakeService;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private RoomInventory roomInventory;
+    
+    @Autowired
+    private WaitlistService waitlistService;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    
+    @Autowired
+    private RoomInventoryNightRepository nightRepository;
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @BeforeEach
+    void setUp() {
+        for (int room = 301; room <= 310; room++) {
+            roomRepository.save(new Room(String.valueOf(room), RoomType.SUITE));
+        }
+        roomInventory.reload();
+        inventoryLedger.updateCapacity();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        nightRepository.deleteAllInBatch();
+        waitlistEntryRepository.deleteAllInBatch();
+        roomRepository.deleteAllInBatch();
+        roomInventory.reload();
+        waitlistService.reload();
+    }
+    
+    @Test
+    @DisplayName("Should write queued requests in batches, waitlisting those beyond capacity")
+    void testQueuedRequestsAreWritten() {
+        List<BookingIntakeStatus> receipts = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            receipts.add(bookingIntakeService.submit(request("Guest " + i)));
+        }
+        
+        Map<BookingIntakeState, List<BookingIntakeStatus>> outcomes = receipts.stream()
+            .map(receipt -> awaitOutcome(receipt.trackingId()))
+            .collect(Collectors.groupingBy(BookingIntakeStatus::state));
+        
+        assertEquals(10, outcomes.get(BookingIntakeState.CONFIRMED).size());
+        assertEquals(5, outcomes.get(BookingIntakeState.WAITLISTED).size());
+        assertEquals(10, reservationRepository.count());
+        assertEquals(5, waitlistEntryRepository.count());
+        
+        // Every confirmed request points at its own reservation
+        Map<String, BookingIntakeStatus> byReservation = outcomes.get(BookingIntakeState.CONFIRMED).stream()
+            .collect(Collectors.toMap(BookingIntakeStatus::reservationNumber, Function.identity()));
+        assertEquals(10, byReservation.size());
+        byReservation.keySet().forEach(number -> assertTrue(reservationRepository.findByReservationNumber(number).isPresent()));
+    }
+    
+    @Test
+    @DisplayName("Should reject invalid dates before queueing")
+    void testInvalidDatesRejectedOnSubmit() {
+        ReservationRequest request = request("Past Guest");
+        request.setCheckInDate(LocalDate.now().minusDays(1));
+        
+        assertThrows(ValidationException.class, () -> bookingIntakeService.submit(request));
+        assertEquals(0, bookingIntakeService.getQueueDepth());
+    }
+    
+    @Test
+    @DisplayName("Should report unknown tracking ids as not found")
+    void testUnknownTrackingId() {
+        assertThrows(ResourceNotFoundException.class, () -> bookingIntakeService.getStatus("no-such-request"));
+    }
+    
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when the queue is full, and write the queue on shutdown")
+    void testQueueFullIsServiceUnavailable() throws Exception {
+        // Arrange - A two-slot intake whose writer is not started, so nothing leaves the queue
+        BookingIntakeService intake = new BookingIntakeService(reservationService, waitlistService,
+            transactionManager, true, 2, 4);
+        IdempotencyService idempotencyService = mock(IdempotencyService.class);
+        when(idempotencyService.execute(eq("reservations/public"), isNull(), any(), eq(BookingIntakeStatus.class), any()))
+            .thenAnswer(invocation -> invocation.getArgument(4, Supplier.class).get());
+        ReservationController controller = new ReservationController(reservationService,
+            mock(ReservationStreamService.class), idempotencyService, intake,
+            mock(ReservationLookupIndex.class), mock(FrontDeskBoard.class), mock(PropertyDirectory.class));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+        String body = """
+            {"guestName": "Queued Guest", "address": "1 Beach Road, Galle", "contactNumber": "0771234567",
+             "email": "guest@example.com", "roomType": "SUITE", "checkInDate": "%s", "checkOutDate": "%s",
+             "numberOfGuests": 2}
+            """.formatted(CHECK_IN, CHECK_IN.plusDays(2));
+        
+        // Act
+        List<String> trackingIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            trackingIds.add(JsonPath.read(mockMvc.perform(post("/api/reservations/public")
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString(), "$.data.trackingId"));
+        }
+        
+        // Assert
+        mockMvc.perform(post("/api/reservations/public").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.message").value("We are receiving a high number of booking requests. Please try again shortly."));
+        assertEquals(2, intake.getQueueDepth());
+        
+        // Act - Shutdown writes what is still queued
+        intake.shutdown();
+        
+        // Assert
+        assertEquals(0, intake.getQueueDepth());
+        for (String trackingId : trackingIds) {
+            assertEquals(BookingIntakeState.CONFIRMED, intake.getStatus(trackingId).state());
+        }
+        assertEquals(2, reservationRepository.count());
+    }
+    
+    private BookingIntakeStatus awaitOutcome(String trackingId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        BookingIntakeStatus status = bookingIntakeService.getStatus(trackingId);
+        while (status.state() == BookingIntakeState.QUEUED && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            status = bookingIntakeService.getStatus(trackingId);
+        }
+        assertNotEquals(BookingIntakeState.QUEUED, status.state(), "request " + trackingId + " was not processed");
+        return status;
+    }
+    
+    private ReservationRequest request(String guestName) {
+        ReservationRequest request = new ReservationRequest();
+        request.setGuestName(guestName);
+        request.setAddress("1 Beach Road, Galle");
+        request.setContactNumber("0771234567");
+        request.setEmail("guest@example.com");
+        request.setRoomType(RoomType.SUITE);
+        request.setCheckInDate(CHECK_IN);
+        request.setCheckOutDate(CHECK_IN.plusDays(2));
+        request.setNumberOfGuests(2);
+        return request;
+    }
+}
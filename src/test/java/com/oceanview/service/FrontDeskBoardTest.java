@@ -0,0 +1,166 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.DailyBoardResponse;
+import com.oceanview.dto.FrontDeskGuest;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for FrontDeskBoard
+ * Arrivals, departures and in-house lists for today and tomorrow and updates from change events
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Front Desk Board Tests")
+class FrontDeskBoardTest {
+    
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate TOMORROW = TODAY.plusDays(1);
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    private FrontDeskBoard board;
+    
+    @BeforeEach
+    void setUp() {
+        board = new FrontDeskBoard(reservationRepository);
+        when(reservationRepository.findFrontDeskGuests(any(), eq(TODAY), eq(TOMORROW))).thenReturn(List.of(
+            guest("RES1", "Priya Perera", TODAY, TODAY.plusDays(3), ReservationStatus.CONFIRMED),
+            guest("RES2", "amal Silva", TODAY.minusDays(2), TODAY, ReservationStatus.CHECKED_IN),
+            guest("RES3", "Nimal Fernando", TODAY.minusDays(1), TOMORROW, ReservationStatus.CHECKED_IN),
+            guest("RES4", "Kamal Jayasuriya", TOMORROW, TOMORROW.plusDays(2), ReservationStatus.CONFIRMED),
+            guest("RES5", "Dilini Rajapaksa", TODAY.minusDays(3), TODAY, ReservationStatus.CHECKED_OUT)
+        ));
+    }
+    
+    @Test
+    @DisplayName("Should split stays into arrivals, departures and in-house guests for today and tomorrow")
+    void testBoards() {
+        // Act
+        DailyBoardResponse today = board.getBoard(TODAY);
+        DailyBoardResponse tomorrow = board.getBoard(TOMORROW);
+        
+        // Assert
+        assertEquals(TODAY, today.date());
+        assertEquals(List.of("RES1"), numbers(today.arrivals()));
+        assertEquals(List.of("RES2", "RES5"), numbers(today.departures()));
+        assertEquals(List.of("RES3"), numbers(today.inHouse()));
+        
+        assertEquals(TOMORROW, tomorrow.date());
+        assertEquals(List.of("RES4"), numbers(tomorrow.arrivals()));
+        assertEquals(List.of("RES3"), numbers(tomorrow.departures()));
+        assertTrue(tomorrow.inHouse().isEmpty());
+        
+        // Served from memory after the first load
+        board.getBoard(TODAY);
+        verify(reservationRepository, times(1)).findFrontDeskGuests(any(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("Should reject dates other than today and tomorrow")
+    void testOtherDates() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> board.getBoard(TODAY.minusDays(1)));
+        assertThrows(ValidationException.class, () -> board.getBoard(TODAY.plusDays(2)));
+    }
+    
+    @Test
+    @DisplayName("Should keep the board current on reservation changes")
+    void testChangeEvents() {
+        // Arrange
+        board.getBoard(TODAY);
+        when(reservationRepository.findFrontDeskGuest("RES1"))
+            .thenReturn(Optional.of(guest("RES1", "Priya Perera", TODAY, TODAY.plusDays(3), ReservationStatus.CHECKED_IN)));
+        when(reservationRepository.findFrontDeskGuest("RES4"))
+            .thenReturn(Optional.of(guest("RES4", "Kamal Jayasuriya", TOMORROW, TOMORROW.plusDays(2), ReservationStatus.CANCELLED)));
+        when(reservationRepository.findFrontDeskGuest("RES6"))
+            .thenReturn(Optional.of(guest("RES6", "Chamari Atapattu", TODAY, TOMORROW, ReservationStatus.CONFIRMED)));
+        
+        // Act
+        board.onReservationChange(change("RES1"));
+        board.onReservationChange(change("RES4"));
+        board.onReservationChange(change("RES6"));
+        
+        // Assert
+        DailyBoardResponse today = board.getBoard(TODAY);
+        assertEquals(List.of("RES6", "RES1"), numbers(today.arrivals()));
+        assertEquals(List.of("RES3", "RES1"), numbers(today.inHouse()));
+        assertTrue(board.getBoard(TOMORROW).arrivals().isEmpty());
+        assertEquals(List.of("RES3"), numbers(board.getBoard(TOMORROW).departures()));
+    }
+    
+    @Test
+    @DisplayName("Should skip the database for changes to stays far from today and tomorrow")
+    void testDistantChangeSkipsLookup() {
+        // Arrange
+        board.getBoard(TODAY);
+        ReservationChangeEvent distant = change("RES7");
+        distant.setCheckInDate(TODAY.plusDays(30));
+        distant.setCheckOutDate(TODAY.plusDays(32));
+        ReservationChangeEvent movedIn = change("RES8");
+        movedIn.setCheckInDate(TOMORROW);
+        movedIn.setCheckOutDate(TOMORROW.plusDays(2));
+        movedIn.withPreviousStay(RoomType.DELUXE, TODAY.plusDays(30), TODAY.plusDays(32));
+        when(reservationRepository.findFrontDeskGuest("RES8"))
+            .thenReturn(Optional.of(guest("RES8", "Ruwan Dias", TOMORROW, TOMORROW.plusDays(2), ReservationStatus.CONFIRMED)));
+        
+        // Act
+        board.onReservationChange(distant);
+        board.onReservationChange(movedIn);
+        
+        // Assert
+        verify(reservationRepository, never()).findFrontDeskGuest("RES7");
+        assertEquals(List.of("RES4", "RES8"), numbers(board.getBoard(TOMORROW).arrivals()));
+    }
+    
+    @Test
+    @DisplayName("Should re-read only the reservations a set-based transition names")
+    void testBulkChangeEvent() {
+        // Arrange
+        board.getBoard(TODAY);
+        when(reservationRepository.findFrontDeskGuestsByNumbers(List.of("RES1", "RES3"))).thenReturn(List.of(
+            guest("RES1", "Priya Perera", TODAY, TODAY.plusDays(3), ReservationStatus.NO_SHOW),
+            guest("RES3", "Nimal Fernando", TODAY.minusDays(1), TOMORROW, ReservationStatus.CHECKED_IN)));
+        
+        // Act
+        board.onReservationChange(ReservationChangeEvent.bulk(ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, 1)
+            .withReservationNumbers(List.of("RES1", "RES3")));
+        
+        // Assert
+        verify(reservationRepository, times(1)).findFrontDeskGuests(any(), any(), any());
+        assertTrue(board.getBoard(TODAY).arrivals().isEmpty());
+        assertEquals(List.of("RES3"), numbers(board.getBoard(TODAY).inHouse()));
+        assertEquals(List.of("RES4"), numbers(board.getBoard(TOMORROW).arrivals()));
+    }
+    
+    private static ReservationChangeEvent change(String reservationNumber) {
+        ReservationChangeEvent event = new ReservationChangeEvent();
+        event.setReservationNumber(reservationNumber);
+        return event;
+    }
+    
+    private static FrontDeskGuest guest(String number, String name, LocalDate checkIn, LocalDate checkOut,
+                                        ReservationStatus status) {
+        return new FrontDeskGuest(number, name, "0771234567", RoomType.DELUXE, null, checkIn, checkOut, status, 2);
+    }
+    
+    private static List<String> numbers(List<FrontDeskGuest> guests) {
+        return guests.stream().map(FrontDeskGuest::reservationNumber).toList();
+    }
+}
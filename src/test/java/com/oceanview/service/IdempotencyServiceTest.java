@@ -0,0 +1,244 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.exception.ServiceUnavailableException;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.IdempotencyRecordRepository;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomInventoryNightRepository;
+import com.oceanview.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for IdempotencyService on H2
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "idempotency.persistent=true"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({IdempotencyService.class, ReservationService.class, RateCalendar.class, RoomInventory.class,
+    RoomAssignmentService.class, WaitlistService.class, PropertyDirectory.class, PropertyFanOut.class,
+    InventoryLedger.class, ReservationChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Idempotency Service Tests")
+class IdempotencyServiceTest {
+    
+    private static final int CLIENTS = 50;
+    
+    @Autowired
+    private IdempotencyService idempotencyService;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private RoomInventory roomInventory;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    
+    @Autowired
+    private RoomInventoryNightRepository nightRepository;
+    
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+    
+    @BeforeEach
+    void setUp() {
+        for (int room = 301; room <= 310; room++) {
+            roomRepository.save(new Room(String.valueOf(room), RoomType.SUITE));
+        }
+        roomInventory.reload();
+        inventoryLedger.updateCapacity();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        nightRepository.deleteAllInBatch();
+        idempotencyRecordRepository.deleteAllInBatch();
+        roomRepository.deleteAllInBatch();
+        roomInventory.reload();
+    }
+    
+    @Test
+    @DisplayName("Should create one reservation for 50 simultaneous requests with the same key")
+    void testConcurrentDuplicatesShareOneResult() throws Exception {
+        ReservationRequest request = request("Race Guest");
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<ReservationResponse>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                Callable<ReservationResponse> client = () -> {
+                    start.await();
+                    return idempotencyService.execute("reservations/public", "double-click-1", request,
+                        ReservationResponse.class, () -> {
+                            executions.incrementAndGet();
+                            return reservationService.createReservation(request);
+                        });
+                };
+                results.add(clients.submit(client));
+            }
+            start.countDown();
+            
+            String reservationNumber = results.get(0).get(30, TimeUnit.SECONDS).getReservationNumber();
+            for (Future<ReservationResponse> result : results) {
+                assertEquals(reservationNumber, result.get(30, TimeUnit.SECONDS).getReservationNumber());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        
+        assertEquals(1, executions.get());
+        assertEquals(1, reservationRepository.count());
+        assertEquals(1, idempotencyRecordRepository.count());
+    }
+    
+    @Test
+    @DisplayName("Should replay a repeated key and create again for a new key")
+    void testReplayAndNewKey() {
+        ReservationRequest request = request("Repeat Guest");
+        
+        ReservationResponse first = idempotencyService.execute("reservations/public", "key-a", request,
+            ReservationResponse.class, () -> reservationService.createReservation(request));
+        ReservationResponse replay = idempotencyService.execute("reservations/public", "key-a", request,
+            ReservationResponse.class, () -> reservationService.createReservation(request));
+        
+        assertEquals(first.getReservationNumber(), replay.getReservationNumber());
+        assertEquals(1, reservationRepository.count());
+        assertEquals(request.getGuestName(), idempotencyService.execute("reservations/public", "key-b", request,
+            ReservationResponse.class, () -> reservationService.createReservation(request)).getGuestName());
+        assertEquals(2, reservationRepository.count());
+    }
+    
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void testKeyReusedWithDifferentRequest() {
+        idempotencyService.execute("reservations/public", "key-c", request("First Guest"),
+            String.class, () -> "created");
+        
+        assertThrows(ValidationException.class, () -> idempotencyService.execute("reservations/public", "key-c",
+            request("Second Guest"), String.class, () -> "created again"));
+    }
+    
+    @Test
+    @DisplayName("Should release the key after an unexpected failure so the client can retry")
+    void testRetryAfterFailure() {
+        ReservationRequest request = request("Retry Guest");
+        
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("reservations/public", "key-d",
+            request, String.class, () -> {
+                throw new IllegalStateException("Database unavailable");
+            }));
+        
+        assertEquals("created", idempotencyService.execute("reservations/public", "key-d",
+            request, String.class, () -> "created"));
+    }
+    
+    @Test
+    @DisplayName("Should turn new keys away with 503 rather than forget keys still running")
+    void testFullMapKeepsRunningKeys() throws Exception {
+        // Keys left by earlier tests are forgotten so the map holds only this test's keys
+        ((Map<?, ?>) ReflectionTestUtils.getField(idempotencyService, "entries")).clear();
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 2);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            // Arrange - Two keys whose requests are still running fill the map
+            List<Future<String>> inFlight = new ArrayList<>();
+            for (String key : List.of("slow-1", "slow-2")) {
+                inFlight.add(clients.submit(() -> idempotencyService.execute("reservations/public", key,
+                    request("Slow Guest"), String.class, () -> {
+                        running.countDown();
+                        await(release);
+                        return "created " + key;
+                    })));
+            }
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+            
+            // Act / Assert - A new key is refused and neither running key is dropped
+            ServiceUnavailableException full = assertThrows(ServiceUnavailableException.class,
+                () -> idempotencyService.execute("reservations/public", "new-key", request("New Guest"),
+                    String.class, () -> "created new-key"));
+            assertTrue(full.getRetryAfterSeconds() > 0);
+            AtomicInteger executions = new AtomicInteger();
+            release.countDown();
+            assertEquals("created slow-1", idempotencyService.execute("reservations/public", "slow-1",
+                request("Slow Guest"), String.class, () -> "ran again " + executions.incrementAndGet()));
+            assertEquals("created slow-2", inFlight.get(1).get(10, TimeUnit.SECONDS));
+            assertEquals(0, executions.get());
+            
+            // Completed keys are stored, so they make room and still replay from idempotency_records
+            assertEquals("created new-key", idempotencyService.execute("reservations/public", "new-key",
+                request("New Guest"), String.class, () -> "created new-key"));
+            assertEquals("created slow-2", idempotencyService.execute("reservations/public", "slow-2",
+                request("Slow Guest"), String.class, () -> "ran again " + executions.incrementAndGet()));
+            assertEquals(0, executions.get());
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+            ReflectionTestUtils.setField(idempotencyService, "maxEntries", 10000);
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private ReservationRequest request(String guestName) {
+        ReservationRequest request = new ReservationRequest();
+        request.setGuestName(guestName);
+        request.setAddress("1 Beach Road, Galle");
+        request.setContactNumber("0771234567");
+        request.setEmail("guest@example.com");
+        request.setRoomType(RoomType.SUITE);
+        request.setCheckInDate(LocalDate.now().plusDays(5));
+        request.setCheckOutDate(LocalDate.now().plusDays(7));
+        request.setNumberOfGuests(2);
+        return request;
+    }
+}
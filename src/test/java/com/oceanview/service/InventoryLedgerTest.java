@@ -0,0 +1,306 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomInventoryNight;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ArchivedReservationRepository;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomInventoryNightRepository;
+import com.oceanview.repository.RoomRateRepository;
+import com.oceanview.repository.RoomRepository;
+import com.oceanview.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-night inventory ledger on H2, including two nodes booking the last rooms at once.
+ * The second node is a separately built ReservationService with its own inventory, board and ledger
+ * instances, sharing only the database.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.datasource.url=jdbc:h2:mem:inventory_ledger;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=30",
+    "inventory-ledger.horizon-days=30"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReservationService.class, RateCalendar.class, RoomInventory.class, RoomAssignmentService.class,
+    WaitlistService.class, PropertyDirectory.class, PropertyFanOut.class, InventoryLedger.class,
+    ReservationChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Inventory Ledger Tests")
+class InventoryLedgerTest {
+    
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(10);
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    
+    @Autowired
+    private RoomInventory roomInventory;
+    
+    @Autowired
+    private PropertyDirectory propertyDirectory;
+    
+    @Autowired
+    private PropertyFanOut propertyFanOut;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private ArchivedReservationRepository archivedReservationRepository;
+    
+    @Autowired
+    private RoomInventoryNightRepository nightRepository;
+    
+    @Autowired
+    private RoomRateRepository roomRateRepository;
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Autowired
+    private ReservationChangeLogService changeLogService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        nightRepository.deleteAllInBatch();
+        waitlistEntryRepository.deleteAllInBatch();
+        roomRepository.deleteAllInBatch();
+        roomInventory.reload();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        addSuites(301, 303);
+        inventoryLedger.prepare();
+    }
+    
+    @Test
+    @DisplayName("Two nodes booking the last rooms at once never sell more rooms than exist")
+    void testConcurrentBookingsOnTwoNodes() throws Exception {
+        ReservationBooking nodeA = request -> reservationService.createReservation(request).getReservationNumber();
+        ReservationBooking nodeB = secondNode();
+        
+        int attempts = 24;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            ReservationBooking node = i % 2 == 0 ? nodeA : nodeB;
+            // Staggered stays of two to four nights that all include CHECK_IN + 2
+            ReservationRequest request = request("Guest " + i, CHECK_IN.plusDays(i % 3), CHECK_IN.plusDays(3 + i % 2));
+            results.add(executor.submit((Callable<Boolean>) () -> {
+                start.await();
+                try {
+                    node.book(request);
+                    return true;
+                } catch (ValidationException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int booked = 0;
+        for (Future<Boolean> result : results) {
+            booked += result.get() ? 1 : 0;
+        }
+        executor.shutdown();
+        
+        assertEquals(3, booked);
+        assertEquals(3, reservationRepository.count());
+        for (int day = 0; day < 5; day++) {
+            LocalDate night = CHECK_IN.plusDays(day);
+            long staying = reservationRepository.findAll().stream()
+                .filter(reservation -> !reservation.getCheckInDate().isAfter(night) && reservation.getCheckOutDate().isAfter(night))
+                .count();
+            assertTrue(staying <= 3, "Overbooked " + night);
+            assertEquals(staying, sold(RoomType.SUITE, night), "Ledger out of step on " + night);
+        }
+        
+        // A recount from the reservations agrees with what the claims left behind
+        Map<LocalDate, Integer> claimed = soldByNight(RoomType.SUITE);
+        inventoryLedger.rebuild();
+        assertEquals(claimed, soldByNight(RoomType.SUITE));
+    }
+    
+    @Test
+    @DisplayName("Cancelling gives the nights back and reopening claims them again")
+    void testCancelAndReopen() {
+        roomRepository.deleteAllInBatch();
+        addSuites(301, 301);
+        inventoryLedger.updateCapacity();
+        
+        String first = reservationService.createReservation(request("First Guest", CHECK_IN, CHECK_IN.plusDays(2)))
+            .getReservationNumber();
+        assertThrows(ValidationException.class,
+            () -> reservationService.createReservation(request("Second Guest", CHECK_IN, CHECK_IN.plusDays(2))));
+        
+        reservationService.cancelReservation(first);
+        assertEquals(0, sold(RoomType.SUITE, CHECK_IN));
+        reservationService.createReservation(request("Second Guest", CHECK_IN.plusDays(1), CHECK_IN.plusDays(3)));
+        
+        assertThrows(ValidationException.class,
+            () -> reservationService.updateReservationStatus(first, ReservationStatus.CONFIRMED));
+        assertEquals(ReservationStatus.CANCELLED, reservationRepository.findByReservationNumber(first).orElseThrow().getStatus());
+        assertEquals(0, sold(RoomType.SUITE, CHECK_IN));
+        assertEquals(1, sold(RoomType.SUITE, CHECK_IN.plusDays(1)));
+    }
+    
+    @Test
+    @DisplayName("Changing a stay claims only the new nights and keeps the old stay when they are sold out")
+    void testMoveStay() {
+        roomRepository.deleteAllInBatch();
+        addSuites(301, 301);
+        inventoryLedger.updateCapacity();
+        
+        String moving = reservationService.createReservation(request("Moving Guest", CHECK_IN, CHECK_IN.plusDays(2)))
+            .getReservationNumber();
+        reservationService.createReservation(request("Next Guest", CHECK_IN.plusDays(2), CHECK_IN.plusDays(4)));
+        
+        assertThrows(ValidationException.class, () -> reservationService.updateReservation(moving,
+            request("Moving Guest", CHECK_IN.plusDays(1), CHECK_IN.plusDays(3))));
+        assertEquals(CHECK_IN.plusDays(2), reservationRepository.findByReservationNumber(moving).orElseThrow().getCheckOutDate());
+        assertEquals(List.of(1, 1, 1, 1), List.of(sold(RoomType.SUITE, CHECK_IN), sold(RoomType.SUITE, CHECK_IN.plusDays(1)),
+            sold(RoomType.SUITE, CHECK_IN.plusDays(2)), sold(RoomType.SUITE, CHECK_IN.plusDays(3))));
+        
+        reservationService.updateReservation(moving, request("Moving Guest", CHECK_IN.minusDays(1), CHECK_IN.plusDays(1)));
+        assertEquals(1, sold(RoomType.SUITE, CHECK_IN.minusDays(1)));
+        assertEquals(1, sold(RoomType.SUITE, CHECK_IN));
+        assertEquals(0, sold(RoomType.SUITE, CHECK_IN.plusDays(1)));
+    }
+    
+    @Test
+    @DisplayName("Nights beyond the horizon are created on demand with the stays already booked")
+    void testNightsBeyondHorizon() {
+        LocalDate far = LocalDate.now().plusDays(60);
+        assertFalse(soldByNight(RoomType.SUITE).containsKey(far));
+        
+        reservationService.createReservation(request("Early Planner", far, far.plusDays(2)));
+        
+        assertEquals(1, sold(RoomType.SUITE, far));
+        assertEquals(1, sold(RoomType.SUITE, far.plusDays(1)));
+        assertFalse(soldByNight(RoomType.SUITE).containsKey(far.plusDays(2)));
+        assertTrue(reservationService.isAvailable(RoomType.SUITE, far, far.plusDays(2)));
+    }
+    
+    @Test
+    @DisplayName("A refused move gives back only the rooms its release actually took from a drifted night")
+    void testRefusedMoveOnDriftedNight() {
+        // Arrange - The old night's count drifted to zero, and the new night is full
+        setSold(RoomType.SUITE, CHECK_IN, 0);
+        setSold(RoomType.SUITE, CHECK_IN.plusDays(1), 3);
+        
+        // Act - The caller commits even though the move was refused
+        Boolean moved = new TransactionTemplate(transactionManager).execute(status -> inventoryLedger.move(
+            RoomType.SUITE, CHECK_IN, CHECK_IN.plusDays(1), RoomType.SUITE, CHECK_IN.plusDays(1), CHECK_IN.plusDays(2)));
+        
+        // Assert
+        assertFalse(moved);
+        assertEquals(0, sold(RoomType.SUITE, CHECK_IN));
+        assertEquals(3, sold(RoomType.SUITE, CHECK_IN.plusDays(1)));
+    }
+    
+    /**
+     * A second application node: its own services over the same database, in its own transactions
+     */
+    private ReservationBooking secondNode() {
+        RoomInventory inventory = new RoomInventory(roomRepository);
+        RoomAssignmentService assignments = new RoomAssignmentService(reservationRepository, inventory, propertyDirectory,
+            event -> { }, transactionManager);
+        WaitlistService waitlist = new WaitlistService(waitlistEntryRepository, propertyDirectory, transactionManager);
+        InventoryLedger ledger = new InventoryLedger(nightRepository, reservationRepository, inventory, propertyDirectory,
+            transactionManager);
+        ReservationService service = new ReservationService(reservationRepository, archivedReservationRepository,
+            event -> { }, new RateCalendar(roomRateRepository), ledger, assignments, waitlist, propertyFanOut, changeLogService,
+            transactionManager);
+        return request -> service.createReservation(request).getReservationNumber();
+    }
+    
+    private void setSold(RoomType roomType, LocalDate night, int sold) {
+        RoomInventoryNight row = nightRepository.findAll().stream()
+            .filter(candidate -> candidate.getRoomType() == roomType && candidate.getNight().equals(night))
+            .findFirst().orElseThrow();
+        row.setSold(sold);
+        nightRepository.save(row);
+    }
+    
+    private int sold(RoomType roomType, LocalDate night) {
+        return soldByNight(roomType).getOrDefault(night, 0);
+    }
+    
+    private Map<LocalDate, Integer> soldByNight(RoomType roomType) {
+        return nightRepository.findAll().stream()
+            .filter(night -> night.getRoomType() == roomType)
+            .collect(Collectors.toMap(RoomInventoryNight::getNight, RoomInventoryNight::getSold));
+    }
+    
+    private void addSuites(int first, int last) {
+        for (int room = first; room <= last; room++) {
+            roomRepository.save(new Room(String.valueOf(room), RoomType.SUITE));
+        }
+        roomInventory.reload();
+    }
+    
+    private static ReservationRequest request(String guestName, LocalDate checkIn, LocalDate checkOut) {
+        ReservationRequest request = new ReservationRequest();
+        request.setGuestName(guestName);
+        request.setAddress("12 Lake Road, Kandy");
+        request.setContactNumber("0771234567");
+        request.setEmail("guest@example.com");
+        request.setRoomType(RoomType.SUITE);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkOut);
+        request.setNumberOfGuests(2);
+        return request;
+    }
+    
+    /**
+     * Books a request on one node and returns the reservation number
+     */
+    private interface ReservationBooking {
+        String book(ReservationRequest request);
+    }
+}
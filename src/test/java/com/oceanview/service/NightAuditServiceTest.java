@@ -0,0 +1,228 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.dto.NightAuditReport;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.model.NightAuditCheckpoint;
+import com.oceanview.model.NightAuditPhase;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.NightAuditCheckpointRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for NightAuditService on H2: chunked transitions, checkpoint resume after a failed
+ * chunk, and skipping a phase that already completed. Chunks of three run one at a time, so each wave
+ * is a single chunk and checkpoints land after every chunk.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "night-audit.chunk-size=3",
+    "night-audit.parallelism=1"
+})
+@Import({NightAuditService.class, InventoryLedger.class, RoomInventory.class, PropertyDirectory.class,
+    NightAuditServiceTest.ChunkListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Night Audit Service Tests")
+class NightAuditServiceTest {
+    
+    private static final LocalDate BUSINESS_DATE = LocalDate.now();
+    
+    @Autowired
+    private NightAuditService nightAuditService;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private NightAuditCheckpointRepository checkpointRepository;
+    
+    @Autowired
+    private ChunkListener chunks;
+    
+    private final List<String> noShows = new ArrayList<>();
+    private final List<String> overdue = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        chunks.reset();
+        // Seven no-shows (three chunks) and five overdue check-outs (two chunks), with stays the audit must not touch
+        for (int i = 0; i < 7; i++) {
+            noShows.add(save("RESNOSHOW" + i, ReservationStatus.CONFIRMED,
+                BUSINESS_DATE.minusDays(1), BUSINESS_DATE).getReservationNumber());
+        }
+        for (int i = 0; i < 5; i++) {
+            overdue.add(save("RESOVERDUE" + i, ReservationStatus.CHECKED_IN,
+                BUSINESS_DATE.minusDays(3), BUSINESS_DATE.minusDays(1)).getReservationNumber());
+        }
+        save("RESARRIVING", ReservationStatus.CONFIRMED, BUSINESS_DATE, BUSINESS_DATE.plusDays(2));
+        save("RESINHOUSE", ReservationStatus.CHECKED_IN, BUSINESS_DATE.minusDays(1), BUSINESS_DATE.plusDays(1));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    @DisplayName("Should resume after the last checkpointed id when a chunk fails, moving every stay exactly once")
+    void testResumeAfterFailedChunk() {
+        // Arrange - The second no-show chunk throws inside its transaction
+        chunks.failOnChunk(2);
+        
+        // Act
+        assertThrows(IllegalStateException.class, () -> nightAuditService.runAudit(BUSINESS_DATE));
+        
+        // Assert - Only the first chunk committed and was checkpointed
+        NightAuditCheckpoint interrupted = checkpoint(NightAuditPhase.NO_SHOW);
+        assertFalse(interrupted.isCompleted());
+        assertEquals(3, interrupted.getProcessedCount());
+        assertEquals(id(noShows.get(2)), interrupted.getLastProcessedId());
+        assertEquals(List.of(ReservationStatus.NO_SHOW, ReservationStatus.NO_SHOW, ReservationStatus.NO_SHOW,
+            ReservationStatus.CONFIRMED), statuses(noShows.subList(0, 4)));
+        assertTrue(checkpointRepository.findByBusinessDateAndPhase(BUSINESS_DATE, NightAuditPhase.OVERDUE_CHECKOUT).isEmpty());
+        
+        // Act - Re-run the same business date
+        chunks.failOnChunk(0);
+        NightAuditReport report = nightAuditService.runAudit(BUSINESS_DATE);
+        
+        // Assert - The rerun started after the checkpoint and every stay moved once
+        assertEquals(7, report.getNoShowCount());
+        assertEquals(5, report.getCheckedOutCount());
+        assertTrue(chunks.firstIds().get(1) > interrupted.getLastProcessedId());
+        List<String> moved = new ArrayList<>(chunks.moved());
+        Collections.sort(moved);
+        List<String> expected = new ArrayList<>(noShows);
+        expected.addAll(overdue);
+        Collections.sort(expected);
+        assertEquals(expected, moved);
+        
+        NightAuditCheckpoint noShowCheckpoint = checkpoint(NightAuditPhase.NO_SHOW);
+        assertTrue(noShowCheckpoint.isCompleted());
+        assertEquals(7, noShowCheckpoint.getProcessedCount());
+        assertEquals(id(noShows.get(6)), noShowCheckpoint.getLastProcessedId());
+        NightAuditCheckpoint checkoutCheckpoint = checkpoint(NightAuditPhase.OVERDUE_CHECKOUT);
+        assertTrue(checkoutCheckpoint.isCompleted());
+        assertEquals(5, checkoutCheckpoint.getProcessedCount());
+        
+        assertTrue(statuses(noShows).stream().allMatch(status -> status == ReservationStatus.NO_SHOW));
+        assertTrue(statuses(overdue).stream().allMatch(status -> status == ReservationStatus.CHECKED_OUT));
+        assertEquals(List.of(ReservationStatus.CONFIRMED, ReservationStatus.CHECKED_IN),
+            statuses(List.of("RESARRIVING", "RESINHOUSE")));
+    }
+    
+    @Test
+    @DisplayName("Should skip phases that already completed for the business date")
+    void testCompletedPhaseIsSkipped() {
+        // Arrange
+        nightAuditService.runAudit(BUSINESS_DATE);
+        int movedBefore = chunks.moved().size();
+        save("RESLATENOSHOW", ReservationStatus.CONFIRMED, BUSINESS_DATE.minusDays(2), BUSINESS_DATE);
+        
+        // Act
+        NightAuditReport rerun = nightAuditService.runAudit(BUSINESS_DATE);
+        
+        // Assert - Counts come from the checkpoints and nothing else is moved
+        assertEquals(7, rerun.getNoShowCount());
+        assertEquals(5, rerun.getCheckedOutCount());
+        assertEquals(movedBefore, chunks.moved().size());
+        assertEquals(ReservationStatus.CONFIRMED,
+            reservationRepository.findByReservationNumber("RESLATENOSHOW").orElseThrow().getStatus());
+    }
+    
+    private NightAuditCheckpoint checkpoint(NightAuditPhase phase) {
+        return checkpointRepository.findByBusinessDateAndPhase(BUSINESS_DATE, phase).orElseThrow();
+    }
+    
+    private long id(String reservationNumber) {
+        return reservationRepository.findByReservationNumber(reservationNumber).orElseThrow().getId();
+    }
+    
+    private List<ReservationStatus> statuses(List<String> reservationNumbers) {
+        return reservationNumbers.stream()
+            .map(number -> reservationRepository.findByReservationNumber(number).orElseThrow().getStatus())
+            .toList();
+    }
+    
+    private Reservation save(String number, ReservationStatus status, LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber(number);
+        reservation.setGuestName("Guest " + number);
+        reservation.setAddress("Colombo");
+        reservation.setContactNumber("0771234567");
+        reservation.setEmail("guest@example.com");
+        reservation.setRoomType(RoomType.DELUXE);
+        reservation.setCheckInDate(checkIn);
+        reservation.setCheckOutDate(checkOut);
+        reservation.setStatus(status);
+        reservation.setNumberOfGuests(2);
+        return reservationRepository.save(reservation);
+    }
+    
+    /**
+     * Records each chunk's moved stays from its in-transaction event and can fail one chunk,
+     * rolling back its transaction as a crash mid-audit would
+     */
+    @TestConfiguration
+    static class ChunkListener {
+        
+        private final List<String> moved = new CopyOnWriteArrayList<>();
+        private final List<Long> firstIds = new CopyOnWriteArrayList<>();
+        private final AtomicInteger chunk = new AtomicInteger();
+        private volatile int failOnChunk;
+        
+        @Autowired
+        private ReservationRepository reservationRepository;
+        
+        @EventListener
+        public void onChunk(ReservationChangeEvent event) {
+            if (chunk.incrementAndGet() == failOnChunk) {
+                throw new IllegalStateException("Simulated failure in chunk " + failOnChunk);
+            }
+            firstIds.add(reservationRepository.findByReservationNumber(event.getReservationNumbers().get(0))
+                .orElseThrow().getId());
+            moved.addAll(event.getReservationNumbers());
+        }
+        
+        void failOnChunk(int chunkNumber) {
+            chunk.set(0);
+            failOnChunk = chunkNumber;
+        }
+        
+        void reset() {
+            moved.clear();
+            firstIds.clear();
+            failOnChunk(0);
+        }
+        
+        List<String> moved() {
+            return moved;
+        }
+        
+        List<Long> firstIds() {
+            return firstIds;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.OccupancyReport;
+import com.oceanview.dto.OccupancyReportRow;
+import com.oceanview.dto.ReservationStay;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ArchivedReservationRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for OccupancyReportService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Occupancy Report Service Tests")
+class OccupancyReportServiceTest {
+    
+    private static final LocalDate FROM = LocalDate.of(2026, 5, 1);
+    private static final long[] CAPACITY = {20, 15, 10, 8, 3};
+    private static final int ROWS_PER_NIGHT = RoomType.values().length + 1;
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    @Mock
+    private ArchivedReservationRepository archivedReservationRepository;
+    
+    @Mock
+    private RoomInventory roomInventory;
+    
+    @InjectMocks
+    private OccupancyReportService occupancyReportService;
+    
+    @Test
+    @DisplayName("Should count only the nights inside the report range")
+    void testAggregate_ClipsStaysToRange() {
+        // Arrange - Stay straddles the report start: nights Apr 29, 30, May 1, 2
+        List<ReservationStay> stays = List.of(
+            new ReservationStay(RoomType.DELUXE, FROM.minusDays(2), FROM.plusDays(2), new BigDecimal("32000.00"))
+        );
+        
+        // Act
+        OccupancyReport report = OccupancyReportService.aggregate(stays, FROM, 3, CAPACITY);
+        
+        // Assert
+        assertEquals(3 * ROWS_PER_NIGHT, report.getNights().size());
+        assertEquals(1, deluxe(report, 0).getRoomsSold());
+        assertEquals(1, deluxe(report, 1).getRoomsSold());
+        assertEquals(0, deluxe(report, 2).getRoomsSold());
+        assertEquals(new BigDecimal("8000.00"), deluxe(report, 0).getRevenue());
+        assertEquals(new BigDecimal("6.67"), deluxe(report, 0).getOccupancyPercent());
+    }
+    
+    @Test
+    @DisplayName("Should spread uneven totals without losing cents")
+    void testAggregate_SpreadsRemainder() {
+        // Arrange - 100.00 over 3 nights
+        List<ReservationStay> stays = List.of(
+            new ReservationStay(RoomType.STANDARD, FROM, FROM.plusDays(3), new BigDecimal("100.00"))
+        );
+        
+        // Act
+        OccupancyReport report = OccupancyReportService.aggregate(stays, FROM, 3, CAPACITY);
+        
+        // Assert
+        assertEquals(new BigDecimal("33.34"), report.getNights().get(0).getRevenue());
+        assertEquals(new BigDecimal("33.33"), report.getNights().get(ROWS_PER_NIGHT).getRevenue());
+        OccupancyReportRow standardTotal = report.getTotals().get(RoomType.STANDARD.ordinal());
+        assertEquals(new BigDecimal("100.00"), standardTotal.getRevenue());
+        assertEquals(3, standardTotal.getRoomsSold());
+        assertEquals(new BigDecimal("33.33"), standardTotal.getAdr());
+        assertEquals(60, standardTotal.getRoomsAvailable());
+    }
+    
+    @Test
+    @DisplayName("Should total all room types per night and for the period")
+    void testAggregate_AllRoomsRows() {
+        // Arrange
+        List<ReservationStay> stays = List.of(
+            new ReservationStay(RoomType.STANDARD, FROM, FROM.plusDays(1), new BigDecimal("5000.00")),
+            new ReservationStay(RoomType.SUITE, FROM, FROM.plusDays(1), new BigDecimal("12000.00"))
+        );
+        
+        // Act
+        OccupancyReport report = OccupancyReportService.aggregate(stays, FROM, 1, CAPACITY);
+        
+        // Assert
+        OccupancyReportRow allRooms = report.getNights().get(ROWS_PER_NIGHT - 1);
+        assertNull(allRooms.getRoomType());
+        assertEquals(56, allRooms.getRoomsAvailable());
+        assertEquals(2, allRooms.getRoomsSold());
+        assertEquals(new BigDecimal("8500.00"), allRooms.getAdr());
+        assertEquals(new BigDecimal("303.57"), allRooms.getRevpar());
+        assertEquals(2, report.getReservationsScanned());
+    }
+    
+    @Test
+    @DisplayName("Should weight grouped stays by their count")
+    void testAggregate_GroupedStays() {
+        // Arrange - Four identical two-night family stays collapsed into one row
+        List<ReservationStay> stays = List.of(
+            new ReservationStay(RoomType.FAMILY, FROM, FROM.plusDays(2), new BigDecimal("20000.00"), 4)
+        );
+        
+        // Act
+        OccupancyReport report = OccupancyReportService.aggregate(stays, FROM, 2, CAPACITY);
+        
+        // Assert
+        OccupancyReportRow familyTotal = report.getTotals().get(RoomType.FAMILY.ordinal());
+        assertEquals(8, familyTotal.getRoomsSold());
+        assertEquals(new BigDecimal("80000.00"), familyTotal.getRevenue());
+        assertEquals(new BigDecimal("50.00"), familyTotal.getOccupancyPercent());
+        assertEquals(4, report.getReservationsScanned());
+    }
+    
+    @Test
+    @DisplayName("Should reject an empty or oversized range")
+    void testBuildReport_InvalidRange() {
+        assertThrows(ValidationException.class, () -> occupancyReportService.buildReport(FROM, FROM));
+        assertThrows(ValidationException.class, () -> occupancyReportService.buildReport(FROM, FROM.plusYears(4)));
+    }
+    
+    @Test
+    @DisplayName("Should include archived stays only for ranges reaching past the archive horizon")
+    void testBuildReport_ReadsArchivePastHorizon() {
+        // Arrange
+        LocalDate recent = LocalDate.now().minusDays(30);
+        LocalDate old = LocalDate.now().minusDays(400);
+        when(reservationRepository.findStaysOverlapping(anyCollection(), any(), any())).thenReturn(List.of(
+            new ReservationStay(RoomType.DELUXE, old.plusDays(2), old.plusDays(3), new BigDecimal("8000.00"))));
+        when(archivedReservationRepository.findStaysOverlapping(anyCollection(), eq(old), eq(old.plusDays(5))))
+            .thenReturn(List.of(new ReservationStay(RoomType.DELUXE, old, old.plusDays(2), new BigDecimal("16000.00"), 3)));
+        
+        // Act
+        OccupancyReport recentReport = occupancyReportService.buildReport(recent, recent.plusDays(5));
+        OccupancyReport oldReport = occupancyReportService.buildReport(old, old.plusDays(5));
+        
+        // Assert
+        verify(archivedReservationRepository, never()).findStaysOverlapping(anyCollection(), eq(recent), any());
+        assertEquals(1, recentReport.getReservationsScanned());
+        assertEquals(4, oldReport.getReservationsScanned());
+        assertEquals(3, deluxe(oldReport, 0).getRoomsSold());
+        assertEquals(1, deluxe(oldReport, 2).getRoomsSold());
+        assertEquals(new BigDecimal("56000.00"), oldReport.getTotals().get(RoomType.DELUXE.ordinal()).getRevenue());
+    }
+    
+    private OccupancyReportRow deluxe(OccupancyReport report, int day) {
+        return report.getNights().get(day * ROWS_PER_NIGHT + RoomType.DELUXE.ordinal());
+    }
+}
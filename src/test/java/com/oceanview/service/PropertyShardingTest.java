@@ -0,0 +1,176 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.config.PropertyShardConfig;
+import com.oceanview.dto.CrossPropertySearchResponse;
+import com.oceanview.dto.PropertyReservation;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomInventoryNightRepository;
+import com.oceanview.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-property databases: two in-memory H2 databases stand in for the MAIN and BEACH
+ * property shards behind the routing datasource, with the schema created on both at startup
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.datasource.url=jdbc:h2:mem:property_main;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "property.sharding.enabled=true",
+    "property.shards.BEACH.name=Ocean View Beach Villas",
+    "property.shards.BEACH.url=jdbc:h2:mem:property_beach;DB_CLOSE_DELAY=-1",
+    "property.fan-out.timeout-ms=10000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PropertyShardConfig.class, PropertyDirectory.class, PropertyFanOut.class, ReservationService.class,
+    RateCalendar.class, RoomInventory.class, RoomAssignmentService.class, WaitlistService.class,
+    InventoryLedger.class, ReservationChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Property Sharding Tests")
+class PropertyShardingTest {
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private RoomInventory roomInventory;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    
+    @Autowired
+    private RoomInventoryNightRepository nightRepository;
+    
+    @Autowired
+    private PropertyDirectory propertyDirectory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @BeforeEach
+    void setUp() {
+        PropertyContext.run("MAIN", () -> addRooms(RoomType.SUITE, 301, 303));
+        PropertyContext.run("BEACH", () -> addRooms(RoomType.SUITE, 901, 901));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        propertyDirectory.forEachProperty(() -> {
+            reservationRepository.deleteAllInBatch();
+            nightRepository.deleteAllInBatch();
+            roomRepository.deleteAllInBatch();
+            roomInventory.reload();
+        });
+    }
+    
+    @Test
+    @DisplayName("Each property keeps its own rooms and its own inventory")
+    void testInventoryIsPerProperty() {
+        assertEquals(List.of("MAIN", "BEACH"), propertyDirectory.getCodes());
+        assertEquals(3, PropertyContext.call("MAIN", () -> roomInventory.getCapacity(RoomType.SUITE)));
+        assertEquals(1, PropertyContext.call("BEACH", () -> roomInventory.getCapacity(RoomType.SUITE)));
+        assertEquals(List.of("901"), PropertyContext.call("BEACH", () -> roomInventory.getRoomsByType().get(RoomType.SUITE)));
+    }
+    
+    @Test
+    @DisplayName("A reservation is written to its own property's database only")
+    void testReservationLandsInItsProperty() {
+        String number = PropertyContext.call("BEACH",
+            () -> reservationService.createReservation(request("Beach Guest")).getReservationNumber());
+        
+        assertTrue(PropertyContext.call("BEACH", () -> reservationRepository.findByReservationNumber(number).isPresent()));
+        assertEquals(0, PropertyContext.call("MAIN", () -> reservationRepository.count()));
+        
+        // The only BEACH suite is taken, while MAIN still has all of its suites
+        assertThrows(RuntimeException.class, () -> PropertyContext.run("BEACH",
+            () -> reservationService.createReservation(request("Second Beach Guest"))));
+        assertDoesNotThrow(() -> PropertyContext.run("MAIN",
+            () -> reservationService.createReservation(request("Main Guest"))));
+    }
+    
+    @Test
+    @DisplayName("A cross-property search merges matches from every property, tagged with their property")
+    void testSearchAcrossProperties() {
+        PropertyContext.run("MAIN", () -> reservationService.createReservation(request("Roaming Guest")));
+        PropertyContext.run("BEACH", () -> reservationService.createReservation(request("Roaming Guest")));
+        
+        CrossPropertySearchResponse response = reservationService.searchAcrossProperties("Roaming",
+            List.of("MAIN", "BEACH"));
+        
+        assertEquals(List.of("BEACH", "MAIN"), response.reservations().stream().map(PropertyReservation::property).toList());
+        assertTrue(response.unavailableProperties().isEmpty());
+    }
+    
+    @Test
+    @DisplayName("A property without a database is reported unavailable and never falls back to another")
+    void testUnknownPropertyIsNotRouted() {
+        PropertyContext.run("MAIN", () -> reservationService.createReservation(request("Lonely Guest")));
+        
+        CrossPropertySearchResponse response = reservationService.searchAcrossProperties("Lonely",
+            List.of("MAIN", "NOWHERE"));
+        
+        assertEquals(1, response.reservations().size());
+        assertEquals(List.of("NOWHERE"), response.unavailableProperties());
+        assertThrows(RuntimeException.class, () -> PropertyContext.run("NOWHERE", () -> reservationRepository.count()));
+    }
+    
+    @Test
+    @DisplayName("A transaction cannot switch to another property")
+    void testNoSwitchInsideTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        
+        assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status ->
+            PropertyContext.run("BEACH", () -> reservationRepository.count())));
+    }
+    
+    private void addRooms(RoomType roomType, int first, int last) {
+        for (int room = first; room <= last; room++) {
+            roomRepository.save(new Room(String.valueOf(room), roomType));
+        }
+        roomInventory.reload();
+        inventoryLedger.updateCapacity();
+    }
+    
+    private static ReservationRequest request(String guestName) {
+        ReservationRequest request = new ReservationRequest();
+        request.setGuestName(guestName);
+        request.setAddress("1 Beach Road, Galle");
+        request.setContactNumber("0771234567");
+        request.setEmail("guest@example.com");
+        request.setRoomType(RoomType.SUITE);
+        request.setCheckInDate(LocalDate.now().plusDays(5));
+        request.setCheckOutDate(LocalDate.now().plusDays(7));
+        request.setNumberOfGuests(2);
+        return request;
+    }
+}
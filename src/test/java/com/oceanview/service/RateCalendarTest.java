@@ -0,0 +1,121 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomRate;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomRateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RateCalendar on H2
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "rate-calendar.past-days=30",
+    "rate-calendar.future-days=120"
+})
+@Import({RateCalendar.class, ReservationService.class, RoomInventory.class, RoomAssignmentService.class,
+    WaitlistService.class, PropertyDirectory.class, PropertyFanOut.class, InventoryLedger.class,
+    ReservationChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Rate Calendar Tests")
+class RateCalendarTest {
+    
+    // A Monday a few weeks out, so weekday and weekend nights are predictable
+    private static final LocalDate MONDAY = LocalDate.now().plusWeeks(3).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    
+    @Autowired
+    private RateCalendar rateCalendar;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private RoomRateRepository roomRateRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        roomRateRepository.deleteAllInBatch();
+        rateCalendar.reload();
+    }
+    
+    @Test
+    @DisplayName("Should price at the base rate when no rules exist")
+    void testBaseRate() {
+        rateCalendar.reload();
+        
+        assertEquals(new BigDecimal("24000.00"), rateCalendar.price(RoomType.DELUXE, MONDAY, MONDAY.plusDays(3)));
+    }
+    
+    @Test
+    @DisplayName("Should apply seasonal and weekend rates, later rules winning")
+    void testSeasonalAndWeekendRates() {
+        roomRateRepository.save(new RoomRate(RoomType.DELUXE, MONDAY, MONDAY.plusDays(13),
+            new BigDecimal("9000.00"), new BigDecimal("11000.00"), "High season"));
+        roomRateRepository.save(new RoomRate(RoomType.DELUXE, MONDAY.plusDays(7), MONDAY.plusDays(7),
+            new BigDecimal("7000.00"), null, "Monday promotion"));
+        rateCalendar.reload();
+        
+        // Mon-Thu at 9000, Fri and Sat at 11000, Sun at 9000
+        assertEquals(new BigDecimal("67000.00"), rateCalendar.price(RoomType.DELUXE, MONDAY, MONDAY.plusDays(7)));
+        // Second Monday overridden by the later rule
+        assertEquals(new BigDecimal("7000.00"), rateCalendar.price(RoomType.DELUXE, MONDAY.plusDays(7), MONDAY.plusDays(8)));
+        // Other room types untouched
+        assertEquals(new BigDecimal("5000.00"), rateCalendar.price(RoomType.STANDARD, MONDAY, MONDAY.plusDays(1)));
+    }
+    
+    @Test
+    @DisplayName("Should charge base rate for nights beyond the calendar window")
+    void testOutsideWindow() {
+        roomRateRepository.save(new RoomRate(RoomType.SUITE, LocalDate.now(), LocalDate.now().plusYears(2),
+            new BigDecimal("10000.00"), null, "All year"));
+        rateCalendar.reload();
+        
+        LocalDate edge = LocalDate.now().plusDays(118);
+        // Two nights inside the window at 10000, two beyond it at the 12000 base rate
+        assertEquals(new BigDecimal("44000.00"), rateCalendar.price(RoomType.SUITE, edge, edge.plusDays(4)));
+    }
+    
+    @Test
+    @DisplayName("Should keep the booked total on a status-only change")
+    void testStatusChangeSkipsPricing() {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber("RESRATE1");
+        reservation.setGuestName("Rate Guest");
+        reservation.setAddress("Colombo");
+        reservation.setContactNumber("0771234567");
+        reservation.setRoomType(RoomType.DELUXE);
+        reservation.setCheckInDate(MONDAY);
+        reservation.setCheckOutDate(MONDAY.plusDays(2));
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+        reservation.applyPrice(new BigDecimal("15000.00"));
+        reservationRepository.save(reservation);
+        
+        reservationService.updateReservationStatus("RESRATE1", ReservationStatus.CHECKED_IN);
+        
+        assertEquals(0, new BigDecimal("15000.00").compareTo(
+            reservationRepository.findByReservationNumber("RESRATE1").orElseThrow().getTotalAmount()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ArchivedReservationRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ReservationArchiveService on H2
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "archive.throttle-ms=0",
+    "archive.batch-size=2"
+})
+@Import({ReservationArchiveService.class, ReservationService.class, RateCalendar.class,
+    RoomInventory.class, RoomAssignmentService.class, WaitlistService.class, PropertyDirectory.class,
+    PropertyFanOut.class, InventoryLedger.class, ReservationChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Reservation Archive Service Tests")
+class ReservationArchiveServiceTest {
+    
+    private static final LocalDate CUTOFF = LocalDate.of(2025, 1, 1);
+    
+    @Autowired
+    private ReservationArchiveService archiveService;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private ArchivedReservationRepository archivedReservationRepository;
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        archivedReservationRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    @DisplayName("Should move only closed reservations older than the horizon")
+    void testArchiveClosedReservations() {
+        save("RESOLD1", ReservationStatus.CHECKED_OUT, CUTOFF.minusDays(30));
+        save("RESOLD2", ReservationStatus.CANCELLED, CUTOFF.minusDays(20));
+        save("RESOLD3", ReservationStatus.NO_SHOW, CUTOFF.minusDays(10));
+        save("RESOLD4", ReservationStatus.CHECKED_OUT, CUTOFF.minusDays(5));
+        save("RESRECENT", ReservationStatus.CHECKED_OUT, CUTOFF.plusDays(5));
+        save("RESOPEN", ReservationStatus.CONFIRMED, CUTOFF.minusDays(30));
+        
+        long archived = archiveService.archiveClosedReservations(CUTOFF);
+        
+        assertEquals(4, archived);
+        assertEquals(4, archivedReservationRepository.count());
+        assertEquals(2, reservationRepository.count());
+        assertTrue(reservationRepository.findByReservationNumber("RESRECENT").isPresent());
+        assertTrue(reservationRepository.findByReservationNumber("RESOPEN").isPresent());
+    }
+    
+    @Test
+    @DisplayName("Should find archived reservations by number through the fallback path")
+    void testLookupFallsBackToArchive() {
+        Reservation saved = save("RESARCHIVED", ReservationStatus.CHECKED_OUT, CUTOFF.minusDays(30));
+        saved.setRoomNumber("402");
+        reservationRepository.save(saved);
+        archiveService.archiveClosedReservations(CUTOFF);
+        
+        ReservationResponse response = reservationService.getReservationByNumber("RESARCHIVED");
+        
+        assertEquals(saved.getId(), response.getId());
+        assertEquals(ReservationStatus.CHECKED_OUT, response.getStatus());
+        assertEquals(3, response.getNumberOfNights());
+        assertEquals("402", response.getRoomNumber());
+        assertFalse(reservationRepository.findByReservationNumber("RESARCHIVED").isPresent());
+    }
+    
+    private Reservation save(String number, ReservationStatus status, LocalDate checkOut) {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber(number);
+        reservation.setGuestName("Guest " + number);
+        reservation.setAddress("Colombo");
+        reservation.setContactNumber("0771234567");
+        reservation.setEmail("guest@example.com");
+        reservation.setRoomType(RoomType.SUITE);
+        reservation.setCheckInDate(checkOut.minusDays(3));
+        reservation.setCheckOutDate(checkOut);
+        reservation.setStatus(status);
+        reservation.setNumberOfGuests(2);
+        return reservationRepository.save(reservation);
+    }
+}
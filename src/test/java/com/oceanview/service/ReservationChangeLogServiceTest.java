@@ -0,0 +1,236 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationChangeRecord;
+import com.oceanview.model.ReservationChangeType;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ReservationChangeRecordRepository;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the cross-node change log: two service instances with different node ids share one
+ * in-memory H2 database, standing in for two application nodes on one database server.
+ * "node-a" is the Spring bean and writes through the real transactional event listener.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "change-log.node-id=node-a"
+})
+@Import({ReservationChangeLogService.class, PropertyDirectory.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Reservation Change Log Service Tests")
+class ReservationChangeLogServiceTest {
+    
+    @Autowired
+    private ReservationChangeLogService nodeA;
+    
+    @Autowired
+    private ReservationChangeRecordRepository changeRecordRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private PropertyDirectory propertyDirectory;
+    
+    private TransactionTemplate transaction;
+    private ReservationChangeLogService nodeB;
+    private final List<ReservationChangeEvent> replayedOnB = new CopyOnWriteArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        changeRecordRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        
+        nodeB = new ReservationChangeLogService(changeRecordRepository, reservationRepository,
+            event -> replayedOnB.add((ReservationChangeEvent) event), propertyDirectory, transactionManager, "node-b");
+        nodeB.position();
+        nodeA.poll();
+    }
+    
+    @Test
+    @DisplayName("Another node replays a committed change with its lookup details; the writer skips its own")
+    void testChangeIsReplayedOnOtherNode() {
+        Reservation reservation = createOnNodeA("RESLOG1", ReservationStatus.CONFIRMED);
+        
+        assertEquals(1, nodeB.poll());
+        assertEquals(1, replayedOnB.size());
+        ReservationChangeEvent event = replayedOnB.get(0);
+        assertTrue(event.isRemote());
+        assertEquals(ReservationChangeType.CREATED, event.getType());
+        assertEquals("RESLOG1", event.getReservationNumber());
+        assertEquals(reservation.getCheckInDate(), event.getCheckInDate());
+        assertNotNull(event.getLookupEntry());
+        assertEquals("logged@example.com", event.getLookupEntry().email());
+        
+        assertEquals(0, nodeA.poll());
+        assertEquals(0, nodeB.poll());
+    }
+    
+    @Test
+    @DisplayName("A rolled-back change leaves nothing in the log")
+    void testRolledBackChangeIsNotLogged() {
+        transaction.executeWithoutResult(status -> {
+            Reservation reservation = reservationRepository.save(reservation("RESLOG2", ReservationStatus.CONFIRMED));
+            eventPublisher.publishEvent(new ReservationChangeEvent(ReservationChangeType.CREATED, reservation, null));
+            status.setRollbackOnly();
+        });
+        
+        assertEquals(0, changeRecordRepository.count());
+        assertEquals(0, nodeB.poll());
+    }
+    
+    @Test
+    @DisplayName("A change that commits after a later one is picked up from the gap list")
+    void testLateCommitIsReplayed() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch logged = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        try {
+            // The first change takes its log id, then holds its transaction open
+            Future<?> slow = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                Reservation reservation = reservationRepository.save(reservation("RESLOG3", ReservationStatus.CONFIRMED));
+                nodeA.onReservationChange(new ReservationChangeEvent(ReservationChangeType.CREATED, reservation, null));
+                logged.countDown();
+                await(commit);
+            }));
+            assertTrue(logged.await(10, TimeUnit.SECONDS));
+            
+            createOnNodeA("RESLOG4", ReservationStatus.CONFIRMED);
+            assertEquals(1, nodeB.poll());
+            assertEquals("RESLOG4", replayedOnB.get(0).getReservationNumber());
+            // Ids burnt by rollbacks in earlier tests may also be pending
+            int gaps = nodeB.getPendingGaps();
+            assertTrue(gaps >= 1);
+            
+            commit.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+            assertEquals(1, nodeB.poll());
+            assertEquals("RESLOG3", replayedOnB.get(1).getReservationNumber());
+            assertEquals(gaps - 1, nodeB.getPendingGaps());
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("A hole left by a rollback is given up after the gap timeout")
+    void testRollbackHoleExpires() {
+        ReflectionTestUtils.setField(nodeB, "gapTimeoutMillis", 0L);
+        transaction.executeWithoutResult(status -> {
+            Reservation reservation = reservationRepository.save(reservation("RESLOG5", ReservationStatus.CONFIRMED));
+            eventPublisher.publishEvent(new ReservationChangeEvent(ReservationChangeType.CREATED, reservation, null));
+            status.setRollbackOnly();
+        });
+        createOnNodeA("RESLOG6", ReservationStatus.CONFIRMED);
+        
+        assertEquals(1, nodeB.poll());
+        assertTrue(nodeB.getPendingGaps() >= 1);
+        
+        assertEquals(0, nodeB.poll());
+        assertEquals(0, nodeB.getPendingGaps());
+    }
+    
+    @Test
+    @DisplayName("Changed stays are stamped with their log id; the committed range stops at a fresh hole until it expires")
+    void testCommittedThrough() {
+        long first = createOnNodeA("RESLOG7", ReservationStatus.CONFIRMED).getId();
+        long firstSeq = reservationRepository.findById(first).orElseThrow().getChangeSeq();
+        assertTrue(firstSeq > 0);
+        assertEquals(firstSeq, nodeB.committedThrough(firstSeq - 1));
+        
+        // A writer that took its log id and then rolled back
+        transaction.executeWithoutResult(status -> {
+            Reservation reservation = reservationRepository.save(reservation("RESLOG8", ReservationStatus.CONFIRMED));
+            changeRecordRepository.save(new ReservationChangeRecord("node-a",
+                new ReservationChangeEvent(ReservationChangeType.CREATED, reservation, null)));
+            status.setRollbackOnly();
+        });
+        long second = createOnNodeA("RESLOG9", ReservationStatus.CONFIRMED).getId();
+        long secondSeq = reservationRepository.findById(second).orElseThrow().getChangeSeq();
+        assertTrue(secondSeq > firstSeq + 1);
+        
+        assertEquals(firstSeq, nodeB.committedThrough(firstSeq));
+        ReflectionTestUtils.setField(nodeB, "gapTimeoutMillis", 0L);
+        assertEquals(secondSeq, nodeB.committedThrough(firstSeq));
+    }
+    
+    @Test
+    @DisplayName("Bulk changes are replayed without a reservation")
+    void testBulkChangeIsReplayed() {
+        transaction.executeWithoutResult(status -> eventPublisher.publishEvent(
+            ReservationChangeEvent.bulk(ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, 12)));
+        
+        assertEquals(1, nodeB.poll());
+        ReservationChangeEvent event = replayedOnB.get(0);
+        assertEquals(ReservationChangeType.BULK_STATUS_CHANGED, event.getType());
+        assertEquals(12, event.getCount());
+        assertNull(event.getLookupEntry());
+    }
+    
+    private Reservation createOnNodeA(String number, ReservationStatus status) {
+        return transaction.execute(tx -> {
+            Reservation reservation = reservationRepository.save(reservation(number, status));
+            eventPublisher.publishEvent(new ReservationChangeEvent(ReservationChangeType.CREATED, reservation, null));
+            return reservation;
+        });
+    }
+    
+    private static Reservation reservation(String number, ReservationStatus status) {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber(number);
+        reservation.setGuestName("Logged Guest");
+        reservation.setAddress("Colombo");
+        reservation.setContactNumber("0771234567");
+        reservation.setEmail("logged@example.com");
+        reservation.setRoomType(RoomType.DELUXE);
+        reservation.setCheckInDate(LocalDate.now().plusDays(5));
+        reservation.setCheckOutDate(LocalDate.now().plusDays(7));
+        reservation.setStatus(status);
+        reservation.setNumberOfGuests(2);
+        return reservation;
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
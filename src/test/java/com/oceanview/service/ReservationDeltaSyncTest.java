@@ -0,0 +1,222 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.dto.ChangeWatermark;
+import com.oceanview.dto.DeltaSyncResponse;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.dto.ReservationTombstone;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.NightAuditCheckpointRepository;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomInventoryNightRepository;
+import com.oceanview.repository.RoomRepository;
+import com.oceanview.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for delta sync on H2: paging in change-log order, tombstones for closed stays, and a change
+ * that commits after a later one is never skipped
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.datasource.url=jdbc:h2:mem:delta_sync;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "inventory-ledger.horizon-days=30",
+    "change-log.gap-timeout-ms=600000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReservationService.class, RateCalendar.class, RoomInventory.class, RoomAssignmentService.class,
+    WaitlistService.class, PropertyDirectory.class, PropertyFanOut.class, InventoryLedger.class,
+    ReservationChangeLogService.class, NightAuditService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Reservation Delta Sync Tests")
+class ReservationDeltaSyncTest {
+    
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(10);
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private NightAuditService nightAuditService;
+    
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    
+    @Autowired
+    private RoomInventory roomInventory;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private RoomInventoryNightRepository nightRepository;
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Autowired
+    private NightAuditCheckpointRepository checkpointRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @BeforeEach
+    void setUp() {
+        for (int room = 301; room <= 310; room++) {
+            roomRepository.save(new Room(String.valueOf(room), RoomType.SUITE));
+        }
+        roomInventory.reload();
+        inventoryLedger.prepare();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        nightRepository.deleteAllInBatch();
+        waitlistEntryRepository.deleteAllInBatch();
+        roomRepository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+        roomInventory.reload();
+    }
+    
+    @Test
+    @DisplayName("Should page through stays stamped with the same change, with tombstones for closed stays")
+    void testPagingAcrossOneChange() {
+        // Arrange
+        List<String> booked = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            booked.add(book("Guest " + i));
+        }
+        String kept = reservationService.createReservation(request("Late Arrival", CHECK_IN.plusDays(2), CHECK_IN.plusDays(4)))
+            .getReservationNumber();
+        DeltaSyncResponse initial = reservationService.getChangesSince(null, 100);
+        assertEquals(6, initial.getChanged().size());
+        assertFalse(initial.isHasMore());
+        
+        // Act: one night audit chunk turns the five into no-shows under a single change log id
+        nightAuditService.runAudit(CHECK_IN.plusDays(1));
+        List<String> removed = new ArrayList<>();
+        Set<ChangeWatermark> watermarks = new HashSet<>();
+        String watermark = initial.getWatermark();
+        DeltaSyncResponse page;
+        do {
+            page = reservationService.getChangesSince(watermark, 2);
+            assertTrue(page.getChanged().isEmpty());
+            page.getRemoved().forEach(tombstone -> {
+                assertEquals(ReservationStatus.NO_SHOW, tombstone.getStatus());
+                removed.add(tombstone.getReservationNumber());
+            });
+            watermark = page.getWatermark();
+            watermarks.add(ChangeWatermark.parse(watermark));
+        } while (page.isHasMore());
+        
+        // Assert
+        assertEquals(Set.copyOf(booked), Set.copyOf(removed));
+        assertEquals(5, removed.size(), "No stay is sent twice");
+        assertEquals(1, watermarks.stream().map(ChangeWatermark::getChangeSeq).distinct().count());
+        assertEquals(0, reservationService.getChangesSince(watermark, 2).getRemoved().size());
+        
+        // A cancellation after the audit is the next change
+        reservationService.cancelReservation(kept);
+        DeltaSyncResponse cancelled = reservationService.getChangesSince(watermark, 2);
+        assertEquals(List.of(kept), cancelled.getRemoved().stream().map(ReservationTombstone::getReservationNumber).toList());
+        assertEquals(ReservationStatus.CANCELLED, cancelled.getRemoved().get(0).getStatus());
+        assertFalse(cancelled.isHasMore());
+    }
+    
+    @Test
+    @DisplayName("Should hold the watermark at a change that has not committed while a later one has")
+    void testLateCommitIsNotSkipped() throws Exception {
+        // Arrange
+        String slow = book("Slow Writer");
+        String watermark = reservationService.getChangesSince(null, 100).getWatermark();
+        
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch logged = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Future<?> update = executor.submit(() -> transaction.executeWithoutResult(status -> {
+            reservationService.updateReservation(slow, request("Slow Writer", CHECK_IN, CHECK_IN.plusDays(3)));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCompletion() {
+                    // The change log row and stamp are written; hold the commit
+                    logged.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }));
+        assertTrue(logged.await(10, TimeUnit.SECONDS));
+        
+        // Act: a later change commits first
+        String fast = book("Fast Writer");
+        DeltaSyncResponse early = reservationService.getChangesSince(watermark, 100);
+        release.countDown();
+        update.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        DeltaSyncResponse later = reservationService.getChangesSince(early.getWatermark(), 100);
+        
+        // Assert
+        assertTrue(early.getChanged().isEmpty(), "Nothing past the open change is served");
+        assertEquals(watermark, early.getWatermark());
+        assertEquals(List.of(slow, fast), later.getChanged().stream().map(ReservationResponse::getReservationNumber).toList());
+        assertEquals(CHECK_IN.plusDays(3), later.getChanged().get(0).getCheckOutDate());
+    }
+    
+    private String book(String guestName) {
+        return reservationService.createReservation(request(guestName, CHECK_IN, CHECK_IN.plusDays(2))).getReservationNumber();
+    }
+    
+    private static ReservationRequest request(String guestName, LocalDate checkIn, LocalDate checkOut) {
+        ReservationRequest request = new ReservationRequest();
+        request.setGuestName(guestName);
+        request.setAddress("12 Lake Road, Kandy");
+        request.setContactNumber("0771234567");
+        request.setEmail("guest@example.com");
+        request.setRoomType(RoomType.SUITE);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkOut);
+        request.setNumberOfGuests(2);
+        return request;
+    }
+}
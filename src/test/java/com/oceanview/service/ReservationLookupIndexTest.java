@@ -0,0 +1,122 @@
+package com.oceanview.service;
+
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.ReservationLookupEntry;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.RoomType;
+import com.oceanview.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for ReservationLookupIndex
+ * Email and phone lookups, reservation number autocomplete and updates from change events
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reservation Lookup Index Tests")
+class ReservationLookupIndexTest {
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    private ReservationLookupIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new ReservationLookupIndex(reservationRepository);
+        when(reservationRepository.findLookupEntries()).thenReturn(new ArrayList<>(List.of(
+            entry("RES1700000000001", "Jane@Example.com", "077 123 4567"),
+            entry("RES1700000000002", "sam@example.com", "0719876543"),
+            entry("RES1700000000003", "jane@example.com", "+94 77 123-4567"),
+            entry("RES1700000009999", "other@example.com", "0112345678")
+        )));
+    }
+    
+    @Test
+    @DisplayName("Should find reservations by email and phone regardless of case and formatting")
+    void testExactLookups() {
+        // Act
+        List<ReservationLookupEntry> byEmail = index.findByEmail("  JANE@example.COM ");
+        List<ReservationLookupEntry> byPhone = index.findByPhone("+94771234567");
+        
+        // Assert
+        assertEquals(List.of("RES1700000000003", "RES1700000000001"), numbers(byEmail));
+        assertEquals(List.of("RES1700000000003", "RES1700000000001"), numbers(byPhone));
+        assertTrue(index.findByEmail("nobody@example.com").isEmpty());
+        assertThrows(ValidationException.class, () -> index.findByPhone("n/a"));
+    }
+    
+    @Test
+    @DisplayName("Should autocomplete reservation numbers by prefix with or without RES")
+    void testAutocomplete() {
+        // Act & Assert
+        assertEquals(List.of("RES1700000000001", "RES1700000000002"), numbers(index.autocomplete("res17000000000", 2)));
+        assertEquals(List.of("RES1700000009999"), numbers(index.autocomplete("17000000099", 10)));
+        assertTrue(index.autocomplete("RES18", 10).isEmpty());
+        assertThrows(ValidationException.class, () -> index.autocomplete("RES", 500));
+    }
+    
+    @Test
+    @DisplayName("Should keep lookups current on reservation changes")
+    void testChangeEvents() {
+        // Arrange
+        assertEquals(4, index.size());
+        ReservationChangeEvent created = new ReservationChangeEvent();
+        created.setLookupEntry(entry("RES1700000010000", "new@example.com", "0770000000"));
+        ReservationChangeEvent updated = new ReservationChangeEvent();
+        updated.setLookupEntry(entry("RES1700000000001", "jane.doe@example.com", "077 123 4567"));
+        
+        // Act
+        index.onReservationChange(created);
+        index.onReservationChange(updated);
+        
+        // Assert
+        assertEquals(List.of("RES1700000010000"), numbers(index.autocomplete("1700000010", 10)));
+        assertEquals(List.of("RES1700000000003"), numbers(index.findByEmail("jane@example.com")));
+        assertEquals(List.of("RES1700000000001"), numbers(index.findByEmail("jane.doe@example.com")));
+        assertEquals(2, index.findByPhone("0771234567").size());
+    
+    }
+    
+    @Test
+    @DisplayName("Should re-read only the reservations a set-based transition names")
+    void testBulkChangeEvent() {
+        // Arrange
+        assertEquals(4, index.size());
+        ReservationLookupEntry noShow = new ReservationLookupEntry("RES1700000000002", "Guest RES1700000000002",
+            "sam@example.com", "0719876543", RoomType.DELUXE, LocalDate.now().minusDays(1), LocalDate.now().plusDays(1),
+            ReservationStatus.NO_SHOW);
+        when(reservationRepository.findLookupEntriesByNumbers(List.of("RES1700000000002"))).thenReturn(List.of(noShow));
+        
+        // Act
+        index.onReservationChange(ReservationChangeEvent.bulk(ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, 1)
+            .withReservationNumbers(List.of("RES1700000000002")));
+        
+        // Assert
+        verify(reservationRepository, times(1)).findLookupEntries();
+        assertEquals(4, index.size());
+        assertEquals(List.of(noShow), index.findByEmail("sam@example.com"));
+        assertEquals(ReservationStatus.CONFIRMED, index.findByEmail("other@example.com").get(0).status());
+    }
+    
+    private static ReservationLookupEntry entry(String number, String email, String phone) {
+        return new ReservationLookupEntry(number, "Guest " + number, email, phone, RoomType.DELUXE,
+            LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), ReservationStatus.CONFIRMED);
+    }
+    
+    private static List<String> numbers(List<ReservationLookupEntry> entries) {
+        return entries.stream().map(ReservationLookupEntry::reservationNumber).toList();
+    }
+}
@@ -7,14 +7,19 @@ import com.oceanview.exception.ValidationException;
 import com.oceanview.model.Reservation;
 import com.oceanview.model.ReservationStatus;
 import com.oceanview.model.RoomType;
+import com.oceanview.model.WaitlistEntry;
+import com.oceanview.repository.ArchivedReservationRepository;
 import com.oceanview.repository.ReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -37,6 +42,27 @@ class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
     
+    @Mock
+    private ArchivedReservationRepository archivedReservationRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private RateCalendar rateCalendar;
+    
+    @Mock
+    private InventoryLedger inventoryLedger;
+    
+    @Mock
+    private RoomAssignmentService roomAssignmentService;
+    
+    @Mock
+    private WaitlistService waitlistService;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
     @InjectMocks
     private ReservationService reservationService;
     
@@ -75,7 +101,7 @@ class ReservationServiceTest {
     @DisplayName("Should create reservation successfully with valid data")
     void testCreateReservation_Success() {
         // Arrange
-        when(reservationRepository.countOverlappingReservations(any(), any(), any())).thenReturn(0L);
+        when(inventoryLedger.claim(RoomType.DELUXE, validRequest.getCheckInDate(), validRequest.getCheckOutDate())).thenReturn(true);
         when(reservationRepository.save(any(Reservation.class))).thenReturn(mockReservation);
         
         // Act
@@ -89,6 +115,7 @@ class ReservationServiceTest {
         assertEquals(ReservationStatus.CONFIRMED, response.getStatus());
         
         verify(reservationRepository, times(1)).save(any(Reservation.class));
+        verify(roomAssignmentService).assign(mockReservation);
     }
     
     @Test
@@ -125,14 +152,22 @@ class ReservationServiceTest {
     @DisplayName("Should throw ValidationException when no rooms available")
     void testCreateReservation_NoRoomsAvailable() {
         // Arrange
-        when(reservationRepository.countOverlappingReservations(any(), any(), any())).thenReturn(15L);
+        when(inventoryLedger.claim(any(), any(), any())).thenReturn(false);
+        WaitlistEntry entry = new WaitlistEntry(validRequest);
+        entry.setId(7L);
+        when(waitlistService.join(validRequest)).thenReturn(entry);
         
         // Act & Assert
-        assertThrows(ValidationException.class, () -> {
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
             reservationService.createReservation(validRequest);
         });
         
+        assertTrue(exception.getMessage().contains("waitlist (#7)"));
         verify(reservationRepository, never()).save(any());
+        // The request joins the waitlist only once the booking transaction has ended
+        InOrder order = inOrder(transactionManager, waitlistService);
+        order.verify(transactionManager).commit(any());
+        order.verify(waitlistService).join(validRequest);
     }
     
     @Test
@@ -170,8 +205,10 @@ class ReservationServiceTest {
     @DisplayName("Should retrieve all reservations")
     void testGetAllReservations() {
         // Arrange
-        List<Reservation> mockReservations = Arrays.asList(mockReservation, mockReservation);
-        when(reservationRepository.findAll()).thenReturn(mockReservations);
+        ReservationResponse row = new ReservationResponse(1L, "RES123456", "John Doe", "123 Main St, Colombo",
+            "0771234567", "john@example.com", RoomType.DELUXE, LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(3), ReservationStatus.CONFIRMED, 2, null, new BigDecimal("16000.00"), "201");
+        when(reservationRepository.findAllResponses()).thenReturn(Arrays.asList(row, row));
         
         // Act
         List<ReservationResponse> responses = reservationService.getAllReservations();
@@ -180,16 +217,20 @@ class ReservationServiceTest {
         assertNotNull(responses);
         assertEquals(2, responses.size());
         
-        verify(reservationRepository, times(1)).findAll();
+        assertEquals(2, responses.get(0).getNumberOfNights());
+        
+        verify(reservationRepository, times(1)).findAllResponses();
     }
     
     @Test
     @DisplayName("Should search reservations by guest name")
     void testSearchByGuestName() {
         // Arrange
-        List<Reservation> mockReservations = Arrays.asList(mockReservation);
-        when(reservationRepository.findByGuestNameContainingIgnoreCase("John"))
-            .thenReturn(mockReservations);
+        ReservationResponse row = new ReservationResponse(1L, "RES123456", "John Doe", "123 Main St, Colombo",
+            "0771234567", "john@example.com", RoomType.DELUXE, LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(3), ReservationStatus.CONFIRMED, 2, null, new BigDecimal("16000.00"), "201");
+        when(reservationRepository.searchResponsesByGuestName("John"))
+            .thenReturn(Arrays.asList(row));
         
         // Act
         List<ReservationResponse> responses = reservationService.searchByGuestName("John");
@@ -199,7 +240,7 @@ class ReservationServiceTest {
         assertEquals(1, responses.size());
         assertEquals("John Doe", responses.get(0).getGuestName());
         
-        verify(reservationRepository, times(1)).findByGuestNameContainingIgnoreCase("John");
+        verify(reservationRepository, times(1)).searchResponsesByGuestName("John");
     }
     
     @Test
@@ -238,5 +279,6 @@ class ReservationServiceTest {
         
         verify(reservationRepository, times(1)).findByReservationNumber("RES123456");
         verify(reservationRepository, times(1)).save(any(Reservation.class));
+        verify(inventoryLedger).release(RoomType.DELUXE, mockReservation.getCheckInDate(), mockReservation.getCheckOutDate());
     }
 }
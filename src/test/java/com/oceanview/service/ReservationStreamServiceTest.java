@@ -0,0 +1,194 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyContext;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.model.ReservationChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ReservationStreamService
+ * Subscribers are emitters that record the events the sender threads write to them
+ */
+@DisplayName("Reservation Stream Service Tests")
+class ReservationStreamServiceTest {
+    
+    private ReservationStreamService streamService;
+    
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Should fan each change out to every subscriber of its property only")
+    void testFanOut() throws Exception {
+        // Arrange
+        streamService = new ReservationStreamService(2, 16, 10_000);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherProperty = new RecordingEmitter();
+        streamService.subscribe(first);
+        streamService.subscribe(second);
+        PropertyContext.run("kandy", () -> streamService.subscribe(otherProperty));
+        
+        // Act
+        streamService.onReservationChange(change(ReservationChangeType.CREATED, "RES1"));
+        streamService.onReservationChange(change(ReservationChangeType.CANCELLED, "RES2"));
+        
+        // Assert
+        awaitTrue(() -> first.sent.size() == 2 && second.sent.size() == 2);
+        assertEquals(List.of("id:1\nevent:created\ndata:", "id:2\nevent:cancelled\ndata:"), first.sent);
+        assertEquals(first.sent, second.sent);
+        assertTrue(otherProperty.sent.isEmpty());
+        assertEquals(3, streamService.getSubscriberCount());
+    }
+    
+    @Test
+    @DisplayName("Should drop a slow subscriber's backlog and send it a single resync")
+    void testResyncOnOverflow() throws Exception {
+        // Arrange - The first send blocks while more changes arrive than the queue holds
+        streamService = new ReservationStreamService(1, 2, 10_000);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                if (sent.isEmpty()) {
+                    sending.countDown();
+                    await(release);
+                }
+                super.send(builder);
+            }
+        };
+        streamService.subscribe(slow);
+        streamService.onReservationChange(change(ReservationChangeType.CREATED, "RES1"));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+        
+        // Act - Two changes fill the queue and the third overflows it
+        for (int i = 2; i <= 4; i++) {
+            streamService.onReservationChange(change(ReservationChangeType.UPDATED, "RES" + i));
+        }
+        release.countDown();
+        awaitTrue(() -> slow.sent.size() == 2);
+        streamService.onReservationChange(change(ReservationChangeType.UPDATED, "RES5"));
+        
+        // Assert
+        awaitTrue(() -> slow.sent.size() == 3);
+        assertEquals(List.of("id:1\nevent:created\ndata:", "event:resync\ndata:{}", "id:5\nevent:updated\ndata:"), slow.sent);
+        assertEquals(1, streamService.getSubscriberCount());
+    }
+    
+    @Test
+    @DisplayName("Should close and forget a subscriber whose connection fails")
+    void testDeadSubscriberIsDropped() throws Exception {
+        // Arrange
+        streamService = new ReservationStreamService(1, 16, 10_000);
+        RecordingEmitter healthy = new RecordingEmitter();
+        RecordingEmitter dead = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        streamService.subscribe(healthy);
+        streamService.subscribe(dead);
+        
+        // Act
+        streamService.onReservationChange(change(ReservationChangeType.CREATED, "RES1"));
+        
+        // Assert
+        awaitTrue(() -> streamService.getSubscriberCount() == 1);
+        streamService.onReservationChange(change(ReservationChangeType.UPDATED, "RES1"));
+        streamService.heartbeat();
+        awaitTrue(() -> healthy.sent.size() == 3);
+        assertEquals(List.of("id:1\nevent:created\ndata:", "id:2\nevent:updated\ndata:", ":keep-alive"), healthy.sent);
+    }
+    
+    @Test
+    @DisplayName("Should drop a subscriber stalled in a send and hand its sender thread back")
+    void testStalledSubscriberIsDropped() throws Exception {
+        // Arrange - One sender thread, stuck writing to a client that stopped reading
+        streamService = new ReservationStreamService(1, 16, 50);
+        CountDownLatch sending = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                sending.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    throw new IOException("Write interrupted", e);
+                }
+            }
+        };
+        RecordingEmitter healthy = new RecordingEmitter();
+        streamService.subscribe(stalled);
+        streamService.subscribe(healthy);
+        streamService.onReservationChange(change(ReservationChangeType.CREATED, "RES1"));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        
+        // Act
+        streamService.dropStalledSubscribers();
+        
+        // Assert
+        awaitTrue(() -> healthy.sent.size() == 1);
+        assertEquals(List.of("id:1\nevent:created\ndata:"), healthy.sent);
+        assertEquals(1, streamService.getSubscriberCount());
+    }
+    
+    private static ReservationChangeEvent change(ReservationChangeType type, String reservationNumber) {
+        ReservationChangeEvent event = new ReservationChangeEvent();
+        event.setType(type);
+        event.setReservationNumber(reservationNumber);
+        return event;
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the sender threads");
+            Thread.sleep(10);
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Emitter that keeps the text lines of each event it is asked to send, with the change payload left out
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        
+        protected final List<String> sent = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String line) {
+                    text.append(line);
+                }
+            }
+            sent.add(text.toString().strip());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.oceanview.service;
+
+import com.oceanview.model.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RoomAssignmentBoard
+ */
+@DisplayName("Room Assignment Board Tests")
+class RoomAssignmentBoardTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 1);
+    
+    private RoomAssignmentBoard board;
+    
+    @BeforeEach
+    void setUp() {
+        board = new RoomAssignmentBoard(Map.of(RoomType.SUITE, List.of("301", "302")), TODAY, TODAY.plusDays(90));
+    }
+    
+    @Test
+    @DisplayName("Should place a stay next to an existing one rather than in an empty room")
+    void testPlace_BestFit() {
+        place("A", 10, 13, null);
+        place("B", 0, 5, null);
+        
+        place("C", 5, 10, null);
+        
+        assertEquals(board.roomOf("A"), board.roomOf("C"));
+    }
+    
+    @Test
+    @DisplayName("Should keep the current room when a changed stay still fits")
+    void testPlace_KeepsRoom() {
+        place("A", 0, 3, null);
+        place("B", 0, 3, null);
+        String room = board.roomOf("B");
+        
+        place("B", 1, 4, null);
+        
+        assertEquals(room, board.roomOf("B"));
+    }
+    
+    @Test
+    @DisplayName("Should move one pending stay to make room")
+    void testPlace_MovesBlockingStay() {
+        place("A", 0, 2, "301");
+        place("C", 4, 6, "301");
+        place("B", 2, 4, "302");
+        
+        // D overlaps A and C in 301 and only B in 302; B fits between A and C
+        List<RoomAssignmentBoard.Change> changes = place("D", 1, 5, null);
+        
+        assertEquals(2, changes.size());
+        assertEquals("301", board.roomOf("B"));
+        assertEquals("302", board.roomOf("D"));
+    }
+    
+    @Test
+    @DisplayName("Should never move an in-house stay")
+    void testPlace_PinnedStayStays() {
+        place("A", 0, 2, "301");
+        place("C", 4, 6, "301");
+        place("B", 2, 4, "302");
+        board.pin("B");
+        
+        List<RoomAssignmentBoard.Change> changes = place("D", 1, 5, null);
+        
+        assertNull(changes.get(changes.size() - 1).current());
+        assertEquals("302", board.roomOf("B"));
+    }
+    
+    @Test
+    @DisplayName("Should restore the previous plan on revert")
+    void testRevert() {
+        place("A", 0, 5, "301");
+        place("B", 0, 5, "302");
+        board.remove("A");
+        List<RoomAssignmentBoard.Change> changes = place("C", 2, 4, null);
+        assertEquals("301", board.roomOf("C"));
+        
+        board.revert(changes);
+        
+        assertNull(board.roomOf("C"));
+        assertEquals("302", board.roomOf("B"));
+    }
+    
+    @Test
+    @DisplayName("Should assign every stay of a feasible 90-day plan for 300 rooms without overlaps")
+    void testBuild_FullHorizon() {
+        Random random = new Random(42);
+        Map<RoomType, List<String>> rooms = new HashMap<>();
+        List<RoomAssignmentBoard.Stay> stays = new ArrayList<>();
+        int sequence = 0;
+        for (int i = 0; i < 300; i++) {
+            RoomType type = RoomType.values()[i % RoomType.values().length];
+            rooms.computeIfAbsent(type, key -> new ArrayList<>()).add(String.valueOf(1000 + i));
+            // Fill each room back to back with short gaps, so the set is feasible at high occupancy
+            int day = random.nextInt(3);
+            while (day < 90) {
+                int nights = 1 + random.nextInt(6);
+                stays.add(new RoomAssignmentBoard.Stay("R" + sequence++, type, TODAY.plusDays(day),
+                    TODAY.plusDays(day + nights), null, false));
+                day += nights + random.nextInt(2);
+            }
+        }
+        Collections.shuffle(stays, random);
+        
+        long started = System.nanoTime();
+        RoomAssignmentBoard built = RoomAssignmentBoard.build(rooms, TODAY, TODAY.plusDays(90), stays);
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        
+        assertEquals(stays.size(), built.size(), "Every stay should get a room (" + millis + " ms)");
+        Map<String, List<RoomAssignmentBoard.Stay>> byRoom = new HashMap<>();
+        for (RoomAssignmentBoard.Stay stay : stays) {
+            byRoom.computeIfAbsent(built.roomOf(stay.reservationNumber()), key -> new ArrayList<>()).add(stay);
+        }
+        for (List<RoomAssignmentBoard.Stay> roomStays : byRoom.values()) {
+            roomStays.sort((a, b) -> a.checkIn().compareTo(b.checkIn()));
+            for (int i = 1; i < roomStays.size(); i++) {
+                assertFalse(roomStays.get(i).checkIn().isBefore(roomStays.get(i - 1).checkOut()), "Overlapping stays in one room");
+            }
+        }
+    }
+    
+    private List<RoomAssignmentBoard.Change> place(String reservationNumber, int checkIn, int checkOut, String room) {
+        return board.place(new RoomAssignmentBoard.Stay(reservationNumber, RoomType.SUITE,
+            TODAY.plusDays(checkIn), TODAY.plusDays(checkOut), room, false));
+    }
+}
@@ -0,0 +1,74 @@
+package com.oceanview.service;
+
+import com.oceanview.model.UserRole;
+import com.oceanview.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for UserService on H2
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({UserService.class, UserServiceTest.Encoder.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("User Service Tests")
+class UserServiceTest {
+    
+    @Autowired
+    private UserService userService;
+    
+    @MockitoSpyBean
+    private UserRepository userRepository;
+    
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    @DisplayName("Should create a missing user once and skip it afterwards")
+    void testCreateUserIfAbsent() {
+        assertTrue(userService.createUserIfAbsent("admin", "admin123", "System Administrator", UserRole.ADMIN));
+        assertFalse(userService.createUserIfAbsent("admin", "admin123", "System Administrator", UserRole.ADMIN));
+        
+        assertEquals(1, userRepository.count());
+    }
+    
+    @Test
+    @DisplayName("Should treat a user inserted by another node after the existence check as already there")
+    void testCreateUserIfAbsent_LosesRace() {
+        // Arrange - The other node's insert lands between this node's check and its own insert
+        userService.createUserIfAbsent("admin", "admin123", "System Administrator", UserRole.ADMIN);
+        doReturn(false).when(userRepository).existsByUsername("admin");
+        
+        // Act
+        boolean created = userService.createUserIfAbsent("admin", "admin123", "System Administrator", UserRole.ADMIN);
+        
+        // Assert
+        assertFalse(created);
+        assertEquals(1, userRepository.count());
+    }
+    
+    @TestConfiguration
+    static class Encoder {
+        
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
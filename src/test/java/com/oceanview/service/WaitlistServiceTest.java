@@ -0,0 +1,180 @@
+package com.oceanview.service;
+
+import com.oceanview.config.PropertyDirectory;
+import com.oceanview.config.PropertyFanOut;
+import com.oceanview.dto.ReservationChangeEvent;
+import com.oceanview.dto.ReservationRequest;
+import com.oceanview.dto.ReservationResponse;
+import com.oceanview.exception.ValidationException;
+import com.oceanview.model.Reservation;
+import com.oceanview.model.ReservationStatus;
+import com.oceanview.model.Room;
+import com.oceanview.model.RoomType;
+import com.oceanview.model.WaitlistEntry;
+import com.oceanview.model.WaitlistStatus;
+import com.oceanview.repository.ReservationRepository;
+import com.oceanview.repository.RoomInventoryNightRepository;
+import com.oceanview.repository.RoomRepository;
+import com.oceanview.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the waitlist and its promotion on H2
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({WaitlistService.class, WaitlistPromoter.class, ReservationService.class, RateCalendar.class,
+    RoomInventory.class, RoomAssignmentService.class, PropertyDirectory.class, PropertyFanOut.class,
+    InventoryLedger.class, ReservationChangeLogService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Waitlist Tests")
+class WaitlistServiceTest {
+    
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(10);
+    
+    @Autowired
+    private WaitlistService waitlistService;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private RoomInventory roomInventory;
+    
+    @Autowired
+    private RoomRepository roomRepository;
+    
+    @Autowired
+    private ReservationRepository reservationRepository;
+    
+    @Autowired
+    private InventoryLedger inventoryLedger;
+    
+    @Autowired
+    private RoomInventoryNightRepository nightRepository;
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @BeforeEach
+    void setUp() {
+        roomRepository.save(new Room("301", RoomType.SUITE));
+        roomInventory.reload();
+        inventoryLedger.updateCapacity();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        nightRepository.deleteAllInBatch();
+        waitlistEntryRepository.deleteAllInBatch();
+        roomRepository.deleteAllInBatch();
+        roomInventory.reload();
+        waitlistService.reload();
+    }
+    
+    @Test
+    @DisplayName("Should waitlist a sold-out request and promote it when the blocking stay is cancelled")
+    void testPromoteOnCancellation() {
+        ReservationResponse blocking = reservationService.createReservation(request("Alice", CHECK_IN, CHECK_IN.plusDays(3)));
+        
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> reservationService.createReservation(request("Bob", CHECK_IN.plusDays(1), CHECK_IN.plusDays(2))));
+        assertTrue(exception.getMessage().contains("waitlist"));
+        
+        List<WaitlistEntry> waiting = waitlistService.getWaiting();
+        assertEquals(1, waiting.size());
+        assertEquals("Bob", waiting.get(0).getGuestName());
+        
+        reservationService.cancelReservation(blocking.getReservationNumber());
+        
+        WaitlistEntry promoted = waitlistService.getEntry(waiting.get(0).getId());
+        assertEquals(WaitlistStatus.PROMOTED, promoted.getStatus());
+        assertNotNull(promoted.getPromotedReservationNumber());
+        ReservationResponse reservation = reservationService.getReservationByNumber(promoted.getPromotedReservationNumber());
+        assertEquals("Bob", reservation.getGuestName());
+        assertEquals(ReservationStatus.CONFIRMED, reservation.getStatus());
+        assertEquals("301", reservation.getRoomNumber());
+        assertTrue(waitlistService.getWaiting().isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Should promote into the nights freed by the stays a night audit chunk names")
+    void testPromoteOnBulkNoShow() {
+        ReservationResponse blocking = reservationService.createReservation(request("Alice", CHECK_IN, CHECK_IN.plusDays(3)));
+        WaitlistEntry waiting = waitlistService.join(request("Bob", CHECK_IN.plusDays(1), CHECK_IN.plusDays(2)));
+        
+        // A night audit chunk gives the stay's nights back and names it in its bulk event
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            Reservation stay = reservationRepository.findByReservationNumber(blocking.getReservationNumber()).orElseThrow();
+            inventoryLedger.releaseAll(List.of(stay));
+            stay.setStatus(ReservationStatus.NO_SHOW);
+            eventPublisher.publishEvent(ReservationChangeEvent.bulk(ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, 1)
+                .withReservationNumbers(List.of(blocking.getReservationNumber())));
+        });
+        
+        WaitlistEntry promoted = waitlistService.getEntry(waiting.getId());
+        assertEquals(WaitlistStatus.PROMOTED, promoted.getStatus());
+        assertEquals("Bob", reservationService.getReservationByNumber(promoted.getPromotedReservationNumber()).getGuestName());
+    }
+    
+    @Test
+    @DisplayName("Should rank candidates by freed nights used, then by waiting time")
+    void testCandidateRanking() {
+        WaitlistEntry shortStay = waitlistService.join(request("Short", CHECK_IN.plusDays(1), CHECK_IN.plusDays(2)));
+        WaitlistEntry longStay = waitlistService.join(request("Long", CHECK_IN, CHECK_IN.plusDays(3)));
+        WaitlistEntry laterShort = waitlistService.join(request("Later", CHECK_IN.plusDays(2), CHECK_IN.plusDays(3)));
+        waitlistService.join(request("Outside", CHECK_IN.plusDays(5), CHECK_IN.plusDays(6)));
+        
+        List<Long> candidates = waitlistService.findCandidates(RoomType.SUITE, CHECK_IN, CHECK_IN.plusDays(3));
+        
+        assertEquals(List.of(longStay.getId(), shortStay.getId(), laterShort.getId()), candidates);
+        assertTrue(waitlistService.findCandidates(RoomType.DELUXE, CHECK_IN, CHECK_IN.plusDays(3)).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Should drop withdrawn requests from the candidates")
+    void testWithdraw() {
+        WaitlistEntry entry = waitlistService.join(request("Carol", CHECK_IN, CHECK_IN.plusDays(2)));
+        
+        waitlistService.withdraw(entry.getId());
+        
+        assertEquals(WaitlistStatus.WITHDRAWN, waitlistService.getEntry(entry.getId()).getStatus());
+        assertTrue(waitlistService.findCandidates(RoomType.SUITE, CHECK_IN, CHECK_IN.plusDays(2)).isEmpty());
+        assertThrows(ValidationException.class, () -> waitlistService.withdraw(entry.getId()));
+    }
+    
+    private ReservationRequest request(String guestName, LocalDate checkIn, LocalDate checkOut) {
+        ReservationRequest request = new ReservationRequest();
+        request.setGuestName(guestName);
+        request.setAddress("1 Beach Road, Galle");
+        request.setContactNumber("0771234567");
+        request.setEmail(guestName.toLowerCase() + "@example.com");
+        request.setRoomType(RoomType.SUITE);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkOut);
+        request.setNumberOfGuests(2);
+        return request;
+    }
+}